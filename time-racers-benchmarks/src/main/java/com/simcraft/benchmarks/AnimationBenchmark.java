@@ -0,0 +1,144 @@
+package com.simcraft.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.JPanel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.simcraft.entities.enemies.Student;
+import com.simcraft.graphics.animations.AnimationFrame;
+import com.simcraft.graphics.animations.AnimationInstance;
+import com.simcraft.graphics.animations.AnimationLoader;
+import com.simcraft.managers.AnimationManager;
+import com.simcraft.utility.GameClock;
+
+/**
+ * Measures the animation hot paths: advancing an {@link AnimationInstance}
+ * each tick, switching an entity's animation with
+ * {@link com.simcraft.entities.Entity#setAnimation(String)}, and slicing a
+ * sprite sheet into frames with
+ * {@link AnimationLoader#loadFromSpriteSheet(String, int, int, long)}.
+ * <p>
+ * The {@link GameClock} is stepped by one tick per update, as in the game, so
+ * the update benchmark moves through the frames at the game's pace.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class AnimationBenchmark {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The length of a game tick, in milliseconds.
+     */
+    private static final long TICK_MILLIS = 16;
+
+    /**
+     * The sprite sheet sliced by {@link #loadFromSpriteSheet()}.
+     */
+    private static final String SPRITE_SHEET = "/images/animations/ali/ali_walk_down.png";
+
+    /**
+     * The two animations {@link #setAnimation()} switches between.
+     */
+    private static final String[] ANIMATION_KEYS = {
+        "female_student_walk_left",
+        "female_student_walk_right"
+    };
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The clock stepped by {@link #updateAnimation()}.
+     */
+    private final GameClock.SteppedTimeSource clock = new GameClock.SteppedTimeSource(0);
+
+    /**
+     * The animation advanced by {@link #updateAnimation()}.
+     */
+    private AnimationInstance animation;
+
+    /**
+     * The entity whose animation {@link #setAnimation()} switches.
+     */
+    private Student student;
+
+    /**
+     * The number of animation switches so far.
+     */
+    private int switches;
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Loads the game's animations and builds the animation and entity under
+     * measurement.
+     */
+    @Setup
+    public void setUp() {
+        GameClock.setTimeSource(clock);
+        AnimationLoader.loadAnimationsFromJson();
+        animation = new AnimationInstance(AnimationManager.getInstance().getAnimation("ali_walk_down"));
+        animation.start();
+        student = new Student.StudentBuilder(new JPanel()).build();
+    }
+
+    /**
+     * Restores the system clock.
+     */
+    @TearDown
+    public void tearDown() {
+        GameClock.useSystemTime();
+    }
+
+    /**
+     * Advances an animation by one tick.
+     *
+     * @return The current frame, so the work cannot be optimised away.
+     */
+    @Benchmark
+    public int updateAnimation() {
+        clock.advance(TICK_MILLIS);
+        animation.update();
+        return animation.getCurrentFrameIndex();
+    }
+
+    /**
+     * Switches an entity to a different animation, as an enemy does when it
+     * turns.
+     *
+     * @return The new animation key, so the work cannot be optimised away.
+     */
+    @Benchmark
+    public String setAnimation() {
+        student.setAnimation(ANIMATION_KEYS[switches++ & 1]);
+        return student.getCurrentAnimationKey();
+    }
+
+    /**
+     * Decodes a sprite sheet and slices it into scaled frames, as done for
+     * every animation when the game starts.
+     *
+     * @return The frames, so the work cannot be optimised away.
+     * @throws IOException If the sprite sheet cannot be loaded.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<AnimationFrame> loadFromSpriteSheet() throws IOException {
+        return AnimationLoader.loadFromSpriteSheet(SPRITE_SHEET, 1, 4, TICK_MILLIS * 4);
+    }
+}
@@ -0,0 +1,115 @@
+package com.simcraft.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.simcraft.graphics.GameFrame;
+import com.simcraft.graphics.screens.subpanels.GamePanel;
+import com.simcraft.levels.LevelStreamingService;
+import com.simcraft.levels.LevelStreamingService.PreparedLevel;
+
+/**
+ * Measures drawing the scrolling background of a level into an offscreen
+ * image the size of the game panel. The game is not running, so
+ * {@link GamePanel#render(Graphics2D)} draws only the background (its
+ * {@code renderScrollingBackground}).
+ * <p>
+ * A scroll offset on a tile boundary draws whole tiles; any other offset
+ * draws one more, partly visible, tile.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class BackgroundRenderBenchmark {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The height of the game panel, below the info panel.
+     */
+    private static final int PANEL_HEIGHT = GameFrame.FRAME_HEIGHT - 100;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The zero-based index of the level whose background is drawn.
+     */
+    @Param({"0", "1"})
+    private int levelIndex;
+
+    /**
+     * The horizontal scroll offset, in pixels.
+     */
+    @Param({"0", "333"})
+    private int scrollOffset;
+
+    /**
+     * Decodes the level's background tiles.
+     */
+    private LevelStreamingService levelStreamer;
+
+    /**
+     * The panel drawing the background.
+     */
+    private GamePanel gamePanel;
+
+    /**
+     * The offscreen image drawn into.
+     */
+    private BufferedImage frame;
+
+    /**
+     * The graphics context of {@link #frame}.
+     */
+    private Graphics2D g2d;
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Decodes the level's background and builds the panel and offscreen image.
+     */
+    @Setup
+    public void setUp() {
+        levelStreamer = new LevelStreamingService();
+        PreparedLevel level = levelStreamer.take(levelIndex);
+        gamePanel = new GamePanel(GameFrame.FRAME_WIDTH, PANEL_HEIGHT, level.backgroundTiles());
+        gamePanel.setSize(GameFrame.FRAME_WIDTH, PANEL_HEIGHT);
+        gamePanel.setScrollOffset(scrollOffset);
+        frame = new BufferedImage(GameFrame.FRAME_WIDTH, PANEL_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        g2d = frame.createGraphics();
+    }
+
+    /**
+     * Releases the graphics context and stops level streaming.
+     */
+    @TearDown
+    public void tearDown() {
+        g2d.dispose();
+        levelStreamer.close();
+    }
+
+    /**
+     * Draws one frame of the background.
+     *
+     * @return The offscreen image, so the work cannot be optimised away.
+     */
+    @Benchmark
+    public BufferedImage renderScrollingBackground() {
+        gamePanel.render(g2d);
+        return frame;
+    }
+}
@@ -0,0 +1,63 @@
+package com.simcraft.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.JPanel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.simcraft.entities.Ali;
+import com.simcraft.graphics.animations.AnimationLoader;
+import com.simcraft.graphics.effects.sprite_effects.HitFlashEffect;
+
+/**
+ * Measures a {@link HitFlashEffect} on Ali's sprite: starting it, which copies
+ * the sprite and brightens every pixel (its {@code applyWhiteFlash}), then
+ * ending it, which copies the original pixels back. This is the work done
+ * each time an enemy hits the player.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class HitFlashBenchmark {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The effect under measurement.
+     */
+    private HitFlashEffect hitFlash;
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Loads the game's animations and builds the player with his hit flash.
+     */
+    @Setup
+    public void setUp() {
+        AnimationLoader.loadAnimationsFromJson();
+        hitFlash = new Ali.AliBuilder(new JPanel()).build().getHitFlashEffect();
+    }
+
+    /**
+     * Flashes the sprite white and restores it.
+     *
+     * @return Whether the effect ended, so the work cannot be optimised away.
+     */
+    @Benchmark
+    public boolean flashAndRevert() {
+        hitFlash.startEffect();
+        hitFlash.stopEffect();
+        return hitFlash.isEffectFinished();
+    }
+}
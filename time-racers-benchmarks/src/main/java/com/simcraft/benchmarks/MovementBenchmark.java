@@ -0,0 +1,95 @@
+package com.simcraft.benchmarks;
+
+import java.awt.Point;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.JPanel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.simcraft.entities.Ali;
+import com.simcraft.entities.enemies.Student;
+import com.simcraft.graphics.GameFrame;
+import com.simcraft.graphics.animations.AnimationLoader;
+
+/**
+ * Measures {@link com.simcraft.entities.MobileEntity#move()}, run for every
+ * entity on every tick: for the player, whose move is the base one followed
+ * by a screen position update, and for an enemy, whose move also applies its
+ * steering and turns it back at the panel's edges.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class MovementBenchmark {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The player character, walking diagonally.
+     */
+    private Ali ali;
+
+    /**
+     * An enemy, wandering diagonally across the panel.
+     */
+    private Student student;
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Loads the game's animations and builds the moving entities in a panel
+     * the size of the game window.
+     */
+    @Setup
+    public void setUp() {
+        AnimationLoader.loadAnimationsFromJson();
+        JPanel panel = new JPanel();
+        panel.setSize(GameFrame.FRAME_WIDTH, GameFrame.FRAME_HEIGHT);
+
+        ali = new Ali.AliBuilder(panel).build();
+        ali.setVelocityX(ali.getSpeed());
+        ali.setVelocityY(ali.getSpeed());
+
+        student = new Student.StudentBuilder(panel)
+                .position(new Point(GameFrame.FRAME_WIDTH / 2, GameFrame.FRAME_HEIGHT / 2))
+                .build();
+        student.setWorldPosition(GameFrame.FRAME_WIDTH / 2.0, GameFrame.FRAME_HEIGHT / 2.0);
+        student.setVelocityX(student.getSpeed());
+        student.setVelocityY(student.getSpeed());
+    }
+
+    /**
+     * Moves the player by one tick.
+     *
+     * @return The new world position, so the work cannot be optimised away.
+     */
+    @Benchmark
+    public double moveAli() {
+        ali.move();
+        return ali.getWorldX();
+    }
+
+    /**
+     * Moves an enemy by one tick, with a small steering nudge as its manager
+     * would give it.
+     *
+     * @return The new world position, so the work cannot be optimised away.
+     */
+    @Benchmark
+    public double moveEnemy() {
+        student.steer(0.1, -0.1);
+        student.move();
+        return student.getWorldX();
+    }
+}
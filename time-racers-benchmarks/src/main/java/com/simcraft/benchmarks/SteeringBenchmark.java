@@ -0,0 +1,114 @@
+package com.simcraft.benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.simcraft.ai.SteeringSystem;
+
+/**
+ * Measures one tick of enemy-to-enemy interaction: the batched pass of the
+ * {@link SteeringSystem} that replaced {@code EnemyManager}'s pairwise
+ * collision handling, from filling it with every enemy to computing their
+ * steering.
+ * <p>
+ * Enemies are scattered over an area that grows with their number, so the
+ * crowd density (and thus the number of neighbours each enemy has) stays about
+ * the same at every size, as it would in a level whose enemy cap was raised.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class SteeringBenchmark {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The distance within which enemies count as neighbours, as used by the
+     * {@code EnemyManager}.
+     */
+    private static final double NEIGHBOUR_RADIUS = 96.0;
+
+    /**
+     * The radius of an enemy, about half a sprite.
+     */
+    private static final double ENEMY_RADIUS = 24.0;
+
+    /**
+     * The top speed of an enemy, in pixels per frame.
+     */
+    private static final double MAX_SPEED = 4.0;
+
+    /**
+     * The area given to each enemy, in square pixels.
+     */
+    private static final double AREA_PER_ENEMY = 128.0 * 128.0;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The number of enemies.
+     */
+    @Param({"10", "100", "1000", "10000"})
+    private int enemyCount;
+
+    /**
+     * The steering system under measurement.
+     */
+    private final SteeringSystem steering = new SteeringSystem(NEIGHBOUR_RADIUS);
+
+    /**
+     * The enemies' positions and velocities, packed as
+     * {@code x, y, velocityX, velocityY} per enemy.
+     */
+    private double[] enemies;
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Scatters the enemies with a fixed seed, so every run measures the same
+     * crowd.
+     */
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        double side = Math.sqrt(enemyCount * AREA_PER_ENEMY);
+        enemies = new double[enemyCount * 4];
+        for (int i = 0; i < enemies.length; i += 4) {
+            enemies[i] = random.nextDouble(side);
+            enemies[i + 1] = random.nextDouble(side);
+            enemies[i + 2] = random.nextDouble(-MAX_SPEED, MAX_SPEED);
+            enemies[i + 3] = random.nextDouble(-MAX_SPEED, MAX_SPEED);
+        }
+    }
+
+    /**
+     * Fills the steering system with every enemy and computes their steering,
+     * as the {@code EnemyManager} does each tick.
+     *
+     * @return A steering result, so the work cannot be optimised away.
+     */
+    @Benchmark
+    public double steerEnemies() {
+        steering.clear();
+        for (int i = 0; i < enemies.length; i += 4) {
+            steering.add(enemies[i], enemies[i + 1],
+                    enemies[i + 2], enemies[i + 3],
+                    enemies[i + 2], enemies[i + 3],
+                    ENEMY_RADIUS, MAX_SPEED);
+        }
+        steering.compute();
+        return steering.getSteeringX(0);
+    }
+}
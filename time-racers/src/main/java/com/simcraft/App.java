@@ -1,5 +1,8 @@
 package com.simcraft;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 import javax.swing.SwingUtilities;
 
 import com.simcraft.graphics.GameFrame;
@@ -16,11 +19,18 @@ public class App {
     /**
      * The entry point for the application. This method schedules the creation
      * of the {@link GameFrame} on the Event Dispatch Thread (EDT).
+     * <p>
+     * Usage: {@code App [--record <file>]}. With {@code --record}, the input of
+     * each gameplay session is recorded to the file, for replay with
+     * {@link com.simcraft.graphics.headless.InputReplayDriver}.
      *
-     * @param args The command line arguments (not used in this application).
+     * @param args The command line arguments described above.
      */
     public static void main(String[] args) {
+        Path inputRecordingPath = args.length >= 2 && "--record".equals(args[0])
+                ? Paths.get(args[1])
+                : null;
         // Schedules GameFrame creation on the EDT
-        SwingUtilities.invokeLater(GameFrame::new);
+        SwingUtilities.invokeLater(() -> new GameFrame(inputRecordingPath));
     }
 }
@@ -0,0 +1,233 @@
+package com.simcraft.ai;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Spreads the decision-making of many agents over several ticks, so that the
+ * cost of AI per tick stays flat as the number of agents grows.
+ * <p>
+ * Agents are dealt into a fixed number of buckets, each new agent into the
+ * smallest one, so the buckets stay balanced as agents come and go. Each tick,
+ * {@link #tick(Consumer)} lets the agents of the current bucket decide, then
+ * moves on to the next bucket, so every agent decides once per
+ * {@code bucketCount} ticks. At most {@code budgetPerTick} agents decide in
+ * one tick: when a bucket holds more, the rest of it decides on the following
+ * ticks, before the next bucket. Decisions then become less frequent, but a
+ * tick never does more than the budget allows.
+ * <p>
+ * Adding and removing an agent take constant time, so despawning many agents
+ * at once stays linear in their number.
+ * <p>
+ * Decisions should be the expensive, infrequent part of an agent's behaviour
+ * (choosing a direction, noticing the player); movement should still be
+ * integrated every tick. The scheduler is not thread-safe.
+ *
+ * @param <T> The type of agent.
+ */
+public final class AiScheduler<T> {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The agents of each bucket.
+     */
+    private final List<List<T>> buckets;
+
+    /**
+     * Where each agent is in the buckets.
+     */
+    private final Map<T, Slot> slotOf = new IdentityHashMap<>();
+
+    /**
+     * The most agents that decide in one tick.
+     */
+    private final int budgetPerTick;
+
+    /**
+     * The bucket deciding next.
+     */
+    private int currentBucket = 0;
+
+    /**
+     * The position in the current bucket of the next agent to decide.
+     */
+    private int cursor = 0;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Constructs an empty {@code AiScheduler}.
+     *
+     * @param bucketCount The number of buckets, i.e. the number of ticks
+     * between two decisions of an agent while within budget.
+     * @param budgetPerTick The most agents that decide in one tick.
+     * @throws IllegalArgumentException If either argument is not positive.
+     */
+    public AiScheduler(final int bucketCount, final int budgetPerTick) {
+        if (bucketCount <= 0 || budgetPerTick <= 0) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Bucket count and budget must be positive, got %d and %d.",
+                    this.getClass().getName(),
+                    bucketCount,
+                    budgetPerTick
+            ));
+        }
+        this.buckets = new ArrayList<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.budgetPerTick = budgetPerTick;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the number of scheduled agents.
+     *
+     * @return The agent count.
+     */
+    public int size() {
+        return slotOf.size();
+    }
+
+    /**
+     * Returns the most agents that decide in one tick.
+     *
+     * @return The budget per tick.
+     */
+    public int getBudgetPerTick() {
+        return budgetPerTick;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Schedules an agent in the smallest bucket. Does nothing if it is already
+     * scheduled.
+     *
+     * @param agent The agent.
+     */
+    public void add(final T agent) {
+        if (slotOf.containsKey(agent)) {
+            return;
+        }
+        int bucket = 0;
+        for (int i = 1; i < buckets.size(); i++) {
+            if (buckets.get(i).size() < buckets.get(bucket).size()) {
+                bucket = i;
+            }
+        }
+        List<T> agents = buckets.get(bucket);
+        slotOf.put(agent, new Slot(bucket, agents.size()));
+        agents.add(agent);
+    }
+
+    /**
+     * Stops scheduling an agent. Does nothing if it is not scheduled.
+     * <p>
+     * The last agent of the bucket takes the removed agent's place. If the
+     * removed agent has already decided in the current pass over its bucket,
+     * the last agent to have decided takes its place instead, and the last
+     * agent of the bucket takes that one's, so no agent skips or repeats its
+     * turn.
+     *
+     * @param agent The agent.
+     */
+    public void remove(final T agent) {
+        Slot slot = slotOf.remove(agent);
+        if (slot == null) {
+            return;
+        }
+        List<T> agents = buckets.get(slot.bucket);
+        int last = agents.size() - 1;
+        if (slot.bucket == currentBucket && slot.index < cursor) {
+            cursor--;
+            moveAgent(agents, cursor, slot.index);
+            moveAgent(agents, last, cursor);
+        } else {
+            moveAgent(agents, last, slot.index);
+        }
+        agents.remove(last);
+    }
+
+    /**
+     * Stops scheduling every agent.
+     */
+    public void clear() {
+        for (List<T> agents : buckets) {
+            agents.clear();
+        }
+        slotOf.clear();
+        currentBucket = 0;
+        cursor = 0;
+    }
+
+    /**
+     * Lets the agents whose turn it is decide, within the budget.
+     *
+     * @param decide Makes one agent decide. It must not add or remove agents.
+     * @return The number of agents that decided.
+     */
+    public int tick(final Consumer<? super T> decide) {
+        if (slotOf.isEmpty()) {
+            return 0;
+        }
+        List<T> agents = buckets.get(currentBucket);
+        int decided = 0;
+        while (cursor < agents.size() && decided < budgetPerTick) {
+            decide.accept(agents.get(cursor++));
+            decided++;
+        }
+        if (cursor >= agents.size()) {
+            currentBucket = (currentBucket + 1) % buckets.size();
+            cursor = 0;
+        }
+        return decided;
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Moves an agent to another position in its bucket, overwriting the agent
+     * there. Does nothing if both positions are the same.
+     *
+     * @param agents The bucket.
+     * @param from The agent's position.
+     * @param to The position to move it to.
+     */
+    private void moveAgent(final List<T> agents, final int from, final int to) {
+        if (from == to) {
+            return;
+        }
+        T moved = agents.get(from);
+        agents.set(to, moved);
+        slotOf.get(moved).index = to;
+    }
+
+    // ----- NESTED TYPES -----
+    /**
+     * The position of an agent in the buckets.
+     */
+    private static final class Slot {
+
+        /**
+         * The bucket the agent is in.
+         */
+        private final int bucket;
+
+        /**
+         * The agent's position in its bucket.
+         */
+        private int index;
+
+        /**
+         * Constructs a {@code Slot}.
+         *
+         * @param bucket The bucket the agent is in.
+         * @param index The agent's position in its bucket.
+         */
+        private Slot(final int bucket, final int index) {
+            this.bucket = bucket;
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.simcraft.ai;
+
+import java.util.Arrays;
+
+/**
+ * A shared map of which way to walk to reach a target, used by every enemy
+ * pursuing the player.
+ * <p>
+ * The world is divided into a coarse grid of square cells. One breadth-first
+ * search from the target's cell gives every cell its distance to the target
+ * and the direction of the neighbouring cell one step closer. A pursuer then
+ * only looks up the direction of the cell it stands in, so any number of
+ * pursuers costs a single search rather than a path search each. The search
+ * is only redone when the target moves into another cell (see
+ * {@link #update(double, double)}).
+ * <p>
+ * Cells are connected to all eight neighbours. Every cell is walkable; the
+ * levels have no obstacles yet. Positions outside the grid use the nearest
+ * cell. The field is not thread-safe.
+ */
+public final class FlowField {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The horizontal step of each direction; the last entry means "stay".
+     */
+    private static final int[] STEP_X = {1, 1, 0, -1, -1, -1, 0, 1, 0};
+
+    /**
+     * The vertical step of each direction (positive is down the screen); the
+     * last entry means "stay".
+     */
+    private static final int[] STEP_Y = {0, 1, 1, 1, 0, -1, -1, -1, 0};
+
+    /**
+     * The direction of the target's own cell, and of unreached cells.
+     */
+    private static final byte STAY = 8;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The side length of a cell, in world units.
+     */
+    private final double cellSize;
+
+    /**
+     * The number of columns in the grid.
+     */
+    private int columns = 0;
+
+    /**
+     * The number of rows in the grid.
+     */
+    private int rows = 0;
+
+    /**
+     * The distance of each cell to the target's cell, in steps, or -1 if it
+     * has not been reached.
+     */
+    private int[] distances = new int[0];
+
+    /**
+     * The direction to walk from each cell, as an index into
+     * {@link #STEP_X} and {@link #STEP_Y}.
+     */
+    private byte[] directions = new byte[0];
+
+    /**
+     * The queue of the breadth-first search, reused between searches.
+     */
+    private int[] queue = new int[0];
+
+    /**
+     * The cell of the target of the last search, or -1 if the field must be
+     * rebuilt.
+     */
+    private int targetCell = -1;
+
+    /**
+     * The number of searches run, for diagnostics.
+     */
+    private long rebuildCount = 0;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Constructs an empty {@code FlowField}. It has no cells until it is
+     * {@link #resize(double, double) resized}.
+     *
+     * @param cellSize The side length of a cell. Smaller cells give finer
+     * paths at the cost of a slower search.
+     * @throws IllegalArgumentException If {@code cellSize} is not positive.
+     */
+    public FlowField(final double cellSize) {
+        if (!(cellSize > 0)) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Cell size must be positive, got %f.",
+                    this.getClass().getName(),
+                    cellSize
+            ));
+        }
+        this.cellSize = cellSize;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the number of columns in the grid.
+     *
+     * @return The column count.
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns the number of rows in the grid.
+     *
+     * @return The row count.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of searches run since the field was created.
+     *
+     * @return The rebuild count.
+     */
+    public long getRebuildCount() {
+        return rebuildCount;
+    }
+
+    /**
+     * Returns the horizontal component of the direction to walk from a
+     * position.
+     *
+     * @param x The world x-coordinate.
+     * @param y The world y-coordinate.
+     * @return -1 (left), 0 or 1 (right). 0 in both components means the
+     * position is in the target's cell, or the field is empty.
+     */
+    public int getDirectionX(final double x, final double y) {
+        return STEP_X[directionAt(x, y)];
+    }
+
+    /**
+     * Returns the vertical component of the direction to walk from a
+     * position.
+     *
+     * @param x The world x-coordinate.
+     * @param y The world y-coordinate.
+     * @return -1 (up the screen), 0 or 1 (down the screen).
+     */
+    public int getDirectionY(final double x, final double y) {
+        return STEP_Y[directionAt(x, y)];
+    }
+
+    /**
+     * Returns how far a position is from the target.
+     *
+     * @param x The world x-coordinate.
+     * @param y The world y-coordinate.
+     * @return The number of cells to walk, or -1 if the field is empty.
+     */
+    public int getDistance(final double x, final double y) {
+        return distances.length > 0 ? distances[cellAt(x, y)] : -1;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Sizes the grid to cover a world, starting at the origin. Does nothing if
+     * the size is unchanged; otherwise, the field is rebuilt on the next
+     * {@link #update(double, double)}.
+     *
+     * @param worldWidth The width of the world.
+     * @param worldHeight The height of the world.
+     */
+    public void resize(final double worldWidth, final double worldHeight) {
+        int newColumns = Math.max(1, (int) Math.ceil(worldWidth / cellSize));
+        int newRows = Math.max(1, (int) Math.ceil(worldHeight / cellSize));
+        if (newColumns == columns && newRows == rows) {
+            return;
+        }
+        columns = newColumns;
+        rows = newRows;
+        distances = new int[columns * rows];
+        directions = new byte[columns * rows];
+        queue = new int[columns * rows];
+        targetCell = -1;
+    }
+
+    /**
+     * Points the field at a target, rebuilding it if the target has moved
+     * into another cell.
+     *
+     * @param targetX The world x-coordinate of the target.
+     * @param targetY The world y-coordinate of the target.
+     * @return {@code true} if the field was rebuilt.
+     */
+    public boolean update(final double targetX, final double targetY) {
+        if (distances.length == 0) {
+            return false;
+        }
+        int cell = cellAt(targetX, targetY);
+        if (cell == targetCell) {
+            return false;
+        }
+        targetCell = cell;
+        rebuild();
+        return true;
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Runs the breadth-first search from the target's cell. A cell's
+     * direction points back to the cell it was first reached from, which is
+     * one step closer to the target.
+     */
+    private void rebuild() {
+        Arrays.fill(distances, -1);
+        Arrays.fill(directions, STAY);
+        int head = 0;
+        int tail = 0;
+        distances[targetCell] = 0;
+        queue[tail++] = targetCell;
+
+        while (head < tail) {
+            int cell = queue[head++];
+            int column = cell % columns;
+            int row = cell / columns;
+            for (byte direction = 0; direction < STAY; direction++) {
+                int neighbourColumn = column + STEP_X[direction];
+                int neighbourRow = row + STEP_Y[direction];
+                if (neighbourColumn < 0 || neighbourColumn >= columns || neighbourRow < 0 || neighbourRow >= rows) {
+                    continue;
+                }
+                int neighbour = neighbourRow * columns + neighbourColumn;
+                if (distances[neighbour] < 0) {
+                    distances[neighbour] = distances[cell] + 1;
+                    // Walking from the neighbour back to this cell is the opposite direction
+                    directions[neighbour] = (byte) ((direction + 4) % STAY);
+                    queue[tail++] = neighbour;
+                }
+            }
+        }
+        rebuildCount++;
+    }
+
+    /**
+     * Returns the direction stored for the cell at a position.
+     *
+     * @param x The world x-coordinate.
+     * @param y The world y-coordinate.
+     * @return The direction index.
+     */
+    private int directionAt(final double x, final double y) {
+        return directions.length > 0 ? directions[cellAt(x, y)] : STAY;
+    }
+
+    /**
+     * Returns the cell at a position, clamped to the grid.
+     *
+     * @param x The world x-coordinate.
+     * @param y The world y-coordinate.
+     * @return The cell index.
+     */
+    private int cellAt(final double x, final double y) {
+        int column = Math.clamp((long) Math.floor(x / cellSize), 0, columns - 1);
+        int row = Math.clamp((long) Math.floor(y / cellSize), 0, rows - 1);
+        return row * columns + column;
+    }
+}
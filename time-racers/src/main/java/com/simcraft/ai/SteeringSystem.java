@@ -0,0 +1,291 @@
+package com.simcraft.ai;
+
+import java.util.Arrays;
+
+import com.simcraft.utility.SpatialHashGrid;
+
+/**
+ * Computes steering for a crowd of agents in one batched pass, so that groups
+ * of enemies move smoothly around each other instead of bumping and bouncing.
+ * <p>
+ * Each tick, the caller {@link #add adds} every agent with its position,
+ * velocity, size, top speed and desired velocity, then calls
+ * {@link #compute()}. Every agent gets a steering acceleration combining three
+ * behaviours:
+ * <ul>
+ * <li><b>Seek</b> turns the velocity towards the desired velocity (e.g.,
+ * along a {@link FlowField} to the player).</li>
+ * <li><b>Separation</b> pushes apart agents whose circles overlap, harder the
+ * deeper the overlap, so they part before colliding again.</li>
+ * <li><b>Cohesion</b> pulls an agent gently towards the centre of its
+ * neighbours, keeping groups together.</li>
+ * </ul>
+ * Neighbours are found through a {@link SpatialHashGrid}, so the pass costs
+ * about one grid query per agent. All data lives in parallel arrays that are
+ * reused between ticks. The y-axis points down the screen. The system is not
+ * thread-safe.
+ */
+public final class SteeringSystem {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The fraction of the gap between the velocity and the desired velocity
+     * closed per step.
+     */
+    private static final double SEEK_WEIGHT = 0.25;
+
+    /**
+     * The push between two fully overlapping agents, as a fraction of the top
+     * speed.
+     */
+    private static final double SEPARATION_WEIGHT = 1.0;
+
+    /**
+     * The pull towards the neighbours' centre from the edge of the
+     * neighbourhood, as a fraction of the top speed.
+     */
+    private static final double COHESION_WEIGHT = 0.05;
+
+    /**
+     * The largest steering acceleration, as a fraction of the top speed.
+     */
+    private static final double MAX_FORCE = 0.5;
+
+    /**
+     * The most neighbours considered per agent; in denser crowds, the rest
+     * are ignored for that tick.
+     */
+    private static final int MAX_NEIGHBOURS = 16;
+
+    /**
+     * The number of agents the arrays are sized for initially.
+     */
+    private static final int INITIAL_CAPACITY = 32;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The distance within which agents count as neighbours for cohesion.
+     */
+    private final double neighbourRadius;
+
+    /**
+     * The agents' positions, indexed like the arrays below.
+     */
+    private final SpatialHashGrid grid;
+
+    /**
+     * The horizontal velocity of each agent.
+     */
+    private double[] velocitiesX = new double[INITIAL_CAPACITY];
+
+    /**
+     * The vertical velocity of each agent.
+     */
+    private double[] velocitiesY = new double[INITIAL_CAPACITY];
+
+    /**
+     * The desired horizontal velocity of each agent.
+     */
+    private double[] desiredX = new double[INITIAL_CAPACITY];
+
+    /**
+     * The desired vertical velocity of each agent.
+     */
+    private double[] desiredY = new double[INITIAL_CAPACITY];
+
+    /**
+     * The radius of each agent.
+     */
+    private double[] radii = new double[INITIAL_CAPACITY];
+
+    /**
+     * The top speed of each agent.
+     */
+    private double[] maxSpeeds = new double[INITIAL_CAPACITY];
+
+    /**
+     * The horizontal steering acceleration of each agent, computed by
+     * {@link #compute()}.
+     */
+    private double[] steeringX = new double[INITIAL_CAPACITY];
+
+    /**
+     * The vertical steering acceleration of each agent, computed by
+     * {@link #compute()}.
+     */
+    private double[] steeringY = new double[INITIAL_CAPACITY];
+
+    /**
+     * The largest radius among the agents, which bounds how far an overlapping
+     * agent's centre can be.
+     */
+    private double maxRadius = 0.0;
+
+    /**
+     * Scratch space for the neighbours of an agent.
+     */
+    private final int[] neighbours = new int[MAX_NEIGHBOURS + 1];
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Constructs an empty {@code SteeringSystem}.
+     *
+     * @param neighbourRadius The distance within which agents count as
+     * neighbours, and the cell size of the neighbour grid. Agents large enough
+     * to overlap from further away are found regardless.
+     * @throws IllegalArgumentException If {@code neighbourRadius} is not
+     * positive.
+     */
+    public SteeringSystem(final double neighbourRadius) {
+        this.grid = new SpatialHashGrid(neighbourRadius, INITIAL_CAPACITY);
+        this.neighbourRadius = neighbourRadius;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the number of agents added since the last {@link #clear()}.
+     *
+     * @return The agent count.
+     */
+    public int size() {
+        return grid.size();
+    }
+
+    /**
+     * Returns the horizontal steering acceleration of an agent.
+     *
+     * @param index The index returned when the agent was added.
+     * @return The acceleration, in velocity units per step.
+     */
+    public double getSteeringX(final int index) {
+        return steeringX[index];
+    }
+
+    /**
+     * Returns the vertical steering acceleration of an agent.
+     *
+     * @param index The index returned when the agent was added.
+     * @return The acceleration, in velocity units per step (positive is down
+     * the screen).
+     */
+    public double getSteeringY(final int index) {
+        return steeringY[index];
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Removes every agent, keeping the allocated arrays.
+     */
+    public void clear() {
+        grid.clear();
+        maxRadius = 0.0;
+    }
+
+    /**
+     * Adds an agent for the next {@link #compute()}.
+     *
+     * @param x The x-coordinate of the agent's centre.
+     * @param y The y-coordinate of the agent's centre.
+     * @param velocityX The agent's horizontal velocity.
+     * @param velocityY The agent's vertical velocity.
+     * @param desiredVelocityX The horizontal velocity the agent wants.
+     * @param desiredVelocityY The vertical velocity the agent wants.
+     * @param radius The radius of the circle the agent occupies.
+     * @param maxSpeed The agent's top speed.
+     * @return The index of the agent.
+     */
+    public int add(final double x, final double y,
+            final double velocityX, final double velocityY,
+            final double desiredVelocityX, final double desiredVelocityY,
+            final double radius, final double maxSpeed) {
+        int index = grid.insert(x, y);
+        if (index == radii.length) {
+            grow();
+        }
+        velocitiesX[index] = velocityX;
+        velocitiesY[index] = velocityY;
+        desiredX[index] = desiredVelocityX;
+        desiredY[index] = desiredVelocityY;
+        radii[index] = radius;
+        maxSpeeds[index] = maxSpeed;
+        maxRadius = Math.max(maxRadius, radius);
+        return index;
+    }
+
+    /**
+     * Computes the steering acceleration of every agent.
+     */
+    public void compute() {
+        int count = grid.size();
+        for (int i = 0; i < count; i++) {
+            double x = grid.getX(i);
+            double y = grid.getY(i);
+            double separationX = 0.0;
+            double separationY = 0.0;
+            double sumX = 0.0;
+            double sumY = 0.0;
+            int neighbourCount = 0;
+
+            double queryRadius = Math.max(neighbourRadius, radii[i] + maxRadius);
+            int found = grid.query(x, y, queryRadius, neighbours);
+            for (int n = 0; n < found; n++) {
+                int j = neighbours[n];
+                if (j == i) {
+                    continue;
+                }
+                double dx = x - grid.getX(j);
+                double dy = y - grid.getY(j);
+                double distance = Math.sqrt(dx * dx + dy * dy);
+                double minDistance = radii[i] + radii[j];
+                if (distance < minDistance) {
+                    if (distance == 0.0) {
+                        // Exactly stacked: split them along x, in opposite directions
+                        dx = i < j ? -1.0 : 1.0;
+                        distance = 1.0;
+                    }
+                    double push = (minDistance - distance) / minDistance;
+                    separationX += dx / distance * push;
+                    separationY += dy / distance * push;
+                }
+                sumX += grid.getX(j);
+                sumY += grid.getY(j);
+                neighbourCount++;
+            }
+
+            double maxSpeed = maxSpeeds[i];
+            double forceX = (desiredX[i] - velocitiesX[i]) * SEEK_WEIGHT
+                    + separationX * SEPARATION_WEIGHT * maxSpeed;
+            double forceY = (desiredY[i] - velocitiesY[i]) * SEEK_WEIGHT
+                    + separationY * SEPARATION_WEIGHT * maxSpeed;
+            if (neighbourCount > 0) {
+                forceX += (sumX / neighbourCount - x) / queryRadius * COHESION_WEIGHT * maxSpeed;
+                forceY += (sumY / neighbourCount - y) / queryRadius * COHESION_WEIGHT * maxSpeed;
+            }
+
+            double force = Math.sqrt(forceX * forceX + forceY * forceY);
+            double maxForce = MAX_FORCE * maxSpeed;
+            if (force > maxForce) {
+                forceX *= maxForce / force;
+                forceY *= maxForce / force;
+            }
+            steeringX[i] = forceX;
+            steeringY[i] = forceY;
+        }
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Doubles the capacity of the per-agent arrays.
+     */
+    private void grow() {
+        int capacity = radii.length * 2;
+        velocitiesX = Arrays.copyOf(velocitiesX, capacity);
+        velocitiesY = Arrays.copyOf(velocitiesY, capacity);
+        desiredX = Arrays.copyOf(desiredX, capacity);
+        desiredY = Arrays.copyOf(desiredY, capacity);
+        radii = Arrays.copyOf(radii, capacity);
+        maxSpeeds = Arrays.copyOf(maxSpeeds, capacity);
+        steeringX = Arrays.copyOf(steeringX, capacity);
+        steeringY = Arrays.copyOf(steeringY, capacity);
+    }
+}
@@ -0,0 +1,56 @@
+package com.simcraft.audio;
+
+/**
+ * The buses of the {@link SoftwareMixer}. Every voice is routed to one bus, and
+ * every bus except {@link #MASTER} feeds into its parent.
+ * <p>
+ * Each bus has a linear gain. Once per mixer buffer, the mixer multiplies the
+ * gains down the hierarchy into one effective gain per bus, so changing a
+ * volume costs one array write, and mixing a voice costs one multiplication,
+ * however many sounds are loaded.
+ */
+public enum AudioBus {
+    /**
+     * The root bus; scales everything.
+     */
+    MASTER(null),
+    /**
+     * Background music and other long tracks.
+     */
+    MUSIC(MASTER),
+    /**
+     * Sound effects (e.g., footsteps).
+     */
+    SFX(MASTER),
+    /**
+     * Spoken lines (e.g., collision chatter).
+     */
+    VOICE(MASTER);
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The bus this bus feeds into, or {@code null} for {@link #MASTER}.
+     */
+    private final AudioBus parent;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Constructs an {@code AudioBus}. Parents must be declared before their
+     * children, so that effective gains can be computed in declaration order.
+     *
+     * @param parent The parent bus, or {@code null}.
+     */
+    AudioBus(final AudioBus parent) {
+        this.parent = parent;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the bus this bus feeds into.
+     *
+     * @return The parent, or {@code null} for {@link #MASTER}.
+     */
+    public AudioBus getParent() {
+        return parent;
+    }
+}
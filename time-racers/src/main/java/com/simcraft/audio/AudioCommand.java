@@ -0,0 +1,88 @@
+package com.simcraft.audio;
+
+/**
+ * A fire-and-forget request sent to the {@link SoftwareMixer}'s audio thread
+ * through its command queue. Game code never touches the voice list directly;
+ * it only enqueues commands, which the audio thread applies at the start of
+ * its next buffer.
+ *
+ * @param type What to do.
+ * @param voice The voice to start, stop or fade, or {@code null} if the
+ * command targets a sound or every voice.
+ * @param buffer The sound whose voices to stop or fade, or {@code null}.
+ * @param targetGain The gain a fade ends at (range: 0.0 to 1.0).
+ * @param durationFrames The length of a fade, in output frames.
+ * @param stopWhenDone Whether a fade stops its voices when it reaches its
+ * target.
+ */
+record AudioCommand(Type type, Voice voice, SampleBuffer buffer, float targetGain,
+        long durationFrames, boolean stopWhenDone) {
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Creates a command starting a voice.
+     *
+     * @param voice The new voice.
+     * @return The command.
+     */
+    static AudioCommand play(final Voice voice) {
+        return new AudioCommand(Type.PLAY, voice, null, 0.0f, 0L, false);
+    }
+
+    /**
+     * Creates a command stopping every voice of a sound.
+     *
+     * @param buffer The sound.
+     * @return The command.
+     */
+    static AudioCommand stop(final SampleBuffer buffer) {
+        return new AudioCommand(Type.STOP, null, buffer, 0.0f, 0L, false);
+    }
+
+    /**
+     * Creates a command stopping every voice.
+     *
+     * @return The command.
+     */
+    static AudioCommand stopAll() {
+        return new AudioCommand(Type.STOP_ALL, null, null, 0.0f, 0L, false);
+    }
+
+    /**
+     * Creates a command fading one voice, or every voice of a sound.
+     *
+     * @param voice The voice, or {@code null} to fade by sound.
+     * @param buffer The sound, used if {@code voice} is {@code null}.
+     * @param targetGain The gain to end at.
+     * @param durationFrames The fade length in output frames.
+     * @param stopWhenDone Whether to stop the voices once faded.
+     * @return The command.
+     */
+    static AudioCommand fade(final Voice voice, final SampleBuffer buffer, final float targetGain,
+            final long durationFrames, final boolean stopWhenDone) {
+        return new AudioCommand(Type.FADE, voice, buffer, targetGain, durationFrames, stopWhenDone);
+    }
+
+    // ----- NESTED TYPES -----
+    /**
+     * The kinds of audio command.
+     */
+    enum Type {
+        /**
+         * Add a voice to the mix.
+         */
+        PLAY,
+        /**
+         * Stop every voice of a sound.
+         */
+        STOP,
+        /**
+         * Stop every voice.
+         */
+        STOP_ALL,
+        /**
+         * Ramp the gain of a voice, or of every voice of a sound.
+         */
+        FADE
+    }
+}
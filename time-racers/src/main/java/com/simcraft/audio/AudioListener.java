@@ -0,0 +1,87 @@
+package com.simcraft.audio;
+
+/**
+ * The point in the game world that positional voices are heard from, usually
+ * the centre of the camera.
+ * <p>
+ * A positional voice within {@code referenceDistance} of the listener plays at
+ * full volume; beyond it, the volume falls linearly to silence at
+ * {@code maxDistance}. The voice is panned by its horizontal offset, reaching
+ * {@link #MAX_PAN} at {@code referenceDistance}, so a sound at the edge of the
+ * screen comes mostly, but never only, from that side.
+ *
+ * @param x The world x-coordinate of the listener.
+ * @param y The world y-coordinate of the listener.
+ * @param referenceDistance The distance up to which voices are not attenuated
+ * (e.g., half the width of the screen).
+ * @param maxDistance The distance at which voices become silent.
+ */
+public record AudioListener(float x, float y, float referenceDistance, float maxDistance) {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The largest pan applied to a positional voice.
+     */
+    public static final float MAX_PAN = 0.8f;
+
+    /**
+     * A listener that hears every positional voice at full volume, centred;
+     * used until the game sets a camera.
+     */
+    public static final AudioListener NONE = new AudioListener(0.0f, 0.0f, Float.MAX_VALUE, Float.MAX_VALUE);
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Validates the distances.
+     *
+     * @throws IllegalArgumentException If {@code referenceDistance} is not
+     * positive or {@code maxDistance} is smaller than it.
+     */
+    public AudioListener {
+        if (!(referenceDistance > 0.0f) || !(maxDistance >= referenceDistance)) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Distances must satisfy 0 < referenceDistance <= maxDistance, got %f and %f.",
+                    AudioListener.class.getName(),
+                    referenceDistance,
+                    maxDistance
+            ));
+        }
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Returns how loud a source is at a given position.
+     *
+     * @param sourceX The world x-coordinate of the source.
+     * @param sourceY The world y-coordinate of the source.
+     * @return The attenuation (range: 0.0 to 1.0).
+     */
+    public float attenuation(final float sourceX, final float sourceY) {
+        if (this == NONE) {
+            return 1.0f;
+        }
+        float dx = sourceX - x;
+        float dy = sourceY - y;
+        float distance = (float) Math.sqrt(dx * dx + dy * dy);
+        if (distance <= referenceDistance) {
+            return 1.0f;
+        }
+        if (distance >= maxDistance) {
+            return 0.0f;
+        }
+        return 1.0f - (distance - referenceDistance) / (maxDistance - referenceDistance);
+    }
+
+    /**
+     * Returns the stereo position of a source.
+     *
+     * @param sourceX The world x-coordinate of the source.
+     * @return The pan (range: -{@link #MAX_PAN} to {@link #MAX_PAN}).
+     */
+    public float pan(final float sourceX) {
+        if (this == NONE) {
+            return 0.0f;
+        }
+        return Math.clamp((sourceX - x) / referenceDistance, -1.0f, 1.0f) * MAX_PAN;
+    }
+}
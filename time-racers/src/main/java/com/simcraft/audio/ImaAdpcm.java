@@ -0,0 +1,210 @@
+package com.simcraft.audio;
+
+/**
+ * A pure-Java IMA ADPCM encoder and block decoder for interleaved 16-bit
+ * stereo samples.
+ * <p>
+ * IMA ADPCM stores each sample as a 4-bit step relative to a predicted value,
+ * a quarter of the size of 16-bit PCM. Samples are grouped into independent
+ * blocks of {@link #BLOCK_FRAMES} frames, so any block can be decoded on its
+ * own. This lets the mixer keep sounds compressed in memory and expand only the
+ * block each voice is currently playing.
+ * <p>
+ * Block layout, for each of the two channels in turn: the predictor at the
+ * start of the block (16-bit little-endian), the step index (one byte) and one
+ * byte of padding; followed by the nibbles of both channels, left channel
+ * first, two samples per byte with the earlier sample in the low nibble.
+ */
+public final class ImaAdpcm {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The number of stereo frames in a block.
+     */
+    public static final int BLOCK_FRAMES = 512;
+
+    /**
+     * The size of one channel's block header in bytes.
+     */
+    private static final int CHANNEL_HEADER_BYTES = 4;
+
+    /**
+     * The size of one channel's nibbles in a block, in bytes.
+     */
+    private static final int CHANNEL_DATA_BYTES = BLOCK_FRAMES / 2;
+
+    /**
+     * The size of an encoded block in bytes.
+     */
+    public static final int BLOCK_BYTES = 2 * (CHANNEL_HEADER_BYTES + CHANNEL_DATA_BYTES);
+
+    /**
+     * How the step index moves after each nibble, indexed by the nibble's
+     * magnitude bits.
+     */
+    private static final int[] INDEX_TABLE = {
+        -1, -1, -1, -1, 2, 4, 6, 8
+    };
+
+    /**
+     * The quantizer step sizes.
+     */
+    private static final int[] STEP_TABLE = {
+        7, 8, 9, 10, 11, 12, 13, 14, 16, 17,
+        19, 21, 23, 25, 28, 31, 34, 37, 41, 45,
+        50, 55, 60, 66, 73, 80, 88, 97, 107, 118,
+        130, 143, 157, 173, 190, 209, 230, 253, 279, 307,
+        337, 371, 408, 449, 494, 544, 598, 658, 724, 796,
+        876, 963, 1060, 1166, 1282, 1411, 1552, 1707, 1878, 2066,
+        2272, 2499, 2749, 3024, 3327, 3660, 4026, 4428, 4871, 5358,
+        5894, 6484, 7132, 7845, 8630, 9493, 10442, 11487, 12635, 13899,
+        15289, 16818, 18500, 20350, 22385, 24623, 27086, 29794, 32767
+    };
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ImaAdpcm() {
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Returns the number of blocks needed for a number of frames.
+     *
+     * @param frameCount The number of stereo frames.
+     * @return The block count.
+     */
+    public static int getBlockCount(final int frameCount) {
+        return (frameCount + BLOCK_FRAMES - 1) / BLOCK_FRAMES;
+    }
+
+    /**
+     * Encodes interleaved stereo samples. The last block is padded with
+     * silence. Each channel starts at its first sample, with the step size
+     * closest to the difference to its second, so a sound that starts loud
+     * does not have to wait for the step size to grow.
+     *
+     * @param samples Interleaved 16-bit stereo samples.
+     * @return The encoded blocks, {@link #BLOCK_BYTES} bytes each.
+     */
+    public static byte[] encode(final short[] samples) {
+        int frameCount = samples.length / 2;
+        int blockCount = getBlockCount(frameCount);
+        byte[] encoded = new byte[blockCount * BLOCK_BYTES];
+        int[] predictor = new int[2];
+        int[] index = new int[2];
+        for (int channel = 0; channel < 2 && frameCount > 0; channel++) {
+            predictor[channel] = samples[channel];
+            if (frameCount > 1) {
+                index[channel] = nearestStepIndex(Math.abs(samples[2 + channel] - samples[channel]));
+            }
+        }
+
+        for (int block = 0; block < blockCount; block++) {
+            int blockOffset = block * BLOCK_BYTES;
+            for (int channel = 0; channel < 2; channel++) {
+                int header = blockOffset + channel * CHANNEL_HEADER_BYTES;
+                encoded[header] = (byte) predictor[channel];
+                encoded[header + 1] = (byte) (predictor[channel] >> 8);
+                encoded[header + 2] = (byte) index[channel];
+
+                int data = blockOffset + 2 * CHANNEL_HEADER_BYTES + channel * CHANNEL_DATA_BYTES;
+                for (int i = 0; i < BLOCK_FRAMES; i++) {
+                    int frame = block * BLOCK_FRAMES + i;
+                    int sample = frame < frameCount ? samples[frame * 2 + channel] : 0;
+
+                    int step = STEP_TABLE[index[channel]];
+                    int difference = sample - predictor[channel];
+                    int nibble = 0;
+                    if (difference < 0) {
+                        nibble = 8;
+                        difference = -difference;
+                    }
+                    int delta = step >> 3;
+                    if (difference >= step) {
+                        nibble |= 4;
+                        difference -= step;
+                        delta += step;
+                    }
+                    step >>= 1;
+                    if (difference >= step) {
+                        nibble |= 2;
+                        difference -= step;
+                        delta += step;
+                    }
+                    step >>= 1;
+                    if (difference >= step) {
+                        nibble |= 1;
+                        delta += step;
+                    }
+
+                    // Track the decoder's state, not the input, so errors never accumulate
+                    predictor[channel] = Math.clamp((nibble & 8) != 0 ? predictor[channel] - delta : predictor[channel] + delta,
+                            Short.MIN_VALUE, Short.MAX_VALUE);
+                    index[channel] = Math.clamp(index[channel] + INDEX_TABLE[nibble & 7], 0, STEP_TABLE.length - 1);
+
+                    int target = data + i / 2;
+                    encoded[target] |= (byte) ((i & 1) == 0 ? nibble : nibble << 4);
+                }
+            }
+        }
+        return encoded;
+    }
+
+    /**
+     * Decodes one block into interleaved stereo samples.
+     *
+     * @param encoded The encoded blocks.
+     * @param block The index of the block to decode.
+     * @param target The destination, at least {@code BLOCK_FRAMES * 2}
+     * samples.
+     */
+    public static void decodeBlock(final byte[] encoded, final int block, final short[] target) {
+        int blockOffset = block * BLOCK_BYTES;
+        for (int channel = 0; channel < 2; channel++) {
+            int header = blockOffset + channel * CHANNEL_HEADER_BYTES;
+            int predictor = (short) ((encoded[header] & 0xFF) | (encoded[header + 1] << 8));
+            int index = encoded[header + 2];
+
+            int data = blockOffset + 2 * CHANNEL_HEADER_BYTES + channel * CHANNEL_DATA_BYTES;
+            for (int i = 0; i < BLOCK_FRAMES; i++) {
+                int packed = encoded[data + i / 2];
+                int nibble = (i & 1) == 0 ? packed & 0x0F : (packed >> 4) & 0x0F;
+
+                int step = STEP_TABLE[index];
+                int delta = step >> 3;
+                if ((nibble & 4) != 0) {
+                    delta += step;
+                }
+                if ((nibble & 2) != 0) {
+                    delta += step >> 1;
+                }
+                if ((nibble & 1) != 0) {
+                    delta += step >> 2;
+                }
+                predictor = Math.clamp((nibble & 8) != 0 ? predictor - delta : predictor + delta,
+                        Short.MIN_VALUE, Short.MAX_VALUE);
+                index = Math.clamp(index + INDEX_TABLE[nibble & 7], 0, STEP_TABLE.length - 1);
+
+                target[i * 2 + channel] = (short) predictor;
+            }
+        }
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Finds the step size closest to a difference between samples.
+     *
+     * @param difference The difference, not negative.
+     * @return The index of the step size in the step table.
+     */
+    private static int nearestStepIndex(final int difference) {
+        int index = 0;
+        while (index < STEP_TABLE.length - 1
+                && STEP_TABLE[index + 1] - difference < difference - STEP_TABLE[index]) {
+            index++;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,117 @@
+package com.simcraft.audio;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * An unbounded, lock-free, multiple-producer single-consumer queue.
+ * <p>
+ * Any number of threads may {@link #offer} concurrently; each offer is a single
+ * atomic swap and never blocks or spins. Only one thread, the consumer, may
+ * {@link #poll}. The queue is a linked list in which producers swap themselves
+ * in at the tail and the consumer walks from a stub head node, so producers and
+ * the consumer never touch the same node at the same time except for the
+ * hand-over link.
+ *
+ * @param <E> The type of the elements.
+ */
+final class MpscQueue<E> {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The most recently offered node. Swapped atomically by producers.
+     */
+    private final AtomicReference<Node<E>> tail;
+
+    /**
+     * The consumer's stub node; its successor is the next element to poll.
+     * Only touched by the consumer.
+     */
+    private Node<E> head;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Constructs an empty {@code MpscQueue}.
+     */
+    MpscQueue() {
+        Node<E> stub = new Node<>(null);
+        head = stub;
+        tail = new AtomicReference<>(stub);
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Adds an element to the queue. Safe to call from any thread; never
+     * blocks.
+     *
+     * @param element The element. Must not be {@code null}.
+     * @throws NullPointerException If {@code element} is null.
+     */
+    void offer(final E element) {
+        if (element == null) {
+            throw new NullPointerException(String.format(
+                    "%s: Element cannot be null.",
+                    this.getClass().getName()
+            ));
+        }
+        Node<E> node = new Node<>(element);
+        Node<E> previous = tail.getAndSet(node);
+        previous.next = node; // Publishes the node to the consumer
+    }
+
+    /**
+     * Removes the oldest element. Must only be called by the consumer thread.
+     * <p>
+     * An element whose producer has swapped the tail but not yet linked it in
+     * is not visible yet; it is returned by a later call.
+     *
+     * @return The oldest element, or {@code null} if none is visible.
+     */
+    E poll() {
+        Node<E> next = head.next;
+        if (next == null) {
+            return null;
+        }
+        E element = next.value;
+        next.value = null; // The node becomes the new stub
+        head = next;
+        return element;
+    }
+
+    /**
+     * Checks whether the queue has no visible elements. Must only be called by
+     * the consumer thread.
+     *
+     * @return {@code true} if {@link #poll()} would return {@code null}.
+     */
+    boolean isEmpty() {
+        return head.next == null;
+    }
+
+    // ----- NESTED TYPES -----
+    /**
+     * A link in the queue.
+     *
+     * @param <E> The type of the element.
+     */
+    private static final class Node<E> {
+
+        /**
+         * The element, or {@code null} once consumed (or for the stub).
+         */
+        private E value;
+
+        /**
+         * The next node, set by the producer that offered it.
+         */
+        private volatile Node<E> next;
+
+        /**
+         * Constructs a {@code Node}.
+         *
+         * @param value The element.
+         */
+        private Node(final E value) {
+            this.value = value;
+        }
+    }
+}
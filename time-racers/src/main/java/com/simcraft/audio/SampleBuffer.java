@@ -0,0 +1,284 @@
+package com.simcraft.audio;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * A short sound held in memory in the {@link SoftwareMixer}'s output format:
+ * signed 16-bit stereo samples at {@link SoftwareMixer#SAMPLE_RATE},
+ * interleaved left/right.
+ * <p>
+ * Conversion (to 16-bit, mono to stereo, and sample rate) happens once when
+ * the buffer is loaded, so the mixer only ever adds samples together. A buffer
+ * is immutable and can be played by any number of voices at once.
+ * <p>
+ * A buffer is either plain PCM or, after {@link #compress()}, IMA ADPCM at a
+ * quarter of the size. The mixer reads both through {@link #block(int, short[])}:
+ * a PCM buffer is a single block, while a compressed buffer is expanded one
+ * {@link ImaAdpcm#BLOCK_FRAMES}-frame block at a time into each voice's own
+ * scratch array.
+ */
+public final class SampleBuffer {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The name of this sound, used for diagnostics and to find its voices.
+     */
+    private final String name;
+
+    /**
+     * Interleaved stereo samples (left, right, left, right, ...), or
+     * {@code null} if the buffer is compressed.
+     */
+    private final short[] samples;
+
+    /**
+     * The IMA ADPCM blocks, or {@code null} if the buffer is plain PCM.
+     */
+    private final byte[] adpcm;
+
+    /**
+     * The number of stereo frames in the sound.
+     */
+    private final int frameCount;
+
+    /**
+     * The number of voices started with this sound that have not yet been
+     * retired by the mixer. Incremented by whichever thread plays the sound,
+     * decremented by the audio thread.
+     */
+    private final AtomicInteger playingVoices = new AtomicInteger();
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Constructs a {@code SampleBuffer} from samples already in the mixer's
+     * format.
+     *
+     * @param name The name of this sound.
+     * @param samples Interleaved stereo samples at
+     * {@link SoftwareMixer#SAMPLE_RATE}. Not copied.
+     * @throws IllegalArgumentException If {@code samples} does not hold a
+     * whole number of stereo frames.
+     */
+    public SampleBuffer(final String name, final short[] samples) {
+        if (samples == null || samples.length % 2 != 0) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Samples must hold whole stereo frames.",
+                    this.getClass().getName()
+            ));
+        }
+        this.name = name;
+        this.samples = samples;
+        this.adpcm = null;
+        this.frameCount = samples.length / 2;
+    }
+
+    /**
+     * Constructs a compressed {@code SampleBuffer}.
+     *
+     * @param name The name of this sound.
+     * @param adpcm The IMA ADPCM blocks.
+     * @param frameCount The number of stereo frames they hold.
+     */
+    private SampleBuffer(final String name, final byte[] adpcm, final int frameCount) {
+        this.name = name;
+        this.samples = null;
+        this.adpcm = adpcm;
+        this.frameCount = frameCount;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the name of this sound.
+     *
+     * @return The name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of stereo frames in this buffer.
+     *
+     * @return The frame count.
+     */
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Returns the length of this sound.
+     *
+     * @return The duration in seconds.
+     */
+    public float getDurationSeconds() {
+        return getFrameCount() / SoftwareMixer.SAMPLE_RATE;
+    }
+
+    /**
+     * Returns the memory used by the samples.
+     *
+     * @return The size in bytes.
+     */
+    public long getSizeBytes() {
+        return adpcm != null ? adpcm.length : (long) samples.length * Short.BYTES;
+    }
+
+    /**
+     * Checks whether this buffer holds IMA ADPCM rather than plain PCM.
+     *
+     * @return {@code true} if the buffer is compressed.
+     */
+    public boolean isCompressed() {
+        return adpcm != null;
+    }
+
+    /**
+     * Returns the number of frames in each block returned by
+     * {@link #block(int, short[])}.
+     *
+     * @return The block length in frames.
+     */
+    int getBlockFrames() {
+        return adpcm != null ? ImaAdpcm.BLOCK_FRAMES : Math.max(frameCount, 1);
+    }
+
+    /**
+     * Returns the number of voices currently playing this sound, without
+     * locking. Counts a voice from the moment it is requested until the mixer
+     * retires it, so it may stay counted for up to one mixer buffer after it
+     * has been stopped.
+     *
+     * @return The playing voice count.
+     */
+    public int getPlayingVoiceCount() {
+        return playingVoices.get();
+    }
+
+    /**
+     * Returns one block of interleaved samples. For plain PCM this is the
+     * whole sound, shared rather than copied; for a compressed buffer the block
+     * is decoded into {@code scratch}.
+     *
+     * @param blockIndex The index of the block.
+     * @param scratch A voice's decode buffer of at least
+     * {@code ImaAdpcm.BLOCK_FRAMES * 2} samples; unused for plain PCM.
+     * @return The array holding the block's samples from index {@code 0}.
+     */
+    short[] block(final int blockIndex, final short[] scratch) {
+        if (adpcm == null) {
+            return samples;
+        }
+        ImaAdpcm.decodeBlock(adpcm, blockIndex, scratch);
+        return scratch;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Returns an IMA ADPCM copy of this sound, about a quarter of its size.
+     * ADPCM is lossy, but its noise is masked by the short, loud effects it is
+     * meant for.
+     *
+     * @return A compressed buffer, or this buffer if it is already compressed.
+     */
+    public SampleBuffer compress() {
+        if (adpcm != null) {
+            return this;
+        }
+        return new SampleBuffer(name, ImaAdpcm.encode(samples), frameCount);
+    }
+
+    /**
+     * Counts a voice that has been requested for this sound.
+     */
+    void voiceStarted() {
+        playingVoices.incrementAndGet();
+    }
+
+    /**
+     * Uncounts a voice that the mixer has retired.
+     */
+    void voiceRetired() {
+        playingVoices.decrementAndGet();
+    }
+
+    /**
+     * Decodes an audio file into a {@code SampleBuffer}.
+     *
+     * @param name The name of the sound.
+     * @param filePath The path to the audio file (classpath resource or file
+     * system path).
+     * @return The decoded buffer.
+     * @throws IOException If the file cannot be found or read.
+     * @throws UnsupportedAudioFileException If the format cannot be converted
+     * to 16-bit PCM.
+     */
+    public static SampleBuffer load(final String name, final String filePath) throws IOException, UnsupportedAudioFileException {
+        try (AudioInputStream source = StreamingTrack.openPcmStream(filePath)) {
+            AudioFormat format = source.getFormat();
+            AudioFormat pcm16 = new AudioFormat(format.getSampleRate(), 16, format.getChannels(), true, false);
+
+            byte[] bytes;
+            if (format.matches(pcm16)) {
+                bytes = source.readAllBytes();
+            } else {
+                try (AudioInputStream converted = AudioSystem.getAudioInputStream(pcm16, source)) {
+                    bytes = converted.readAllBytes();
+                }
+            }
+
+            int channels = pcm16.getChannels();
+            int frames = bytes.length / (2 * channels);
+            short[] stereo = new short[frames * 2];
+            for (int frame = 0; frame < frames; frame++) {
+                int offset = frame * 2 * channels;
+                short left = (short) ((bytes[offset] & 0xFF) | (bytes[offset + 1] << 8));
+                short right = channels > 1
+                        ? (short) ((bytes[offset + 2] & 0xFF) | (bytes[offset + 3] << 8))
+                        : left;
+                stereo[frame * 2] = left;
+                stereo[frame * 2 + 1] = right;
+            }
+
+            return new SampleBuffer(name, resample(stereo, pcm16.getSampleRate()));
+        }
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Resamples stereo samples to {@link SoftwareMixer#SAMPLE_RATE} using
+     * linear interpolation.
+     *
+     * @param stereo Interleaved stereo samples.
+     * @param sampleRate Their sample rate.
+     * @return The resampled samples, or {@code stereo} itself if the rate
+     * already matches.
+     */
+    private static short[] resample(final short[] stereo, final float sampleRate) {
+        if (sampleRate == SoftwareMixer.SAMPLE_RATE || stereo.length == 0) {
+            return stereo;
+        }
+        int sourceFrames = stereo.length / 2;
+        double step = sampleRate / SoftwareMixer.SAMPLE_RATE;
+        int targetFrames = (int) Math.floor((sourceFrames - 1) / step) + 1;
+        short[] resampled = new short[targetFrames * 2];
+
+        for (int frame = 0; frame < targetFrames; frame++) {
+            double position = frame * step;
+            int index = (int) position;
+            int next = Math.min(index + 1, sourceFrames - 1);
+            double fraction = position - index;
+            for (int channel = 0; channel < 2; channel++) {
+                double a = stereo[index * 2 + channel];
+                double b = stereo[next * 2 + channel];
+                resampled[frame * 2 + channel] = (short) Math.round(a + (b - a) * fraction);
+            }
+        }
+        return resampled;
+    }
+}
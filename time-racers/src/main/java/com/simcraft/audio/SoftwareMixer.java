@@ -0,0 +1,739 @@
+package com.simcraft.audio;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+
+/**
+ * Mixes any number of overlapping sound effects in software and plays the
+ * result through a single {@link SourceDataLine}.
+ * <p>
+ * Each {@link #play} creates a {@link Voice} reading from a preloaded
+ * {@link SampleBuffer}. A dedicated high-priority thread repeatedly sums every
+ * active voice into a small stereo buffer of {@link #BUFFER_FRAMES} frames and
+ * writes it to the line, so only one native line is ever open and a new sound
+ * starts within a few milliseconds.
+ * <p>
+ * The voice list belongs to the audio thread alone. Other threads (the game
+ * tick, the Event Dispatch Thread) only post {@link AudioCommand}s to a
+ * lock-free queue, which the audio thread drains before each buffer, and read
+ * state through lock-free snapshots ({@link #getStatus()},
+ * {@link SampleBuffer#getPlayingVoiceCount()}, {@link Voice#isPlaying()}).
+ * Nothing a caller does can wait on the audio thread or the native line.
+ * <p>
+ * Every voice is mixed into an {@link AudioBus}. Bus gains are linear
+ * multipliers, combined down the bus hierarchy once per buffer; each voice
+ * ramps to its new amplitude across the buffer, so volume changes never click.
+ * <p>
+ * Positional voices are panned and attenuated against the
+ * {@link AudioListener} once per buffer. Voices too far away to hear are not
+ * mixed, and are the first to be stolen, so the cost of a buffer follows the
+ * number of audible sources rather than the number of emitters in the level.
+ * <p>
+ * Voices may belong to a {@link SoundGroup}, which bounds how many of them play
+ * at once and how often they start. Together with the fixed
+ * {@link #MAX_VOICES}, this bounds the cost of every buffer however many sounds
+ * the game requests.
+ * <p>
+ * If no output line can be opened (e.g., there is no audio device), the mixer
+ * keeps mixing in real time without output, so voices still start, progress
+ * and finish as they would with sound.
+ */
+public final class SoftwareMixer {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The output sample rate in frames per second.
+     */
+    public static final float SAMPLE_RATE = 48_000.0f;
+
+    /**
+     * The output format: signed 16-bit little-endian stereo at
+     * {@link #SAMPLE_RATE}.
+     */
+    public static final AudioFormat FORMAT = new AudioFormat(SAMPLE_RATE, 16, 2, true, false);
+
+    /**
+     * The number of frames mixed per buffer (about 10.7 ms at 48 kHz).
+     */
+    public static final int BUFFER_FRAMES = 512;
+
+    /**
+     * The number of mixed buffers the output line can hold. Bounds the output
+     * latency to roughly {@code LINE_BUFFERS * BUFFER_FRAMES} frames.
+     */
+    private static final int LINE_BUFFERS = 4;
+
+    /**
+     * The maximum number of voices that can play at once.
+     */
+    public static final int MAX_VOICES = 32;
+
+    /**
+     * The singleton instance of the {@code SoftwareMixer}.
+     */
+    private static SoftwareMixer instance;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * Commands posted by any thread, drained by the audio thread.
+     */
+    private final MpscQueue<AudioCommand> commands = new MpscQueue<>();
+
+    /**
+     * The active voices. The first {@link #voiceCount} entries are in use.
+     * Only touched by the audio thread.
+     */
+    private final Voice[] voices = new Voice[MAX_VOICES];
+
+    /**
+     * The number of active voices. Only touched by the audio thread.
+     */
+    private int voiceCount = 0;
+
+    /**
+     * The number of buffers mixed so far. Only touched by the audio thread.
+     */
+    private long buffersMixed = 0L;
+
+    /**
+     * The number of output frames mixed so far; the clock that group
+     * cooldowns are measured against. Only touched by the audio thread.
+     */
+    private long frameClock = 0L;
+
+    /**
+     * The number of voices that were not admitted (group cooldown or limit,
+     * or no voice to steal). Only touched by the audio thread.
+     */
+    private long droppedVoices = 0L;
+
+    /**
+     * The number of voices stopped to make room for another. Only touched by
+     * the audio thread.
+     */
+    private long stolenVoices = 0L;
+
+    /**
+     * The latest state of the mixer, published by the audio thread after every
+     * buffer.
+     */
+    private volatile Status status = new Status(0, 0, 0L, 0L, 0L, 0L);
+
+    /**
+     * The stereo accumulator voices are summed into. Only touched by the
+     * mixing thread.
+     */
+    private final float[] accumulator = new float[BUFFER_FRAMES * 2];
+
+    /**
+     * The mixed buffer as bytes in {@link #FORMAT}. Only touched by the mixing
+     * thread.
+     */
+    private final byte[] output = new byte[BUFFER_FRAMES * FORMAT.getFrameSize()];
+
+    /**
+     * The gain of every bus, indexed by {@link AudioBus#ordinal()}. Replaced as
+     * a whole on every change, so the audio thread reads it without locking.
+     */
+    private volatile float[] busGains = filledArray(AudioBus.values().length, 1.0f);
+
+    /**
+     * The effective gain of every bus for the current buffer: its own gain
+     * times its ancestors'. Only touched by the audio thread.
+     */
+    private final float[] effectiveBusGains = new float[AudioBus.values().length];
+
+    /**
+     * The listener positional voices are heard from. Replaced as a whole, so
+     * the audio thread reads a consistent position.
+     */
+    private volatile AudioListener listener = AudioListener.NONE;
+
+    /**
+     * The mixing thread, or {@code null} for an offline mixer.
+     */
+    private Thread mixerThread;
+
+    /**
+     * Whether the mixer has an open output line.
+     */
+    private volatile boolean outputAvailable = false;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Private constructor to enforce the singleton pattern.
+     */
+    private SoftwareMixer() {
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the singleton instance of the {@code SoftwareMixer}, starting
+     * its mixing thread on first use.
+     *
+     * @return The singleton instance.
+     */
+    public static synchronized SoftwareMixer getInstance() {
+        if (instance == null) {
+            instance = new SoftwareMixer();
+            instance.start();
+        }
+        return instance;
+    }
+
+    /**
+     * Creates a mixer without a mixing thread or output line. Nothing plays
+     * until the caller invokes {@link #mix(short[], int)}, which makes the
+     * mixer usable for rendering audio offline and for measuring mixing cost.
+     *
+     * @return A new offline mixer.
+     */
+    public static SoftwareMixer createOffline() {
+        return new SoftwareMixer();
+    }
+
+    /**
+     * Returns the gain of a bus, not including its ancestors' gains.
+     *
+     * @param bus The bus.
+     * @return The gain (range: 0.0 to 1.0).
+     */
+    public float getBusGain(final AudioBus bus) {
+        return busGains[bus.ordinal()];
+    }
+
+    /**
+     * Returns the listener positional voices are heard from.
+     *
+     * @return The listener.
+     */
+    public AudioListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Returns the state of the mixer as of its last buffer, without locking.
+     *
+     * @return The latest status snapshot.
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the number of voices playing as of the mixer's last buffer.
+     *
+     * @return The active voice count.
+     */
+    public int getActiveVoiceCount() {
+        return status.activeVoices();
+    }
+
+    /**
+     * Checks whether the mixer is writing to an audio device.
+     *
+     * @return {@code true} if an output line is open, {@code false} if the
+     * mixer is running silently.
+     */
+    public boolean isOutputAvailable() {
+        return outputAvailable;
+    }
+
+    // ----- SETTERS -----
+    /**
+     * Sets the gain of a bus. Takes effect, ramped, from the next buffer.
+     * Costs the same however many voices are playing.
+     *
+     * @param bus The bus.
+     * @param gain The linear gain (range: 0.0 to 1.0). Values outside the
+     * range are clamped.
+     */
+    public synchronized void setBusGain(final AudioBus bus, final float gain) {
+        // Writers serialize here; the audio thread only ever reads the published array
+        float[] gains = busGains.clone();
+        gains[bus.ordinal()] = Math.clamp(gain, 0.0f, 1.0f);
+        busGains = gains;
+    }
+
+    /**
+     * Moves the listener, usually once per game tick to follow the camera.
+     * Takes effect, ramped, from the next buffer.
+     *
+     * @param listener The new listener.
+     * @throws NullPointerException If {@code listener} is null.
+     */
+    public void setListener(final AudioListener listener) {
+        if (listener == null) {
+            throw new NullPointerException(String.format(
+                    "%s: Listener cannot be null.",
+                    this.getClass().getName()
+            ));
+        }
+        this.listener = listener;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Starts playing an ungrouped sound on a new voice. See
+     * {@link #play(SampleBuffer, float, float, boolean, SoundGroup)}.
+     *
+     * @param buffer The sound to play.
+     * @param gain The linear gain (range: 0.0 to 1.0).
+     * @param pan The stereo position (range: -1.0 to 1.0).
+     * @param looping Whether the sound loops until stopped.
+     * @return The handle of the new voice.
+     * @throws NullPointerException If {@code buffer} is null.
+     */
+    public Voice play(final SampleBuffer buffer, final float gain, final float pan, final boolean looping) {
+        return play(buffer, gain, pan, looping, null);
+    }
+
+    /**
+     * Starts playing a sound on a new voice. Returns immediately; the voice
+     * joins the mix at the start of the next buffer. Grouped voices are mixed
+     * into their group's bus, ungrouped ones into {@link AudioBus#SFX}.
+     * <p>
+     * The voice first has to be admitted by its group, which may reject it
+     * (cooldown, or full without stealing) or steal one of its own voices.
+     * Then, if every mixer voice is busy, a one-shot sample voice is replaced:
+     * an inaudible one if there is any, otherwise the one with the lowest
+     * priority (the oldest among equals), as long as its priority does not
+     * exceed the new voice's. A voice that is not admitted finishes without
+     * playing.
+     *
+     * @param buffer The sound to play.
+     * @param gain The linear gain (range: 0.0 to 1.0).
+     * @param pan The stereo position (range: -1.0 to 1.0).
+     * @param looping Whether the sound loops until stopped.
+     * @param group The group the voice belongs to, or {@code null}.
+     * @return The handle of the new voice.
+     * @throws NullPointerException If {@code buffer} is null.
+     */
+    public Voice play(final SampleBuffer buffer, final float gain, final float pan, final boolean looping,
+            final SoundGroup group) {
+        if (buffer == null) {
+            throw new NullPointerException(String.format(
+                    "%s: Sample buffer cannot be null.",
+                    this.getClass().getName()
+            ));
+        }
+        Voice voice = new Voice(this, buffer, gain, pan, looping, group, group != null ? group.getBus() : AudioBus.SFX);
+        buffer.voiceStarted();
+        commands.offer(AudioCommand.play(voice));
+        return voice;
+    }
+
+    /**
+     * Starts playing a sound emitted at a point in the game world. Its pan and
+     * volume follow the position relative to the {@link AudioListener}; see
+     * {@link Voice#setPosition(float, float)} to move it later. Otherwise
+     * behaves like {@link #play(SampleBuffer, float, float, boolean, SoundGroup)}.
+     *
+     * @param buffer The sound to play.
+     * @param gain The linear gain at or near the listener (range: 0.0 to 1.0).
+     * @param x The world x-coordinate of the source.
+     * @param y The world y-coordinate of the source.
+     * @param looping Whether the sound loops until stopped.
+     * @param group The group the voice belongs to, or {@code null}.
+     * @return The handle of the new voice.
+     * @throws NullPointerException If {@code buffer} is null.
+     */
+    public Voice playAt(final SampleBuffer buffer, final float gain, final float x, final float y,
+            final boolean looping, final SoundGroup group) {
+        if (buffer == null) {
+            throw new NullPointerException(String.format(
+                    "%s: Sample buffer cannot be null.",
+                    this.getClass().getName()
+            ));
+        }
+        Voice voice = new Voice(this, buffer, gain, 0.0f, looping, group, group != null ? group.getBus() : AudioBus.SFX);
+        voice.setPosition(x, y);
+        buffer.voiceStarted();
+        commands.offer(AudioCommand.play(voice));
+        return voice;
+    }
+
+    /**
+     * Starts playing a stream on a new voice. The voice is never stolen and
+     * ends once the stream is exhausted. Returns immediately.
+     *
+     * @param stream The stream, filled by a feeder thread.
+     * @param gain The linear gain (range: 0.0 to 1.0).
+     * @param bus The bus to mix the stream into.
+     * @return The handle of the new voice.
+     */
+    Voice playStream(final StreamBuffer stream, final float gain, final AudioBus bus) {
+        Voice voice = new Voice(this, stream, gain, bus);
+        commands.offer(AudioCommand.play(voice));
+        return voice;
+    }
+
+    /**
+     * Checks whether any voice is playing a sound, without locking.
+     *
+     * @param buffer The sound.
+     * @return {@code true} if at least one voice of {@code buffer} has been
+     * started and not yet retired.
+     */
+    public boolean isPlaying(final SampleBuffer buffer) {
+        return buffer.getPlayingVoiceCount() > 0;
+    }
+
+    /**
+     * Stops every voice playing a sound. Returns immediately.
+     *
+     * @param buffer The sound.
+     */
+    public void stop(final SampleBuffer buffer) {
+        commands.offer(AudioCommand.stop(buffer));
+    }
+
+    /**
+     * Stops every voice, including voices requested but not yet started.
+     * Returns immediately.
+     */
+    public void stopAll() {
+        commands.offer(AudioCommand.stopAll());
+    }
+
+    /**
+     * Ramps the gain of every voice of a sound linearly to a target. Returns
+     * immediately.
+     *
+     * @param buffer The sound.
+     * @param targetGain The gain to end at (range: 0.0 to 1.0).
+     * @param durationMs The length of the fade in milliseconds.
+     * @param stopWhenDone Whether to stop the voices once the fade ends.
+     */
+    public void fade(final SampleBuffer buffer, final float targetGain, final long durationMs, final boolean stopWhenDone) {
+        commands.offer(AudioCommand.fade(null, buffer, targetGain, toFrames(durationMs), stopWhenDone));
+    }
+
+    /**
+     * Ramps the gain of one voice linearly to a target. Returns immediately.
+     *
+     * @param voice The voice.
+     * @param targetGain The gain to end at (range: 0.0 to 1.0).
+     * @param durationMs The length of the fade in milliseconds.
+     * @param stopWhenDone Whether to stop the voice once the fade ends.
+     */
+    void fade(final Voice voice, final float targetGain, final long durationMs, final boolean stopWhenDone) {
+        commands.offer(AudioCommand.fade(voice, null, targetGain, toFrames(durationMs), stopWhenDone));
+    }
+
+    /**
+     * Mixes the next {@code frames} frames of every active voice into
+     * {@code target} as interleaved 16-bit stereo, removing voices that have
+     * finished. Only for mixers created with {@link #createOffline()}; a
+     * running mixer is driven by its own thread.
+     *
+     * @param target The destination, at least {@code frames * 2} samples.
+     * @param frames The number of frames to mix, at most
+     * {@link #BUFFER_FRAMES}.
+     * @throws IllegalStateException If this mixer has its own mixing thread.
+     */
+    public void mix(final short[] target, final int frames) {
+        if (mixerThread != null) {
+            throw new IllegalStateException(String.format(
+                    "%s: Cannot mix manually while the mixing thread is running.",
+                    this.getClass().getName()
+            ));
+        }
+        mixIntoAccumulator(frames);
+        for (int i = 0; i < frames * 2; i++) {
+            target[i] = clampSample(accumulator[i]);
+        }
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Starts the mixing thread.
+     */
+    private void start() {
+        mixerThread = new Thread(this::run, "audio-mixer");
+        mixerThread.setDaemon(true);
+        mixerThread.setPriority(Thread.MAX_PRIORITY); // An underrun is an audible click
+        mixerThread.start();
+    }
+
+    /**
+     * Runs the mixing loop. Writing to the line blocks once its buffer is
+     * full, which paces the loop; without a line the loop paces itself.
+     */
+    private void run() {
+        SourceDataLine line = openLine();
+        long bufferNanos = (long) (BUFFER_FRAMES * 1_000_000_000L / SAMPLE_RATE);
+        long nextBufferNanos = System.nanoTime();
+
+        while (true) {
+            mixIntoAccumulator(BUFFER_FRAMES);
+            for (int i = 0, b = 0; i < BUFFER_FRAMES * 2; i++) {
+                short sample = clampSample(accumulator[i]);
+                output[b++] = (byte) sample;
+                output[b++] = (byte) (sample >> 8);
+            }
+
+            if (line != null) {
+                line.write(output, 0, output.length);
+            } else {
+                nextBufferNanos += bufferNanos;
+                LockSupport.parkNanos(nextBufferNanos - System.nanoTime());
+            }
+        }
+    }
+
+    /**
+     * Opens and starts the output line.
+     *
+     * @return The line, or {@code null} if no audio device is available.
+     */
+    private SourceDataLine openLine() {
+        try {
+            SourceDataLine line = AudioSystem.getSourceDataLine(FORMAT);
+            line.open(FORMAT, output.length * LINE_BUFFERS);
+            line.start();
+            outputAvailable = true;
+            return line;
+        } catch (LineUnavailableException | IllegalArgumentException e) {
+            // IllegalArgumentException: no mixer provides a matching line (e.g., no audio device)
+            System.err.println(String.format(
+                    "%s: No audio output available, mixing silently: %s",
+                    this.getClass().getName(),
+                    e.getMessage()
+            ));
+            return null;
+        }
+    }
+
+    /**
+     * Applies pending commands, clears the accumulator and sums every active
+     * voice into it, removing voices that have finished, then publishes a new
+     * status snapshot.
+     *
+     * @param frames The number of frames to mix.
+     */
+    private void mixIntoAccumulator(final int frames) {
+        long startNanos = System.nanoTime();
+        drainCommands();
+
+        Arrays.fill(accumulator, 0, frames * 2, 0.0f);
+        float[] gains = busGains;
+        for (AudioBus bus : AudioBus.values()) {
+            AudioBus parent = bus.getParent();
+            effectiveBusGains[bus.ordinal()] = gains[bus.ordinal()]
+                    * (parent != null ? effectiveBusGains[parent.ordinal()] : 1.0f);
+        }
+
+        AudioListener currentListener = listener;
+        int audibleVoices = 0;
+        int i = 0;
+        while (i < voiceCount) {
+            Voice voice = voices[i];
+            if (voice.mixInto(accumulator, frames, effectiveBusGains[voice.getBus().ordinal()], currentListener)) {
+                if (voice.isAudible()) {
+                    audibleVoices++;
+                }
+                i++;
+            } else {
+                retire(i);
+            }
+        }
+
+        buffersMixed++;
+        frameClock += frames;
+        status = new Status(voiceCount, audibleVoices, buffersMixed, droppedVoices, stolenVoices,
+                System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Applies every command posted since the last buffer.
+     */
+    private void drainCommands() {
+        AudioCommand command;
+        while ((command = commands.poll()) != null) {
+            switch (command.type()) {
+                case PLAY ->
+                    addVoice(command.voice());
+                case STOP -> {
+                    for (int i = 0; i < voiceCount; i++) {
+                        if (voices[i].getBuffer() == command.buffer()) {
+                            voices[i].stop();
+                        }
+                    }
+                }
+                case STOP_ALL -> {
+                    for (int i = 0; i < voiceCount; i++) {
+                        voices[i].stop();
+                    }
+                }
+                case FADE -> {
+                    for (int i = 0; i < voiceCount; i++) {
+                        Voice voice = voices[i];
+                        if (voice == command.voice() || (command.voice() == null && voice.getBuffer() == command.buffer())) {
+                            voice.beginFade(command.targetGain(), command.durationFrames(), command.stopWhenDone());
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a voice to the mix if its group and the voice limit allow it,
+     * stealing a voice where needed.
+     *
+     * @param voice The voice to add.
+     */
+    private void addVoice(final Voice voice) {
+        SoundGroup group = voice.getGroup();
+        if (group != null) {
+            Voice admitted = group.admit(voice, frameClock);
+            if (admitted == null) {
+                drop(voice);
+                return;
+            }
+            if (admitted != voice) {
+                steal(admitted);
+            }
+        }
+
+        if (voiceCount == MAX_VOICES) {
+            Voice victim = null;
+            for (int i = 0; i < voiceCount; i++) {
+                Voice candidate = voices[i];
+                if (candidate.isStealable() && (victim == null || isBetterVictim(candidate, victim))) {
+                    victim = candidate;
+                }
+            }
+            if (victim == null || (victim.isAudible() && victim.getPriority() > voice.getPriority())) {
+                drop(voice);
+                return;
+            }
+            steal(victim);
+        }
+
+        voice.setMixIndex(voiceCount);
+        voices[voiceCount++] = voice;
+        if (group != null) {
+            group.add(voice, frameClock);
+        }
+    }
+
+    /**
+     * Orders candidates for global voice stealing: inaudible voices first,
+     * then lower priority, then older.
+     *
+     * @param candidate The voice being considered.
+     * @param victim The best victim so far.
+     * @return {@code true} if {@code candidate} should be stolen instead.
+     */
+    private static boolean isBetterVictim(final Voice candidate, final Voice victim) {
+        if (candidate.isAudible() != victim.isAudible()) {
+            return !candidate.isAudible();
+        }
+        if (candidate.getPriority() != victim.getPriority()) {
+            return candidate.getPriority() < victim.getPriority();
+        }
+        return candidate.getId() < victim.getId();
+    }
+
+    /**
+     * Rejects a voice that was never added to the mix.
+     *
+     * @param voice The voice.
+     */
+    private void drop(final Voice voice) {
+        voice.finish();
+        if (voice.getBuffer() != null) {
+            voice.getBuffer().voiceRetired();
+        }
+        droppedVoices++;
+    }
+
+    /**
+     * Removes a playing voice to make room for another.
+     *
+     * @param victim The voice to remove.
+     */
+    private void steal(final Voice victim) {
+        retire(victim.getMixIndex());
+        stolenVoices++;
+    }
+
+    /**
+     * Removes a voice from the mix and from its group.
+     *
+     * @param index The index of the voice.
+     */
+    private void retire(final int index) {
+        Voice voice = voices[index];
+        voice.finish();
+        if (voice.getBuffer() != null) {
+            voice.getBuffer().voiceRetired();
+        }
+        if (voice.getGroup() != null) {
+            voice.getGroup().remove(voice);
+        }
+        // Swap-remove keeps the active voices packed at the front
+        Voice last = voices[--voiceCount];
+        voices[index] = last;
+        last.setMixIndex(index);
+        voices[voiceCount] = null;
+        voice.setMixIndex(-1);
+    }
+
+    /**
+     * Creates an array filled with one value.
+     *
+     * @param length The array length.
+     * @param value The value.
+     * @return The array.
+     */
+    private static float[] filledArray(final int length, final float value) {
+        float[] array = new float[length];
+        Arrays.fill(array, value);
+        return array;
+    }
+
+    /**
+     * Converts a duration to output frames.
+     *
+     * @param durationMs The duration in milliseconds.
+     * @return The number of frames, at least {@code 1}.
+     */
+    private static long toFrames(final long durationMs) {
+        return Math.max(1L, (long) (durationMs * (double) SAMPLE_RATE / 1000.0));
+    }
+
+    /**
+     * Rounds and clamps a mixed sample to the 16-bit range.
+     *
+     * @param value The mixed sample.
+     * @return The output sample.
+     */
+    private static short clampSample(final float value) {
+        return (short) Math.clamp(Math.round(value), Short.MIN_VALUE, Short.MAX_VALUE);
+    }
+
+    // ----- NESTED TYPES -----
+    /**
+     * A snapshot of the mixer's state, published after every buffer.
+     *
+     * @param activeVoices The number of voices in the mix.
+     * @param audibleVoices The number of those voices that were loud enough
+     * to be mixed in the last buffer.
+     * @param buffersMixed The number of buffers mixed since the mixer started.
+     * @param droppedVoices The number of voices that were never admitted
+     * (group cooldown or limit, or no voice to steal).
+     * @param stolenVoices The number of voices stopped early to make room for
+     * another.
+     * @param lastMixNanos The time taken to mix the last buffer.
+     */
+    public record Status(int activeVoices, int audibleVoices, long buffersMixed, long droppedVoices, long stolenVoices, long lastMixNanos) {
+    }
+}
@@ -0,0 +1,324 @@
+package com.simcraft.audio;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A set of related sounds (e.g., collision chatter, footsteps) that share a
+ * voice limit, a priority and a cooldown in the {@link SoftwareMixer}.
+ * <p>
+ * Groups are configured in {@link #CONFIG_PATH}. When a voice of a group is
+ * started, the audio thread checks the group's cooldown and, if the group is
+ * already at {@link Config#maxVoices()}, either steals one of its voices
+ * according to its {@link StealPolicy} or rejects the new voice. A group
+ * tracks its own voices in a fixed array of {@code maxVoices} slots, so both
+ * decisions cost the same however many voices the mixer is playing.
+ * <p>
+ * The runtime state of a group is only touched by the audio thread, so a group
+ * belongs to a single mixer.
+ */
+public final class SoundGroup {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The classpath location of the sound group configuration.
+     */
+    public static final String CONFIG_PATH = "/sounds/sound_groups.json";
+
+    /**
+     * The priority of voices that do not belong to a group.
+     */
+    public static final int DEFAULT_PRIORITY = 0;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The configuration of this group.
+     */
+    private final Config config;
+
+    /**
+     * The minimum time between two voices of this group, in output frames.
+     */
+    private final long cooldownFrames;
+
+    /**
+     * The voices of this group currently in the mix. The first
+     * {@link #memberCount} entries are in use. Only touched by the audio
+     * thread.
+     */
+    private final Voice[] members;
+
+    /**
+     * The number of voices of this group in the mix. Only touched by the audio
+     * thread.
+     */
+    private int memberCount = 0;
+
+    /**
+     * The mixer frame at which the last voice of this group started, or
+     * {@code -1} if none has. Only touched by the audio thread.
+     */
+    private long lastStartFrame = -1L;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Constructs a {@code SoundGroup}.
+     *
+     * @param config The group's configuration.
+     * @throws NullPointerException If {@code config} is null.
+     */
+    public SoundGroup(final Config config) {
+        if (config == null) {
+            throw new NullPointerException(String.format(
+                    "%s: Config cannot be null.",
+                    this.getClass().getName()
+            ));
+        }
+        this.config = config;
+        this.cooldownFrames = (long) (config.cooldownMs() * (double) SoftwareMixer.SAMPLE_RATE / 1000.0);
+        this.members = new Voice[config.maxVoices()];
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the name of this group.
+     *
+     * @return The name.
+     */
+    public String getName() {
+        return config.name();
+    }
+
+    /**
+     * Returns the configuration of this group.
+     *
+     * @return The configuration.
+     */
+    public Config getConfig() {
+        return config;
+    }
+
+    /**
+     * Returns the bus this group's voices are mixed into.
+     *
+     * @return The bus.
+     */
+    public AudioBus getBus() {
+        return config.bus();
+    }
+
+    /**
+     * Returns the priority of this group's voices.
+     *
+     * @return The priority; higher values win when voices are stolen.
+     */
+    public int getPriority() {
+        return config.priority();
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Reads every sound group from {@link #CONFIG_PATH}.
+     *
+     * @return The groups, or an empty list if the file does not exist.
+     * @throws IOException If the file cannot be read or parsed.
+     */
+    public static List<SoundGroup> loadFromJson() throws IOException {
+        try (InputStream input = SoundGroup.class.getResourceAsStream(CONFIG_PATH)) {
+            if (input == null) {
+                return List.of();
+            }
+            List<Config> configs = new ObjectMapper().readValue(input, new TypeReference<List<Config>>() {
+            });
+            List<SoundGroup> groups = new ArrayList<>(configs.size());
+            for (Config config : configs) {
+                groups.add(new SoundGroup(config));
+            }
+            return groups;
+        }
+    }
+
+    /**
+     * Decides whether a new voice may join this group, and which voice it
+     * replaces if the group is full. Called only by the audio thread.
+     *
+     * @param incoming The new voice.
+     * @param nowFrame The mixer's current frame.
+     * @return {@code incoming} if it may join without replacing anything, the
+     * voice to steal if it may join by replacing one, or {@code null} if it is
+     * rejected.
+     */
+    Voice admit(final Voice incoming, final long nowFrame) {
+        if (lastStartFrame >= 0 && nowFrame - lastStartFrame < cooldownFrames) {
+            return null;
+        }
+        if (memberCount < members.length) {
+            return incoming;
+        }
+
+        Voice victim = null;
+        switch (config.stealPolicy()) {
+            case NONE -> {
+                return null;
+            }
+            case OLDEST -> {
+                for (int i = 0; i < memberCount; i++) {
+                    if (victim == null || members[i].getId() < victim.getId()) {
+                        victim = members[i];
+                    }
+                }
+            }
+            case QUIETEST -> {
+                for (int i = 0; i < memberCount; i++) {
+                    if (victim == null || members[i].getGain() < victim.getGain()) {
+                        victim = members[i];
+                    }
+                }
+            }
+            case LOWEST_PRIORITY -> {
+                for (int i = 0; i < memberCount; i++) {
+                    Voice member = members[i];
+                    if (victim == null || member.getPriority() < victim.getPriority()
+                            || (member.getPriority() == victim.getPriority() && member.getId() < victim.getId())) {
+                        victim = member;
+                    }
+                }
+            }
+        }
+        return victim != null && victim.getPriority() <= incoming.getPriority() ? victim : null;
+    }
+
+    /**
+     * Adds an admitted voice to this group. Called only by the audio thread.
+     *
+     * @param voice The voice.
+     * @param nowFrame The mixer's current frame.
+     */
+    void add(final Voice voice, final long nowFrame) {
+        voice.setGroupSlot(memberCount);
+        members[memberCount++] = voice;
+        lastStartFrame = nowFrame;
+    }
+
+    /**
+     * Removes a voice that has left the mix. Called only by the audio thread.
+     *
+     * @param voice The voice.
+     */
+    void remove(final Voice voice) {
+        int slot = voice.getGroupSlot();
+        if (slot < 0 || slot >= memberCount || members[slot] != voice) {
+            return;
+        }
+        Voice last = members[--memberCount];
+        members[slot] = last;
+        last.setGroupSlot(slot);
+        members[memberCount] = null;
+        voice.setGroupSlot(-1);
+    }
+
+    // ----- NESTED TYPES -----
+    /**
+     * How a full group chooses the voice that makes way for a new one. A voice
+     * is only ever stolen by a voice of equal or higher priority.
+     */
+    public enum StealPolicy {
+        /**
+         * Reject the new voice; playing voices always finish.
+         */
+        NONE,
+        /**
+         * Steal the voice that started first.
+         */
+        OLDEST,
+        /**
+         * Steal the voice with the lowest gain.
+         */
+        QUIETEST,
+        /**
+         * Steal the voice with the lowest priority, the oldest among equals.
+         */
+        LOWEST_PRIORITY
+    }
+
+    /**
+     * An immutable record holding the configuration of a sound group, used
+     * for deserializing {@link #CONFIG_PATH}.
+     *
+     * @param name The unique name of the group.
+     * @param sounds The {@code SoundManager} keys of the sounds in the group.
+     * @param maxVoices The maximum number of the group's voices that play at
+     * once.
+     * @param priority The priority of the group's voices. Higher values win
+     * when voices are stolen, both within the group and when the mixer runs
+     * out of voices.
+     * @param cooldownMs The minimum time between the starts of two of the
+     * group's voices, in milliseconds.
+     * @param stealPolicy How a full group makes room for a new voice.
+     * @param bus The bus the group's voices are mixed into.
+     */
+    public static record Config(
+            String name,
+            List<String> sounds,
+            int maxVoices,
+            int priority,
+            long cooldownMs,
+            StealPolicy stealPolicy,
+            AudioBus bus
+            ) {
+
+        /**
+         * Creates a validated {@code Config} instance from JSON properties.
+         *
+         * @param name The group name. Must not be {@code null} or blank.
+         * @param sounds The sound keys. Must not be {@code null}.
+         * @param maxVoices The voice limit. Must be between 1 and
+         * {@link SoftwareMixer#MAX_VOICES}.
+         * @param priority The priority.
+         * @param cooldownMs The cooldown. Must not be negative.
+         * @param stealPolicy The steal policy; {@code null} means
+         * {@link StealPolicy#OLDEST}.
+         * @param bus The bus; {@code null} means {@link AudioBus#SFX}.
+         * @throws IllegalArgumentException If any of the input parameters fail
+         * the validation checks.
+         */
+        @JsonCreator
+        public Config(
+                @JsonProperty("name") String name,
+                @JsonProperty("sounds") List<String> sounds,
+                @JsonProperty("maxVoices") int maxVoices,
+                @JsonProperty("priority") int priority,
+                @JsonProperty("cooldownMs") long cooldownMs,
+                @JsonProperty("stealPolicy") StealPolicy stealPolicy,
+                @JsonProperty("bus") AudioBus bus
+        ) {
+            if (name == null || name.isBlank()) {
+                throw new IllegalArgumentException("name cannot be null or blank");
+            }
+            if (sounds == null) {
+                throw new IllegalArgumentException("sounds cannot be null");
+            }
+            if (maxVoices < 1 || maxVoices > SoftwareMixer.MAX_VOICES) {
+                throw new IllegalArgumentException("maxVoices must be between 1 and " + SoftwareMixer.MAX_VOICES);
+            }
+            if (cooldownMs < 0) {
+                throw new IllegalArgumentException("cooldownMs must be >= 0");
+            }
+
+            this.name = name;
+            this.sounds = List.copyOf(sounds);
+            this.maxVoices = maxVoices;
+            this.priority = priority;
+            this.cooldownMs = cooldownMs;
+            this.stealPolicy = stealPolicy != null ? stealPolicy : StealPolicy.OLDEST;
+            this.bus = bus != null ? bus : AudioBus.SFX;
+        }
+    }
+}
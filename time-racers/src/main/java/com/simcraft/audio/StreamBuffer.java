@@ -0,0 +1,127 @@
+package com.simcraft.audio;
+
+/**
+ * A lock-free single-producer single-consumer ring of interleaved stereo
+ * samples, carrying a streamed track from its feeder thread to the audio
+ * thread.
+ * <p>
+ * The producer only advances {@link #writePosition} and the consumer only
+ * advances {@link #readPosition}; each publishes its position with a volatile
+ * write after touching the ring, so neither side ever locks or waits on the
+ * other.
+ */
+final class StreamBuffer {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The ring of samples. Its length is a power of two.
+     */
+    private final short[] ring;
+
+    /**
+     * {@code ring.length - 1}, for wrapping positions.
+     */
+    private final int mask;
+
+    /**
+     * The total number of samples written. Only advanced by the producer.
+     */
+    private volatile long writePosition = 0L;
+
+    /**
+     * The total number of samples read. Only advanced by the consumer.
+     */
+    private volatile long readPosition = 0L;
+
+    /**
+     * Set by the producer once it will write no more samples.
+     */
+    private volatile boolean ended = false;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Constructs a {@code StreamBuffer}.
+     *
+     * @param capacityFrames The minimum number of stereo frames the ring can
+     * hold; rounded up to a power of two.
+     */
+    StreamBuffer(final int capacityFrames) {
+        int capacity = Integer.highestOneBit(Math.max(capacityFrames * 2 - 1, 1)) << 1;
+        ring = new short[capacity];
+        mask = capacity - 1;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the number of samples waiting to be read.
+     *
+     * @return The available sample count.
+     */
+    int available() {
+        return (int) (writePosition - readPosition);
+    }
+
+    /**
+     * Returns the number of samples that can be written without overwriting
+     * unread ones.
+     *
+     * @return The free sample count.
+     */
+    int free() {
+        return ring.length - available();
+    }
+
+    /**
+     * Checks whether the producer has finished and every sample has been
+     * read.
+     *
+     * @return {@code true} once the stream is exhausted.
+     */
+    boolean isExhausted() {
+        return ended && available() == 0;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Writes as many samples as fit. Producer only.
+     *
+     * @param source The samples.
+     * @param offset The index of the first sample to write.
+     * @param length The number of samples to write.
+     * @return The number of samples written.
+     */
+    int write(final short[] source, final int offset, final int length) {
+        long position = writePosition;
+        int count = Math.min(length, ring.length - (int) (position - readPosition));
+        for (int i = 0; i < count; i++) {
+            ring[(int) (position + i) & mask] = source[offset + i];
+        }
+        writePosition = position + count;
+        return count;
+    }
+
+    /**
+     * Reads as many samples as are available. Consumer only.
+     *
+     * @param target The destination.
+     * @param offset The index of the first sample to fill.
+     * @param length The maximum number of samples to read.
+     * @return The number of samples read.
+     */
+    int read(final short[] target, final int offset, final int length) {
+        long position = readPosition;
+        int count = Math.min(length, (int) (writePosition - position));
+        for (int i = 0; i < count; i++) {
+            target[offset + i] = ring[(int) (position + i) & mask];
+        }
+        readPosition = position + count;
+        return count;
+    }
+
+    /**
+     * Marks the end of the stream. Producer only.
+     */
+    void end() {
+        ended = true;
+    }
+}
@@ -0,0 +1,384 @@
+package com.simcraft.audio;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * A long audio track (music, ambience) that is streamed from its file into the
+ * {@link SoftwareMixer} instead of being decoded into memory up front.
+ * <p>
+ * Each playback runs on its own daemon feeder thread, which reads the file in
+ * small chunks, converts them to the mixer's format and writes them into a
+ * lock-free {@link StreamBuffer}. The mixer plays that buffer as a voice on the
+ * track's {@link AudioBus}, so music shares the mixer's single output line and
+ * follows its bus volumes. Only {@link #STREAM_BUFFER_MS} of audio is ever
+ * resident, and {@link #play(boolean, float)} returns immediately, so starting
+ * a track never blocks the caller on file I/O.
+ */
+public final class StreamingTrack {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The length of audio buffered ahead of the mixer, in milliseconds. Long
+     * enough to ride out scheduling hiccups of the feeder thread.
+     */
+    private static final int STREAM_BUFFER_MS = 500;
+
+    /**
+     * How long the feeder sleeps when the stream buffer is full, in
+     * nanoseconds.
+     */
+    private static final long FEEDER_PARK_NANOS = 5_000_000L;
+
+    /**
+     * The number of frames the feeder reads from the file at a time.
+     */
+    private static final int CHUNK_FRAMES = 2048;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The key of this track, used for thread names and diagnostics.
+     */
+    private final String key;
+
+    /**
+     * The path to the audio file (classpath resource or file system path).
+     */
+    private final String filePath;
+
+    /**
+     * The bus the track is mixed into.
+     */
+    private final AudioBus bus;
+
+    /**
+     * The playback volume (range: 0.0 to 1.0).
+     */
+    private volatile float volume = 1.0f;
+
+    /**
+     * The thread feeding the current playback, or {@code null} if the track is
+     * not playing.
+     */
+    private volatile Thread feeder;
+
+    /**
+     * The mixer voice of the current playback, or {@code null}.
+     */
+    private volatile Voice voice;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Constructs a {@code StreamingTrack}. The file is not opened until the
+     * track is played.
+     *
+     * @param key The key of this track.
+     * @param filePath The path to the audio file.
+     * @param bus The bus to mix the track into.
+     * @throws IllegalArgumentException If {@code filePath} is null or blank.
+     */
+    public StreamingTrack(final String key, final String filePath, final AudioBus bus) {
+        if (filePath == null || filePath.isBlank()) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Must provide a valid file path for the audio track.",
+                    this.getClass().getName()
+            ));
+        }
+        this.key = key;
+        this.filePath = filePath;
+        this.bus = bus;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Checks whether the track is currently playing.
+     *
+     * @return {@code true} if a playback is in progress.
+     */
+    public boolean isPlaying() {
+        Voice current = voice;
+        return current != null && current.isPlaying();
+    }
+
+    /**
+     * Returns the playback volume.
+     *
+     * @return The volume (range: 0.0 to 1.0).
+     */
+    public float getVolume() {
+        return volume;
+    }
+
+    // ----- SETTERS -----
+    /**
+     * Sets the playback volume, applying it (ramped) if the track is playing.
+     *
+     * @param volume The volume (range: 0.0 to 1.0).
+     */
+    public void setVolume(final float volume) {
+        this.volume = Math.clamp(volume, 0.0f, 1.0f);
+        Voice current = voice;
+        if (current != null) {
+            current.setGain(this.volume);
+        }
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Starts playing the track from the beginning, stopping any playback
+     * already in progress. Returns immediately.
+     *
+     * @param looping If {@code true}, the track restarts whenever it ends.
+     * @param volume The playback volume (range: 0.0 to 1.0).
+     */
+    public synchronized void play(final boolean looping, final float volume) {
+        stop();
+        this.volume = Math.clamp(volume, 0.0f, 1.0f);
+        StreamBuffer stream = new StreamBuffer((int) (SoftwareMixer.SAMPLE_RATE * STREAM_BUFFER_MS / 1000));
+        Thread thread = new Thread(() -> feed(stream, looping), "audio-stream-" + key);
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY - 1); // Starving the stream causes audible gaps
+        feeder = thread;
+        voice = SoftwareMixer.getInstance().playStream(stream, this.volume, bus);
+        thread.start();
+    }
+
+    /**
+     * Stops the current playback, if any. Never blocks; the feeder thread
+     * closes the file shortly afterwards.
+     */
+    public synchronized void stop() {
+        feeder = null;
+        Voice current = voice;
+        if (current != null) {
+            current.stop();
+            voice = null;
+        }
+    }
+
+    /**
+     * Fades the current playback out and stops it. Returns immediately.
+     *
+     * @param durationMs The length of the fade in milliseconds.
+     */
+    public synchronized void fadeOut(final long durationMs) {
+        Voice current = voice;
+        if (current != null) {
+            current.fadeTo(0.0f, durationMs, true);
+        }
+    }
+
+    /**
+     * Opens an audio file as a stream of signed PCM samples, converting it if
+     * necessary.
+     *
+     * @param filePath The path to the audio file (classpath resource or file
+     * system path).
+     * @return The PCM stream.
+     * @throws IOException If the file cannot be found or read.
+     * @throws UnsupportedAudioFileException If the format is not supported.
+     */
+    public static AudioInputStream openPcmStream(final String filePath) throws IOException, UnsupportedAudioFileException {
+        AudioInputStream source;
+        URL url = StreamingTrack.class.getResource(filePath);
+        if (url != null) {
+            InputStream input = new BufferedInputStream(url.openStream());
+            source = AudioSystem.getAudioInputStream(input);
+        } else {
+            File file = new File(filePath);
+            if (!file.isFile()) {
+                throw new IOException("StreamingTrack: Audio file not found: " + filePath);
+            }
+            source = AudioSystem.getAudioInputStream(file);
+        }
+
+        AudioFormat format = source.getFormat();
+        if (format.getEncoding() == AudioFormat.Encoding.PCM_SIGNED) {
+            return source;
+        }
+        AudioFormat pcmFormat = new AudioFormat(
+                AudioFormat.Encoding.PCM_SIGNED,
+                format.getSampleRate(),
+                16,
+                format.getChannels(),
+                format.getChannels() * 2,
+                format.getSampleRate(),
+                false
+        );
+        return AudioSystem.getAudioInputStream(pcmFormat, source);
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Runs one playback on the feeder thread: converts the file chunk by chunk
+     * into the stream buffer until it ends (or, when looping, until stopped).
+     *
+     * @param stream The buffer the mixer is playing.
+     * @param looping Whether to restart the file when it ends.
+     */
+    private void feed(final StreamBuffer stream, final boolean looping) {
+        Thread self = Thread.currentThread();
+        Resampler resampler = null;
+        short[] output = new short[0];
+        try {
+            do {
+                try (AudioInputStream source = openPcmStream(filePath)) {
+                    AudioFormat format = source.getFormat();
+                    AudioFormat pcm16 = new AudioFormat(format.getSampleRate(), 16, format.getChannels(), true, false);
+                    try (AudioInputStream pcm = format.matches(pcm16) ? source : AudioSystem.getAudioInputStream(pcm16, source)) {
+                        if (resampler == null) {
+                            resampler = new Resampler(pcm16.getSampleRate());
+                        }
+                        int channels = pcm16.getChannels();
+                        byte[] chunk = new byte[CHUNK_FRAMES * channels * 2];
+                        int read;
+                        while (feeder == self && (read = pcm.readNBytes(chunk, 0, chunk.length)) > 0) {
+                            if (output.length < resampler.maxOutputSamples(read / (channels * 2))) {
+                                output = new short[resampler.maxOutputSamples(read / (channels * 2))];
+                            }
+                            int samples = resampler.convert(chunk, read / (channels * 2), channels, output);
+                            write(stream, output, samples, self);
+                        }
+                    }
+                }
+            } while (looping && feeder == self);
+        } catch (IOException | UnsupportedAudioFileException | IllegalArgumentException e) {
+            // IllegalArgumentException: no converter to 16-bit PCM for this format
+            System.err.println(String.format(
+                    "%s: Cannot stream <'%s'>: %s",
+                    this.getClass().getName(),
+                    key,
+                    e.getMessage()
+            ));
+        } finally {
+            stream.end();
+            synchronized (this) {
+                if (feeder == self) {
+                    feeder = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes samples into the stream buffer, waiting while it is full.
+     *
+     * @param stream The stream buffer.
+     * @param samples The samples.
+     * @param length The number of samples to write.
+     * @param self The feeder thread; writing stops once it is replaced.
+     */
+    private void write(final StreamBuffer stream, final short[] samples, final int length, final Thread self) {
+        int offset = 0;
+        while (offset < length && feeder == self) {
+            offset += stream.write(samples, offset, length - offset);
+            if (offset < length) {
+                LockSupport.parkNanos(FEEDER_PARK_NANOS);
+            }
+        }
+    }
+
+    // ----- NESTED TYPES -----
+    /**
+     * Converts 16-bit PCM chunks to interleaved stereo at
+     * {@link SoftwareMixer#SAMPLE_RATE}, using linear interpolation that
+     * carries over from one chunk to the next.
+     */
+    private static final class Resampler {
+
+        /**
+         * Source frames per output frame.
+         */
+        private final double step;
+
+        /**
+         * The position of the next output frame, relative to the first frame
+         * of the next chunk. Negative positions fall between the last frame of
+         * the previous chunk and the first of the next.
+         */
+        private double position = 0.0;
+
+        /**
+         * The last left sample of the previous chunk.
+         */
+        private int previousLeft = 0;
+
+        /**
+         * The last right sample of the previous chunk.
+         */
+        private int previousRight = 0;
+
+        /**
+         * Constructs a {@code Resampler}.
+         *
+         * @param sampleRate The source sample rate.
+         */
+        private Resampler(final float sampleRate) {
+            this.step = sampleRate / SoftwareMixer.SAMPLE_RATE;
+        }
+
+        /**
+         * Returns an upper bound on the output of one chunk.
+         *
+         * @param frames The number of source frames in the chunk.
+         * @return The maximum number of output samples.
+         */
+        private int maxOutputSamples(final int frames) {
+            return ((int) Math.ceil((frames + 1) / step) + 1) * 2;
+        }
+
+        /**
+         * Converts one chunk.
+         *
+         * @param chunk 16-bit little-endian samples.
+         * @param frames The number of frames in the chunk.
+         * @param channels The number of channels (1 or 2).
+         * @param output The destination, at least
+         * {@link #maxOutputSamples(int)} samples.
+         * @return The number of output samples written.
+         */
+        private int convert(final byte[] chunk, final int frames, final int channels, final short[] output) {
+            int written = 0;
+            while (position < frames - 1) {
+                int index = (int) Math.floor(position);
+                double fraction = position - index;
+                for (int channel = 0; channel < 2; channel++) {
+                    int source = Math.min(channel, channels - 1);
+                    int a = index < 0 ? (channel == 0 ? previousLeft : previousRight) : sample(chunk, index, channels, source);
+                    int b = sample(chunk, index + 1, channels, source);
+                    output[written++] = (short) Math.round(a + (b - a) * fraction);
+                }
+                position += step;
+            }
+            if (frames > 0) {
+                previousLeft = sample(chunk, frames - 1, channels, 0);
+                previousRight = sample(chunk, frames - 1, channels, Math.min(1, channels - 1));
+                position -= frames;
+            }
+            return written;
+        }
+
+        /**
+         * Reads one sample from a chunk.
+         *
+         * @param chunk 16-bit little-endian samples.
+         * @param frame The frame index.
+         * @param channels The number of channels.
+         * @param channel The channel.
+         * @return The sample.
+         */
+        private static int sample(final byte[] chunk, final int frame, final int channels, final int channel) {
+            int offset = (frame * channels + channel) * 2;
+            return (short) ((chunk[offset] & 0xFF) | (chunk[offset + 1] << 8));
+        }
+    }
+}
@@ -0,0 +1,685 @@
+package com.simcraft.audio;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A handle to one playing sound in the {@link SoftwareMixer}: either an
+ * instance of a {@link SampleBuffer}, or a track streamed into a
+ * {@link StreamBuffer}.
+ * <p>
+ * Gain and pan can be changed at any time from any thread; the mixer picks up
+ * new values at the start of its next buffer and ramps to them across that
+ * buffer, so changes never click. Stopping and fading never block: they are
+ * either a volatile write or a command queued for the audio thread. Once a
+ * voice has finished, or has been stopped, it never plays again.
+ * <p>
+ * A voice given a world position with {@link #setPosition(float, float)} is
+ * positional: the mixer derives its pan and attenuation from the
+ * {@link AudioListener} each buffer, instead of using {@link #getPan()}. A
+ * voice too quiet to hear is culled: it keeps its place in the sound, but is
+ * not mixed until it becomes audible again.
+ */
+public final class Voice {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * Source of voice identifiers. Identifiers increase with start order, so
+     * they also tell which of two voices is older.
+     */
+    private static final AtomicLong NEXT_ID = new AtomicLong();
+
+    /**
+     * The amplitude below which a voice is inaudible: even a full-scale sample
+     * would change the output by less than one least significant bit.
+     */
+    static final float INAUDIBLE_AMPLITUDE = 1.0f / Short.MAX_VALUE;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The unique identifier of this voice.
+     */
+    private final long id;
+
+    /**
+     * The mixer this voice plays on.
+     */
+    private final SoftwareMixer mixer;
+
+    /**
+     * The sound this voice plays, or {@code null} for a streamed voice.
+     */
+    private final SampleBuffer buffer;
+
+    /**
+     * The stream this voice plays, or {@code null} for a sample voice.
+     */
+    private final StreamBuffer stream;
+
+    /**
+     * Whether the sound restarts when it reaches its end.
+     */
+    private final boolean looping;
+
+    /**
+     * The group this voice belongs to, or {@code null}.
+     */
+    private final SoundGroup group;
+
+    /**
+     * The bus this voice is mixed into.
+     */
+    private final AudioBus bus;
+
+    /**
+     * The priority of this voice; higher values win when voices are stolen.
+     */
+    private final int priority;
+
+    /**
+     * The linear gain of this voice (range: 0.0 to 1.0).
+     */
+    private volatile float gain;
+
+    /**
+     * The stereo position of this voice, from -1.0 (left) through 0.0 (centre)
+     * to 1.0 (right).
+     */
+    private volatile float pan;
+
+    /**
+     * Whether this voice has a world position.
+     */
+    private volatile boolean positional = false;
+
+    /**
+     * The world x-coordinate of the sound's source, if positional.
+     */
+    private volatile float sourceX;
+
+    /**
+     * The world y-coordinate of the sound's source, if positional.
+     */
+    private volatile float sourceY;
+
+    /**
+     * Whether the voice was loud enough to be mixed in the last buffer. Only
+     * touched by the mixer thread.
+     */
+    private boolean audible = true;
+
+    /**
+     * Set when {@link #stop()} is called; the mixer drops the voice on its next
+     * buffer.
+     */
+    private volatile boolean stopRequested = false;
+
+    /**
+     * Set by the mixer once the voice has stopped producing sound.
+     */
+    private volatile boolean finished = false;
+
+    /**
+     * The next frame to mix. Only touched by the mixer thread.
+     */
+    private int position = 0;
+
+    /**
+     * This voice's decode buffer for a compressed sound or a stream, or
+     * {@code null} for plain PCM.
+     */
+    private final short[] scratch;
+
+    /**
+     * The samples of the block being played. Only touched by the mixer
+     * thread.
+     */
+    private short[] block;
+
+    /**
+     * The index of the block in {@link #block}, or {@code -1} if none has been
+     * fetched. Only touched by the mixer thread.
+     */
+    private int blockIndex = -1;
+
+    /**
+     * The left amplitude applied at the end of the previous buffer, which the
+     * next buffer ramps from. {@code NaN} before the first buffer. Only
+     * touched by the mixer thread.
+     */
+    private float leftAmplitude = Float.NaN;
+
+    /**
+     * The right amplitude applied at the end of the previous buffer. See
+     * {@link #leftAmplitude}.
+     */
+    private float rightAmplitude = Float.NaN;
+
+    /**
+     * The per-frame change of the left amplitude during the current buffer.
+     * Only touched by the mixer thread.
+     */
+    private float leftStep;
+
+    /**
+     * The per-frame change of the right amplitude during the current buffer.
+     * Only touched by the mixer thread.
+     */
+    private float rightStep;
+
+    /**
+     * The gain a running fade ends at. Only touched by the mixer thread.
+     */
+    private float fadeTarget;
+
+    /**
+     * The gain change per output frame of a running fade. Only touched by the
+     * mixer thread.
+     */
+    private float fadeStepPerFrame;
+
+    /**
+     * The frames left in a running fade; {@code 0} if no fade is running.
+     * Only touched by the mixer thread.
+     */
+    private long fadeFramesLeft = 0L;
+
+    /**
+     * Whether the running fade stops the voice when it ends. Only touched by
+     * the mixer thread.
+     */
+    private boolean stopAfterFade = false;
+
+    /**
+     * The index of this voice in the mixer's voice list, or {@code -1} if it
+     * is not in the mix. Only touched by the mixer thread.
+     */
+    private int mixIndex = -1;
+
+    /**
+     * The index of this voice in its group's member list, or {@code -1}. Only
+     * touched by the mixer thread.
+     */
+    private int groupSlot = -1;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Constructs a {@code Voice} playing a sample buffer.
+     *
+     * @param mixer The mixer the voice plays on.
+     * @param buffer The sound to play.
+     * @param gain The initial linear gain (range: 0.0 to 1.0).
+     * @param pan The initial stereo position (range: -1.0 to 1.0).
+     * @param looping Whether the sound loops.
+     * @param group The group the voice belongs to, or {@code null}.
+     * @param bus The bus the voice is mixed into.
+     */
+    Voice(final SoftwareMixer mixer, final SampleBuffer buffer, final float gain, final float pan, final boolean looping,
+            final SoundGroup group, final AudioBus bus) {
+        this.id = NEXT_ID.incrementAndGet();
+        this.mixer = mixer;
+        this.buffer = buffer;
+        this.stream = null;
+        this.looping = looping;
+        this.group = group;
+        this.bus = bus;
+        this.priority = group != null ? group.getPriority() : SoundGroup.DEFAULT_PRIORITY;
+        this.scratch = buffer.isCompressed() ? new short[ImaAdpcm.BLOCK_FRAMES * 2] : null;
+        setGain(gain);
+        setPan(pan);
+    }
+
+    /**
+     * Constructs a {@code Voice} playing a stream. The voice ends once the
+     * stream is exhausted.
+     *
+     * @param mixer The mixer the voice plays on.
+     * @param stream The stream to play.
+     * @param gain The initial linear gain (range: 0.0 to 1.0).
+     * @param bus The bus the voice is mixed into.
+     */
+    Voice(final SoftwareMixer mixer, final StreamBuffer stream, final float gain, final AudioBus bus) {
+        this.id = NEXT_ID.incrementAndGet();
+        this.mixer = mixer;
+        this.buffer = null;
+        this.stream = stream;
+        this.looping = false;
+        this.group = null;
+        this.bus = bus;
+        this.priority = SoundGroup.DEFAULT_PRIORITY;
+        this.scratch = new short[SoftwareMixer.BUFFER_FRAMES * 2];
+        setGain(gain);
+        setPan(0.0f);
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the unique identifier of this voice. Later voices have larger
+     * identifiers.
+     *
+     * @return The identifier.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns the sound this voice plays.
+     *
+     * @return The sample buffer, or {@code null} for a streamed voice.
+     */
+    public SampleBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Returns the linear gain of this voice.
+     *
+     * @return The gain (range: 0.0 to 1.0).
+     */
+    public float getGain() {
+        return gain;
+    }
+
+    /**
+     * Returns the stereo position of this voice.
+     *
+     * @return The pan (range: -1.0 to 1.0).
+     */
+    public float getPan() {
+        return pan;
+    }
+
+    /**
+     * Checks whether this voice has a world position.
+     *
+     * @return {@code true} if the voice is positional.
+     */
+    public boolean isPositional() {
+        return positional;
+    }
+
+    /**
+     * Returns the world x-coordinate of the sound's source.
+     *
+     * @return The x-coordinate; meaningful only if the voice is positional.
+     */
+    public float getSourceX() {
+        return sourceX;
+    }
+
+    /**
+     * Returns the world y-coordinate of the sound's source.
+     *
+     * @return The y-coordinate; meaningful only if the voice is positional.
+     */
+    public float getSourceY() {
+        return sourceY;
+    }
+
+    /**
+     * Returns the group this voice belongs to.
+     *
+     * @return The group, or {@code null} if the voice is ungrouped.
+     */
+    public SoundGroup getGroup() {
+        return group;
+    }
+
+    /**
+     * Returns the bus this voice is mixed into.
+     *
+     * @return The bus.
+     */
+    public AudioBus getBus() {
+        return bus;
+    }
+
+    /**
+     * Returns the priority of this voice: its group's priority, or
+     * {@link SoundGroup#DEFAULT_PRIORITY}.
+     *
+     * @return The priority.
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Returns the index of this voice in the mixer's voice list. Mixer thread
+     * only.
+     *
+     * @return The index, or {@code -1}.
+     */
+    int getMixIndex() {
+        return mixIndex;
+    }
+
+    /**
+     * Returns the index of this voice in its group. Mixer thread only.
+     *
+     * @return The slot, or {@code -1}.
+     */
+    int getGroupSlot() {
+        return groupSlot;
+    }
+
+    /**
+     * Checks whether this voice loops.
+     *
+     * @return {@code true} if the sound restarts when it ends.
+     */
+    public boolean isLooping() {
+        return looping;
+    }
+
+    /**
+     * Checks whether this voice may be stopped early to make room for another.
+     * Looping voices and streams never are.
+     *
+     * @return {@code true} if the voice can be stolen.
+     */
+    boolean isStealable() {
+        return !looping && stream == null;
+    }
+
+    /**
+     * Checks whether this voice was mixed in the last buffer, rather than
+     * culled as inaudible. Mixer thread only.
+     *
+     * @return {@code true} if the voice is audible.
+     */
+    boolean isAudible() {
+        return audible;
+    }
+
+    /**
+     * Checks whether this voice is still playing.
+     *
+     * @return {@code true} until the sound ends or the voice is stopped.
+     */
+    public boolean isPlaying() {
+        return !finished && !stopRequested;
+    }
+
+    // ----- SETTERS -----
+    /**
+     * Sets the linear gain of this voice.
+     *
+     * @param gain The gain (range: 0.0 to 1.0). Values outside the range are
+     * clamped.
+     */
+    public void setGain(final float gain) {
+        this.gain = Math.clamp(gain, 0.0f, 1.0f);
+    }
+
+    /**
+     * Sets the stereo position of this voice.
+     *
+     * @param pan The pan, from -1.0 (left) to 1.0 (right). Values outside the
+     * range are clamped.
+     */
+    public void setPan(final float pan) {
+        this.pan = Math.clamp(pan, -1.0f, 1.0f);
+    }
+
+    /**
+     * Places the sound's source in the game world, making this voice
+     * positional. Call it again whenever the source moves; the mixer follows
+     * from its next buffer.
+     *
+     * @param x The world x-coordinate of the source.
+     * @param y The world y-coordinate of the source.
+     */
+    public void setPosition(final float x, final float y) {
+        sourceX = x;
+        sourceY = y;
+        positional = true;
+    }
+
+    /**
+     * Sets the index of this voice in the mixer's voice list. Mixer thread
+     * only.
+     *
+     * @param mixIndex The index, or {@code -1}.
+     */
+    void setMixIndex(final int mixIndex) {
+        this.mixIndex = mixIndex;
+    }
+
+    /**
+     * Sets the index of this voice in its group. Mixer thread only.
+     *
+     * @param groupSlot The slot, or {@code -1}.
+     */
+    void setGroupSlot(final int groupSlot) {
+        this.groupSlot = groupSlot;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Stops this voice. It falls silent from the mixer's next buffer.
+     */
+    public void stop() {
+        stopRequested = true;
+    }
+
+    /**
+     * Ramps the gain of this voice linearly to a target. Returns immediately;
+     * the audio thread applies the ramp buffer by buffer.
+     *
+     * @param targetGain The gain to end at (range: 0.0 to 1.0).
+     * @param durationMs The length of the fade in milliseconds.
+     * @param stopWhenDone Whether to stop the voice once the fade ends (e.g.,
+     * for a fade-out).
+     */
+    public void fadeTo(final float targetGain, final long durationMs, final boolean stopWhenDone) {
+        mixer.fade(this, targetGain, durationMs, stopWhenDone);
+    }
+
+    /**
+     * Starts a fade. Called only by the mixer thread; replaces any running
+     * fade.
+     *
+     * @param targetGain The gain to end at.
+     * @param durationFrames The fade length in output frames.
+     * @param stopWhenDone Whether to stop the voice once faded.
+     */
+    void beginFade(final float targetGain, final long durationFrames, final boolean stopWhenDone) {
+        fadeTarget = Math.clamp(targetGain, 0.0f, 1.0f);
+        fadeFramesLeft = Math.max(1L, durationFrames);
+        fadeStepPerFrame = (fadeTarget - gain) / fadeFramesLeft;
+        stopAfterFade = stopWhenDone;
+    }
+
+    /**
+     * Marks this voice as finished. Called only by the mixer thread.
+     */
+    void finish() {
+        finished = true;
+    }
+
+    /**
+     * Adds this voice's next frames into a stereo accumulator, advancing its
+     * position. The voice's amplitude ramps linearly from where the previous
+     * buffer left it to its current gain, pan, attenuation and bus gain. If the
+     * voice is inaudible both before and after the ramp, it only advances.
+     * Called only by the mixer thread.
+     *
+     * @param accumulator Interleaved stereo accumulator.
+     * @param frames The number of frames to mix.
+     * @param busGain The effective gain of this voice's bus for this buffer.
+     * @param listener The listener positional voices are heard from.
+     * @return {@code false} once the voice has finished and should be removed.
+     */
+    boolean mixInto(final float[] accumulator, final int frames, final float busGain, final AudioListener listener) {
+        if (stopRequested) {
+            finished = true;
+            return false;
+        }
+
+        if (fadeFramesLeft > 0) {
+            long step = Math.min(frames, fadeFramesLeft);
+            fadeFramesLeft -= step;
+            gain = fadeFramesLeft == 0 ? fadeTarget : Math.clamp(gain + fadeStepPerFrame * step, 0.0f, 1.0f);
+            if (fadeFramesLeft == 0 && stopAfterFade) {
+                finished = true;
+                return false;
+            }
+        }
+
+        float amplitude = gain * busGain;
+        float voicePan = pan;
+        if (positional) {
+            float x = sourceX;
+            float y = sourceY;
+            amplitude *= listener.attenuation(x, y);
+            voicePan = listener.pan(x);
+        }
+
+        // Equal-power panning keeps loudness constant as a sound moves across
+        double angle = (voicePan + 1.0) * Math.PI / 4.0;
+        float targetLeft = (float) (amplitude * Math.cos(angle));
+        float targetRight = (float) (amplitude * Math.sin(angle));
+        if (Float.isNaN(leftAmplitude)) {
+            leftAmplitude = targetLeft;
+            rightAmplitude = targetRight;
+        }
+        leftStep = (targetLeft - leftAmplitude) / frames;
+        rightStep = (targetRight - rightAmplitude) / frames;
+
+        audible = Math.max(targetLeft, targetRight) >= INAUDIBLE_AMPLITUDE
+                || Math.max(leftAmplitude, rightAmplitude) >= INAUDIBLE_AMPLITUDE;
+        boolean playing;
+        if (!audible) {
+            playing = stream != null ? skipStream(frames) : skipSamples(frames);
+        } else if (stream != null) {
+            playing = mixStream(accumulator, frames);
+        } else {
+            playing = mixSamples(accumulator, frames);
+        }
+
+        // Land exactly on the target so rounding never drifts across buffers
+        leftAmplitude = targetLeft;
+        rightAmplitude = targetRight;
+        if (!playing) {
+            finished = true;
+        }
+        return playing;
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Mixes the next frames of this voice's sample buffer.
+     *
+     * @param accumulator Interleaved stereo accumulator.
+     * @param frames The number of frames to mix.
+     * @return {@code false} once the sound has ended.
+     */
+    private boolean mixSamples(final float[] accumulator, final int frames) {
+        int frameCount = buffer.getFrameCount();
+        int blockFrames = buffer.getBlockFrames();
+        if (frameCount == 0) {
+            return false;
+        }
+
+        int written = 0;
+        while (written < frames) {
+            int currentBlock = position / blockFrames;
+            if (currentBlock != blockIndex) {
+                block = buffer.block(currentBlock, scratch);
+                blockIndex = currentBlock;
+            }
+            int blockStart = currentBlock * blockFrames;
+            int blockEnd = Math.min(blockStart + blockFrames, frameCount);
+
+            int count = Math.min(frames - written, blockEnd - position);
+            mixRange(block, (position - blockStart) * 2, accumulator, written * 2, count);
+            written += count;
+            position += count;
+
+            if (position >= frameCount) {
+                if (!looping) {
+                    return false;
+                }
+                position = 0;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Advances this voice's sample buffer without mixing it.
+     *
+     * @param frames The number of frames to skip.
+     * @return {@code false} once the sound has ended.
+     */
+    private boolean skipSamples(final int frames) {
+        int frameCount = buffer.getFrameCount();
+        position += frames;
+        if (position >= frameCount) {
+            if (!looping || frameCount == 0) {
+                return false;
+            }
+            position %= frameCount;
+        }
+        return true;
+    }
+
+    /**
+     * Discards the frames waiting in this voice's stream, so the feeder keeps
+     * running in time.
+     *
+     * @param frames The number of frames to skip.
+     * @return {@code false} once the stream is exhausted.
+     */
+    private boolean skipStream(final int frames) {
+        if (stream.isExhausted()) {
+            return false;
+        }
+        stream.read(scratch, 0, frames * 2);
+        return true;
+    }
+
+    /**
+     * Mixes the frames waiting in this voice's stream. If the feeder has
+     * fallen behind, the missing frames are silent.
+     *
+     * @param accumulator Interleaved stereo accumulator.
+     * @param frames The number of frames to mix.
+     * @return {@code false} once the stream is exhausted.
+     */
+    private boolean mixStream(final float[] accumulator, final int frames) {
+        if (stream.isExhausted()) {
+            return false;
+        }
+        int count = stream.read(scratch, 0, frames * 2) / 2;
+        mixRange(scratch, 0, accumulator, 0, count);
+        return true;
+    }
+
+    /**
+     * Adds frames to the accumulator along the current amplitude ramp,
+     * advancing the ramp.
+     *
+     * @param samples The source samples.
+     * @param source The index of the first source sample.
+     * @param accumulator Interleaved stereo accumulator.
+     * @param target The index of the first accumulator sample.
+     * @param count The number of frames.
+     */
+    private void mixRange(final short[] samples, final int source, final float[] accumulator, final int target,
+            final int count) {
+        float left = leftAmplitude;
+        float right = rightAmplitude;
+        int from = source;
+        int to = target;
+        for (int i = 0; i < count; i++) {
+            left += leftStep;
+            right += rightStep;
+            accumulator[to++] += samples[from++] * left;
+            accumulator[to++] += samples[from++] * right;
+        }
+        leftAmplitude = left;
+        rightAmplitude = right;
+    }
+}
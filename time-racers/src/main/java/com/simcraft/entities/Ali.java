@@ -4,6 +4,7 @@ import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -13,7 +14,6 @@ import javax.swing.JPanel;
 
 import com.simcraft.entities.enemies.Enemy;
 import com.simcraft.graphics.effects.sprite_effects.HitFlashEffect;
-import com.simcraft.managers.GameManager;
 
 /**
  * Represents the main playable character, Mr. Ali. Extends the
@@ -27,15 +27,6 @@ public class Ali extends MobileEntity {
      */
     private HitFlashEffect hitFlashEffect;
 
-    // PATCH: Add world coordinates
-    protected double worldX;
-    protected double worldY;
-
-    /**
-     * Flag indicating if Ali is currently jumping.
-     */
-    private boolean jumping = false; // Assuming a basic jumping implementation
-
     // ----- CONSTRUCTORS -----
     /**
      * Constructs an {@code Ali} object using the provided {@link AliBuilder}.
@@ -66,9 +57,7 @@ public class Ali extends MobileEntity {
 
         this.hitFlashEffect = new HitFlashEffect(this, 500);
 
-        // PATCH: Initialize world position
-        this.worldX = builder.startX;
-        this.worldY = builder.startY;
+        setWorldPosition(builder.startX, builder.startY);
     }
 
     // ----- GETTERS -----
@@ -101,24 +90,6 @@ public class Ali extends MobileEntity {
         this.hitFlashEffect = hitFlashEffect;
     }
 
-    /**
-     * Sets the world X-coordinate of Ali.
-     *
-     * @param worldX The new world X-coordinate.
-     */
-    public void setWorldX(double worldX) {
-        this.worldX = worldX;
-    }
-
-    /**
-     * Sets the world Y-coordinate of Ali.
-     *
-     * @param worldY The new world Y-coordinate.
-     */
-    public void setWorldY(double worldY) {
-        this.worldY = worldY;
-    }
-
     /**
      * Sets whether Ali is currently jumping.
      *
@@ -148,8 +119,8 @@ public class Ali extends MobileEntity {
      * @param y The new world Y-coordinate.
      */
     public void setWorldPosition(double x, double y) {
-        this.worldX = x;
-        this.worldY = y;
+        setWorldX(x);
+        setWorldY(y);
     }
 
     /**
@@ -174,27 +145,17 @@ public class Ali extends MobileEntity {
 
     // ----- OVERRIDDEN METHODS -----
     /**
-     * Moves Ali based on the current velocity and then updates his screen
-     * position based on the game's scroll offset.
+     * Extends {@link MobileEntity#readState} to end any hit flash in progress,
+     * since the hit it shows is not part of the restored state.
+     *
+     * @param in The snapshot being read.
      */
     @Override
-    public void move() {
-        super.move();
-        updateScreenPosition();
-    }
-
-    /**
-     * Updates Ali's screen position based on the current scroll offset of the
-     * game panel. This ensures Ali is rendered correctly relative to the game
-     * world.
-     */
-    public void updateScreenPosition() {
-        // PATCH: Calculate screen position based on scroll offset
-        if (GameManager.getInstance().getGamePanel() != null) {
-            int scrollOffset = (int) GameManager.getInstance().getGamePanel().getScrollOffset();
-            position.x = (int) (worldX - scrollOffset);
-            position.y = (int) (worldY);
+    public void readState(final ByteBuffer in) {
+        if (hitFlashEffect != null) {
+            hitFlashEffect.stopEffect();
         }
+        super.readState(in);
     }
 
     /**
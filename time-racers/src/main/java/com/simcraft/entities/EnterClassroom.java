@@ -13,6 +13,11 @@ import com.simcraft.managers.ImageManager;
  */
 public class EnterClassroom extends Entity {
 
+    /**
+     * The path of the classroom door sprite.
+     */
+    private static final String SPRITE_PATH = "/images/sprites/objects/classroom_door.png";
+
     private BufferedImage sprite;
 
     /**
@@ -21,13 +26,19 @@ public class EnterClassroom extends Entity {
      *
      * @param x The initial x-coordinate of the entity.
      * @param y The initial y-coordinate of the entity.
+     * @throws IllegalStateException If the sprite cannot be loaded.
      */
     public EnterClassroom(int x, int y) {
         super(x, y);
-        sprite = ImageManager.loadBufferedImage("/images/door.png");
-        if (sprite != null) {
-            setHitboxFromRectangle(new Rectangle(x, y, sprite.getWidth(), sprite.getHeight()));
+        sprite = ImageManager.getImage(SPRITE_PATH);
+        if (sprite == null) {
+            throw new IllegalStateException(String.format(
+                    "%s: Cannot load the classroom door sprite %s.",
+                    this.getClass().getName(),
+                    SPRITE_PATH
+            ));
         }
+        setHitboxFromRectangle(new Rectangle(x, y, sprite.getWidth(), sprite.getHeight()));
     }
 
     /**
@@ -37,9 +48,7 @@ public class EnterClassroom extends Entity {
      */
     @Override
     public void render(Graphics2D g2d) {
-        if (sprite != null) {
-            g2d.drawImage(sprite, position.x, position.y, null);
-        }
+        g2d.drawImage(sprite, position.x, position.y, null);
     }
 
     /**
@@ -52,9 +61,7 @@ public class EnterClassroom extends Entity {
      * world.
      */
     public void render(Graphics2D g2d, double scrollOffset) {
-        if (sprite != null) {
-            g2d.drawImage(sprite, (int) (position.x - scrollOffset), position.y, null);
-        }
+        g2d.drawImage(sprite, (int) (position.x - scrollOffset), position.y, null);
     }
 
     /**
@@ -68,10 +75,7 @@ public class EnterClassroom extends Entity {
      * scrolled view.
      */
     public Rectangle getBoundsWithScroll(double scrollOffset) {
-        if (sprite != null) {
-            return new Rectangle((int) (position.x - scrollOffset), position.y, sprite.getWidth(), sprite.getHeight());
-        }
-        return new Rectangle((int) (position.x - scrollOffset), position.y, 0, 0); // Return an empty rectangle if sprite is not loaded
+        return new Rectangle((int) (position.x - scrollOffset), position.y, sprite.getWidth(), sprite.getHeight());
     }
 
     /**
@@ -1,11 +1,13 @@
 package com.simcraft.entities;
 
 import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
 import javax.swing.JPanel;
 
 import com.simcraft.managers.GameManager;
+import com.simcraft.managers.GameSnapshot;
 
 /**
  * Represents a mobile entity in the game that can move around the game world.
@@ -136,6 +138,18 @@ public abstract class MobileEntity extends Entity {
      */
     protected double worldY;
 
+    /**
+     * The horizontal steering acceleration to apply on the next
+     * {@link #move()}, in pixels per frame per move.
+     */
+    protected double steeringX;
+
+    /**
+     * The vertical steering acceleration to apply on the next {@link #move()},
+     * in pixels per frame per move. Follows the sign of {@link #velocityY}.
+     */
+    protected double steeringY;
+
     // ----- CONSTRUCTORS -----
     /**
      * Private constructor used by the builder pattern to instantiate a
@@ -337,6 +351,20 @@ public abstract class MobileEntity extends Entity {
     }
 
     // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Sets the steering acceleration that the next {@link #move()} adds to the
+     * entity's velocity, replacing any not yet applied. Used by batched
+     * steering (see {@link com.simcraft.ai.SteeringSystem}).
+     *
+     * @param steeringX The horizontal acceleration.
+     * @param steeringY The vertical acceleration, positive upwards like
+     * {@link #getVelocityY()}.
+     */
+    public void steer(double steeringX, double steeringY) {
+        this.steeringX = steeringX;
+        this.steeringY = steeringY;
+    }
+
     /**
      * Initiates a jump for the entity if it is enabled for horizontal-only
      * movement and is not currently jumping.
@@ -365,14 +393,29 @@ public abstract class MobileEntity extends Entity {
 
     /**
      * Updates the entity's position based on its current velocities and handles
-     * jumping mechanics if the entity is set to move horizontally only.
+     * jumping mechanics if the entity is set to move horizontally only. Any
+     * pending steering acceleration is integrated into the velocities first,
+     * keeping the resulting speed within {@link #getSpeed()}.
      */
     public void move() {
-        worldX += velocityX;
+        advance(1.0);
+    }
+
+    /**
+     * Performs a fraction of one {@link #move()}: integrates the same fraction
+     * of the pending steering, then moves the entity by that fraction of its
+     * velocities. Lets entities move a little every tick rather than a full
+     * step every few ticks.
+     *
+     * @param fraction The fraction of a full move (range: 0.0 to 1.0).
+     */
+    protected void advance(final double fraction) {
+        integrateSteering(fraction);
+        worldX += velocityX * fraction;
         if (horizontalOnly) {
             if (jumping) {
-                worldY -= jumpVelocity;
-                jumpVelocity -= gravity;
+                worldY -= jumpVelocity * fraction;
+                jumpVelocity -= gravity * fraction;
                 if (worldY >= yOrigin) {
                     worldY = yOrigin;
                     jumping = false;
@@ -380,11 +423,69 @@ public abstract class MobileEntity extends Entity {
                 }
             }
         } else {
-            worldY -= velocityY;
+            worldY -= velocityY * fraction;
         }
         updateScreenPosition();
     }
 
+    /**
+     * Writes the entity's position, animation and movement to a snapshot (see
+     * {@link GameSnapshot}). Subclasses extend it with their own state, and
+     * {@link #readState(ByteBuffer)} to match.
+     *
+     * @param out The snapshot being written.
+     */
+    public void writeState(final GameSnapshot.Writer out) {
+        out.putInt(position.x)
+                .putInt(position.y)
+                .putString(currentAnimationKey)
+                .putDouble(velocityX)
+                .putDouble(velocityY)
+                .putDouble(speed)
+                .putDouble(scale)
+                .putBoolean(horizontalOnly)
+                .putInt(yOrigin)
+                .putBoolean(jumping)
+                .putDouble(jumpVelocity)
+                .putDouble(currentX)
+                .putDouble(currentY)
+                .putDouble(worldX)
+                .putDouble(worldY)
+                .putDouble(steeringX)
+                .putDouble(steeringY);
+    }
+
+    /**
+     * Reads the state written by {@link #writeState(GameSnapshot.Writer)}
+     * back into this entity. The animation is only restarted if it differs
+     * from the current one.
+     *
+     * @param in The snapshot being read.
+     */
+    public void readState(final ByteBuffer in) {
+        position.setLocation(in.getInt(), in.getInt());
+        String animationKey = GameSnapshot.getString(in);
+        if (!Objects.equals(animationKey, currentAnimationKey)) {
+            setAnimation(animationKey);
+            sprite = getCurrentSprite();
+        }
+        velocityX = in.getDouble();
+        velocityY = in.getDouble();
+        speed = in.getDouble();
+        scale = in.getDouble();
+        horizontalOnly = GameSnapshot.getBoolean(in);
+        yOrigin = in.getInt();
+        jumping = GameSnapshot.getBoolean(in);
+        jumpVelocity = in.getDouble();
+        currentX = in.getDouble();
+        currentY = in.getDouble();
+        worldX = in.getDouble();
+        worldY = in.getDouble();
+        steeringX = in.getDouble();
+        steeringY = in.getDouble();
+        setHitboxFromCurrentSprite();
+    }
+
     // ----- OVERRIDDEN METHODS -----
     /**
      * Compares this entity to another object for equality.
@@ -437,6 +538,29 @@ public abstract class MobileEntity extends Entity {
         setHitboxFromCurrentSprite();
     }
 
+    // ----- HELPER METHODS -----
+    /**
+     * Adds a fraction of the pending steering acceleration to the velocities
+     * and clears it. The resulting speed is capped at {@link #speed}, if set.
+     *
+     * @param fraction The fraction of the acceleration to apply.
+     */
+    private void integrateSteering(final double fraction) {
+        if (steeringX == 0 && steeringY == 0) {
+            return;
+        }
+        velocityX += steeringX * fraction;
+        velocityY += steeringY * fraction;
+        steeringX = 0;
+        steeringY = 0;
+
+        double currentSpeed = Math.hypot(velocityX, velocityY);
+        if (speed > 0 && currentSpeed > speed) {
+            velocityX *= speed / currentSpeed;
+            velocityY *= speed / currentSpeed;
+        }
+    }
+
     // ----- BUILDER PATTERN -----
     /**
      * The MobileEntityBuilder class provides a fluent API for constructing a
@@ -11,6 +11,11 @@ import com.simcraft.managers.ImageManager;
  */
 public class TeleportArrow extends Entity {
 
+    /**
+     * The path of the teleport arrow sprite.
+     */
+    private static final String SPRITE_PATH = "/images/sprites/objects/teleport_arrow.png";
+
     /**
      * The visual representation (sprite) of the teleport arrow.
      */
@@ -21,10 +26,18 @@ public class TeleportArrow extends Entity {
      *
      * @param x The initial x-coordinate of the teleport arrow.
      * @param y The initial y-coordinate of the teleport arrow.
+     * @throws IllegalStateException If the sprite cannot be loaded.
      */
     public TeleportArrow(int x, int y) {
         super(x, y);
-        sprite = ImageManager.loadBufferedImage("/images/arrow.png");
+        sprite = ImageManager.getImage(SPRITE_PATH);
+        if (sprite == null) {
+            throw new IllegalStateException(String.format(
+                    "%s: Cannot load the teleport arrow sprite %s.",
+                    this.getClass().getName(),
+                    SPRITE_PATH
+            ));
+        }
     }
 
     /**
@@ -4,51 +4,91 @@ import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
-import java.util.Objects;
-import java.util.Random;
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
 
 import javax.swing.JPanel;
 
+import static com.simcraft.App.FRAME_RATE_MS;
+import com.simcraft.ai.FlowField;
 import com.simcraft.entities.Ali;
 import com.simcraft.entities.MobileEntity;
+import com.simcraft.managers.GameSnapshot;
+import com.simcraft.utility.GameRandom;
 
 /**
  * Represents an enemy in the game.
  * <p>
  * This class extends {@link MobileEntity} and includes functionality for
  * interacting with the player ({@link Ali}).
+ * <p>
+ * An enemy's behaviour is a tick-driven state machine (see
+ * {@link EnemyState} and {@link EnemyStateMachine}). It wanders at random,
+ * now and then standing idle, until its target comes within its
+ * {@link #getDetectionRadius() detection radius}. After a short moment of
+ * surprise, it pursues the target along the shared {@link FlowField} it was
+ * given, lunges at it once within {@link #getAttackRange() attack range}, and
+ * then cools down before wandering again. The enemy's velocity turns towards
+ * what it wants (see {@link #getDesiredVelocityX()}) through the steering
+ * applied by its manager, which also keeps it apart from other enemies.
+ * <p>
+ * All of the state machine's timers count game ticks, so nothing an enemy
+ * does ever blocks the game loop.
  */
 public abstract class Enemy extends MobileEntity {
 
+    // ----- STATIC VARIABLES -----
     /**
-     * The duration (in milliseconds) an enemy can continuously attack before
-     * needing to cool down.
+     * The detection radius (in pixels) of enemy types that do not set their
+     * own.
      */
-    protected long attackTimerMs;
+    public static final int DEFAULT_DETECTION_RADIUS = 200;
+
     /**
-     * The elapsed time (in milliseconds) of the current attack wave.
+     * The attack range (in pixels) of enemy types that do not set their own.
      */
-    protected long elapsedAttackTimeMs;
+    public static final int DEFAULT_ATTACK_RANGE = 80;
+
     /**
-     * The cooldown duration (in milliseconds) before the enemy can attack again
-     * after an attack wave ends.
+     * The number of ticks an enemy takes to move by its velocity once, unless
+     * set otherwise.
      */
-    protected long attackCooldownMs;
+    public static final int DEFAULT_MOVE_DELAY = 4;
+
+    /**
+     * The chance (1 in this many) that a wandering enemy changes direction
+     * when it {@link #think() thinks}.
+     */
+    private static final int WANDER_TURN_ODDS = 50;
+
     /**
-     * The elapsed time (in milliseconds) since the enemy started cooling down.
+     * How far beyond its detection radius (as a multiple of it) the target
+     * must be for the enemy to lose it. The margin stops enemies at the edge
+     * of the radius from flickering between chasing and wandering.
      */
-    protected long elapsedAttackCooldownMs;
+    private static final double TARGET_LOST_FACTOR = 1.25;
+
     /**
-     * The timestamp (in milliseconds) of the last update call.
+     * How long (in milliseconds) an enemy stands still after noticing its
+     * target, before giving chase.
      */
-    protected long lastUpdateTime;
+    private static final long DETECT_REACTION_MS = 300;
+
+    // ----- INSTANCE VARIABLES -----
     /**
-     * Internally used random number generator.
+     * The duration (in milliseconds) of an attack, during which the enemy
+     * lunges at its target.
      */
-    protected Random random;
+    protected long attackTimerMs;
     /**
-     * The cooldown duration before the enemy can move again after a previous
-     * movement opportunity (in game ticks).
+     * The cooldown duration (in milliseconds) before the enemy can attack again
+     * after an attack ends.
+     */
+    protected long attackCooldownMs;
+    /**
+     * The number of game ticks the enemy takes to move by its velocity once.
+     * The movement is spread evenly over those ticks, so a higher delay makes
+     * a slower enemy.
      */
     protected int moveDelay;
     /**
@@ -61,12 +101,8 @@ public abstract class Enemy extends MobileEntity {
      */
     protected int timePenalty;
     /**
-     * Whether the enemy is currently not performing any movement.
-     */
-    protected boolean isIdling;
-    /**
-     * The percentage chance (0.0 to 1.0) that the enemy will start idling if
-     * left uninterrupted by the player.
+     * The chance (0.0 to 1.0) that a wandering enemy starts idling each time
+     * it {@link #think() thinks}.
      */
     protected double chanceToIdle;
     /**
@@ -79,6 +115,41 @@ public abstract class Enemy extends MobileEntity {
      * and potentially initiate an attack.
      */
     protected int detectionRadius;
+    /**
+     * The distance (in pixels) within which a chasing enemy attacks its
+     * target.
+     */
+    protected int attackRange;
+    /**
+     * The enemy's current behaviour state.
+     */
+    protected EnemyState state;
+    /**
+     * The number of game ticks left before the current state's timer expires.
+     * States without a timer keep it at zero.
+     */
+    protected int stateTicksRemaining;
+    /**
+     * The on-screen point the enemy pursues once it is within
+     * {@link #detectionRadius}, or {@code null} if it has no target. Usually
+     * the live position of {@link Ali}.
+     */
+    protected Point target;
+    /**
+     * The shared field leading to the target, or {@code null} if the enemy
+     * only wanders.
+     */
+    protected FlowField flowField;
+    /**
+     * The horizontal velocity the enemy decided on for its current state,
+     * unless it is wandering.
+     */
+    protected double desiredVelocityX;
+    /**
+     * The vertical velocity the enemy decided on for its current state,
+     * unless it is wandering (positive is up).
+     */
+    protected double desiredVelocityY;
 
     // ----- CONSTRUCTORS -----
     /**
@@ -89,16 +160,25 @@ public abstract class Enemy extends MobileEntity {
     protected Enemy(EnemyBuilder<?> builder) {
         super(builder);
         this.sprite = getCurrentSprite();
-        random = new Random();
         hasCollided = false;
         this.timePenalty = builder.timePenalty;
-        this.isIdling = builder.isIdling;
+        this.detectionRadius = DEFAULT_DETECTION_RADIUS;
+        this.attackRange = DEFAULT_ATTACK_RANGE;
+        this.moveDelay = DEFAULT_MOVE_DELAY;
+        this.attackTimerMs = 600;
+        this.attackCooldownMs = 1500;
+        this.chanceToIdle = 0.01;
+        this.idleDuration = 1500;
+        this.state = EnemyState.WANDER;
+        if (builder.isIdling) {
+            enterState(EnemyState.IDLE);
+        }
     }
 
     // ---- GETTERS -----
     /**
-     * Returns the cooldown duration (in game ticks) before the enemy can move
-     * again after a previous movement opportunity.
+     * Returns the number of game ticks the enemy takes to move by its velocity
+     * once.
      *
      * @return The movement delay.
      */
@@ -106,6 +186,33 @@ public abstract class Enemy extends MobileEntity {
         return moveDelay;
     }
 
+    /**
+     * Returns the distance within which the enemy notices its target.
+     *
+     * @return The detection radius in pixels.
+     */
+    public int getDetectionRadius() {
+        return detectionRadius;
+    }
+
+    /**
+     * Returns the distance within which a chasing enemy attacks its target.
+     *
+     * @return The attack range in pixels.
+     */
+    public int getAttackRange() {
+        return attackRange;
+    }
+
+    /**
+     * Returns the enemy's current behaviour state.
+     *
+     * @return The {@link EnemyState}.
+     */
+    public EnemyState getState() {
+        return state;
+    }
+
     /**
      * Returns whether the enemy has recently collided with another entity.
      *
@@ -121,8 +228,7 @@ public abstract class Enemy extends MobileEntity {
      * @return {@code true} if attacking, {@code false} otherwise.
      */
     public boolean isAttacking() {
-        // TODO Write attack check logic based on the specific enemy type
-        return false;
+        return state == EnemyState.ATTACK;
     }
 
     /**
@@ -135,24 +241,6 @@ public abstract class Enemy extends MobileEntity {
         return attackCooldownMs;
     }
 
-    /**
-     * Returns how many milliseconds of the attack cooldown have passed.
-     *
-     * @return The elapsed cooldown time in milliseconds.
-     */
-    public long getElapsedAttackCooldownMs() {
-        return elapsedAttackCooldownMs;
-    }
-
-    /**
-     * Returns the last time the enemy was updated in milliseconds.
-     *
-     * @return The timestamp of the last update.
-     */
-    public long getLastUpdateTime() {
-        return lastUpdateTime;
-    }
-
     /**
      * Returns how many seconds will be removed from the game timer if
      * {@link Ali} collides with this enemy.
@@ -169,18 +257,18 @@ public abstract class Enemy extends MobileEntity {
      * @return {@code true} if the enemy is idling, {@code false} otherwise.
      */
     public boolean isIdling() {
-        return isIdling;
+        return state == EnemyState.IDLE;
     }
 
     // ---- SETTERS -----
     /**
-     * Sets the cooldown duration (in game ticks) before the enemy can move
-     * again after a previous movement opportunity.
+     * Sets the number of game ticks the enemy takes to move by its velocity
+     * once.
      *
-     * @param moveDelay The movement delay.
+     * @param moveDelay The movement delay. Must be at least 1.
      */
     public void setMoveDelay(final int moveDelay) {
-        this.moveDelay = moveDelay;
+        this.moveDelay = Math.max(moveDelay, 1);
     }
 
     /**
@@ -194,16 +282,29 @@ public abstract class Enemy extends MobileEntity {
     }
 
     /**
-     * Sets whether the enemy is attacking. The specific implementation of
-     * attacking will depend on the enemy's behavior.
+     * Sets whether the enemy is attacking. Starting an attack does nothing if
+     * the enemy {@link #canAttack() cannot attack}; stopping one starts the
+     * attack cooldown.
      *
      * @param isAttacking {@code true} if the enemy should start attacking,
      * {@code false} to stop.
-     * @throws IllegalArgumentException If the attack state is invalid for the
-     * enemy type.
      */
-    public void setIsAttacking(final boolean isAttacking) throws IllegalArgumentException {
-        // Implementation specific to the enemy type
+    public void setIsAttacking(final boolean isAttacking) {
+        if (isAttacking) {
+            attack();
+        } else if (state == EnemyState.ATTACK) {
+            enterState(EnemyState.COOLDOWN);
+        }
+    }
+
+    /**
+     * Sets the duration of the enemy's attacks in milliseconds. The minimum
+     * value is 1 millisecond.
+     *
+     * @param attackTimerMs The attack duration.
+     */
+    public void setAttackTimerMs(final long attackTimerMs) {
+        this.attackTimerMs = Math.max(attackTimerMs, 1);
     }
 
     /**
@@ -217,16 +318,63 @@ public abstract class Enemy extends MobileEntity {
     }
 
     /**
-     * Sets the coordinates on screen that the enemy should aim their attacks
-     * towards. The specific targeting logic depends on the enemy type.
+     * Sets the distance within which a chasing enemy attacks its target.
+     *
+     * @param attackRange The attack range in pixels.
+     */
+    public void setAttackRange(final int attackRange) {
+        this.attackRange = Math.max(attackRange, 0);
+    }
+
+    /**
+     * Sets the chance that a wandering enemy starts idling each time it
+     * thinks.
+     *
+     * @param chanceToIdle The chance, clamped to between 0.0 and 1.0.
+     */
+    public void setChanceToIdle(final double chanceToIdle) {
+        this.chanceToIdle = Math.clamp(chanceToIdle, 0.0, 1.0);
+    }
+
+    /**
+     * Sets how long the enemy stays idle once it starts idling, in
+     * milliseconds. The minimum value is 1 millisecond.
      *
-     * @param target The {@link Point} representing the target coordinates.
+     * @param idleDuration The idle duration.
+     */
+    public void setIdleDuration(final long idleDuration) {
+        this.idleDuration = Math.max(idleDuration, 1);
+    }
+
+    /**
+     * Sets the coordinates on screen that the enemy should pursue once they
+     * are within its detection radius. The point is kept, not copied, so
+     * passing an entity's position makes the enemy follow that entity.
+     *
+     * @param target The {@link Point} representing the target coordinates, or
+     * {@code null} to stop pursuing.
      */
     public void setTarget(final Point target) {
-        if (target == null) {
-            return;
-        }
-        // Targeting logic specific to the enemy type
+        this.target = target;
+    }
+
+    /**
+     * Sets the distance within which the enemy notices its target.
+     *
+     * @param detectionRadius The detection radius in pixels.
+     */
+    public void setDetectionRadius(final int detectionRadius) {
+        this.detectionRadius = Math.max(detectionRadius, 0);
+    }
+
+    /**
+     * Sets the field the enemy follows when pursuing its target. It must lead
+     * to the same target as {@link #setTarget(Point)}.
+     *
+     * @param flowField The shared flow field, or {@code null} to only wander.
+     */
+    public void setFlowField(final FlowField flowField) {
+        this.flowField = flowField;
     }
 
     /**
@@ -241,24 +389,29 @@ public abstract class Enemy extends MobileEntity {
 
     /**
      * Sets whether the entity should currently be idle (i.e., stop moving).
+     * Starting to idle restarts the idle timer; stopping makes the enemy
+     * wander again.
      *
      * @param isIdling {@code true} if they should be idle, {@code false}
      * otherwise.
      */
     public void setIsIdling(final boolean isIdling) {
-        this.isIdling = isIdling;
+        if (isIdling) {
+            enterState(EnemyState.IDLE);
+        } else if (state == EnemyState.IDLE) {
+            enterState(EnemyState.WANDER);
+        }
     }
 
     // ----- BUSINESS LOGIC METHODS -----
     /**
-     * Checks whether the enemy is currently able to perform an attack. This
-     * typically involves checking if the enemy is not on attack cooldown and
-     * has attack time remaining in the current wave.
+     * Checks whether the enemy is currently able to perform an attack, i.e.,
+     * it is neither attacking already nor cooling down from an attack.
      *
      * @return {@code true} if the enemy can attack, {@code false} otherwise.
      */
     public boolean canAttack() {
-        return !isOnAttackCooldown() && elapsedAttackTimeMs < attackTimerMs;
+        return state != EnemyState.ATTACK && !isOnAttackCooldown();
     }
 
     /**
@@ -268,27 +421,88 @@ public abstract class Enemy extends MobileEntity {
      * {@code false} otherwise.
      */
     public boolean isOnAttackCooldown() {
-        return elapsedAttackCooldownMs < attackCooldownMs;
+        return state == EnemyState.COOLDOWN;
     }
 
     /**
-     * Initiates an attack if the enemy is allowed to do so. The specific attack
-     * behavior is implemented by the concrete enemy subclasses. This method
-     * also manages the attack timer and cooldown.
+     * Initiates an attack if the enemy is allowed to do so. The enemy lunges
+     * straight at its target (or keeps its course if it has none) until the
+     * attack timer expires, then cools down. Returns immediately; the attack
+     * plays out over the following ticks.
      */
     public void attack() {
-        if (!canAttack()) {
-            return;
+        if (canAttack()) {
+            enterState(EnemyState.ATTACK);
         }
+    }
 
-        long attackStartTime = System.currentTimeMillis();
+    /**
+     * Checks whether the enemy's target is within its detection radius,
+     * measured from the centre of the enemy.
+     *
+     * @return {@code true} if the enemy should pursue its target.
+     */
+    public boolean detectsTarget() {
+        return isTargetWithin(detectionRadius);
+    }
 
-        while (System.currentTimeMillis() - attackStartTime < attackTimerMs) {
-            updateAttackTimer();
-            // Perform attack action specific to the enemy type
-        }
+    /**
+     * Checks whether the enemy is pursuing its target, i.e., chasing or
+     * attacking it.
+     *
+     * @return {@code true} if the enemy is pursuing its target.
+     */
+    public boolean isPursuing() {
+        return state == EnemyState.CHASE || state == EnemyState.ATTACK;
+    }
 
-        updateAttackCooldownTimer();
+    /**
+     * Returns the horizontal velocity the enemy wants: its current velocity
+     * while wandering, none while standing still (idling, noticing its target
+     * or cooling down), and the velocity it decided on while chasing or
+     * attacking.
+     *
+     * @return The desired horizontal velocity in pixels per frame.
+     */
+    public double getDesiredVelocityX() {
+        return state == EnemyState.WANDER ? velocityX : desiredVelocityX;
+    }
+
+    /**
+     * Returns the vertical velocity the enemy wants: its current velocity
+     * while wandering, none while standing still (idling, noticing its target
+     * or cooling down), and the velocity it decided on while chasing or
+     * attacking.
+     *
+     * @return The desired vertical velocity in pixels per frame (positive is
+     * up, like {@link #getVelocityY()}).
+     */
+    public double getDesiredVelocityY() {
+        return state == EnemyState.WANDER ? velocityY : desiredVelocityY;
+    }
+
+    /**
+     * Makes the enemy's decisions: moves its state machine on (see
+     * {@link EnemyStateMachine}), then acts on the resulting state. A chasing
+     * enemy updates its direction along the flow field; a wandering enemy
+     * changes direction at random now and then.
+     * <p>
+     * Deciding is more expensive than moving, so it is not done every tick;
+     * the {@link com.simcraft.managers.EnemyManager} spreads the enemies'
+     * decisions over several ticks (see {@link com.simcraft.ai.AiScheduler}).
+     * Subclasses extend it to pick the animation facing their direction.
+     */
+    public void think() {
+        EnemyState next = EnemyStateMachine.next(this, state);
+        if (next != state) {
+            enterState(next);
+        }
+        if (state == EnemyState.CHASE) {
+            updatePursuitVelocity();
+        } else if (state == EnemyState.WANDER
+                && GameRandom.stream(GameRandom.Stream.AI).nextInt(WANDER_TURN_ODDS) == 1) {
+            setRandomDirection();
+        }
     }
 
     /**
@@ -333,6 +547,7 @@ public abstract class Enemy extends MobileEntity {
      * diagonal directions.
      */
     public void setRandomDirection() {
+        SplittableRandom random = GameRandom.stream(GameRandom.Stream.AI);
         int[] directions = {-1, 0, 1};
         int vx;
         int vy;
@@ -347,95 +562,88 @@ public abstract class Enemy extends MobileEntity {
 
     // ----- OVERRIDDEN METHODS -----
     /**
-     * Compares this entity to another object for equality.
+     * Extends {@link MobileEntity#writeState} with the enemy's behaviour: its
+     * state, the ticks left in it, the velocity it decided on and whether it
+     * has hit its target.
+     *
+     * @param out The snapshot being written.
+     */
+    @Override
+    public void writeState(final GameSnapshot.Writer out) {
+        super.writeState(out);
+        out.putInt(state.ordinal())
+                .putInt(stateTicksRemaining)
+                .putDouble(desiredVelocityX)
+                .putDouble(desiredVelocityY)
+                .putBoolean(hasCollided);
+    }
+
+    /**
+     * Extends {@link MobileEntity#readState} with the enemy's behaviour.
+     *
+     * @param in The snapshot being read.
+     */
+    @Override
+    public void readState(final ByteBuffer in) {
+        super.readState(in);
+        state = EnemyState.values()[in.getInt()];
+        stateTicksRemaining = in.getInt();
+        desiredVelocityX = in.getDouble();
+        desiredVelocityY = in.getDouble();
+        hasCollided = GameSnapshot.getBoolean(in);
+    }
+
+    /**
+     * Compares this enemy to another object for equality. Enemies are only
+     * equal to themselves: their position and state machine change every tick
+     * while they are held in hash-based collections, so an equality based on
+     * them would leave those collections with stale hash codes.
      *
      * @param obj The {@link Object} to compare with.
-     * @return {@code true} if the objects are equal, {@code false} otherwise.
+     * @return {@code true} if {@code obj} is this enemy.
      */
     @Override
     public boolean equals(Object obj) {
-        if (this == obj) {
-            return true;
-        }
-        if (!(obj instanceof Enemy)) {
-            return false;
-        }
-        Enemy other = (Enemy) obj;
-        return super.equals(other)
-                && moveDelay == other.moveDelay
-                && hasCollided == other.hasCollided
-                && isAttacking() == other.isAttacking()
-                && attackCooldownMs == other.attackCooldownMs
-                && elapsedAttackCooldownMs == other.elapsedAttackCooldownMs
-                && lastUpdateTime == other.lastUpdateTime
-                && timePenalty == other.timePenalty
-                && isIdling == other.isIdling;
+        return this == obj;
     }
 
     /**
-     * Returns a hash code for this entity.
+     * Returns the identity hash code of this enemy (see
+     * {@link #equals(Object)}).
      *
-     * @return The hash code of the entity.
+     * @return The hash code of the enemy.
      */
     @Override
     public int hashCode() {
-        return Objects.hash(
-                super.hashCode(),
-                moveDelay,
-                hasCollided,
-                isAttacking(),
-                attackCooldownMs,
-                elapsedAttackCooldownMs,
-                lastUpdateTime,
-                timePenalty,
-                isIdling
-        );
+        return System.identityHashCode(this);
     }
 
     /**
-     * Updates the entity's current position based on its velocity. Also
-     * includes a chance for the enemy to randomly change direction and checks
-     * for screen boundaries, reversing the direction if necessary.
+     * Moves the enemy by its share of one velocity step for this tick (see
+     * {@link #getMoveDelay()}), after applying the same share of any pending
+     * steering. Makes no decisions (see {@link #think()}). Also checks for
+     * screen boundaries, turning the enemy back if it is heading out of the
+     * panel. An enemy outside the panel but heading in (e.g., one spawned ahead
+     * of the screen in a side-scrolling level) keeps going, so it can walk into
+     * view.
      */
     @Override
     public void move() {
-        if (moveDelay % 4 == 0) { // Control movement speed
-            super.move(); // Applies screen-coordinates adjusted movement
-
-            // Chance to change direction randomly
-            if (random.nextInt(50) == 1) {
-                setRandomDirection();
-            }
-
-            // Boundary check & direction reversal
-            if (!isFullyWithinPanel()) {
-                correctPosition();
-                reverseMovementDirection();
-            }
-        }
-        moveDelay++;
+        advance(1.0 / moveDelay);
+        bounceOffPanelEdges();
     }
 
     /**
-     * Updates the state of the enemy, including any specific behaviors like
-     * attacking or idling.
+     * Updates the enemy for one tick: moves it and counts down the timer of
+     * its current state. The state itself only changes when the enemy
+     * {@link #think() thinks}.
      */
     @Override
     public void update() {
         super.update();
-        // lastUpdateTime = System.currentTimeMillis(); // Moved to specific update methods
-        // attack(); // Attack logic should be triggered based on game state, not just update
-    }
-
-    /**
-     * Ensures the enemy remains within the bounds of its containing panel. If
-     * the enemy reaches a vertical boundary, its vertical velocity is reversed,
-     * creating a bouncing effect.
-     */
-    @Override
-    protected void correctPosition() {
-        super.correctPosition(); // Use inherited boundary correction
-        verticalScreenBounce(); // Add vertical bouncing behavior
+        if (stateTicksRemaining > 0) {
+            stateTicksRemaining--;
+        }
     }
 
     /**
@@ -458,43 +666,157 @@ public abstract class Enemy extends MobileEntity {
 
     // ---- HELPER METHODS -----
     /**
-     * Reverses the enemy's vertical velocity if it reaches the top or bottom
-     * boundary of the screen, creating a bounce effect.
+     * Switches to an animation unless it is already playing, so that the
+     * animation is not restarted on every decision.
+     *
+     * @param key The key of the animation.
      */
-    private void verticalScreenBounce() {
-        int panelHeight = panel.getHeight();
-        int spriteHeight = getSpriteHeight();
+    protected void faceAnimation(final String key) {
+        if (!key.equals(getCurrentAnimationKey())) {
+            setAnimation(key);
+        }
+    }
 
-        if (position.y <= 0 || position.y >= panelHeight - spriteHeight) {
-            velocityY = -velocityY; // Reverse direction
-            position.y = Math.max(0, Math.min(position.y, panelHeight - spriteHeight)); // Keep within bounds
+    /**
+     * Sets the desired velocity along the flow field at the enemy's cell, at
+     * the enemy's speed. Keeps the current velocity in the target's own cell,
+     * where the field has no direction.
+     */
+    private void updatePursuitVelocity() {
+        Rectangle bounds = getBounds();
+        double centreX = worldX + bounds.width / 2.0;
+        double centreY = worldY + bounds.height / 2.0;
+        int directionX = flowField.getDirectionX(centreX, centreY);
+        int directionY = flowField.getDirectionY(centreX, centreY);
+        if (directionX == 0 && directionY == 0) {
+            desiredVelocityX = velocityX;
+            desiredVelocityY = velocityY;
+            return;
         }
+        double stepSpeed = directionX != 0 && directionY != 0 ? getSpeed() / Math.sqrt(2) : getSpeed();
+        desiredVelocityX = directionX * stepSpeed;
+        // The field points down the screen for positive y, the velocity up
+        desiredVelocityY = -directionY * stepSpeed;
     }
 
     /**
-     * Updates the attack cooldown timer by calculating the elapsed time since
-     * the last update. If the cooldown period has passed, the elapsed cooldown
-     * time is reset.
+     * Reverses the enemy's velocity on each axis along which it is crossing an
+     * edge of the panel outwards, creating a bounce effect. Only the direction
+     * changes: the position is left to the world coordinates, which
+     * {@link #move()} maps onto the screen.
      */
-    private void updateAttackCooldownTimer() {
-        long currentTime = System.currentTimeMillis();
-        elapsedAttackCooldownMs += currentTime - (lastUpdateTime > 0 ? lastUpdateTime : currentTime);
-        lastUpdateTime = currentTime;
+    private void bounceOffPanelEdges() {
+        Rectangle bounds = getBounds();
+        if ((bounds.x < 0 && velocityX < 0) || (bounds.x + bounds.width > panel.getWidth() && velocityX > 0)) {
+            velocityX = -velocityX;
+        }
+        // A positive vertical velocity moves the enemy up the screen
+        if ((bounds.y < 0 && velocityY > 0) || (bounds.y + bounds.height > panel.getHeight() && velocityY < 0)) {
+            velocityY = -velocityY;
+        }
+    }
 
-        // Reset if cooldown has passed
-        if (elapsedAttackCooldownMs >= attackCooldownMs) {
-            elapsedAttackCooldownMs = 0;
+    /**
+     * Evaluates a condition of the state machine's transition table for this
+     * enemy.
+     *
+     * @param condition The condition.
+     * @return {@code true} if the condition holds.
+     */
+    boolean holds(final EnemyStateMachine.Condition condition) {
+        return switch (condition) {
+            case TARGET_DETECTED ->
+                flowField != null && detectsTarget();
+            case TARGET_LOST ->
+                flowField == null || !isTargetWithin(detectionRadius * TARGET_LOST_FACTOR);
+            case TARGET_IN_ATTACK_RANGE ->
+                isTargetWithin(attackRange);
+            case TIMER_EXPIRED ->
+                stateTicksRemaining == 0;
+            case IDLE_CHANCE ->
+                GameRandom.stream(GameRandom.Stream.AI).nextDouble() < chanceToIdle;
+        };
+    }
+
+    /**
+     * Switches the enemy to a state, starting the state's timer and deciding
+     * the velocity it wants on entry.
+     *
+     * @param next The state to enter.
+     */
+    private void enterState(final EnemyState next) {
+        state = next;
+        desiredVelocityX = 0;
+        desiredVelocityY = 0;
+        stateTicksRemaining = switch (next) {
+            case IDLE ->
+                toTicks(idleDuration);
+            case DETECT ->
+                toTicks(DETECT_REACTION_MS);
+            case ATTACK ->
+                toTicks(attackTimerMs);
+            case COOLDOWN ->
+                toTicks(attackCooldownMs);
+            case WANDER, CHASE ->
+                0;
+        };
+        if (next == EnemyState.WANDER && Math.hypot(velocityX, velocityY) < getSpeed() / 2.0) {
+            // Set off again after standing still, or nearly so
+            setRandomDirection();
+        } else if (next == EnemyState.ATTACK) {
+            updateLungeVelocity();
+        }
+    }
+
+    /**
+     * Checks whether the enemy's target is within a distance of the enemy's
+     * centre.
+     *
+     * @param distance The distance in pixels.
+     * @return {@code true} if the enemy has a target within the distance.
+     */
+    private boolean isTargetWithin(final double distance) {
+        if (target == null) {
+            return false;
         }
+        Rectangle bounds = getBounds();
+        double dx = target.x - bounds.getCenterX();
+        double dy = target.y - bounds.getCenterY();
+        return dx * dx + dy * dy <= distance * distance;
     }
 
     /**
-     * Updates the attack timer by calculating the elapsed time since the last
-     * update.
+     * Sets the desired velocity straight at the target, at the enemy's speed,
+     * for the length of an attack. Keeps the current velocity if the enemy
+     * has no target or is right on top of it.
+     */
+    private void updateLungeVelocity() {
+        desiredVelocityX = velocityX;
+        desiredVelocityY = velocityY;
+        if (target == null) {
+            return;
+        }
+        Rectangle bounds = getBounds();
+        double dx = target.x - bounds.getCenterX();
+        double dy = target.y - bounds.getCenterY();
+        double distance = Math.hypot(dx, dy);
+        if (distance == 0) {
+            return;
+        }
+        desiredVelocityX = dx / distance * getSpeed();
+        // The screen's y-axis points down, the velocity's up
+        desiredVelocityY = -dy / distance * getSpeed();
+    }
+
+    /**
+     * Converts a duration into a number of game ticks, rounding up so that a
+     * timer never expires early.
+     *
+     * @param durationMs The duration in milliseconds.
+     * @return The number of ticks, at least 1.
      */
-    private void updateAttackTimer() {
-        long currentTime = System.currentTimeMillis();
-        elapsedAttackTimeMs += currentTime - (lastUpdateTime > 0 ? lastUpdateTime : currentTime);
-        lastUpdateTime = currentTime;
+    private static int toTicks(final long durationMs) {
+        return (int) Math.max(1, (durationMs + FRAME_RATE_MS - 1) / FRAME_RATE_MS);
     }
 
     // ----- STATIC BUILDER FOR ENEMY -----
@@ -0,0 +1,34 @@
+package com.simcraft.entities.enemies;
+
+/**
+ * The behaviour states of an {@link Enemy}. Which state follows which is laid
+ * out in {@link EnemyStateMachine}.
+ */
+public enum EnemyState {
+    /**
+     * Walking about, occasionally turning at random.
+     */
+    WANDER,
+    /**
+     * Standing still for a while.
+     */
+    IDLE,
+    /**
+     * Has just noticed the target, and stops for a moment before giving
+     * chase.
+     */
+    DETECT,
+    /**
+     * Pursuing the target along the flow field.
+     */
+    CHASE,
+    /**
+     * Lunging straight at the target, committed to its direction until the
+     * attack ends.
+     */
+    ATTACK,
+    /**
+     * Catching its breath after an attack, standing still.
+     */
+    COOLDOWN
+}
@@ -0,0 +1,110 @@
+package com.simcraft.entities.enemies;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The transition table of the {@link Enemy} behaviour state machine.
+ * <p>
+ * Each {@link EnemyState} lists the conditions that end it, in order of
+ * priority, with the state each leads to:
+ * <pre>
+ * WANDER   --target detected--&gt; DETECT, --idle chance--&gt; IDLE
+ * IDLE     --target detected--&gt; DETECT, --timer expired--&gt; WANDER
+ * DETECT   --target lost--&gt; WANDER,     --timer expired--&gt; CHASE
+ * CHASE    --target lost--&gt; WANDER,     --target in attack range--&gt; ATTACK
+ * ATTACK   --timer expired--&gt; COOLDOWN
+ * COOLDOWN --timer expired--&gt; WANDER
+ * </pre>
+ * Timers count game ticks, so nothing in the state machine ever waits or
+ * blocks.
+ */
+final class EnemyStateMachine {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The transitions out of each state, in order of priority.
+     */
+    private static final Map<EnemyState, List<Transition>> TRANSITIONS = new EnumMap<>(Map.of(
+            EnemyState.WANDER, List.of(
+                    new Transition(Condition.TARGET_DETECTED, EnemyState.DETECT),
+                    new Transition(Condition.IDLE_CHANCE, EnemyState.IDLE)),
+            EnemyState.IDLE, List.of(
+                    new Transition(Condition.TARGET_DETECTED, EnemyState.DETECT),
+                    new Transition(Condition.TIMER_EXPIRED, EnemyState.WANDER)),
+            EnemyState.DETECT, List.of(
+                    new Transition(Condition.TARGET_LOST, EnemyState.WANDER),
+                    new Transition(Condition.TIMER_EXPIRED, EnemyState.CHASE)),
+            EnemyState.CHASE, List.of(
+                    new Transition(Condition.TARGET_LOST, EnemyState.WANDER),
+                    new Transition(Condition.TARGET_IN_ATTACK_RANGE, EnemyState.ATTACK)),
+            EnemyState.ATTACK, List.of(
+                    new Transition(Condition.TIMER_EXPIRED, EnemyState.COOLDOWN)),
+            EnemyState.COOLDOWN, List.of(
+                    new Transition(Condition.TIMER_EXPIRED, EnemyState.WANDER))
+    ));
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private EnemyStateMachine() {
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Returns the state an enemy moves to: the target of the first
+     * transition out of its current state whose condition holds.
+     *
+     * @param enemy The enemy, which evaluates the conditions.
+     * @param current The enemy's current state.
+     * @return The next state, or {@code current} if no condition holds.
+     */
+    static EnemyState next(final Enemy enemy, final EnemyState current) {
+        for (Transition transition : TRANSITIONS.get(current)) {
+            if (enemy.holds(transition.condition())) {
+                return transition.target();
+            }
+        }
+        return current;
+    }
+
+    // ----- NESTED TYPES -----
+    /**
+     * The conditions that trigger transitions, evaluated by
+     * {@link Enemy#holds(Condition)}.
+     */
+    enum Condition {
+        /**
+         * The target is within the detection radius, and there is a flow
+         * field to chase it along.
+         */
+        TARGET_DETECTED,
+        /**
+         * The target has moved well beyond the detection radius.
+         */
+        TARGET_LOST,
+        /**
+         * The target is within attack range.
+         */
+        TARGET_IN_ATTACK_RANGE,
+        /**
+         * The current state's timer has run out.
+         */
+        TIMER_EXPIRED,
+        /**
+         * A random roll against the enemy's chance to idle succeeded.
+         */
+        IDLE_CHANCE
+    }
+
+    /**
+     * One row of the transition table.
+     *
+     * @param condition The condition that triggers the transition.
+     * @param target The state the transition leads to.
+     */
+    private record Transition(Condition condition, EnemyState target) {
+    }
+}
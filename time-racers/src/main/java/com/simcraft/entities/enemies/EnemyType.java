@@ -0,0 +1,96 @@
+package com.simcraft.entities.enemies;
+
+import javax.swing.JPanel;
+
+/**
+ * The kinds of {@link Enemy} that can be spawned, each with a spawn cost.
+ * <p>
+ * The cost is what an enemy takes out of a spawn wave's budget (see
+ * {@link com.simcraft.levels.SpawnWave}). It roughly follows how much trouble
+ * the enemy causes the player: faster enemies with larger time penalties cost
+ * more, so a wave of a given budget is about equally hard whatever its mix.
+ */
+public enum EnemyType {
+    /**
+     * A {@link Lecturer}: medium speed, small time penalty.
+     */
+    LECTURER(1),
+    /**
+     * A {@link Student}: slow, medium time penalty.
+     */
+    STUDENT(2),
+    /**
+     * A {@link Yapper}: fast, large time penalty.
+     */
+    YAPPER(3);
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The budget spent when spawning an enemy of this type.
+     */
+    private final int cost;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Constructs an {@code EnemyType}.
+     *
+     * @param cost The spawn cost. Must be positive.
+     */
+    EnemyType(final int cost) {
+        this.cost = cost;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the budget spent when spawning an enemy of this type.
+     *
+     * @return The spawn cost.
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * Returns the type of an enemy.
+     *
+     * @param enemy The enemy.
+     * @return The type whose {@link #create(JPanel)} builds enemies of the
+     * same class.
+     * @throws IllegalArgumentException If the enemy is of a class without a
+     * type.
+     */
+    public static EnemyType of(final Enemy enemy) {
+        return switch (enemy) {
+            case Lecturer lecturer ->
+                LECTURER;
+            case Student student ->
+                STUDENT;
+            case Yapper yapper ->
+                YAPPER;
+            default ->
+                throw new IllegalArgumentException(String.format(
+                        "%s: No enemy type for %s.",
+                        EnemyType.class.getName(),
+                        enemy.getClass().getName()
+                ));
+        };
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Builds a new enemy of this type with the builder's defaults.
+     *
+     * @param panel The {@link JPanel} that will contain the enemy.
+     * @return The new enemy.
+     */
+    public Enemy create(final JPanel panel) {
+        return switch (this) {
+            case LECTURER ->
+                new Lecturer.LecturerBuilder(panel).build();
+            case STUDENT ->
+                new Student.StudentBuilder(panel).build();
+            case YAPPER ->
+                new Yapper.YapperBuilder(panel).build();
+        };
+    }
+}
@@ -46,13 +46,13 @@ public class Lecturer extends Enemy {
 
     // ----- OVERRIDDEN METHODS -----
     /**
-     * Extends {@link Enemy#move()} to update the lecturer's animation based on
+     * Extends {@link Enemy#think()} to update the lecturer's animation based on
      * their current movement direction. It prioritizes vertical movement if
      * it's significantly larger than horizontal movement.
      */
     @Override
-    public void move() {
-        super.move();
+    public void think() {
+        super.think();
 
         double vx = getVelocityX();
         double vy = getVelocityY();
@@ -35,17 +35,18 @@ public class Student extends Enemy {
         setAnimation("female_student_walk_down");
 
         setSpeed(3); // Slow speed
+        setDetectionRadius(150); // Rarely notices Ali
         setTimePenalty(5);
     }
 
     // ----- OVERRIDDEN METHODS -----
     /**
-     * Extends {@link Enemy#move()} to update the student's animation based on
+     * Extends {@link Enemy#think()} to update the student's animation based on
      * their current movement direction.
      */
     @Override
-    public void move() {
-        super.move();
+    public void think() {
+        super.think();
 
         double vx = getVelocityX();
         double vy = getVelocityY();
@@ -54,15 +55,15 @@ public class Student extends Enemy {
         if (Math.abs(vx) > threshold || Math.abs(vy) > threshold) {
             if (Math.abs(vx) > Math.abs(vy)) {
                 if (vx > 0) {
-                    setAnimation("female_student_walk_right");
+                    faceAnimation("female_student_walk_right");
                 } else if (vx < 0) {
-                    setAnimation("female_student_walk_left");
+                    faceAnimation("female_student_walk_left");
                 }
             } else {
                 if (vy > 0) {
-                    setAnimation("female_student_walk_down");
+                    faceAnimation("female_student_walk_down");
                 } else if (vy < 0) {
-                    setAnimation("female_student_walk_up");
+                    faceAnimation("female_student_walk_up");
                 }
             }
         }
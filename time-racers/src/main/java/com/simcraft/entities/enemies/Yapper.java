@@ -35,17 +35,18 @@ public class Yapper extends Enemy {
         setAnimation("yapper_walk_down");
 
         setSpeed(5); // Fast, though slightly slower than Ali to allow him to get away.
+        setDetectionRadius(260); // Spots Ali from afar
         setTimePenalty(10);
     }
 
     // ----- OVERRIDDEN METHODS -----
     /**
-     * Extends {@link Enemy#move()} to update the yapper's animation based on
+     * Extends {@link Enemy#think()} to update the yapper's animation based on
      * their current movement direction.
      */
     @Override
-    public void move() {
-        super.move();
+    public void think() {
+        super.think();
 
         double vx = getVelocityX();
         double vy = getVelocityY();
@@ -54,15 +55,15 @@ public class Yapper extends Enemy {
         if (Math.abs(vx) > threshold || Math.abs(vy) > threshold) {
             if (Math.abs(vx) > Math.abs(vy)) {
                 if (vx > 0) {
-                    setAnimation("yapper_walk_right");
+                    faceAnimation("yapper_walk_right");
                 } else if (vx < 0) {
-                    setAnimation("yapper_walk_left");
+                    faceAnimation("yapper_walk_left");
                 }
             } else {
                 if (vy > 0) {
-                    setAnimation("yapper_walk_down");
+                    faceAnimation("yapper_walk_down");
                 } else if (vy < 0) {
-                    setAnimation("yapper_walk_up");
+                    faceAnimation("yapper_walk_up");
                 }
             }
         }
@@ -1,16 +1,17 @@
 package com.simcraft.graphics;
 
-import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.nio.file.Path;
 
 import javax.swing.JFrame;
 import javax.swing.Timer;
 import javax.swing.WindowConstants;
 
 import static com.simcraft.App.FRAME_RATE_MS;
-import com.simcraft.graphics.animations.AnimationLoader;
 import com.simcraft.graphics.screens.AbstractScreen;
 import com.simcraft.graphics.screens.WelcomeScreen;
+import com.simcraft.managers.AssetPreloader;
 
 /**
  * GameFrame serves as the primary window and core rendering engine for the
@@ -22,14 +23,15 @@ import com.simcraft.graphics.screens.WelcomeScreen;
  * panels</li>
  * <li>Managing the game loop via a {@link Timer}, which handles updates and
  * rendering</li>
- * <li>Implementing double buffering with a {@link BufferedImage} back buffer
- * for smooth graphics</li>
+ * <li>Repainting the current screen once per tick; Swing's own double
+ * buffering keeps the graphics smooth</li>
  * <li>Dynamically swapping active screens through the {@code setScreen()}
  * method</li>
  * </ul>
  *
- * GameFrame initializes by loading default animations and presenting the
- * {@link WelcomeScreen}. It provides methods to update game logic, render
+ * GameFrame initializes by starting the {@link AssetPreloader} in the
+ * background and immediately presenting the {@link WelcomeScreen}, which shows
+ * the loading progress. It provides methods to update game logic, render
  * frames, and stop the game loop when needed.
  *
  * This class is the central hub of the game's visual and logical flow, and
@@ -37,7 +39,7 @@ import com.simcraft.graphics.screens.WelcomeScreen;
  *
  * @see AbstractScreen
  * @see com.simcraft.graphics.screens.WelcomeScreen
- * @see AnimationLoader
+ * @see AssetPreloader
  */
 public final class GameFrame extends JFrame {
 
@@ -59,18 +61,10 @@ public final class GameFrame extends JFrame {
     private final Timer gameLoopTimer;
 
     /**
-     * The off-screen image used for double buffering to reduce flickering
-     * during rendering. All graphics are first drawn to this back buffer, then
-     * painted onto the screen.
+     * Loads animations, sounds and start-up images in the background while the
+     * welcome screen is displayed.
      */
-    private final transient BufferedImage backBuffer;
-
-    /**
-     * The {@link Graphics2D} context used to draw onto the back buffer.
-     * Reacquired each frame to ensure it references the current back buffer
-     * state.
-     */
-    private transient Graphics2D g2d;
+    private final transient AssetPreloader assetPreloader;
 
     /**
      * The currently active screen (e.g. menu, game, pause) being displayed and
@@ -78,6 +72,12 @@ public final class GameFrame extends JFrame {
      */
     private AbstractScreen currentScreen;
 
+    /**
+     * The file each gameplay session's input is recorded to, or {@code null}
+     * if sessions are not recorded.
+     */
+    private final transient Path inputRecordingPath;
+
     // ----- CONSTRUCTORS -----
     /**
      * Constructor to initialize the game frame, set the size, title, and add
@@ -85,26 +85,47 @@ public final class GameFrame extends JFrame {
      * instance and sets the blaster and bubble panels.
      */
     public GameFrame() {
+        this(null);
+    }
+
+    /**
+     * Constructs a game frame that records the input of each gameplay session
+     * to a file, replacing the previous session's recording (see
+     * {@link com.simcraft.input.InputRecorder}).
+     *
+     * @param inputRecordingPath The file to record to, or {@code null} to not
+     * record.
+     */
+    public GameFrame(final Path inputRecordingPath) {
+        this.inputRecordingPath = inputRecordingPath;
+
         // ----- WINDOW SETUP ----- 
         setTitle("Professor Punctual");
         setSize(FRAME_WIDTH, FRAME_HEIGHT);
         setResizable(false);
         setLocationRelativeTo(null);  // Center the window on screen
         setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                // Let the screen finish what it is writing (e.g., an input recording) before exiting
+                if (currentScreen != null) {
+                    currentScreen.cleanup();
+                }
+            }
+        });
 
         // ----- GAME INITIALIZATION ----- 
-        AnimationLoader.loadAnimationsFromJson();
+        // Assets load off the Event Dispatch Thread so the first frame is not delayed
+        assetPreloader = new AssetPreloader();
+        assetPreloader.start();
         setScreen(new WelcomeScreen(this));
 
-        // ----- RENDERING SETUP -----
-        // Initialize double buffering
-        backBuffer = new BufferedImage(FRAME_WIDTH, FRAME_HEIGHT, BufferedImage.TYPE_INT_ARGB);
-        g2d = backBuffer.createGraphics();
-
         // ----- GAME LOOP ----- 
+        // The screen, its child panels and its screen effects are painted in
+        // one pass by Swing (see AbstractScreen#paint)
         gameLoopTimer = new Timer((int) FRAME_RATE_MS, e -> {
             updateGame();
-            renderGame();
             currentScreen.repaint();
         });
         gameLoopTimer.start();
@@ -113,15 +134,24 @@ public final class GameFrame extends JFrame {
         setVisible(true);
     }
 
+    // ----- GETTERS -----
     /**
-     * Paints the back buffer onto the JFrame.
+     * Returns the file each gameplay session's input is recorded to.
+     *
+     * @return The recording path, or {@code null} if sessions are not
+     * recorded.
      */
-    @Override
-    public void paint(java.awt.Graphics g) {
-        super.paint(g);
-        if (backBuffer != null) {
-            g.drawImage(backBuffer, 0, 0, this);
-        }
+    public Path getInputRecordingPath() {
+        return inputRecordingPath;
+    }
+
+    /**
+     * Returns the preloader loading the game's start-up assets.
+     *
+     * @return The {@link AssetPreloader}.
+     */
+    public AssetPreloader getAssetPreloader() {
+        return assetPreloader;
     }
 
     /**
@@ -155,19 +185,6 @@ public final class GameFrame extends JFrame {
         }
     }
 
-    /**
-     * Renders the game onto the back buffer.
-     */
-    private void renderGame() {
-        if (backBuffer == null || currentScreen == null) {
-            return;
-        }
-
-        g2d = backBuffer.createGraphics();
-        g2d.clearRect(0, 0, FRAME_WIDTH, FRAME_HEIGHT);
-        currentScreen.safeRender(g2d);
-    }
-
     /**
      * Stops game loop.
      */
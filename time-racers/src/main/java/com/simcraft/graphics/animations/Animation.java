@@ -4,6 +4,7 @@ import java.awt.Image;
 import java.util.ArrayList;
 
 import com.simcraft.graphics.screens.subpanels.GamePanel;
+import com.simcraft.utility.GameClock;
 
 /**
  * The {@code Animation} class manages a sequence of images (frames) to create
@@ -93,7 +94,7 @@ public class Animation {
         isActive = true;
         animTime = 0;
         currFrameIndex = 0;
-        startTime = System.currentTimeMillis();
+        startTime = GameClock.currentTimeMillis();
     }
 
     /**
@@ -117,7 +118,7 @@ public class Animation {
             return;
         }
 
-        long currTime = System.currentTimeMillis();
+        long currTime = GameClock.currentTimeMillis();
         long elapsedTime = currTime - startTime;
         startTime = currTime;
 
@@ -4,6 +4,7 @@ import java.awt.image.BufferedImage;
 import java.util.Objects;
 
 import com.simcraft.interfaces.Updateable;
+import com.simcraft.utility.GameClock;
 
 /**
  * Represents an individual animation instance for an entity. Each instance has
@@ -141,7 +142,7 @@ public class AnimationInstance implements Updateable {
     public final void init() {
         currentFrameIndex = 0;
         elapsedFrameTime = 0;
-        lastUpdateTime = System.currentTimeMillis();
+        lastUpdateTime = GameClock.currentTimeMillis();
         isPlaying = false;
     }
 
@@ -174,7 +175,7 @@ public class AnimationInstance implements Updateable {
             return;
         }
 
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.currentTimeMillis();
         elapsedFrameTime += currentTime - lastUpdateTime;
         lastUpdateTime = currentTime;
 
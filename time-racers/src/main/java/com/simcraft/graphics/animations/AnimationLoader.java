@@ -29,7 +29,7 @@ public class AnimationLoader {
      * Base folder where animation image assets are located within the
      * resources.
      */
-    private static final String ANIMATION_FOLDER = "/images/animations/";
+    public static final String ANIMATION_FOLDER = "/images/animations/";
 
     /**
      * The base duration of one frame in milliseconds, calculated based on the
@@ -115,57 +115,90 @@ public class AnimationLoader {
      * (rows and columns), a frame time multiplier, and whether the animation
      * should loop.
      * <p>
-     * For each valid animation configuration, this method loads the frames from
-     * the corresponding sprite sheet using
-     * {@link #loadFromSpriteSheet(String, int, int, long)}, creates an
-     * {@link AnimationTemplate}, and registers it with the
-     * {@link AnimationManager} using the base file name (without extension) as
-     * the key.
-     *
-     * @throws JsonProcessingException If the {@code animations_config.json}
-     * file contains invalid JSON format.
-     * @throws IOException If an error occurs while reading the
-     * {@code animations_config.json} file or any of the sprite sheet images.
+     * Each configuration is loaded with {@link #loadAnimation(AnimationConfig)}.
+     * Animations that are already registered with the {@link AnimationManager}
+     * (e.g., by the asset preloader) are skipped, so calling this method again
+     * is cheap.
      */
     public static void loadAnimationsFromJson() {
         try {
-            ObjectMapper mapper = new ObjectMapper();
+            for (AnimationConfig config : readAnimationConfigs()) {
+                if (AnimationManager.getInstance().getAnimation(getAnimationKey(config)) == null) {
+                    loadAnimation(config);
+                }
+            }
+        } catch (JsonProcessingException e) {
+            System.err.println("Invalid JSON format in animations_config.json: " + e.getMessage());
+        } catch (IOException e) {
+            System.err.println("Failed to load animations: " + e.getMessage());
+        }
+    }
 
-            // Load the JSON configuration file
-            InputStream input = AnimationLoader.class.getResourceAsStream("/images/animations/animations_config.json");
+    /**
+     * Reads the list of animation configurations from
+     * {@code animations_config.json}.
+     *
+     * @return The animation configurations, in file order.
+     * @throws JsonProcessingException If the file contains invalid JSON.
+     * @throws IOException If the file cannot be found or read.
+     */
+    public static List<AnimationConfig> readAnimationConfigs() throws IOException {
+        try (InputStream input = AnimationLoader.class.getResourceAsStream(ANIMATION_FOLDER + "animations_config.json")) {
             if (input == null) {
                 throw new IOException("animations_config.json not found in " + ANIMATION_FOLDER);
             }
-
-            List<AnimationConfig> configs = mapper.readValue(input, new TypeReference<List<AnimationConfig>>() {
+            return new ObjectMapper().readValue(input, new TypeReference<List<AnimationConfig>>() {
             });
+        }
+    }
 
-            for (AnimationConfig config : configs) {
-                // Load frames from the sprite sheet
-                List<AnimationFrame> frames = AnimationLoader.loadFromSpriteSheet(
-                        ANIMATION_FOLDER + config.fileName(),
-                        config.numRows(),
-                        config.numColumns(),
-                        (long) (config.frameTimeMultiplier() * BASE_FRAME_TIME_MS)
-                );
+    /**
+     * Loads the frames of a single animation from its sprite sheet, creates an
+     * {@link AnimationTemplate} and registers it with the
+     * {@link AnimationManager} under {@link #getAnimationKey(AnimationConfig)}.
+     * Safe to call from any thread.
+     *
+     * @param config The configuration of the animation to load.
+     * @throws IOException If the sprite sheet cannot be loaded.
+     */
+    public static void loadAnimation(final AnimationConfig config) throws IOException {
+        // Load frames from the sprite sheet
+        List<AnimationFrame> frames = AnimationLoader.loadFromSpriteSheet(
+                ANIMATION_FOLDER + config.fileName(),
+                config.numRows(),
+                config.numColumns(),
+                getFrameDurationMs(config)
+        );
 
-                // Create an AnimationTemplate
-                AnimationTemplate animationTemplate = new AnimationTemplate(frames, config.isLooping());
+        // Create an AnimationTemplate and add it to the AnimationManager
+        AnimationTemplate animationTemplate = new AnimationTemplate(frames, config.isLooping());
+        String animationKey = getAnimationKey(config);
+        AnimationManager.getInstance().addAnimation(animationKey, animationTemplate);
 
-                // Generate a unique key from the file name
-                String fileNameOnly = java.nio.file.Paths.get(config.fileName()).getFileName().toString();
-                String animationKey = fileNameOnly.substring(0, fileNameOnly.lastIndexOf('.'));
+        System.out.printf("Loaded animation <%s> with <%d> frames.%n", animationKey, frames.size());
+    }
 
-                // Add the animation to the AnimationManager
-                AnimationManager.getInstance().addAnimation(animationKey, animationTemplate);
+    /**
+     * Returns the display duration of each frame of an animation: the base
+     * frame time scaled by the animation's frame time multiplier.
+     *
+     * @param config The animation configuration.
+     * @return The frame duration in milliseconds.
+     */
+    public static long getFrameDurationMs(final AnimationConfig config) {
+        return (long) (config.frameTimeMultiplier() * BASE_FRAME_TIME_MS);
+    }
 
-                System.out.printf("Loaded animation <%s> with <%d> frames.%n", animationKey, frames.size());
-            }
-        } catch (JsonProcessingException e) {
-            System.err.println("Invalid JSON format in animations_config.json: " + e.getMessage());
-        } catch (IOException e) {
-            System.err.println("Failed to load animations: " + e.getMessage());
-        }
+    /**
+     * Returns the key an animation is registered under: the base name of its
+     * sprite sheet file, without extension.
+     *
+     * @param config The animation configuration.
+     * @return The animation key.
+     */
+    public static String getAnimationKey(final AnimationConfig config) {
+        String fileNameOnly = java.nio.file.Paths.get(config.fileName()).getFileName().toString();
+        return fileNameOnly.substring(0, fileNameOnly.lastIndexOf('.'));
     }
 
     // ----- HELPER METHODS -----
@@ -0,0 +1,213 @@
+package com.simcraft.graphics.compositing;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.simcraft.interfaces.ScreenEffect;
+
+/**
+ * Applies a stack of {@link ScreenEffect}s (fades, wipes, flashes) to a
+ * finished frame in a single pass.
+ * <p>
+ * Each screen owns one compositor. Effects are pushed onto it when they start
+ * and are dropped automatically once they finish. At the end of every frame
+ * {@link #composite(Graphics2D, int, int)} folds the full-screen tints of all
+ * active effects into one colour and fills it once, then draws any remaining
+ * overlays. Stacking several effects therefore costs one fill instead of one
+ * per effect, and no per-frame {@link AlphaComposite} or {@link Color} objects
+ * are created.
+ */
+public class ScreenCompositor {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * Number of distinct alpha levels cached by {@link #alphaComposite(float)}.
+     */
+    private static final int ALPHA_LEVELS = 256;
+
+    /**
+     * Pre-built source-over composites for every 8-bit alpha level, shared by
+     * all compositors and by any rendering code that needs a translucent
+     * composite.
+     */
+    private static final AlphaComposite[] ALPHA_COMPOSITES = new AlphaComposite[ALPHA_LEVELS];
+
+    static {
+        for (int i = 0; i < ALPHA_LEVELS; i++) {
+            ALPHA_COMPOSITES[i] = AlphaComposite.SrcOver.derive(i / (float) (ALPHA_LEVELS - 1));
+        }
+    }
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The effects currently stacked on this compositor, in the order they were
+     * pushed (bottom first).
+     */
+    private final List<ScreenEffect> effects = new ArrayList<>();
+
+    /**
+     * The colour used for the most recent folded tint, kept so that it only
+     * needs to be recreated when the tint actually changes.
+     */
+    private Color tintColour = new Color(0, true);
+
+    // ----- GETTERS -----
+    /**
+     * Returns a cached source-over {@link AlphaComposite} for the given
+     * opacity, quantised to 8 bits.
+     *
+     * @param alpha The opacity, from {@code 0.0} (transparent) to {@code 1.0}
+     * (opaque). Values outside that range are clamped.
+     * @return The shared composite for that opacity.
+     */
+    public static AlphaComposite alphaComposite(final float alpha) {
+        int level = Math.round(Math.max(0.0f, Math.min(1.0f, alpha)) * (ALPHA_LEVELS - 1));
+        return ALPHA_COMPOSITES[level];
+    }
+
+    /**
+     * Checks whether any effect is currently stacked on this compositor.
+     *
+     * @return {@code true} if at least one effect is stacked.
+     */
+    public boolean hasEffects() {
+        return !effects.isEmpty();
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Pushes an effect onto the top of the stack. The effect is not started by
+     * this call; it is drawn only while {@link ScreenEffect#isEffectActive()}
+     * returns {@code true}. Pushing an effect that is already stacked has no
+     * effect.
+     *
+     * @param effect The effect to push.
+     * @throws NullPointerException If {@code effect} is null.
+     */
+    public void push(final ScreenEffect effect) {
+        if (effect == null) {
+            throw new NullPointerException(String.format(
+                    "%s: Cannot push a null screen effect.",
+                    this.getClass().getName()
+            ));
+        }
+        if (!effects.contains(effect)) {
+            effects.add(effect);
+        }
+    }
+
+    /**
+     * Removes an effect from the stack.
+     *
+     * @param effect The effect to remove.
+     */
+    public void remove(final ScreenEffect effect) {
+        effects.remove(effect);
+    }
+
+    /**
+     * Removes every effect from the stack.
+     */
+    public void clear() {
+        effects.clear();
+    }
+
+    /**
+     * Advances every stacked effect by one update and drops effects that have
+     * finished. Effects may push further effects from their completion
+     * callbacks; those are kept.
+     */
+    public void update() {
+        for (int i = 0; i < effects.size(); i++) {
+            effects.get(i).updateEffect();
+        }
+        effects.removeIf(ScreenEffect::isEffectFinished);
+    }
+
+    /**
+     * Applies all active effects to a finished frame. Tints are folded into a
+     * single fill using source-over blending, then overlays are drawn in stack
+     * order. The graphics context's colour and composite are restored
+     * afterwards.
+     *
+     * @param g2d The {@link Graphics2D} context of the finished frame.
+     * @param width The width of the frame in pixels.
+     * @param height The height of the frame in pixels.
+     */
+    public void composite(final Graphics2D g2d, final int width, final int height) {
+        if (effects.isEmpty()) {
+            return;
+        }
+
+        Color originalColour = g2d.getColor();
+        Composite originalComposite = g2d.getComposite();
+
+        fillFoldedTint(g2d, width, height);
+        for (int i = 0; i < effects.size(); i++) {
+            ScreenEffect effect = effects.get(i);
+            if (effect.isEffectActive()) {
+                effect.drawOverlay(g2d, width, height);
+            }
+        }
+
+        g2d.setComposite(originalComposite);
+        g2d.setColor(originalColour);
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Folds the tints of all active effects into one colour and fills the
+     * frame with it. Drawing tints {@code c1..cn} one after another with
+     * source-over is equivalent to drawing a single colour whose alpha is
+     * {@code 1 - Π(1 - ai)} and whose premultiplied channels are accumulated
+     * the same way, so the result matches drawing each tint individually.
+     *
+     * @param g2d The graphics context to fill.
+     * @param width The width of the frame.
+     * @param height The height of the frame.
+     */
+    private void fillFoldedTint(final Graphics2D g2d, final int width, final int height) {
+        float transmittance = 1.0f;
+        float red = 0.0f;
+        float green = 0.0f;
+        float blue = 0.0f;
+
+        for (int i = 0; i < effects.size(); i++) {
+            ScreenEffect effect = effects.get(i);
+            if (!effect.isEffectActive()) {
+                continue;
+            }
+            int argb = effect.getTintArgb();
+            float alpha = (argb >>> 24) / 255.0f;
+            if (alpha <= 0.0f) {
+                continue;
+            }
+            red = alpha * ((argb >> 16) & 0xFF) + (1.0f - alpha) * red;
+            green = alpha * ((argb >> 8) & 0xFF) + (1.0f - alpha) * green;
+            blue = alpha * (argb & 0xFF) + (1.0f - alpha) * blue;
+            transmittance *= 1.0f - alpha;
+        }
+
+        float combinedAlpha = 1.0f - transmittance;
+        int alphaByte = Math.round(combinedAlpha * 255.0f);
+        if (alphaByte == 0) {
+            return;
+        }
+
+        int argb = (alphaByte << 24)
+                | (Math.round(red / combinedAlpha) << 16)
+                | (Math.round(green / combinedAlpha) << 8)
+                | Math.round(blue / combinedAlpha);
+        if (tintColour.getRGB() != argb) {
+            tintColour = new Color(argb, true);
+        }
+
+        g2d.setComposite(AlphaComposite.SrcOver);
+        g2d.setColor(tintColour);
+        g2d.fillRect(0, 0, width, height);
+    }
+}
@@ -1,6 +1,7 @@
 package com.simcraft.graphics.effects;
 
 import com.simcraft.interfaces.VisualEffect;
+import com.simcraft.utility.GameClock;
 
 /**
  * An abstract base class for time-based visual effects, providing common
@@ -71,6 +72,18 @@ public abstract class TimedVisualEffect implements VisualEffect {
         // Subclasses can implement
     }
 
+    /**
+     * Ends the visual effect early, as if its duration had elapsed. Does
+     * nothing if the effect is not active.
+     */
+    public void stopEffect() {
+        if (isEffectActive) {
+            isEffectFinished = true;
+            isEffectActive = false;
+            onEffectEnd();
+        }
+    }
+
     // ----- OVERRIDDEN METHODS -----
     /**
      * Starts the visual effect, setting it to active and recording the start
@@ -82,7 +95,7 @@ public abstract class TimedVisualEffect implements VisualEffect {
         if (!isEffectActive) {
             isEffectActive = true;
             isEffectFinished = false;
-            startTime = System.currentTimeMillis();
+            startTime = GameClock.currentTimeMillis();
             onStartEffect(); // Hook for subclasses
         }
     }
@@ -96,7 +109,7 @@ public abstract class TimedVisualEffect implements VisualEffect {
     @Override
     public void updateEffect() {
         if (isEffectActive && !isEffectFinished) {
-            long elapsedTime = System.currentTimeMillis() - startTime;
+            long elapsedTime = GameClock.currentTimeMillis() - startTime;
             if (elapsedTime >= durationMillis) {
                 isEffectFinished = true;
                 isEffectActive = false;
@@ -0,0 +1,174 @@
+package com.simcraft.graphics.effects.screen_effects;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+
+import javax.swing.JPanel;
+
+import com.simcraft.graphics.compositing.ScreenCompositor;
+import com.simcraft.interfaces.ScreenEffect;
+
+/**
+ * A screen effect that gradually fades the screen to a solid colour, one step
+ * per update. Used for level transitions, where the next level is loaded once
+ * the screen is fully covered.
+ */
+public class FadeScreenEffect implements ScreenEffect {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The panel covered by the fade. Used for its dimensions when the effect is
+     * drawn on its own through {@link #draw(Graphics2D)}.
+     */
+    private final JPanel panel;
+
+    /**
+     * The RGB colour the screen fades to. The alpha component is ignored.
+     */
+    private final int rgb;
+
+    /**
+     * How much the opacity increases on each update.
+     */
+    private final float fadeStep;
+
+    /**
+     * The callback executed once the screen is fully covered. May be null.
+     */
+    private final Runnable onFadeComplete;
+
+    /**
+     * The current opacity of the fade, from 0.0 (invisible) to 1.0 (opaque).
+     */
+    private float opacity = 0.0f;
+
+    /**
+     * Whether the fade is currently running.
+     */
+    private boolean isEffectActive = false;
+
+    /**
+     * Whether the fade has reached full opacity.
+     */
+    private boolean isEffectFinished = false;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Constructs a {@code FadeScreenEffect}.
+     *
+     * @param panel The panel covered by the fade.
+     * @param colour The colour to fade to.
+     * @param fadeStep The opacity added on each update. Must be positive.
+     * @param onFadeComplete A callback executed once the screen is fully
+     * covered. Can be {@code null}.
+     * @throws IllegalArgumentException If {@code fadeStep} is not positive.
+     */
+    public FadeScreenEffect(final JPanel panel, final Color colour, final float fadeStep, final Runnable onFadeComplete) {
+        if (fadeStep <= 0.0f) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Fade step must be positive.",
+                    this.getClass().getName()
+            ));
+        }
+        this.panel = panel;
+        this.rgb = colour.getRGB() & 0x00FFFFFF;
+        this.fadeStep = fadeStep;
+        this.onFadeComplete = onFadeComplete;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the current opacity of the fade.
+     *
+     * @return The opacity, from 0.0 to 1.0.
+     */
+    public float getOpacity() {
+        return opacity;
+    }
+
+    /**
+     * Checks if the effect is currently running.
+     *
+     * @return {@code true} if the effect is active.
+     */
+    @Override
+    public boolean isEffectActive() {
+        return isEffectActive;
+    }
+
+    /**
+     * Checks if the effect has run to completion since it was last started.
+     *
+     * @return {@code true} if the effect has finished.
+     */
+    @Override
+    public boolean isEffectFinished() {
+        return isEffectFinished;
+    }
+
+    /**
+     * Returns the tint colour with the current opacity in its alpha channel.
+     *
+     * @return The tint as a non-premultiplied ARGB value.
+     */
+    @Override
+    public int getTintArgb() {
+        return (Math.round(opacity * 255.0f) << 24) | rgb;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Starts the fade from fully transparent. Has no effect if the fade is
+     * already running.
+     */
+    @Override
+    public void startEffect() {
+        if (!isEffectActive) {
+            opacity = 0.0f;
+            isEffectActive = true;
+            isEffectFinished = false;
+        }
+    }
+
+    /**
+     * Increases the opacity by one step. Once full opacity is reached the fade
+     * finishes and the completion callback is executed.
+     */
+    @Override
+    public void updateEffect() {
+        if (!isEffectActive) {
+            return;
+        }
+
+        opacity = Math.min(1.0f, opacity + fadeStep);
+        if (opacity >= 1.0f) {
+            isEffectActive = false;
+            isEffectFinished = true;
+            if (onFadeComplete != null) {
+                onFadeComplete.run();
+            }
+        }
+    }
+
+    /**
+     * A fade is a pure tint, so it has no overlay.
+     */
+    @Override
+    public void drawOverlay(final Graphics2D g2d, final int width, final int height) {
+        // Nothing beyond the tint
+    }
+
+    /**
+     * Draws the fade on its own, outside of a {@link ScreenCompositor}.
+     *
+     * @param g2d The {@link Graphics2D} context to draw on.
+     */
+    @Override
+    public void draw(final Graphics2D g2d) {
+        if (isEffectActive) {
+            g2d.setComposite(ScreenCompositor.alphaComposite(opacity));
+            g2d.setColor(new Color(rgb));
+            g2d.fillRect(0, 0, panel.getWidth(), panel.getHeight());
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.simcraft.graphics.effects.screen_effects;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+
+import javax.swing.JPanel;
+
+import com.simcraft.graphics.compositing.ScreenCompositor;
+import com.simcraft.interfaces.ScreenEffect;
+
+/**
+ * A screen effect that briefly tints the whole screen and then fades out
+ * linearly over a fixed number of updates. Used to signal damage to the
+ * player. Starting the flash again while it is running restarts it at full
+ * strength.
+ */
+public class FlashScreenEffect implements ScreenEffect {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The panel covered by the flash. Used for its dimensions when the effect
+     * is drawn on its own through {@link #draw(Graphics2D)}.
+     */
+    private final JPanel panel;
+
+    /**
+     * The RGB colour of the flash. The alpha component is ignored.
+     */
+    private final int rgb;
+
+    /**
+     * The opacity of the flash when it starts, from 0.0 to 1.0.
+     */
+    private final float peakOpacity;
+
+    /**
+     * The number of updates the flash takes to fade out completely.
+     */
+    private final int durationUpdates;
+
+    /**
+     * The number of updates remaining before the flash has faded out.
+     */
+    private int remainingUpdates = 0;
+
+    /**
+     * Whether the flash has faded out since it was last started.
+     */
+    private boolean isEffectFinished = false;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Constructs a {@code FlashScreenEffect}.
+     *
+     * @param panel The panel covered by the flash.
+     * @param colour The colour of the flash.
+     * @param peakOpacity The opacity of the flash when it starts.
+     * @param durationUpdates The number of updates the flash lasts. Must be
+     * positive.
+     * @throws IllegalArgumentException If {@code durationUpdates} is not
+     * positive.
+     */
+    public FlashScreenEffect(final JPanel panel, final Color colour, final float peakOpacity, final int durationUpdates) {
+        if (durationUpdates <= 0) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Flash duration must be positive.",
+                    this.getClass().getName()
+            ));
+        }
+        this.panel = panel;
+        this.rgb = colour.getRGB() & 0x00FFFFFF;
+        this.peakOpacity = Math.max(0.0f, Math.min(1.0f, peakOpacity));
+        this.durationUpdates = durationUpdates;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Checks if the effect is currently running.
+     *
+     * @return {@code true} if the effect is active.
+     */
+    @Override
+    public boolean isEffectActive() {
+        return remainingUpdates > 0;
+    }
+
+    /**
+     * Checks if the effect has run to completion since it was last started.
+     *
+     * @return {@code true} if the effect has finished.
+     */
+    @Override
+    public boolean isEffectFinished() {
+        return isEffectFinished;
+    }
+
+    /**
+     * Returns the tint colour with the current opacity in its alpha channel.
+     *
+     * @return The tint as a non-premultiplied ARGB value.
+     */
+    @Override
+    public int getTintArgb() {
+        return (Math.round(getOpacity() * 255.0f) << 24) | rgb;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Starts the flash at full strength, restarting it if it is already
+     * running.
+     */
+    @Override
+    public void startEffect() {
+        remainingUpdates = durationUpdates;
+        isEffectFinished = false;
+    }
+
+    /**
+     * Fades the flash out by one update.
+     */
+    @Override
+    public void updateEffect() {
+        if (remainingUpdates > 0) {
+            remainingUpdates--;
+            isEffectFinished = remainingUpdates == 0;
+        }
+    }
+
+    /**
+     * A flash is a pure tint, so it has no overlay.
+     */
+    @Override
+    public void drawOverlay(final Graphics2D g2d, final int width, final int height) {
+        // Nothing beyond the tint
+    }
+
+    /**
+     * Draws the flash on its own, outside of a {@link ScreenCompositor}.
+     *
+     * @param g2d The {@link Graphics2D} context to draw on.
+     */
+    @Override
+    public void draw(final Graphics2D g2d) {
+        if (isEffectActive()) {
+            g2d.setComposite(ScreenCompositor.alphaComposite(getOpacity()));
+            g2d.setColor(new Color(rgb));
+            g2d.fillRect(0, 0, panel.getWidth(), panel.getHeight());
+        }
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Calculates the current opacity of the flash from the updates remaining.
+     *
+     * @return The opacity, from 0.0 to {@link #peakOpacity}.
+     */
+    private float getOpacity() {
+        return peakOpacity * remainingUpdates / durationUpdates;
+    }
+}
@@ -2,11 +2,12 @@ package com.simcraft.graphics.effects.screen_effects;
 
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
 
 import javax.swing.JPanel;
 
 import com.simcraft.graphics.effects.TimedVisualEffect;
+import com.simcraft.interfaces.ScreenEffect;
+import com.simcraft.utility.GameClock;
 
 /**
  * A visual effect that creates a horizontal wipe across the screen, typically
@@ -15,12 +16,21 @@ import com.simcraft.graphics.effects.TimedVisualEffect;
  * with a solid black color over a specified duration. Once the wipe is
  * complete, an optional callback can be executed.
  */
-public class HorizontalScreenWipeEffect extends TimedVisualEffect {
+public class HorizontalScreenWipeEffect extends TimedVisualEffect implements ScreenEffect {
 
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The panel being wiped. Used for its dimensions.
+     */
     private final JPanel panel;
-    private BufferedImage currentScreenImage;
+
+    /**
+     * The callback executed once the wipe has covered the whole panel. May be
+     * null.
+     */
     private Runnable onWipeComplete;
 
+    // ----- CONSTRUCTORS -----
     /**
      * Constructs a {@code HorizontalScreenWipeEffect} associated with a
      * specific {@link JPanel}. The effect will use the dimensions of this panel
@@ -34,24 +44,36 @@ public class HorizontalScreenWipeEffect extends TimedVisualEffect {
         this.panel = panel;
     }
 
+    // ----- GETTERS -----
+    /**
+     * A wipe does not tint the whole screen; it is drawn entirely as an
+     * overlay.
+     *
+     * @return Always {@code 0} (no tint).
+     */
+    @Override
+    public int getTintArgb() {
+        return 0;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
     /**
-     * Starts the horizontal screen wipe effect. Before starting, it captures
-     * the current content of the associated panel into an image. An optional
-     * {@link Runnable} can be provided to be executed once the wipe effect is
-     * complete. The effect will only start if it's not already active and the
-     * panel has valid dimensions.
+     * Starts the horizontal screen wipe effect. An optional {@link Runnable}
+     * can be provided to be executed once the wipe effect is complete. The
+     * effect will only start if it's not already active and the panel has
+     * valid dimensions.
+     * <p>
+     * The panel is not snapshotted: the wipe is drawn over the live frame by
+     * the screen's {@link com.simcraft.graphics.compositing.ScreenCompositor},
+     * so no full-screen buffer is allocated per transition.
      *
      * @param onComplete A {@link Runnable} to be executed when the wipe effect
      * ends. Can be {@code null} if no action is needed upon completion.
      */
     public void startEffect(Runnable onComplete) {
         if (!isEffectActive() && panel.getWidth() > 0 && panel.getHeight() > 0) {
-            super.startEffect();
-            this.currentScreenImage = new BufferedImage(panel.getWidth(), panel.getHeight(), BufferedImage.TYPE_INT_ARGB);
-            Graphics2D g2d = this.currentScreenImage.createGraphics();
-            this.panel.paintAll(g2d); // Render the current state of the panel onto the image
-            g2d.dispose();
             this.onWipeComplete = onComplete;
+            super.startEffect();
         }
     }
 
@@ -59,7 +81,8 @@ public class HorizontalScreenWipeEffect extends TimedVisualEffect {
      * This method is called during each frame update while the effect is
      * active. For a simple horizontal wipe, no specific timed updates to
      * internal state are needed as the progress is directly calculated in the
-     * {@link #draw(Graphics2D)} method based on the elapsed time.
+     * {@link #drawOverlay(Graphics2D, int, int)} method based on the elapsed
+     * time.
      *
      * @param elapsedTime The time elapsed in milliseconds since the effect
      * started.
@@ -71,46 +94,44 @@ public class HorizontalScreenWipeEffect extends TimedVisualEffect {
 
     /**
      * This method is called once the duration of the effect has elapsed. It
-     * cleans up any resources used by the effect (in this case, the captured
-     * screen image) and executes the completion callback if one was provided.
+     * executes the completion callback if one was provided.
      */
     @Override
     protected void onEffectEnd() {
-        this.currentScreenImage = null; // Release the captured screen image
         if (this.onWipeComplete != null) {
             this.onWipeComplete.run(); // Execute the completion callback
         }
     }
 
     /**
-     * Draws the horizontal wipe effect on the provided {@link Graphics2D}
-     * context. If the effect is active, it calculates the current progress of
-     * the wipe based on the elapsed time and draws a black rectangle that
-     * expands horizontally from the left edge of the panel. The underlying
-     * content (captured in {@code currentScreenImage} before the wipe started)
-     * remains visible to the right of the expanding black rectangle until it is
-     * fully covered.
+     * Draws the horizontal wipe effect: a black rectangle that expands from the
+     * left edge of the frame as the effect progresses. The content to the right
+     * of the rectangle remains visible until it is fully covered.
      *
      * @param g2d The {@link Graphics2D} context to draw on.
+     * @param width The width of the frame in pixels.
+     * @param height The height of the frame in pixels.
      */
     @Override
-    public void draw(Graphics2D g2d) {
+    public void drawOverlay(Graphics2D g2d, int width, int height) {
         if (isEffectActive()) {
-            int width = panel.getWidth();
-            int height = panel.getHeight();
-            long elapsedTime = System.currentTimeMillis() - startTime;
+            long elapsedTime = GameClock.currentTimeMillis() - startTime;
             double progress = Math.min(1.0, (double) elapsedTime / durationMillis); // Ensure progress doesn't exceed 1.0
             int wipePosition = (int) (width * progress);
 
             // Draw a black rectangle that expands from left to right
             g2d.setColor(Color.BLACK);
             g2d.fillRect(0, 0, wipePosition, height);
-
-            // Note: The underlying panel (or the captured image of it) is what will be
-            // visible in the area not yet covered by the black rectangle. This effect
-            // simply overlays a growing black area. For a true "wipe" revealing a new
-            // screen, the content of the panel being wiped would typically be changed
-            // as the wipe progresses or immediately after it completes.
         }
     }
+
+    /**
+     * Draws the horizontal wipe effect across the associated panel.
+     *
+     * @param g2d The {@link Graphics2D} context to draw on.
+     */
+    @Override
+    public void draw(Graphics2D g2d) {
+        drawOverlay(g2d, panel.getWidth(), panel.getHeight());
+    }
 }
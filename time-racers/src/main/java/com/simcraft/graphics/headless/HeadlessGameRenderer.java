@@ -0,0 +1,511 @@
+package com.simcraft.graphics.headless;
+
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import javax.imageio.ImageIO;
+import javax.swing.RepaintManager;
+import javax.swing.SwingUtilities;
+
+import static com.simcraft.App.FRAME_RATE_MS;
+import com.simcraft.graphics.GameFrame;
+import com.simcraft.graphics.animations.AnimationLoader;
+import com.simcraft.graphics.screens.GameplayScreen;
+import com.simcraft.managers.GameManager;
+import com.simcraft.managers.SoundManager;
+import com.simcraft.utility.GameClock;
+import com.simcraft.utility.GameRandom;
+
+/**
+ * Drives a {@link GameplayScreen} without a {@link GameFrame} and renders it
+ * into an offscreen image.
+ * <p>
+ * Time is provided by a {@link GameClock.SteppedTimeSource} that advances by a
+ * fixed step per tick, and the {@link GameManager}'s own Swing timer is
+ * disabled, and the {@link GameRandom} streams are reseeded with a fixed seed,
+ * so the same sequence of ticks always produces the same frames regardless of
+ * how fast the machine is. This makes the renderer suitable for
+ * frame capture, golden-image regression tests and render-cost measurements on
+ * machines without a display.
+ * <p>
+ * All Swing work is performed on the Event Dispatch Thread; the public methods
+ * may be called from any thread. Only one renderer may be open at a time, since
+ * the game's managers are singletons.
+ */
+public final class HeadlessGameRenderer implements AutoCloseable {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The default simulated time step per tick, matching the game loop.
+     */
+    public static final long DEFAULT_TICK_MILLIS = FRAME_RATE_MS;
+
+    /**
+     * The simulated time at which every run starts.
+     */
+    private static final long START_TIME_MILLIS = 0L;
+
+    /**
+     * The session seed runs start with unless given another.
+     */
+    public static final long DEFAULT_SEED = 0L;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The simulated time advanced once per tick, in milliseconds.
+     */
+    private final long tickMillis;
+
+    /**
+     * The session seed the {@link GameRandom} streams are reseeded with on
+     * {@link #start()}.
+     */
+    private final long seed;
+
+    /**
+     * The deterministic time source installed on the {@link GameClock} while
+     * this renderer is open.
+     */
+    private final GameClock.SteppedTimeSource timeSource;
+
+    /**
+     * The screen being driven. Created by {@link #start()}.
+     */
+    private GameplayScreen screen;
+
+    /**
+     * The buffer frames are rendered into. Reused for every frame.
+     */
+    private BufferedImage frameBuffer;
+
+    /**
+     * The number of ticks simulated since {@link #start()}.
+     */
+    private int tickCount = 0;
+
+    /**
+     * How long the most recent call to {@link #renderFrame()} took to paint
+     * the screen, in nanoseconds.
+     */
+    private long lastRenderNanos = 0L;
+
+    /**
+     * How long the most recent tick took to update the screen, in
+     * nanoseconds.
+     */
+    private long lastTickNanos = 0L;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Constructs a {@code HeadlessGameRenderer} using the default tick length.
+     */
+    public HeadlessGameRenderer() {
+        this(DEFAULT_TICK_MILLIS);
+    }
+
+    /**
+     * Constructs a {@code HeadlessGameRenderer}.
+     *
+     * @param tickMillis The simulated time advanced per tick, in milliseconds.
+     * Must be positive.
+     * @throws IllegalArgumentException If {@code tickMillis} is not positive.
+     */
+    public HeadlessGameRenderer(final long tickMillis) {
+        this(tickMillis, DEFAULT_SEED);
+    }
+
+    /**
+     * Constructs a {@code HeadlessGameRenderer} with a session seed, e.g., to
+     * replay a recorded session (see {@link InputReplayDriver}).
+     *
+     * @param tickMillis The simulated time advanced per tick, in milliseconds.
+     * Must be positive.
+     * @param seed The session seed of the {@link GameRandom} streams.
+     * @throws IllegalArgumentException If {@code tickMillis} is not positive.
+     */
+    public HeadlessGameRenderer(final long tickMillis, final long seed) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Tick length must be positive.",
+                    this.getClass().getName()
+            ));
+        }
+        this.tickMillis = tickMillis;
+        this.seed = seed;
+        this.timeSource = new GameClock.SteppedTimeSource(START_TIME_MILLIS);
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the number of ticks simulated since the renderer was started.
+     *
+     * @return The current tick.
+     */
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Returns how long the most recent frame took to render.
+     *
+     * @return The render time of the last frame in nanoseconds.
+     */
+    public long getLastRenderNanos() {
+        return lastRenderNanos;
+    }
+
+    /**
+     * Returns how long the most recent tick took to update the screen.
+     *
+     * @return The update time of the last tick in nanoseconds.
+     */
+    public long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
+    /**
+     * Returns the screen being driven by this renderer.
+     *
+     * @return The {@link GameplayScreen}, or {@code null} before
+     * {@link #start()}.
+     */
+    public GameplayScreen getScreen() {
+        return screen;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Installs the deterministic clock, loads animations and builds a
+     * {@link GameplayScreen} sized to the game window.
+     *
+     * @throws IllegalStateException If the renderer has already been started.
+     */
+    public void start() {
+        if (screen != null) {
+            throw new IllegalStateException(String.format(
+                    "%s: Renderer has already been started.",
+                    this.getClass().getName()
+            ));
+        }
+
+        GameClock.setTimeSource(timeSource);
+        GameRandom.setSeed(seed);
+        runOnEventDispatchThread(() -> {
+            AnimationLoader.loadAnimationsFromJson();
+            GameManager.getInstance().setGameplayTimerEnabled(false);
+
+            screen = new GameplayScreen(null);
+            screen.setSize(GameFrame.FRAME_WIDTH, GameFrame.FRAME_HEIGHT);
+            layoutTree(screen);
+
+            // Paint straight into our buffer rather than through Swing's own back buffer
+            RepaintManager.currentManager(screen).setDoubleBufferingEnabled(false);
+        });
+        frameBuffer = new BufferedImage(GameFrame.FRAME_WIDTH, GameFrame.FRAME_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    /**
+     * Simulates the given number of ticks. Each tick advances the clock by the
+     * tick length and updates the screen once.
+     *
+     * @param ticks The number of ticks to simulate.
+     */
+    public void advance(final int ticks) {
+        ensureStarted("advance");
+        runOnEventDispatchThread(() -> {
+            for (int i = 0; i < ticks; i++) {
+                timeSource.advance(tickMillis);
+                long tickStart = System.nanoTime();
+                screen.update();
+                lastTickNanos = System.nanoTime() - tickStart;
+                tickCount++;
+            }
+        });
+    }
+
+    /**
+     * Presses or releases a key on the screen, between ticks.
+     *
+     * @param keyCode The key code (see {@link java.awt.event.KeyEvent}).
+     * @param pressed {@code true} to press the key, {@code false} to release
+     * it.
+     */
+    public void setKeyState(final int keyCode, final boolean pressed) {
+        ensureStarted("setKeyState");
+        runOnEventDispatchThread(() -> screen.setKeyState(keyCode, pressed));
+    }
+
+    /**
+     * Runs a task against the game between ticks, on the event dispatch
+     * thread the game runs on (e.g., to set up a scenario or read its state).
+     *
+     * @param task The task to run.
+     */
+    public void execute(final Runnable task) {
+        ensureStarted("execute");
+        runOnEventDispatchThread(task);
+    }
+
+    /**
+     * Renders the current state of the screen, including its screen effects.
+     * The returned image is reused by the next call, so callers that need to
+     * keep a frame must copy it.
+     *
+     * @return The rendered frame.
+     */
+    public BufferedImage renderFrame() {
+        ensureStarted("renderFrame");
+        runOnEventDispatchThread(() -> {
+            Graphics2D g2d = frameBuffer.createGraphics();
+            try {
+                g2d.setColor(Color.BLACK);
+                g2d.fillRect(0, 0, frameBuffer.getWidth(), frameBuffer.getHeight());
+
+                layoutTree(screen); // Level transitions replace child panels between frames
+
+                long renderStart = System.nanoTime();
+                screen.paint(g2d);
+                lastRenderNanos = System.nanoTime() - renderStart;
+            } finally {
+                g2d.dispose();
+            }
+        });
+        return frameBuffer;
+    }
+
+    /**
+     * Simulates ticks up to {@code totalTicks}, rendering and reporting a frame
+     * whenever the current tick is one of {@code captureTicks}.
+     *
+     * @param totalTicks The tick to run up to (inclusive).
+     * @param captureTicks The ticks on which a frame should be rendered.
+     * @param listener Receives each captured frame.
+     * @throws IOException If the listener fails to handle a frame.
+     */
+    public void run(final int totalTicks, final int[] captureTicks, final FrameListener listener) throws IOException {
+        int[] sortedTicks = captureTicks.clone();
+        Arrays.sort(sortedTicks);
+
+        for (int captureTick : sortedTicks) {
+            if (captureTick > totalTicks) {
+                break;
+            }
+            if (captureTick > tickCount) {
+                advance(captureTick - tickCount);
+            }
+            if (captureTick == tickCount) {
+                listener.onFrame(tickCount, renderFrame(), lastRenderNanos);
+            }
+        }
+        if (totalTicks > tickCount) {
+            advance(totalTicks - tickCount);
+        }
+    }
+
+    /**
+     * Computes a CRC-32 checksum of a frame's ARGB pixels, suitable for
+     * detecting whether two renders are pixel-identical.
+     *
+     * @param frame The frame to checksum.
+     * @return The checksum.
+     */
+    public static long checksum(final BufferedImage frame) {
+        int width = frame.getWidth();
+        int height = frame.getHeight();
+        CRC32 crc = new CRC32();
+        int[] row = new int[width];
+        byte[] rowBytes = new byte[width * 4];
+
+        for (int y = 0; y < height; y++) {
+            frame.getRGB(0, y, width, 1, row, 0, width);
+            for (int x = 0; x < width; x++) {
+                int argb = row[x];
+                rowBytes[x * 4] = (byte) (argb >>> 24);
+                rowBytes[x * 4 + 1] = (byte) (argb >>> 16);
+                rowBytes[x * 4 + 2] = (byte) (argb >>> 8);
+                rowBytes[x * 4 + 3] = (byte) argb;
+            }
+            crc.update(rowBytes);
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Writes a frame to disk as a PNG, creating parent directories as needed.
+     *
+     * @param frame The frame to write.
+     * @param path The destination file.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void writePng(final BufferedImage frame, final Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        if (!ImageIO.write(frame, "png", path.toFile())) {
+            throw new IOException("HeadlessGameRenderer: No PNG writer available for " + path);
+        }
+    }
+
+    // ----- OVERRIDDEN METHODS -----
+    /**
+     * Tears down the game state created by this renderer, drops the frame
+     * buffer and restores the system clock.
+     */
+    @Override
+    public void close() {
+        if (screen != null) {
+            runOnEventDispatchThread(() -> {
+                SoundManager.getInstance().stopAll();
+                GameManager.getInstance().clear();
+                GameManager.getInstance().setGameplayTimerEnabled(true);
+                screen.cleanup();
+            });
+            screen = null;
+        }
+        frameBuffer = null;
+        GameClock.useSystemTime();
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Throws if {@link #start()} has not been called.
+     *
+     * @param methodName The name of the calling method, for error reporting.
+     * @throws IllegalStateException If the renderer is not started.
+     */
+    private void ensureStarted(final String methodName) {
+        if (screen == null) {
+            throw new IllegalStateException(String.format(
+                    "%s: Cannot call %s() before start().",
+                    this.getClass().getName(),
+                    methodName
+            ));
+        }
+    }
+
+    /**
+     * Lays out a container and all of its descendants. Components that were
+     * never shown on screen have no native peer, so Swing's own
+     * {@code validate()} does nothing for them and the layout must be applied
+     * directly.
+     *
+     * @param container The root of the tree to lay out.
+     */
+    private static void layoutTree(final Container container) {
+        container.doLayout();
+        for (Component child : container.getComponents()) {
+            if (child instanceof Container childContainer) {
+                layoutTree(childContainer);
+            }
+        }
+    }
+
+    /**
+     * Runs a task on the Event Dispatch Thread and waits for it to finish,
+     * rethrowing any exception it raised.
+     *
+     * @param task The task to run.
+     */
+    private static void runOnEventDispatchThread(final Runnable task) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            task.run();
+            return;
+        }
+        try {
+            SwingUtilities.invokeAndWait(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("HeadlessGameRenderer: Interrupted while waiting for the EDT.", e);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("HeadlessGameRenderer: Task failed on the EDT.", cause);
+        }
+    }
+
+    // ----- NESTED TYPES -----
+    /**
+     * Receives frames captured by {@link #run(int, int[], FrameListener)}.
+     */
+    @FunctionalInterface
+    public interface FrameListener {
+
+        /**
+         * Called with each captured frame. The image is reused for the next
+         * frame and must be copied if it needs to be kept.
+         *
+         * @param tick The tick the frame was captured on.
+         * @param frame The rendered frame.
+         * @param renderNanos How long the frame took to render.
+         * @throws IOException If the frame cannot be handled (e.g., written).
+         */
+        void onFrame(int tick, BufferedImage frame, long renderNanos) throws IOException;
+    }
+
+    // ----- ENTRY POINT -----
+    /**
+     * Runs the game headlessly and dumps frames on chosen ticks.
+     * <p>
+     * Usage:
+     * {@code HeadlessGameRenderer <totalTicks> <png|checksum> <outputDir> <tick,tick,...>}
+     * <p>
+     * In {@code png} mode each captured frame is written to
+     * {@code outputDir/frame_<tick>.png}. In {@code checksum} mode one line per
+     * captured frame ({@code tick,checksum,renderMicros}) is written to
+     * {@code outputDir/checksums.csv}.
+     *
+     * @param args The command line arguments described above.
+     * @throws IOException If output cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 4) {
+            System.err.println("Usage: HeadlessGameRenderer <totalTicks> <png|checksum> <outputDir> <tick,tick,...>");
+            System.exit(1);
+        }
+        System.setProperty("java.awt.headless", "true");
+
+        int totalTicks = Integer.parseInt(args[0]);
+        boolean pngMode = "png".equalsIgnoreCase(args[1]);
+        Path outputDir = Paths.get(args[2]);
+        int[] captureTicks = Arrays.stream(args[3].split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+
+        Files.createDirectories(outputDir);
+        StringBuilder checksums = new StringBuilder("tick,checksum,render_micros\n");
+
+        try (HeadlessGameRenderer renderer = new HeadlessGameRenderer()) {
+            renderer.start();
+            renderer.run(totalTicks, captureTicks, (tick, frame, renderNanos) -> {
+                if (pngMode) {
+                    writePng(frame, outputDir.resolve(String.format("frame_%05d.png", tick)));
+                } else {
+                    checksums.append(String.format("%d,%08x,%d%n", tick, checksum(frame), renderNanos / 1000));
+                }
+                System.out.println(String.format("Captured tick %d in %.3f ms", tick, renderNanos / 1_000_000.0));
+            });
+        }
+
+        if (!pngMode) {
+            Files.writeString(outputDir.resolve("checksums.csv"), checksums);
+        }
+        System.exit(0);
+    }
+}
@@ -0,0 +1,145 @@
+package com.simcraft.graphics.headless;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import com.simcraft.input.InputReplay;
+
+/**
+ * Replays a recorded play session (see {@link InputReplay}) headlessly and
+ * measures how long each tick takes, so that real sessions can be rerun as
+ * performance regression workloads and their tick-time profiles compared
+ * across builds.
+ * <p>
+ * The session is driven by a {@link HeadlessGameRenderer} seeded with the
+ * recording's seed and ticking at the recording's tick length, so every run of
+ * the same recording simulates the same game. Each tick, the key-state changes
+ * due are fed to the screen, the screen is updated, and a frame is rendered.
+ */
+public final class InputReplayDriver {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The recorded session.
+     */
+    private final InputReplay replay;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Constructs an {@code InputReplayDriver}.
+     *
+     * @param replay The recorded session to replay.
+     */
+    public InputReplayDriver(final InputReplay replay) {
+        this.replay = replay;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Replays the whole session from its start.
+     *
+     * @param listener Receives the timings of each tick.
+     * @throws IOException If the listener fails to handle a tick.
+     */
+    public void run(final TickListener listener) throws IOException {
+        replay.rewind();
+        try (HeadlessGameRenderer renderer = new HeadlessGameRenderer(replay.getTickMillis(), replay.getSeed())) {
+            renderer.start();
+            while (renderer.getTickCount() < replay.getEndTick()) {
+                replay.feed(renderer.getTickCount(), renderer::setKeyState);
+                renderer.advance(1);
+                renderer.renderFrame();
+                listener.onTick(renderer.getTickCount(), renderer.getLastTickNanos(), renderer.getLastRenderNanos());
+            }
+        }
+    }
+
+    // ----- NESTED TYPES -----
+    /**
+     * Receives the timings of each replayed tick.
+     */
+    @FunctionalInterface
+    public interface TickListener {
+
+        /**
+         * Called after each tick.
+         *
+         * @param tick The number of ticks completed.
+         * @param updateNanos How long the tick took to update the screen.
+         * @param renderNanos How long the tick's frame took to render.
+         * @throws IOException If the timings cannot be handled (e.g.,
+         * written).
+         */
+        void onTick(int tick, long updateNanos, long renderNanos) throws IOException;
+    }
+
+    // ----- ENTRY POINT -----
+    /**
+     * Replays a recording and writes its tick-time profile.
+     * <p>
+     * Usage: {@code InputReplayDriver <recording> <output.csv>}
+     * <p>
+     * The CSV holds one line per tick ({@code tick,update_micros,render_micros}).
+     * A summary of the tick times is printed when the replay ends.
+     *
+     * @param args The command line arguments described above.
+     * @throws IOException If the recording cannot be read or the profile
+     * cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: InputReplayDriver <recording> <output.csv>");
+            System.exit(1);
+        }
+        System.setProperty("java.awt.headless", "true");
+
+        InputReplay replay = InputReplay.read(Paths.get(args[0]));
+        Path output = Paths.get(args[1]);
+        long[] tickNanos = new long[(int) replay.getEndTick()];
+        StringBuilder profile = new StringBuilder("tick,update_micros,render_micros\n");
+
+        new InputReplayDriver(replay).run((tick, updateNanos, renderNanos) -> {
+            tickNanos[tick - 1] = updateNanos + renderNanos;
+            profile.append(String.format("%d,%d,%d%n", tick, updateNanos / 1000, renderNanos / 1000));
+        });
+
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(output, profile);
+
+        Arrays.sort(tickNanos);
+        System.out.println(String.format(
+                "Replayed %d ticks, %d key changes (seed %d): mean %.3f ms, p50 %.3f ms, p95 %.3f ms, p99 %.3f ms, max %.3f ms",
+                tickNanos.length,
+                replay.getEventCount(),
+                replay.getSeed(),
+                Arrays.stream(tickNanos).average().orElse(0) / 1_000_000.0,
+                percentile(tickNanos, 0.50) / 1_000_000.0,
+                percentile(tickNanos, 0.95) / 1_000_000.0,
+                percentile(tickNanos, 0.99) / 1_000_000.0,
+                percentile(tickNanos, 1.0) / 1_000_000.0
+        ));
+        System.exit(0);
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Returns a percentile of sorted values, by the nearest-rank method.
+     *
+     * @param sorted The values, in ascending order.
+     * @param fraction The percentile, between 0.0 and 1.0.
+     * @return The value, or 0 if there are no values.
+     */
+    private static long percentile(final long[] sorted, final double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(fraction * sorted.length);
+        return sorted[Math.clamp(rank - 1, 0, sorted.length - 1)];
+    }
+}
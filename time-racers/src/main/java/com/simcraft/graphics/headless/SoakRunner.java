@@ -0,0 +1,479 @@
+package com.simcraft.graphics.headless;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static com.simcraft.App.FRAME_RATE_MS;
+import com.simcraft.graphics.screens.GameplayScreen;
+import com.simcraft.input.Autopilot;
+import com.simcraft.levels.LevelLibrary;
+import com.simcraft.managers.GameManager;
+
+/**
+ * Lets an {@link Autopilot} play the game unattended for a given length of
+ * real time, to soak-test level transitions, restarts and memory use over long
+ * runs.
+ * <p>
+ * The game is played in a {@link HeadlessGameRenderer}, as fast as the machine
+ * allows. Each session plays every level from the first; when the last level
+ * is finished, the renderer is closed and a new session starts with the next
+ * seed, so the game is also set up and torn down repeatedly. Levels are
+ * restarted from their checkpoint with {@link GameManager#restartGame()}, as
+ * the game over dialogue would, when the level timer runs out, and also a set
+ * number of times per level, {@value #RESTART_AFTER_TICKS} ticks into the
+ * attempt, so that restarts are exercised however well the autopilot plays.
+ * <p>
+ * Each attempt at a level is reported when it ends: how it ended, how long it
+ * took in game time and in real time, the frame times (a tick plus, on
+ * rendered ticks, its frame) and the heap in use. The heap rises and falls
+ * with garbage collection, but its lows should level off over a healthy run.
+ */
+public final class SoakRunner {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The length of a run when none is given, in hours.
+     */
+    private static final double DEFAULT_HOURS = 1.0;
+
+    /**
+     * How many ticks into an attempt a forced restart happens.
+     */
+    private static final int RESTART_AFTER_TICKS = 60;
+
+    /**
+     * The columns of the report.
+     */
+    private static final String[] REPORT_COLUMNS = {
+        "session", "level", "level_type", "attempt", "outcome",
+        "ticks", "game_seconds", "real_seconds",
+        "mean_ms", "p50_ms", "p95_ms", "p99_ms", "max_ms",
+        "heap_used_mb"
+    };
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * How long the run lasts, in real time.
+     */
+    private final Duration duration;
+
+    /**
+     * The seed of the first session; each following session uses the next.
+     */
+    private final long seed;
+
+    /**
+     * Every how many ticks a frame is rendered.
+     */
+    private final int renderEvery;
+
+    /**
+     * How many times each level is restarted before it is played through.
+     */
+    private final int restartsPerLevel;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Constructs a {@code SoakRunner}.
+     *
+     * @param duration How long the run lasts, in real time.
+     * @param seed The seed of the first session.
+     * @param renderEvery Every how many ticks a frame is rendered (1 renders
+     * every tick).
+     * @param restartsPerLevel How many times each level is restarted before
+     * it is played through.
+     * @throws IllegalArgumentException If the duration is not positive,
+     * {@code renderEvery} is less than 1 or {@code restartsPerLevel} is
+     * negative.
+     */
+    public SoakRunner(final Duration duration, final long seed, final int renderEvery, final int restartsPerLevel) {
+        if (duration.isNegative() || duration.isZero() || renderEvery < 1 || restartsPerLevel < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Need a positive duration, rendering every 1 or more ticks and non-negative restarts, "
+                    + "got %s, %d and %d.",
+                    this.getClass().getName(),
+                    duration,
+                    renderEvery,
+                    restartsPerLevel
+            ));
+        }
+        this.duration = duration;
+        this.seed = seed;
+        this.renderEvery = renderEvery;
+        this.restartsPerLevel = restartsPerLevel;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Plays sessions until the run's duration has passed. The attempt in
+     * progress at that time is reported as {@link Outcome#STOPPED}.
+     *
+     * @param listener Receives each attempt at a level as it ends.
+     * @throws IOException If the listener fails to handle an attempt.
+     */
+    public void run(final AttemptListener listener) throws IOException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        FrameTimeHistogram frameTimes = new FrameTimeHistogram();
+        int session = 0;
+        while (System.nanoTime() < deadline) {
+            playSession(session, deadline, frameTimes, listener);
+            session++;
+        }
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Plays every level once in a fresh renderer, or until the deadline.
+     *
+     * @param session The number of the session, from 0.
+     * @param deadline The {@link System#nanoTime()} at which the run ends.
+     * @param frameTimes The histogram to record frame times into; reset for
+     * each attempt.
+     * @param listener Receives each attempt as it ends.
+     * @throws IOException If the listener fails to handle an attempt.
+     */
+    private void playSession(final int session, final long deadline, final FrameTimeHistogram frameTimes,
+            final AttemptListener listener) throws IOException {
+        Autopilot autopilot = new Autopilot();
+        int[] levelIndex = new int[1];
+        boolean[] gameOver = new boolean[1];
+
+        try (HeadlessGameRenderer renderer = new HeadlessGameRenderer(FRAME_RATE_MS, seed + session)) {
+            renderer.start();
+            GameplayScreen screen = renderer.getScreen();
+
+            int level = 0;
+            int attempt = 1;
+            int attemptStartTick = 0;
+            long attemptStartNanos = System.nanoTime();
+            frameTimes.reset();
+
+            while (true) {
+                renderer.execute(() -> {
+                    levelIndex[0] = screen.getCurrentLevelIndex();
+                    gameOver[0] = GameManager.getInstance().isGameOver();
+                });
+
+                Outcome outcome = null;
+                if (levelIndex[0] != level) {
+                    outcome = Outcome.COMPLETED;
+                } else if (gameOver[0]) {
+                    outcome = Outcome.GAME_OVER;
+                } else if (attempt <= restartsPerLevel
+                        && renderer.getTickCount() - attemptStartTick >= RESTART_AFTER_TICKS) {
+                    outcome = Outcome.RESTARTED;
+                } else if (System.nanoTime() >= deadline) {
+                    outcome = Outcome.STOPPED;
+                }
+                if (outcome != null) {
+                    listener.onAttempt(new AttemptResult(
+                            session,
+                            level + 1,
+                            LevelLibrary.getLevel(level).getLevelType().name(),
+                            attempt,
+                            outcome,
+                            renderer.getTickCount() - attemptStartTick,
+                            (renderer.getTickCount() - attemptStartTick) * FRAME_RATE_MS / 1000.0,
+                            (System.nanoTime() - attemptStartNanos) / 1e9,
+                            frameTimes.meanNanos() / 1e6,
+                            frameTimes.percentileNanos(0.50) / 1e6,
+                            frameTimes.percentileNanos(0.95) / 1e6,
+                            frameTimes.percentileNanos(0.99) / 1e6,
+                            frameTimes.maxNanos() / 1e6,
+                            ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() / (1024.0 * 1024.0)
+                    ));
+                    if (outcome == Outcome.STOPPED
+                            || (outcome == Outcome.COMPLETED && levelIndex[0] >= LevelLibrary.getTotalLevels())) {
+                        return;
+                    }
+                    if (outcome != Outcome.COMPLETED) {
+                        renderer.execute(GameManager.getInstance()::restartGame);
+                    }
+                    attempt = outcome == Outcome.COMPLETED ? 1 : attempt + 1;
+                    level = levelIndex[0];
+                    attemptStartTick = renderer.getTickCount();
+                    attemptStartNanos = System.nanoTime();
+                    frameTimes.reset();
+                }
+
+                renderer.execute(() -> autopilot.drive(screen));
+                renderer.advance(1);
+                long frameNanos = renderer.getLastTickNanos();
+                if (renderer.getTickCount() % renderEvery == 0) {
+                    renderer.renderFrame();
+                    frameNanos += renderer.getLastRenderNanos();
+                }
+                frameTimes.record(frameNanos);
+            }
+        }
+    }
+
+    // ----- NESTED TYPES -----
+    /**
+     * How an attempt at a level ended.
+     */
+    public enum Outcome {
+        /**
+         * Ali reached the goal and the next level was loaded.
+         */
+        COMPLETED,
+        /**
+         * The level timer ran out, and the level was restarted.
+         */
+        GAME_OVER,
+        /**
+         * The level was restarted on purpose, to exercise restarts.
+         */
+        RESTARTED,
+        /**
+         * The run ended during the attempt.
+         */
+        STOPPED
+    }
+
+    /**
+     * Receives each attempt at a level as it ends.
+     */
+    @FunctionalInterface
+    public interface AttemptListener {
+
+        /**
+         * Called when an attempt ends.
+         *
+         * @param result The attempt's measurements.
+         * @throws IOException If the attempt cannot be handled (e.g.,
+         * written).
+         */
+        void onAttempt(AttemptResult result) throws IOException;
+    }
+
+    /**
+     * The measurements of one attempt at a level.
+     *
+     * @param session The number of the session, from 0.
+     * @param level The number of the level, from 1.
+     * @param levelType The name of the level's
+     * {@link com.simcraft.levels.LevelType}.
+     * @param attempt The number of the attempt at the level in this session,
+     * from 1.
+     * @param outcome How the attempt ended.
+     * @param ticks The number of ticks the attempt lasted.
+     * @param gameSeconds The game time the attempt lasted, in seconds.
+     * @param realSeconds The real time the attempt took, in seconds.
+     * @param meanMillis The mean frame time, in milliseconds.
+     * @param p50Millis The median frame time, in milliseconds.
+     * @param p95Millis The 95th percentile frame time, in milliseconds.
+     * @param p99Millis The 99th percentile frame time, in milliseconds.
+     * @param maxMillis The longest frame time, in milliseconds.
+     * @param heapUsedMegabytes The heap in use when the attempt ended, in
+     * mebibytes.
+     */
+    public record AttemptResult(int session, int level, String levelType, int attempt, Outcome outcome,
+            int ticks, double gameSeconds, double realSeconds,
+            double meanMillis, double p50Millis, double p95Millis, double p99Millis, double maxMillis,
+            double heapUsedMegabytes) {
+
+        /**
+         * Returns the measurements as a report line, in the order of the
+         * report's columns.
+         *
+         * @return The comma-separated line.
+         */
+        public String toCsv() {
+            return String.join(",",
+                    Integer.toString(session),
+                    Integer.toString(level),
+                    levelType,
+                    Integer.toString(attempt),
+                    outcome.name(),
+                    Integer.toString(ticks),
+                    String.format(Locale.ROOT, "%.2f", gameSeconds),
+                    String.format(Locale.ROOT, "%.2f", realSeconds),
+                    String.format(Locale.ROOT, "%.3f", meanMillis),
+                    String.format(Locale.ROOT, "%.3f", p50Millis),
+                    String.format(Locale.ROOT, "%.3f", p95Millis),
+                    String.format(Locale.ROOT, "%.3f", p99Millis),
+                    String.format(Locale.ROOT, "%.3f", maxMillis),
+                    String.format(Locale.ROOT, "%.1f", heapUsedMegabytes)
+            );
+        }
+    }
+
+    /**
+     * Counts frame times in fixed buckets, so that an attempt of any length is
+     * summarised in constant memory. Percentiles are accurate to one bucket;
+     * the mean and maximum are exact.
+     */
+    private static final class FrameTimeHistogram {
+
+        /**
+         * The width of a bucket, in nanoseconds.
+         */
+        private static final long BUCKET_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+
+        /**
+         * The number of buckets; longer frames share the last one.
+         */
+        private static final int BUCKETS = 10_000;
+
+        /**
+         * The number of frames in each bucket.
+         */
+        private final long[] counts = new long[BUCKETS];
+
+        /**
+         * The number of frames recorded.
+         */
+        private long count;
+
+        /**
+         * The sum of the recorded frame times, in nanoseconds.
+         */
+        private long totalNanos;
+
+        /**
+         * The longest recorded frame time, in nanoseconds.
+         */
+        private long maxNanos;
+
+        /**
+         * Records a frame time.
+         *
+         * @param nanos The frame time, in nanoseconds.
+         */
+        void record(final long nanos) {
+            counts[(int) Math.min(nanos / BUCKET_NANOS, BUCKETS - 1)]++;
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        /**
+         * Forgets every recorded frame time.
+         */
+        void reset() {
+            Arrays.fill(counts, 0);
+            count = 0;
+            totalNanos = 0;
+            maxNanos = 0;
+        }
+
+        /**
+         * Returns the mean frame time.
+         *
+         * @return The mean, in nanoseconds, or 0 if nothing was recorded.
+         */
+        double meanNanos() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+
+        /**
+         * Returns the longest frame time.
+         *
+         * @return The maximum, in nanoseconds.
+         */
+        long maxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Returns a percentile of the frame times, by the nearest-rank method,
+         * as the upper edge of the bucket it falls in (capped at the maximum).
+         *
+         * @param fraction The percentile, between 0.0 and 1.0.
+         * @return The frame time, in nanoseconds, or 0 if nothing was
+         * recorded.
+         */
+        long percentileNanos(final double fraction) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(fraction * count));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min((i + 1) * BUCKET_NANOS, maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+    }
+
+    // ----- ENTRY POINT -----
+    /**
+     * Runs a soak test and writes a report of every attempt at a level.
+     * <p>
+     * Usage: {@code SoakRunner <report.csv> [options]}, where the options are:
+     * <ul>
+     * <li>{@code --hours 1}: how long to run, in hours (fractions
+     * allowed).</li>
+     * <li>{@code --seed 0}: the seed of the first session.</li>
+     * <li>{@code --render-every 1}: render a frame every this many
+     * ticks.</li>
+     * <li>{@code --restarts 1}: how many times each level is restarted before
+     * it is played through.</li>
+     * </ul>
+     * Each line of the report is written and printed as its attempt ends, so a
+     * run that is cut short keeps its results.
+     *
+     * @param args The command line arguments described above.
+     * @throws IOException If the report cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length % 2 == 0) {
+            System.err.println("Usage: SoakRunner <report.csv> [--hours 1] [--seed 0] [--render-every 1] [--restarts 1]");
+            System.exit(1);
+        }
+        System.setProperty("java.awt.headless", "true");
+
+        Path output = Paths.get(args[0]);
+        double hours = DEFAULT_HOURS;
+        long seed = HeadlessGameRenderer.DEFAULT_SEED;
+        int renderEvery = 1;
+        int restartsPerLevel = 1;
+        for (int i = 1; i < args.length; i += 2) {
+            switch (args[i]) {
+                case "--hours" ->
+                    hours = Double.parseDouble(args[i + 1]);
+                case "--seed" ->
+                    seed = Long.parseLong(args[i + 1]);
+                case "--render-every" ->
+                    renderEvery = Integer.parseInt(args[i + 1]);
+                case "--restarts" ->
+                    restartsPerLevel = Integer.parseInt(args[i + 1]);
+                default -> {
+                    System.err.println("SoakRunner: Unknown option " + args[i]);
+                    System.exit(1);
+                }
+            }
+        }
+
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        SoakRunner runner = new SoakRunner(Duration.ofMillis((long) (hours * 3_600_000)), seed, renderEvery, restartsPerLevel);
+        try (BufferedWriter writer = Files.newBufferedWriter(output)) {
+            writer.write(String.join(",", REPORT_COLUMNS));
+            writer.newLine();
+            System.out.println(String.join(",", REPORT_COLUMNS));
+            runner.run(result -> {
+                writer.write(result.toCsv());
+                writer.newLine();
+                writer.flush();
+                System.out.println(result.toCsv());
+            });
+        }
+        System.out.println("Report written to " + output.toAbsolutePath());
+        System.exit(0);
+    }
+}
@@ -0,0 +1,534 @@
+package com.simcraft.graphics.headless;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import static com.simcraft.App.FRAME_RATE_MS;
+import com.simcraft.managers.EnemyManager;
+import com.simcraft.managers.GameManager;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Fills the first level with a given number of enemies and measures how the
+ * game's tick time grows with their number, to find where the engine stops
+ * scaling and to check that optimisations help.
+ * <p>
+ * Each scenario runs in a fresh {@link HeadlessGameRenderer} with the default
+ * seed, so it always places the same enemies. Spawn waves are stopped and the
+ * level timer is made endless, so the number of enemies stays as asked and the
+ * game never ends. The enemies are added with
+ * {@link EnemyManager#addEnemiesTest(int, int, int)}, split between
+ * {@link com.simcraft.entities.enemies.Lecturer}s,
+ * {@link com.simcraft.entities.enemies.Student}s and
+ * {@link com.simcraft.entities.enemies.Yapper}s by a weighted mix. The game is
+ * then ticked, without rendering, for some warm-up ticks and then for the
+ * measured ticks.
+ * <p>
+ * For the measured ticks, each scenario reports tick-time percentiles, the
+ * memory allocated by the game thread, and the garbage collection pauses
+ * reported by the JVM.
+ */
+public final class StressScenarioRunner {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The enemy counts run when none are given.
+     */
+    private static final int[] DEFAULT_ENEMY_COUNTS = {100, 1_000, 5_000, 10_000};
+
+    /**
+     * The number of measured ticks when none is given.
+     */
+    private static final int DEFAULT_TICKS = 300;
+
+    /**
+     * The number of ticks run before measuring, letting the JIT compile the
+     * game loop.
+     */
+    private static final int DEFAULT_WARMUP_TICKS = 60;
+
+    /**
+     * The largest number of enemies in a scenario.
+     */
+    private static final int MAX_ENEMIES = 50_000;
+
+    /**
+     * The weights of Lecturers, Students and Yappers when no mix is given, as
+     * in {@link EnemyManager#addEnemiesTest()}.
+     */
+    private static final int[] DEFAULT_MIX = {4, 5, 2};
+
+    /**
+     * The columns of the report.
+     */
+    private static final String[] REPORT_COLUMNS = {
+        "enemies", "lecturers", "students", "yappers", "ticks",
+        "mean_ms", "p50_ms", "p95_ms", "p99_ms", "max_ms",
+        "alloc_kb_per_tick", "alloc_mb_per_s",
+        "gc_count", "gc_total_ms", "gc_max_pause_ms"
+    };
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The number of measured ticks per scenario.
+     */
+    private final int ticks;
+
+    /**
+     * The number of warm-up ticks per scenario.
+     */
+    private final int warmupTicks;
+
+    /**
+     * The weights of Lecturers, Students and Yappers.
+     */
+    private final int[] mix;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Constructs a {@code StressScenarioRunner}.
+     *
+     * @param ticks The number of measured ticks per scenario.
+     * @param warmupTicks The number of warm-up ticks per scenario.
+     * @param mix The weights of Lecturers, Students and Yappers, in that
+     * order.
+     * @throws IllegalArgumentException If {@code ticks} is not positive,
+     * {@code warmupTicks} is negative, or the mix does not hold three
+     * non-negative weights with a positive sum.
+     */
+    public StressScenarioRunner(final int ticks, final int warmupTicks, final int[] mix) {
+        if (ticks <= 0 || warmupTicks < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Need positive ticks and non-negative warm-up ticks, got %d and %d.",
+                    this.getClass().getName(),
+                    ticks,
+                    warmupTicks
+            ));
+        }
+        if (mix.length != 3 || Arrays.stream(mix).anyMatch(weight -> weight < 0) || Arrays.stream(mix).sum() <= 0) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: The mix needs three non-negative weights with a positive sum, got %s.",
+                    this.getClass().getName(),
+                    Arrays.toString(mix)
+            ));
+        }
+        this.ticks = ticks;
+        this.warmupTicks = warmupTicks;
+        this.mix = mix.clone();
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Runs one scenario.
+     *
+     * @param enemyCount The number of enemies to fill the level with.
+     * @return The scenario's measurements.
+     * @throws IllegalArgumentException If the enemy count is negative or above
+     * {@value #MAX_ENEMIES}.
+     */
+    public ScenarioResult run(final int enemyCount) {
+        if (enemyCount < 0 || enemyCount > MAX_ENEMIES) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Enemy count must be between 0 and %d, got %d.",
+                    this.getClass().getName(),
+                    MAX_ENEMIES,
+                    enemyCount
+            ));
+        }
+        int[] counts = split(enemyCount);
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[] gameThreadId = new long[1];
+        int[] liveEnemies = new int[1];
+
+        try (HeadlessGameRenderer renderer = new HeadlessGameRenderer(FRAME_RATE_MS, HeadlessGameRenderer.DEFAULT_SEED)) {
+            renderer.start();
+            renderer.execute(() -> {
+                GameManager gameManager = GameManager.getInstance();
+                gameManager.setRemainingSeconds(Integer.MAX_VALUE);
+                EnemyManager enemyManager = gameManager.getEnemyManager();
+                enemyManager.getSpawnDirector().stop();
+                enemyManager.addEnemiesTest(counts[0], counts[1], counts[2]);
+                liveEnemies[0] = enemyManager.getEnemies().size();
+                gameThreadId[0] = Thread.currentThread().threadId();
+            });
+            renderer.advance(warmupTicks);
+
+            long[] tickNanos = new long[ticks];
+            long allocated;
+            long elapsedNanos;
+            GcPauseRecorder gcPauses = new GcPauseRecorder();
+            try (gcPauses) {
+                long allocatedBefore = threads.getThreadAllocatedBytes(gameThreadId[0]);
+                long start = System.nanoTime();
+                for (int i = 0; i < ticks; i++) {
+                    renderer.advance(1);
+                    tickNanos[i] = renderer.getLastTickNanos();
+                }
+                elapsedNanos = System.nanoTime() - start;
+                allocated = threads.getThreadAllocatedBytes(gameThreadId[0]) - allocatedBefore;
+            }
+
+            Arrays.sort(tickNanos);
+            return new ScenarioResult(
+                    liveEnemies[0], counts[0], counts[1], counts[2], ticks,
+                    Arrays.stream(tickNanos).average().orElse(0) / 1_000_000.0,
+                    percentile(tickNanos, 0.50) / 1_000_000.0,
+                    percentile(tickNanos, 0.95) / 1_000_000.0,
+                    percentile(tickNanos, 0.99) / 1_000_000.0,
+                    percentile(tickNanos, 1.0) / 1_000_000.0,
+                    allocated / 1024.0 / ticks,
+                    allocated / (1024.0 * 1024.0) / (elapsedNanos / 1_000_000_000.0),
+                    gcPauses.getCount(),
+                    gcPauses.getTotalMillis(),
+                    gcPauses.getMaxMillis()
+            );
+        }
+    }
+
+    /**
+     * Writes scenario results as a CSV file, or as an HTML table if the file
+     * name ends in {@code .html}.
+     *
+     * @param results The results, one row each.
+     * @param output The file to write. Parent directories are created.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void writeReport(final List<ScenarioResult> results, final Path output) throws IOException {
+        boolean html = output.getFileName().toString().toLowerCase().endsWith(".html");
+        StringBuilder report = new StringBuilder();
+        if (html) {
+            report.append("<!DOCTYPE html>\n<html>\n<head><meta charset=\"UTF-8\"><title>Tick-time scaling</title></head>\n<body>\n")
+                    .append("<table border=\"1\" cellpadding=\"4\">\n<tr>");
+            for (String column : REPORT_COLUMNS) {
+                report.append("<th>").append(column).append("</th>");
+            }
+            report.append("</tr>\n");
+            for (ScenarioResult result : results) {
+                report.append("<tr>");
+                for (String cell : result.toCells()) {
+                    report.append("<td>").append(cell).append("</td>");
+                }
+                report.append("</tr>\n");
+            }
+            report.append("</table>\n</body>\n</html>\n");
+        } else {
+            report.append(String.join(",", REPORT_COLUMNS)).append('\n');
+            for (ScenarioResult result : results) {
+                report.append(String.join(",", result.toCells())).append('\n');
+            }
+        }
+
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(output, report);
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Splits an enemy count between the types by the mix, giving any
+     * remainder to the types with the largest fractional shares.
+     *
+     * @param enemyCount The number of enemies.
+     * @return The numbers of Lecturers, Students and Yappers.
+     */
+    private int[] split(final int enemyCount) {
+        int totalWeight = Arrays.stream(mix).sum();
+        int[] counts = new int[mix.length];
+        long[] remainders = new long[mix.length];
+        int assigned = 0;
+        for (int i = 0; i < mix.length; i++) {
+            long share = (long) enemyCount * mix[i];
+            counts[i] = (int) (share / totalWeight);
+            remainders[i] = share % totalWeight;
+            assigned += counts[i];
+        }
+        while (assigned < enemyCount) {
+            int largest = 0;
+            for (int i = 1; i < mix.length; i++) {
+                if (remainders[i] > remainders[largest]) {
+                    largest = i;
+                }
+            }
+            counts[largest]++;
+            remainders[largest] = -1;
+            assigned++;
+        }
+        return counts;
+    }
+
+    /**
+     * Returns a percentile of sorted values, by the nearest-rank method.
+     *
+     * @param sorted The values, in ascending order.
+     * @param fraction The percentile, between 0.0 and 1.0.
+     * @return The value, or 0 if there are no values.
+     */
+    private static long percentile(final long[] sorted, final double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(fraction * sorted.length);
+        return sorted[Math.clamp(rank - 1, 0, sorted.length - 1)];
+    }
+
+    /**
+     * Parses a comma- or colon-separated list of integers.
+     *
+     * @param list The list.
+     * @param separator The separator, as a regular expression.
+     * @return The integers.
+     * @throws NumberFormatException If an element is not an integer.
+     */
+    private static int[] parseInts(final String list, final String separator) {
+        return Arrays.stream(list.split(separator))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+    }
+
+    // ----- NESTED TYPES -----
+    /**
+     * The measurements of one scenario.
+     *
+     * @param enemies The number of enemies in play, as counted after setup.
+     * @param lecturers The number of Lecturers requested.
+     * @param students The number of Students requested.
+     * @param yappers The number of Yappers requested.
+     * @param ticks The number of measured ticks.
+     * @param meanMillis The mean tick time, in milliseconds.
+     * @param p50Millis The median tick time, in milliseconds.
+     * @param p95Millis The 95th percentile tick time, in milliseconds.
+     * @param p99Millis The 99th percentile tick time, in milliseconds.
+     * @param maxMillis The longest tick time, in milliseconds.
+     * @param allocatedKbPerTick The memory allocated by the game thread per
+     * tick, in kibibytes.
+     * @param allocatedMbPerSecond The memory allocated by the game thread per
+     * second of real time, in mebibytes.
+     * @param gcCount The number of garbage collection pauses.
+     * @param gcTotalMillis The total duration of the pauses, in milliseconds.
+     * @param gcMaxPauseMillis The longest pause, in milliseconds.
+     */
+    public record ScenarioResult(int enemies, int lecturers, int students, int yappers, int ticks,
+            double meanMillis, double p50Millis, double p95Millis, double p99Millis, double maxMillis,
+            double allocatedKbPerTick, double allocatedMbPerSecond,
+            int gcCount, long gcTotalMillis, long gcMaxPauseMillis) {
+
+        /**
+         * Returns the measurements as report cells, in the order of the
+         * report's columns.
+         *
+         * @return The cells.
+         */
+        private String[] toCells() {
+            return new String[]{
+                Integer.toString(enemies),
+                Integer.toString(lecturers),
+                Integer.toString(students),
+                Integer.toString(yappers),
+                Integer.toString(ticks),
+                String.format(Locale.ROOT, "%.3f", meanMillis),
+                String.format(Locale.ROOT, "%.3f", p50Millis),
+                String.format(Locale.ROOT, "%.3f", p95Millis),
+                String.format(Locale.ROOT, "%.3f", p99Millis),
+                String.format(Locale.ROOT, "%.3f", maxMillis),
+                String.format(Locale.ROOT, "%.1f", allocatedKbPerTick),
+                String.format(Locale.ROOT, "%.1f", allocatedMbPerSecond),
+                Integer.toString(gcCount),
+                Long.toString(gcTotalMillis),
+                Long.toString(gcMaxPauseMillis)
+            };
+        }
+    }
+
+    /**
+     * Records the garbage collection pauses reported by the JVM from its
+     * creation until it is closed.
+     */
+    private static final class GcPauseRecorder implements NotificationListener, AutoCloseable {
+
+        /**
+         * The collectors listened to.
+         */
+        private final List<NotificationEmitter> emitters = new ArrayList<>();
+
+        /**
+         * The number of pauses.
+         */
+        private int count = 0;
+
+        /**
+         * The total duration of the pauses, in milliseconds.
+         */
+        private long totalMillis = 0;
+
+        /**
+         * The longest pause, in milliseconds.
+         */
+        private long maxMillis = 0;
+
+        /**
+         * Constructs a {@code GcPauseRecorder} and starts listening to every
+         * collector.
+         */
+        private GcPauseRecorder() {
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                if (collector instanceof NotificationEmitter emitter) {
+                    emitter.addNotificationListener(this, null, null);
+                    emitters.add(emitter);
+                }
+            }
+        }
+
+        /**
+         * Returns the number of pauses.
+         *
+         * @return The pause count.
+         */
+        private synchronized int getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the total duration of the pauses.
+         *
+         * @return The total in milliseconds.
+         */
+        private synchronized long getTotalMillis() {
+            return totalMillis;
+        }
+
+        /**
+         * Returns the longest pause.
+         *
+         * @return The duration in milliseconds.
+         */
+        private synchronized long getMaxMillis() {
+            return maxMillis;
+        }
+
+        /**
+         * Records a pause reported by a collector.
+         *
+         * @param notification The notification.
+         * @param handback Unused.
+         */
+        @Override
+        public synchronized void handleNotification(final Notification notification, final Object handback) {
+            if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                return;
+            }
+            GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from(
+                    (CompositeData) notification.getUserData()
+            );
+            long duration = info.getGcInfo().getDuration();
+            count++;
+            totalMillis += duration;
+            maxMillis = Math.max(maxMillis, duration);
+        }
+
+        /**
+         * Stops listening to the collectors.
+         */
+        @Override
+        public void close() {
+            for (NotificationEmitter emitter : emitters) {
+                try {
+                    emitter.removeNotificationListener(this);
+                } catch (ListenerNotFoundException e) {
+                    // Already removed
+                }
+            }
+        }
+    }
+
+    // ----- ENTRY POINT -----
+    /**
+     * Runs scenarios of growing enemy counts and writes the scaling report.
+     * <p>
+     * Usage: {@code StressScenarioRunner <report.csv|report.html> [options]},
+     * with the options:
+     * <ul>
+     * <li>{@code --enemies 100,1000,10000,50000}: the enemy counts, up to
+     * {@value #MAX_ENEMIES};</li>
+     * <li>{@code --mix 4:5:2}: the weights of Lecturers, Students and
+     * Yappers;</li>
+     * <li>{@code --ticks 300}: the number of measured ticks per scenario;</li>
+     * <li>{@code --warmup 60}: the number of warm-up ticks per scenario.</li>
+     * </ul>
+     * Each scenario's summary is printed as it completes.
+     *
+     * @param args The command line arguments described above.
+     * @throws IOException If the report cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length % 2 == 0) {
+            System.err.println("Usage: StressScenarioRunner <report.csv|report.html> "
+                    + "[--enemies 100,1000,10000] [--mix 4:5:2] [--ticks 300] [--warmup 60]");
+            System.exit(1);
+        }
+        System.setProperty("java.awt.headless", "true");
+
+        Path output = Paths.get(args[0]);
+        int[] enemyCounts = DEFAULT_ENEMY_COUNTS;
+        int[] mix = DEFAULT_MIX;
+        int ticks = DEFAULT_TICKS;
+        int warmupTicks = DEFAULT_WARMUP_TICKS;
+        for (int i = 1; i < args.length; i += 2) {
+            switch (args[i]) {
+                case "--enemies" ->
+                    enemyCounts = parseInts(args[i + 1], ",");
+                case "--mix" ->
+                    mix = parseInts(args[i + 1], ":");
+                case "--ticks" ->
+                    ticks = Integer.parseInt(args[i + 1]);
+                case "--warmup" ->
+                    warmupTicks = Integer.parseInt(args[i + 1]);
+                default -> {
+                    System.err.println("StressScenarioRunner: Unknown option " + args[i]);
+                    System.exit(1);
+                }
+            }
+        }
+
+        StressScenarioRunner runner = new StressScenarioRunner(ticks, warmupTicks, mix);
+        List<ScenarioResult> results = new ArrayList<>();
+        for (int enemyCount : enemyCounts) {
+            ScenarioResult result = runner.run(enemyCount);
+            results.add(result);
+            System.out.println(String.format(
+                    "%d enemies: mean %.3f ms, p50 %.3f ms, p95 %.3f ms, p99 %.3f ms, max %.3f ms, "
+                    + "%.1f KB/tick allocated, %d GC pauses (%d ms total, %d ms max)",
+                    result.enemies(),
+                    result.meanMillis(),
+                    result.p50Millis(),
+                    result.p95Millis(),
+                    result.p99Millis(),
+                    result.maxMillis(),
+                    result.allocatedKbPerTick(),
+                    result.gcCount(),
+                    result.gcTotalMillis(),
+                    result.gcMaxPauseMillis()
+            ));
+        }
+        writeReport(results, output);
+        System.out.println("Report written to " + output.toAbsolutePath());
+        System.exit(0);
+    }
+}
@@ -7,6 +7,7 @@ import java.awt.Graphics2D;
 import javax.swing.JPanel;
 
 import com.simcraft.graphics.GameFrame;
+import com.simcraft.graphics.compositing.ScreenCompositor;
 import com.simcraft.interfaces.Renderable;
 import com.simcraft.interfaces.Updateable;
 
@@ -22,6 +23,13 @@ public abstract class AbstractScreen extends JPanel implements Updateable, Rende
      */
     protected final GameFrame gameFrame;
 
+    /**
+     * The compositor holding this screen's full-screen effects (fades, wipes,
+     * flashes). Its effects are applied once per frame, after the screen and
+     * all of its child panels have been painted.
+     */
+    protected final ScreenCompositor compositor = new ScreenCompositor();
+
     // ----- CONSTRUCTORS -----
     /**
      * Constructs a screen panel and sets its dimensions to match the game
@@ -40,16 +48,43 @@ public abstract class AbstractScreen extends JPanel implements Updateable, Rende
         setMaximumSize(panelSize);
     }
 
+    // ----- GETTERS -----
+    /**
+     * Returns the compositor that applies this screen's full-screen effects.
+     *
+     * @return The screen's {@link ScreenCompositor}.
+     */
+    public ScreenCompositor getCompositor() {
+        return compositor;
+    }
+
     // ----- BUSINESS LOGIC METHODS -----
     /**
      * Cleans up resources and UI elements when switching screens.
      */
     public void cleanup() {
+        compositor.clear();
         removeAll();
         revalidate();
     }
 
     // ----- OVERRIDDEN METHODS -----
+    /**
+     * Paints the screen, its child panels and then its stacked screen effects,
+     * so that effects cover the whole frame rather than only this panel's own
+     * background.
+     *
+     * @param g The {@link Graphics} context to paint on.
+     */
+    @Override
+    public void paint(Graphics g) {
+        super.paint(g);
+
+        if (g instanceof Graphics2D g2d) {
+            compositor.composite(g2d, getWidth(), getHeight());
+        }
+    }
+
     /**
      * Override the paintComponent method to render the game on the screen. This
      * is where custom rendering will occur.
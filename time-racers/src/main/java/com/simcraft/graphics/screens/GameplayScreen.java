@@ -1,6 +1,5 @@
 package com.simcraft.graphics.screens;
 
-import java.awt.AlphaComposite;
 import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Font;
@@ -8,26 +7,45 @@ import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
-import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
+import static com.simcraft.App.FRAME_RATE_MS;
 import com.simcraft.entities.*;
 import com.simcraft.graphics.GameFrame;
+import com.simcraft.graphics.compositing.ScreenCompositor;
+import com.simcraft.graphics.effects.screen_effects.FadeScreenEffect;
+import com.simcraft.graphics.effects.screen_effects.FlashScreenEffect;
 import com.simcraft.graphics.screens.subpanels.GamePanel;
 import com.simcraft.graphics.screens.subpanels.InfoPanel;
-import com.simcraft.levels.LevelConfig;
+import com.simcraft.input.InputRecorder;
 import com.simcraft.levels.LevelLibrary;
+import com.simcraft.levels.LevelStreamingService;
+import com.simcraft.levels.LevelStreamingService.PreparedLevel;
 import com.simcraft.levels.LevelType;
 import com.simcraft.managers.GameManager;
-import com.simcraft.managers.ImageManager;
+import com.simcraft.managers.GameSnapshot;
 import com.simcraft.managers.SoundManager;
+import com.simcraft.utility.GameClock;
+import com.simcraft.utility.GameRandom;
 
 /**
  * The {@code GameplayScreen} class represents the primary screen where the
  * actual gameplay takes place. It manages the game world, player input, level
  * transitions, and rendering of game elements.
+ * <p>
+ * Key input only takes effect when a key's state changes; the repeated presses
+ * sent while a key is held down are ignored, so the game plays the same
+ * whatever the keyboard's repeat rate. If the {@link GameFrame} was given an
+ * input recording path, every key-state change is recorded with the tick it
+ * happened on (see {@link InputRecorder}), so the session can be replayed
+ * exactly with {@link com.simcraft.input.InputReplay}. A recorded session runs
+ * the way a replay does: the {@link GameClock} is stepped by
+ * {@link com.simcraft.App#FRAME_RATE_MS} once per tick instead of following
+ * the wall clock, and the game manager is updated only by this screen, so
+ * recorded tick N and replayed tick N see the same game.
  */
 public final class GameplayScreen extends AbstractScreen {
 
@@ -44,6 +62,19 @@ public final class GameplayScreen extends AbstractScreen {
      * The duration of the damage flash effect in frames.
      */
     private static final int FLASH_DURATION = 30; // frames
+    /**
+     * The peak opacity of the red damage flash.
+     */
+    private static final float FLASH_OPACITY = 0.35f;
+    /**
+     * The time a recorded session's clock starts at, in milliseconds; the
+     * same as the clock of the headless renderer a recording is replayed in.
+     */
+    private static final long RECORDING_START_TIME_MILLIS = 0L;
+    /**
+     * The font used for the level name shown at the start of each level.
+     */
+    private static final Font LEVEL_TEXT_FONT = new Font("Arial", Font.BOLD, 48);
     /**
      * The speed of the player character during a cinematic walk sequence.
      */
@@ -103,6 +134,20 @@ public final class GameplayScreen extends AbstractScreen {
      * key.
      */
     private final Map<Integer, Boolean> keyStates;
+    /**
+     * The number of times the screen has been updated.
+     */
+    private long tickCount = 0;
+    /**
+     * Records the key-state changes of this session, or {@code null} if it is
+     * not being recorded.
+     */
+    private transient InputRecorder inputRecorder;
+    /**
+     * The clock of this session while it is being recorded, stepped once per
+     * tick, or {@code null} if it is not being recorded.
+     */
+    private transient GameClock.SteppedTimeSource recordingClock;
     /**
      * The fixed width of the current level in pixels.
      */
@@ -112,9 +157,15 @@ public final class GameplayScreen extends AbstractScreen {
      */
     private boolean atLevelEnd = false;
     /**
-     * Flag indicating if a fade-out transition is currently in progress.
+     * The fade-to-black effect played during level transitions. The next level
+     * is loaded once the screen is fully covered.
+     */
+    private final FadeScreenEffect fadeEffect;
+    /**
+     * The red flash played when the player takes damage. While it is active,
+     * further damage is ignored.
      */
-    private boolean fadingOut = false;
+    private final FlashScreenEffect damageFlashEffect;
     /**
      * Flag indicating if a cinematic walk sequence is currently active.
      */
@@ -136,9 +187,15 @@ public final class GameplayScreen extends AbstractScreen {
      */
     private int currentLevelIndex = 0;
     /**
-     * The current opacity of the fade-out overlay (0.0 to 1.0).
+     * Prepares the next level's backgrounds and music in the background while
+     * the current level is played.
+     */
+    private final transient LevelStreamingService levelStreamer = new LevelStreamingService();
+    /**
+     * The resources of the level currently displayed. Released when the next
+     * level is swapped in or the screen is cleaned up.
      */
-    private float fadeOpacity = 0f;
+    private transient PreparedLevel currentLevel;
     /**
      * The current opacity of the level name text (0.0 to 1.0).
      */
@@ -151,10 +208,6 @@ public final class GameplayScreen extends AbstractScreen {
      * The type of the currently loaded level (TOP_DOWN or SIDE_SCROLLING).
      */
     private LevelType currentLevelType = LevelType.TOP_DOWN;
-    /**
-     * A timer used to control the duration of the damage flash effect.
-     */
-    private int flashTimer = 0;
 
     // ----- CONSTRUCTORS -----
     /**
@@ -166,6 +219,19 @@ public final class GameplayScreen extends AbstractScreen {
      * level.
      */
     public GameplayScreen(GameFrame gameFrame) {
+        this(gameFrame, gameFrame != null ? gameFrame.getInputRecordingPath() : null);
+    }
+
+    /**
+     * Constructs a new {@code GameplayScreen} that records its input to the
+     * given file.
+     *
+     * @param gameFrame The main {@link GameFrame} that contains this screen,
+     * or {@code null} if it is not shown in a window.
+     * @param inputRecordingPath The file to record the session's input to, or
+     * {@code null} to play it unrecorded.
+     */
+    public GameplayScreen(GameFrame gameFrame, Path inputRecordingPath) {
         super(gameFrame);
         setLayout(new BorderLayout());
 
@@ -177,11 +243,18 @@ public final class GameplayScreen extends AbstractScreen {
         add(infoPanel, BorderLayout.NORTH);
 
         gameManager = GameManager.getInstance();
+        gameManager.setGameplayScreen(this);
         soundManager = SoundManager.getInstance();
 
+        fadeEffect = new FadeScreenEffect(this, Color.BLACK, FADE_SPEED, this::completeLevelTransition);
+        damageFlashEffect = new FlashScreenEffect(this, Color.RED, FLASH_OPACITY, FLASH_DURATION);
+
         keyStates = new HashMap<>();
         addKeyListener(createKeyListener());
 
+        if (inputRecordingPath != null) {
+            startRecording(inputRecordingPath);
+        }
         loadLevel(currentLevelIndex);
     }
 
@@ -205,17 +278,106 @@ public final class GameplayScreen extends AbstractScreen {
         return infoPanel;
     }
 
+    /**
+     * Returns the number of times the screen has been updated, i.e., the
+     * number of ticks played.
+     *
+     * @return The tick count.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Returns the index of the level being played. Once every level has been
+     * finished, the index is {@link LevelLibrary#getTotalLevels()}.
+     *
+     * @return The level index.
+     */
+    public int getCurrentLevelIndex() {
+        return currentLevelIndex;
+    }
+
+    /**
+     * Returns the type of the level being played.
+     *
+     * @return The {@link LevelType} of the current level.
+     */
+    public LevelType getCurrentLevelType() {
+        return currentLevelType;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Applies a change in the state of a key, as if it had been typed. Does
+     * nothing if the key is already in that state (e.g., a key held down
+     * being repeated). Records the change if the session is being recorded.
+     *
+     * @param keyCode The key code (see {@link KeyEvent}).
+     * @param pressed {@code true} if the key is pressed, {@code false} if it
+     * is released.
+     */
+    public void setKeyState(final int keyCode, final boolean pressed) {
+        if (keyStates.getOrDefault(keyCode, false) == pressed) {
+            return;
+        }
+        keyStates.put(keyCode, pressed);
+        if (inputRecorder != null) {
+            try {
+                inputRecorder.record(tickCount, keyCode, pressed);
+            } catch (IOException e) {
+                System.err.println(String.format(
+                        "%s: Stopped recording input: %s",
+                        this.getClass().getName(),
+                        e.getMessage()
+                ));
+                inputRecorder = null;
+            }
+        }
+        updateAliMovement();
+    }
+
+    /**
+     * Restarts the current level from a checkpoint: restores the game to it
+     * (see {@link GameManager#restore(GameSnapshot)}), ends any cinematic walk
+     * or jump in progress, shows the level name again and restarts the level's
+     * music. Nothing is reloaded.
+     *
+     * @param checkpoint The snapshot to restart from, taken in the current
+     * level.
+     */
+    public void restartLevel(final GameSnapshot checkpoint) {
+        gameManager.restore(checkpoint);
+        atLevelEnd = false;
+        cinematicWalk = false;
+        jumping = false;
+        jumpProgress = 0;
+        showLevelText = true;
+        levelTextOpacity = 1.0f;
+        updateAliMovement();
+
+        soundManager.stopAll();
+        soundManager.playClip(currentLevel.musicClipKey(), true);
+    }
+
     // ----- OVERRIDDEN METHODS -----
     /**
      * Updates the state of the gameplay screen. This includes updating the game
-     * manager, handling fade effects, cinematic sequences, level text display,
-     * damage effects, player jumping, and collisions.
+     * manager, advancing screen effects, cinematic sequences, level text
+     * display, damage effects, player jumping, and collisions.
      */
     @Override
     public void update() {
+        if (recordingClock != null) {
+            recordingClock.advance(FRAME_RATE_MS);
+        }
+        tickCount++;
         if (gameManager.isRunning()) {
             gameManager.update();
-            handleFade();
+            if (!gameManager.isRunning()) {
+                return; // The level timer ran out during this update
+            }
+            compositor.update();
             handleCinematicWalk();
             handleLevelTextFade();
             handleDamageEffects();
@@ -226,8 +388,9 @@ public final class GameplayScreen extends AbstractScreen {
 
     /**
      * Renders the elements of the gameplay screen. This includes rendering the
-     * {@link GamePanel}, {@link InfoPanel}, fade effects during level
-     * transitions, and the level name text at the start of each level.
+     * {@link GamePanel}, {@link InfoPanel} and the level name text at the start
+     * of each level. Fades and flashes are applied afterwards by the screen's
+     * {@link ScreenCompositor}.
      *
      * @param g2d The {@link Graphics2D} object used for rendering.
      */
@@ -237,115 +400,169 @@ public final class GameplayScreen extends AbstractScreen {
             gamePanel.safeRender(g2d);
             infoPanel.safeRender(g2d);
 
-            if (fadingOut) {
-                g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, fadeOpacity));
-                g2d.setColor(Color.BLACK);
-                g2d.fillRect(0, 0, getWidth(), getHeight());
-                g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1f));
-            }
-
             if (showLevelText) {
-                g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, levelTextOpacity));
+                g2d.setComposite(ScreenCompositor.alphaComposite(levelTextOpacity));
                 g2d.setColor(Color.WHITE);
-                g2d.setFont(new Font("Arial", Font.BOLD, 48));
+                g2d.setFont(LEVEL_TEXT_FONT);
                 int textWidth = g2d.getFontMetrics().stringWidth(nextLevelName);
                 g2d.drawString(nextLevelName, (getWidth() - textWidth) / 2, getHeight() / 2);
-                g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1f));
+                g2d.setComposite(ScreenCompositor.alphaComposite(1f));
             }
         }
     }
 
+    /**
+     * Finishes any input recording, then releases the current level's
+     * resources and stops level streaming before the usual screen cleanup.
+     */
+    @Override
+    public void cleanup() {
+        stopRecording();
+        levelStreamer.release(currentLevel);
+        currentLevel = null;
+        levelStreamer.close();
+        super.cleanup();
+    }
+
     // ---- HELPER METHODS -----
     /**
-     * Creates a {@link KeyAdapter} to handle keyboard input. Updates the
-     * {@code keyStates} map with the pressed and released keys and calls
-     * {@link #updateAliMovement()} to adjust the player's movement accordingly.
+     * Creates a {@link KeyAdapter} to handle keyboard input. Passes the pressed
+     * and released keys to {@link #setKeyState(int, boolean)}.
      *
      * @return A new {@code KeyAdapter} for handling key events.
      */
     private KeyAdapter createKeyListener() {
         return new KeyAdapter() {
-            /**
-             * Updates the movement of the player character ({@link Ali}) based
-             * on the current state of the pressed keys. It determines the
-             * velocity and animation of Ali based on the input and the current
-             * {@link LevelType}. Also handles initiating jumping in
-             * side-scrolling levels when the space key is pressed.
-             */
-            private void updateAliMovement() {
-                if (cinematicWalk) {
-                    return;
-                }
-                Ali ali = gameManager.getAli();
-                double speed = ali.getSpeed();
-                double velocityX = 0;
-                double velocityY = 0;
-                String animationKey = "ali_walk_right";
-
-                if (currentLevelType == LevelType.TOP_DOWN) {
-                    if (keyStates.getOrDefault(KeyEvent.VK_W, false)) {
-                        velocityY = speed;
-                        animationKey = "ali_walk_up";
-                    }
-                    if (keyStates.getOrDefault(KeyEvent.VK_S, false)) {
-                        velocityY = -speed;
-                        animationKey = "ali_walk_down";
-                    }
-                }
-
-                if (keyStates.getOrDefault(KeyEvent.VK_A, false)) {
-                    velocityX = -speed;
-                    animationKey = "ali_walk_left";
-                }
-                if (keyStates.getOrDefault(KeyEvent.VK_D, false)) {
-                    velocityX = speed;
-                    animationKey = "ali_walk_right";
-                }
-
-                double length = Math.sqrt(velocityX * velocityX + velocityY * velocityY);
-                if (length != 0) {
-                    velocityX = (velocityX / length) * speed;
-                    velocityY = (velocityY / length) * speed;
-                }
-
-                ali.setVelocityX(velocityX);
-                ali.setVelocityY(velocityY);
-                ali.setAnimation(animationKey);
-
-                if (keyStates.getOrDefault(KeyEvent.VK_SPACE, false) && !ali.isJumping()
-                        && currentLevelType == LevelType.SIDE_SCROLLING) {
-                    ali.jump(JUMP_INITIAL_VELOCITY);
-                }
-            }
-
             @Override
             public void keyPressed(KeyEvent e) {
-                keyStates.put(e.getKeyCode(), true);
-                updateAliMovement();
+                setKeyState(e.getKeyCode(), true);
             }
 
             @Override
             public void keyReleased(KeyEvent e) {
-                keyStates.put(e.getKeyCode(), false);
-                updateAliMovement();
+                setKeyState(e.getKeyCode(), false);
             }
         };
     }
 
+    /**
+     * Updates the movement of the player character ({@link Ali}) based on the
+     * current state of the pressed keys. It determines the velocity and
+     * animation of Ali based on the input and the current {@link LevelType}.
+     * Also handles initiating jumping in side-scrolling levels when the space
+     * key is pressed.
+     */
+    private void updateAliMovement() {
+        if (cinematicWalk) {
+            return;
+        }
+        Ali ali = gameManager.getAli();
+        double speed = ali.getSpeed();
+        double velocityX = 0;
+        double velocityY = 0;
+        String animationKey = "ali_walk_right";
+
+        if (currentLevelType == LevelType.TOP_DOWN) {
+            if (keyStates.getOrDefault(KeyEvent.VK_W, false)) {
+                velocityY = speed;
+                animationKey = "ali_walk_up";
+            }
+            if (keyStates.getOrDefault(KeyEvent.VK_S, false)) {
+                velocityY = -speed;
+                animationKey = "ali_walk_down";
+            }
+        }
+
+        if (keyStates.getOrDefault(KeyEvent.VK_A, false)) {
+            velocityX = -speed;
+            animationKey = "ali_walk_left";
+        }
+        if (keyStates.getOrDefault(KeyEvent.VK_D, false)) {
+            velocityX = speed;
+            animationKey = "ali_walk_right";
+        }
+
+        double length = Math.sqrt(velocityX * velocityX + velocityY * velocityY);
+        if (length != 0) {
+            velocityX = (velocityX / length) * speed;
+            velocityY = (velocityY / length) * speed;
+        }
+
+        ali.setVelocityX(velocityX);
+        ali.setVelocityY(velocityY);
+        ali.setAnimation(animationKey);
+
+        if (keyStates.getOrDefault(KeyEvent.VK_SPACE, false) && !ali.isJumping()
+                && currentLevelType == LevelType.SIDE_SCROLLING) {
+            ali.jump(JUMP_INITIAL_VELOCITY);
+        }
+    }
+
+    /**
+     * Starts recording the session's input to a file. The random streams are
+     * restarted from the session seed first, so that a replay seeded with the
+     * recorded seed draws the same numbers, and the session is switched to a
+     * stepped clock with the game manager's own timer turned off, as in a
+     * replay. Must be called before the first level is loaded. If the file
+     * cannot be created, the session is played unrecorded.
+     *
+     * @param path The file to record to.
+     */
+    private void startRecording(final Path path) {
+        GameRandom.setSeed(GameRandom.getSeed());
+        try {
+            inputRecorder = InputRecorder.create(path, GameRandom.getSeed(), FRAME_RATE_MS);
+        } catch (IOException e) {
+            System.err.println(String.format(
+                    "%s: Cannot record input to %s: %s",
+                    this.getClass().getName(),
+                    path,
+                    e.getMessage()
+            ));
+            return;
+        }
+        recordingClock = new GameClock.SteppedTimeSource(RECORDING_START_TIME_MILLIS);
+        GameClock.setTimeSource(recordingClock);
+        gameManager.setGameplayTimerEnabled(false);
+    }
+
+    /**
+     * Finishes the input recording, if any, at the current tick, and gives
+     * the game back the system clock and the game manager's own timer.
+     */
+    private void stopRecording() {
+        if (recordingClock != null) {
+            recordingClock = null;
+            GameClock.useSystemTime();
+            gameManager.setGameplayTimerEnabled(true);
+        }
+        if (inputRecorder == null) {
+            return;
+        }
+        try {
+            inputRecorder.finish(tickCount);
+        } catch (IOException e) {
+            System.err.println(String.format(
+                    "%s: Cannot finish input recording: %s",
+                    this.getClass().getName(),
+                    e.getMessage()
+            ));
+        }
+        inputRecorder = null;
+    }
+
     /**
      * Handles visual effects when the player character takes damage, such as a
-     * brief flash, and applies the damage (e.g., reducing time).
+     * brief red flash, and applies the damage (e.g., reducing time).
      */
     private void handleDamageEffects() {
         Ali ali = gameManager.getAli();
-        if (flashTimer > 0) {
-            flashTimer--;
-        }
 
         gameManager.getEnemyManager().getEnemies().forEach(enemy -> {
             if (ali.getBounds().intersects(enemy.getBounds())) {
-                if (flashTimer == 0) {
-                    flashTimer = FLASH_DURATION;
+                if (!damageFlashEffect.isEffectActive()) {
+                    damageFlashEffect.startEffect();
+                    compositor.push(damageFlashEffect);
                     gamePanel.spawnFloatingText("-10s", (int) ali.getX(), (int) ali.getY() - 40, Color.RED);
                     gameManager.reduceTime(10); // Decrease time
                 }
@@ -394,38 +611,26 @@ public final class GameplayScreen extends AbstractScreen {
     }
 
     /**
-     * Handles the fade-out effect used during level transitions. Gradually
-     * increases the opacity of a black overlay. Once the overlay is fully
-     * opaque, it triggers the completion of the level transition.
-     */
-    private void handleFade() {
-        if (fadingOut) {
-            fadeOpacity += FADE_SPEED;
-            if (fadeOpacity >= 1f) {
-                fadeOpacity = 1f;
-                completeLevelTransition();
-            }
-        }
-    }
-
-    /**
-     * Initiates the fade-out process for a level transition by setting the
-     * {@code fadingOut} flag to true.
+     * Initiates the fade-out process for a level transition by starting the
+     * fade effect and stacking it on the screen's compositor. Once the screen
+     * is fully covered, {@link #completeLevelTransition()} is called.
      */
     private void startFadeOut() {
-        fadingOut = true;
+        if (!fadeEffect.isEffectActive()) {
+            fadeEffect.startEffect();
+            compositor.push(fadeEffect);
+        }
     }
 
     /**
-     * Completes the level transition process. Resets the fade opacity,
-     * increments the current level index, resets the level end flag, and loads
-     * the next level if available. If all levels are completed, it prints a
-     * completion message. Finally, it removes all components from the screen,
-     * loads the new level, and revalidates and repaints the screen.
+     * Completes the level transition process. Increments the current level
+     * index, resets the level end flag, and loads the next level if available.
+     * If all levels are completed, it prints a completion message. The next
+     * level's resources have normally been prefetched while this level was
+     * played, so loading it only swaps them into the existing
+     * {@link GamePanel}.
      */
     private void completeLevelTransition() {
-        fadingOut = false;
-        fadeOpacity = 0f;
         currentLevelIndex++;
         atLevelEnd = false;
 
@@ -436,10 +641,7 @@ public final class GameplayScreen extends AbstractScreen {
             return;
         }
 
-        removeAll();
         loadLevel(currentLevelIndex);
-        add(infoPanel, BorderLayout.NORTH);
-        revalidate();
         repaint();
     }
 
@@ -502,37 +704,48 @@ public final class GameplayScreen extends AbstractScreen {
      * Loads a specific level based on its index.
      *
      * @param index The index of the level to load from {@link LevelLibrary}.
-     * Updates the background of the {@link GamePanel}, stops all existing
-     * sounds, plays the background music for the new level, sets the next level
-     * name for display, and applies level-specific settings.
+     * Swaps the level's prepared background into the {@link GamePanel}
+     * (creating the panel for the first level), stops all existing sounds,
+     * plays the background music for the new level, starts its spawn waves and
+     * time limit, sets the next level name for display, applies level-specific
+     * settings, takes the checkpoint a restart goes back to and starts
+     * prefetching the level after it.
      */
     private void loadLevel(int index) {
-        LevelConfig levelConfig = LevelLibrary.getLevel(index);
-        List<String> backgroundPaths = levelConfig.getBackgroundImagePaths();
-        BufferedImage[] backgroundTiles = backgroundPaths.stream()
-                .map(ImageManager::loadBufferedImage)
-                .toArray(BufferedImage[]::new);
-
-        gamePanel = new GamePanel(
-                GameFrame.FRAME_WIDTH,
-                GameFrame.FRAME_HEIGHT - INFO_PANEL_HEIGHT,
-                backgroundTiles
-        );
-        add(gamePanel, BorderLayout.CENTER);
-
-        gameManager.init(gamePanel, infoPanel);
+        // Take the new level before releasing the old one so tiles shared
+        // between levels stay pinned and are never decoded again
+        PreparedLevel preparedLevel = levelStreamer.take(index);
+        levelStreamer.release(currentLevel);
+        currentLevel = preparedLevel;
+
+        if (gamePanel == null) {
+            gamePanel = new GamePanel(
+                    GameFrame.FRAME_WIDTH,
+                    GameFrame.FRAME_HEIGHT - INFO_PANEL_HEIGHT,
+                    preparedLevel.backgroundTiles()
+            );
+            add(gamePanel, BorderLayout.CENTER);
+            gameManager.init(gamePanel, infoPanel);
+        } else {
+            gamePanel.loadNewBackground(preparedLevel.backgroundTiles());
+        }
         gameManager.getEnemyManager().clear();
+        gameManager.getEnemyManager().startLevel(index, preparedLevel.config());
+        gameManager.setRemainingSeconds(preparedLevel.config().getLevelTimeLimitSeconds());
 
         nextLevelName = "LEVEL " + (index + 1);
         infoPanel.updateLevelCounter(index + 1);
         showLevelText = true;
         levelTextOpacity = 1.0f;
 
-        currentLevelType = levelConfig.getLevelType();
+        currentLevelType = preparedLevel.config().getLevelType();
         applyLevelSettings();
+        gameManager.setCheckpoint(gameManager.snapshot());
 
         soundManager.stopAll();
-        soundManager.playClip("background", true);
+        soundManager.playClip(preparedLevel.musicClipKey(), true);
+
+        levelStreamer.prefetch(index + 1);
     }
 
     /**
@@ -3,7 +3,6 @@ package com.simcraft.graphics.screens;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.FontMetrics;
-import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
@@ -11,11 +10,14 @@ import java.awt.event.KeyEvent;
 import com.simcraft.graphics.GameFrame;
 import com.simcraft.graphics.UIConstants;
 import com.simcraft.graphics.effects.screen_effects.HorizontalScreenWipeEffect;
+import com.simcraft.managers.AssetPreloader;
 
 /**
  * The {@code WelcomeScreen} is the initial screen displayed to the player when
  * the game starts. It presents the game's title and a prompt instructing the
- * player to press the ENTER key to begin the gameplay. Upon pressing ENTER, it
+ * player to press the ENTER key to begin the gameplay. While the game's assets
+ * are still loading in the background, a progress bar is shown instead of the
+ * prompt and ENTER is ignored. Upon pressing ENTER, it
  * initiates a visual transition effect (horizontal screen wipe) before
  * switching to the {@link GameplayScreen}.
  */
@@ -38,13 +40,31 @@ public class WelcomeScreen extends AbstractScreen {
      * The font used for rendering the start prompt.
      */
     private static final Font PROMPT_FONT = UIConstants.BODY_FONT;
+    /**
+     * The prompt displayed while assets are still loading.
+     */
+    private static final String LOADING_PROMPT = "Loading...";
+    /**
+     * The width of the loading progress bar in pixels.
+     */
+    private static final int PROGRESS_BAR_WIDTH = 400;
+    /**
+     * The height of the loading progress bar in pixels.
+     */
+    private static final int PROGRESS_BAR_HEIGHT = 16;
 
     // ----- INSTANCE VARIABLES -----
     /**
      * An effect that creates a horizontal wipe across the screen, used as a
      * transition to the next screen.
      */
-    private HorizontalScreenWipeEffect screenWipeEffect;
+    private final HorizontalScreenWipeEffect screenWipeEffect;
+
+    /**
+     * The preloader whose progress is displayed, or {@code null} if assets are
+     * not being preloaded.
+     */
+    private final AssetPreloader assetPreloader;
 
     /**
      * Constructs a {@code WelcomeScreen} associated with the main
@@ -59,45 +79,39 @@ public class WelcomeScreen extends AbstractScreen {
         setBackground(Color.BLACK);
         setFocusable(true); // Ensure the screen can receive key events
         screenWipeEffect = new HorizontalScreenWipeEffect(WelcomeScreen.this, 500); // 500ms wipe duration
+        assetPreloader = gameFrame != null ? gameFrame.getAssetPreloader() : null;
 
         // Add a key listener to handle the ENTER key press
         addKeyListener(new KeyAdapter() {
             @Override
             public void keyPressed(KeyEvent e) {
-                if (e.getKeyCode() == KeyEvent.VK_ENTER) {
+                if (e.getKeyCode() == KeyEvent.VK_ENTER && isLoaded() && !screenWipeEffect.isEffectActive()) {
                     // Start the screen wipe effect. Once the wipe is complete,
                     // the callback function will set the game screen to GameplayScreen.
                     screenWipeEffect.startEffect(() -> {
                         gameFrame.setScreen(new GameplayScreen(gameFrame));
                     });
+                    compositor.push(screenWipeEffect);
                 }
             }
         });
     }
 
-    // ----- OVERRIDDEN METHODS -----
+    // ----- GETTERS -----
     /**
-     * Overrides the {@link AbstractScreen#paintComponent(Graphics)} method to
-     * render the welcome screen elements and the screen wipe effect if it's
-     * active.
+     * Checks whether the game's start-up assets have finished loading.
      *
-     * @param g The {@link Graphics} object to draw on.
+     * @return {@code true} if loading is complete or no preloader is in use.
      */
-    @Override
-    protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
-        Graphics2D g2d = (Graphics2D) g;
-        render(g2d); // Render the static elements of the welcome screen
-
-        // If the screen wipe effect is active, draw it on top
-        if (screenWipeEffect != null && screenWipeEffect.isEffectActive()) {
-            screenWipeEffect.draw(g2d);
-        }
+    public boolean isLoaded() {
+        return assetPreloader == null || assetPreloader.isComplete();
     }
 
+    // ----- OVERRIDDEN METHODS -----
     /**
      * Implements the {@link AbstractScreen#render(Graphics2D)} method to draw
-     * the title and the start prompt centered on the screen.
+     * the title and either the start prompt or the loading progress centered
+     * on the screen.
      *
      * @param g2d The {@link Graphics2D} object used for rendering.
      */
@@ -119,25 +133,52 @@ public class WelcomeScreen extends AbstractScreen {
         int titleY = height / 2 - titleMetrics.getHeight();
         g2d.drawString(TITLE, titleX, titleY);
 
-        // Draw the start prompt
+        // Draw the start prompt, or the loading prompt and progress bar
+        String prompt = isLoaded() ? START_PROMPT : LOADING_PROMPT;
         g2d.setFont(PROMPT_FONT);
         FontMetrics promptMetrics = g2d.getFontMetrics(PROMPT_FONT);
-        int promptWidth = promptMetrics.stringWidth(START_PROMPT);
+        int promptWidth = promptMetrics.stringWidth(prompt);
         int promptX = (width - promptWidth) / 2;
         int promptY = height / 2 + promptMetrics.getAscent() + 20;
-        g2d.drawString(START_PROMPT, promptX, promptY);
+        g2d.drawString(prompt, promptX, promptY);
+
+        if (!isLoaded()) {
+            drawProgressBar(g2d, width, promptY + 20);
+        }
     }
 
     /**
      * Implements the {@link AbstractScreen#update()} method to update any
      * dynamic elements on the welcome screen, such as the screen wipe effect.
+     * The wipe itself is drawn by the screen's compositor at the end of each
+     * frame.
      */
     @Override
     public void update() {
-        // Update the screen wipe effect if it's currently active
-        if (screenWipeEffect != null && screenWipeEffect.isEffectActive()) {
-            screenWipeEffect.updateEffect();
+        if (compositor.hasEffects()) {
+            compositor.update();
             repaint(); // Trigger a repaint to show the effect's progress
+        } else if (!isLoaded()) {
+            repaint(); // Keep the loading bar up to date
         }
     }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Draws the asset loading progress bar, horizontally centered.
+     *
+     * @param g2d The {@link Graphics2D} object used for rendering.
+     * @param width The width of the screen.
+     * @param y The top of the progress bar.
+     */
+    private void drawProgressBar(Graphics2D g2d, int width, int y) {
+        int x = (width - PROGRESS_BAR_WIDTH) / 2;
+        int filledWidth = Math.round(PROGRESS_BAR_WIDTH * assetPreloader.getProgress());
+
+        g2d.setColor(Color.DARK_GRAY);
+        g2d.fillRect(x, y, PROGRESS_BAR_WIDTH, PROGRESS_BAR_HEIGHT);
+        g2d.setColor(Color.WHITE);
+        g2d.fillRect(x, y, filledWidth, PROGRESS_BAR_HEIGHT);
+        g2d.drawRect(x, y, PROGRESS_BAR_WIDTH, PROGRESS_BAR_HEIGHT);
+    }
 }
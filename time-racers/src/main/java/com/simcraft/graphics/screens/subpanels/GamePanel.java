@@ -1,20 +1,25 @@
 package com.simcraft.graphics.screens.subpanels;
 
-import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
 import com.simcraft.entities.Ali;
+import com.simcraft.entities.Entity;
 import com.simcraft.entities.FloatingText;
 import com.simcraft.entities.TeleportArrow;
 import com.simcraft.entities.EnterClassroom;
+import com.simcraft.graphics.compositing.ScreenCompositor;
 import com.simcraft.managers.GameManager;
+import com.simcraft.managers.GameSnapshot;
+import com.simcraft.utility.GameClock;
 
 /**
  * A component that displays the scrolling background and all entities within
@@ -277,7 +282,7 @@ public class GamePanel extends Subpanel {
     @Deprecated
     public void showFloatingText(final String message) {
         this.floatingText = message;
-        this.floatingTextStartTime = System.currentTimeMillis();
+        this.floatingTextStartTime = GameClock.currentTimeMillis();
     }
 
     /**
@@ -307,6 +312,53 @@ public class GamePanel extends Subpanel {
         this.floatingTexts.clear();
     }
 
+    /**
+     * Writes the scroll offset and the positions of the special objects to a
+     * snapshot (see {@link GameSnapshot}).
+     *
+     * @param out The snapshot being written.
+     */
+    public void writeState(final GameSnapshot.Writer out) {
+        out.putInt(scrollOffset);
+        writeSpecialObject(out, teleportArrow);
+        writeSpecialObject(out, enterClassroom);
+    }
+
+    /**
+     * Reads the state written by {@link #writeState(GameSnapshot.Writer)}
+     * back into this panel. Special objects still in place are moved rather
+     * than recreated. Floating text notifications are cleared.
+     *
+     * @param in The snapshot being read.
+     */
+    public void readState(final ByteBuffer in) {
+        scrollOffset = in.getInt();
+        if (GameSnapshot.getBoolean(in)) {
+            int x = in.getInt();
+            int y = in.getInt();
+            if (teleportArrow == null) {
+                teleportArrow = new TeleportArrow(x, y);
+            } else {
+                teleportArrow.setPosition(new Point(x, y));
+            }
+        } else {
+            teleportArrow = null;
+        }
+        if (GameSnapshot.getBoolean(in)) {
+            int x = in.getInt();
+            int y = in.getInt();
+            if (enterClassroom == null) {
+                enterClassroom = new EnterClassroom(x, y);
+            } else {
+                enterClassroom.setPosition(new Point(x, y));
+            }
+        } else {
+            enterClassroom = null;
+        }
+        floatingText = "";
+        floatingTexts.clear();
+    }
+
     /**
      * Draws a visual cue, such as an arrow, at a specific location on the
      * screen to prompt the player to press the Enter key for interaction. This
@@ -315,12 +367,12 @@ public class GamePanel extends Subpanel {
      * @param g2d The {@link Graphics2D} object used for rendering.
      */
     public void drawEnterArrow(final Graphics2D g2d) {
-        g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.5f)); // semi-transparent
+        g2d.setComposite(ScreenCompositor.alphaComposite(0.5f)); // semi-transparent
         g2d.setColor(Color.CYAN);
         int x = getWidth() - 100;
         int y = getHeight() / 2;
         g2d.fillRect(x, y, 30, 30); // Arrow as a block
-        g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1f)); // reset alpha
+        g2d.setComposite(ScreenCompositor.alphaComposite(1f)); // reset alpha
     }
 
     // ----- OVERRIDDEN METHODS -----
@@ -379,6 +431,19 @@ public class GamePanel extends Subpanel {
     }
 
     // ----- HELPER METHODS -----
+    /**
+     * Writes whether a special object is present and, if so, its position.
+     *
+     * @param out The snapshot being written.
+     * @param object The special object, or {@code null} if there is none.
+     */
+    private void writeSpecialObject(final GameSnapshot.Writer out, final Entity object) {
+        out.putBoolean(object != null);
+        if (object != null) {
+            out.putInt(object.getX()).putInt(object.getY());
+        }
+    }
+
     /**
      * Draws the background tiles horizontally, creating a scrolling effect
      * based on the current {@code scrollOffset}. Tiles are repeated seamlessly
@@ -418,7 +483,7 @@ public class GamePanel extends Subpanel {
     @Deprecated
     private void renderSingleFloatingText(final Graphics2D g2d, final Ali ali) {
         if (floatingTextStartTime > 0) {
-            long elapsedTime = System.currentTimeMillis() - floatingTextStartTime;
+            long elapsedTime = GameClock.currentTimeMillis() - floatingTextStartTime;
             if (elapsedTime <= FLOATING_TEXT_DURATION_MS) {
                 g2d.setFont(floatingTextFont);
                 g2d.setColor(FLOATING_TEXT_COLOUR);
@@ -12,6 +12,7 @@ import com.simcraft.graphics.UIConstants;
 import com.simcraft.interfaces.Updateable;
 import com.simcraft.managers.GameManager;
 import com.simcraft.utility.ButtonUtil;
+import com.simcraft.utility.GameClock;
 
 /**
  * The {@code InfoPanel} is a subpanel displayed at the top of the gameplay
@@ -168,7 +169,7 @@ public final class InfoPanel extends Subpanel implements Updateable {
      */
     public void showCollisionNotification(final String enemyName, final int timeLost) {
         currentNotification = String.format("Stopped by %s! Lost %d seconds!", enemyName, timeLost);
-        notificationDisplayStartTime = System.currentTimeMillis();
+        notificationDisplayStartTime = GameClock.currentTimeMillis();
         collisionNotificationLabel.setText(currentNotification);
     }
 
@@ -179,7 +180,7 @@ public final class InfoPanel extends Subpanel implements Updateable {
      */
     private void updateCollisionNotificationDisplay() {
         if (notificationDisplayStartTime > 0) {
-            long elapsedTime = System.currentTimeMillis() - notificationDisplayStartTime;
+            long elapsedTime = GameClock.currentTimeMillis() - notificationDisplayStartTime;
             if (elapsedTime > NOTIFICATION_DURATION_MS) {
                 collisionNotificationLabel.setText("");
                 currentNotification = "";
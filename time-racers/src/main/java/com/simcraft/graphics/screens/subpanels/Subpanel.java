@@ -7,12 +7,13 @@ import java.awt.Point;
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
 import java.awt.image.BufferedImage;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 import javax.swing.JPanel;
 
 import com.simcraft.interfaces.Renderable;
 import com.simcraft.managers.ImageManager;
+import com.simcraft.utility.GameRandom;
 
 /**
  * An abstract base class for all subpanels that are part of game screens (e.g.,
@@ -33,11 +34,6 @@ public abstract class Subpanel extends JPanel implements Renderable {
      * subpanel.
      */
     protected BufferedImage backgroundImage;
-    /**
-     * A {@link Random} number generator instance that can be used by subclasses
-     * for various purposes, such as generating random positions or values.
-     */
-    protected Random random;
 
     /**
      * A flag to indicate whether the size of the subpanel has been initialized
@@ -95,7 +91,7 @@ public abstract class Subpanel extends JPanel implements Renderable {
      */
     public final void setBackgroundImage(final String backgroundImageFilepath) {
         this.backgroundImageFilepath = backgroundImageFilepath;
-        backgroundImage = ImageManager.loadBufferedImage(backgroundImageFilepath);
+        backgroundImage = ImageManager.getImage(backgroundImageFilepath);
 
         if (backgroundImage == null) {
             System.err.println(String.format(
@@ -121,6 +117,7 @@ public abstract class Subpanel extends JPanel implements Renderable {
         if (!sizeInitialized) {
             throw new IllegalStateException(this.getClass().getName() + " size not initialized, cannot get random point.");
         }
+        SplittableRandom random = GameRandom.stream(GameRandom.Stream.SPAWN);
         return new Point(
                 random.nextInt(getWidth()),
                 random.nextInt(getHeight())
@@ -164,9 +161,9 @@ public abstract class Subpanel extends JPanel implements Renderable {
     // ----- HELPER METHODS -----
     /**
      * Initializes common properties of the subpanel, such as setting the
-     * preferred, minimum, and maximum size, initializing the {@link Random}
-     * instance, and adding a {@link ComponentListener} to track when the
-     * panel's size is initialized (after the first resize event).
+     * preferred, minimum, and maximum size, and adding a
+     * {@link ComponentListener} to track when the panel's size is initialized
+     * (after the first resize event).
      *
      * @param width The initial width of the subpanel.
      * @param height The initial height of the subpanel.
@@ -176,7 +173,6 @@ public abstract class Subpanel extends JPanel implements Renderable {
         setPreferredSize(panelSize);
         setMinimumSize(panelSize);
         setMaximumSize(panelSize);
-        random = new Random();
         addComponentListener(new ComponentAdapter() {
             @Override
             public void componentResized(ComponentEvent e) {
@@ -0,0 +1,238 @@
+package com.simcraft.input;
+
+import java.awt.Rectangle;
+import java.awt.event.KeyEvent;
+
+import com.simcraft.entities.Ali;
+import com.simcraft.entities.enemies.Enemy;
+import com.simcraft.graphics.screens.GameplayScreen;
+import com.simcraft.graphics.screens.subpanels.GamePanel;
+import com.simcraft.levels.LevelType;
+import com.simcraft.managers.GameManager;
+
+/**
+ * Plays the game in place of a human: each tick, it decides which movement
+ * keys to hold and applies them to the {@link GameplayScreen} with
+ * {@link GameplayScreen#setKeyState(int, boolean)}, so that {@link Ali} is
+ * moved through the same velocity and animation changes as a player's key
+ * presses.
+ * <p>
+ * Ali heads for the level's goal, the
+ * {@link com.simcraft.entities.TeleportArrow} in top-down levels or the
+ * {@link com.simcraft.entities.EnterClassroom} in side-scrolling ones. In
+ * top-down levels, enemies whose bounds come within {@value #DODGE_RADIUS}
+ * pixels of Ali's push him away from them, weighted by how close they are. In
+ * side-scrolling levels, where Ali can only walk left and right, he jumps when
+ * an enemy is just ahead of him.
+ * <p>
+ * The autopilot only reads the game's state; it is meant for unattended soak
+ * runs (see {@link com.simcraft.graphics.headless.SoakRunner}), not for
+ * playing well.
+ */
+public final class Autopilot {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The distance, in pixels, within which an enemy's bounds make Ali steer
+     * away in top-down levels.
+     */
+    private static final int DODGE_RADIUS = 120;
+
+    /**
+     * How strongly enemies push Ali away, relative to the pull of the goal.
+     */
+    private static final double DODGE_WEIGHT = 1.5;
+
+    /**
+     * The distance, in pixels, ahead of Ali within which an enemy makes him
+     * jump in side-scrolling levels.
+     */
+    private static final int JUMP_TRIGGER_DISTANCE = 60;
+
+    /**
+     * The smallest component of the steering direction that holds a key down,
+     * so that Ali does not jitter when he is lined up with his goal.
+     */
+    private static final double DEAD_ZONE = 0.2;
+
+    /**
+     * The keys the autopilot presses.
+     */
+    private static final int[] KEYS = {
+        KeyEvent.VK_W, KeyEvent.VK_A, KeyEvent.VK_S, KeyEvent.VK_D, KeyEvent.VK_SPACE
+    };
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The keys currently held down, indexed like {@link #KEYS}.
+     */
+    private final boolean[] held = new boolean[KEYS.length];
+
+    /**
+     * The level being played when the autopilot last drove, or -1 before it
+     * first drives.
+     */
+    private int levelIndex = -1;
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Decides the keys to hold for the next tick and applies them. Does
+     * nothing unless the game is running. Must be called on the event dispatch
+     * thread, between ticks.
+     *
+     * @param screen The screen being played.
+     */
+    public void drive(final GameplayScreen screen) {
+        GameManager gameManager = GameManager.getInstance();
+        if (!gameManager.isRunning()) {
+            return;
+        }
+        if (screen.getCurrentLevelIndex() != levelIndex) {
+            // Keys held through a level transition would not move Ali in the
+            // new level until they change
+            levelIndex = screen.getCurrentLevelIndex();
+            releaseAll(screen);
+        }
+
+        Ali ali = gameManager.getAli();
+        GamePanel gamePanel = screen.getGamePanel();
+        Rectangle goal = gamePanel.getTeleportArrow() != null
+                ? gamePanel.getTeleportArrowBounds()
+                : gamePanel.getEnterClassroom() != null ? gamePanel.getEnterClassroomBounds() : null;
+        if (goal == null) {
+            releaseAll(screen);
+            return;
+        }
+
+        Rectangle aliBounds = ali.getBounds();
+        double toGoalX = goal.getCenterX() - aliBounds.getCenterX();
+        double toGoalY = goal.getCenterY() - aliBounds.getCenterY();
+        double distance = Math.hypot(toGoalX, toGoalY);
+        if (distance == 0) {
+            releaseAll(screen);
+            return;
+        }
+        double steerX = toGoalX / distance;
+        double steerY = toGoalY / distance;
+
+        if (screen.getCurrentLevelType() == LevelType.SIDE_SCROLLING) {
+            boolean enemyAhead = isEnemyAhead(gameManager, aliBounds, steerX > 0);
+            press(screen, 1, steerX < -DEAD_ZONE);
+            press(screen, 3, steerX > DEAD_ZONE);
+            // Released between jumps, as a jump starts when the key goes down
+            press(screen, 4, enemyAhead && !ali.isJumping() && !held[4]);
+            press(screen, 0, false);
+            press(screen, 2, false);
+            return;
+        }
+
+        double[] push = dodge(gameManager, aliBounds);
+        steerX += DODGE_WEIGHT * push[0];
+        steerY += DODGE_WEIGHT * push[1];
+        double length = Math.hypot(steerX, steerY);
+        if (length != 0) {
+            steerX /= length;
+            steerY /= length;
+        }
+        // Screen Y grows downwards: W moves Ali up, S moves him down
+        press(screen, 0, steerY < -DEAD_ZONE);
+        press(screen, 1, steerX < -DEAD_ZONE);
+        press(screen, 2, steerY > DEAD_ZONE);
+        press(screen, 3, steerX > DEAD_ZONE);
+        press(screen, 4, false);
+    }
+
+    /**
+     * Releases every key the autopilot is holding, e.g. before handing the
+     * game back to a player.
+     *
+     * @param screen The screen being played.
+     */
+    public void releaseAll(final GameplayScreen screen) {
+        for (int i = 0; i < KEYS.length; i++) {
+            press(screen, i, false);
+        }
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Presses or releases one of the autopilot's keys, if it is not already in
+     * that state.
+     *
+     * @param screen The screen being played.
+     * @param key The index of the key in {@link #KEYS}.
+     * @param pressed {@code true} to hold the key down.
+     */
+    private void press(final GameplayScreen screen, final int key, final boolean pressed) {
+        if (held[key] != pressed) {
+            held[key] = pressed;
+            screen.setKeyState(KEYS[key], pressed);
+        }
+    }
+
+    /**
+     * Sums the pushes of the enemies near Ali. Each enemy within
+     * {@link #DODGE_RADIUS} of Ali's bounds pushes him directly away from it,
+     * with a strength falling from 1 when touching to 0 at the radius.
+     *
+     * @param gameManager The game manager.
+     * @param aliBounds Ali's bounds.
+     * @return The summed push, as {@code {x, y}}.
+     */
+    private double[] dodge(final GameManager gameManager, final Rectangle aliBounds) {
+        double pushX = 0;
+        double pushY = 0;
+        for (Enemy enemy : gameManager.getEnemyManager().getEnemies()) {
+            Rectangle bounds = enemy.getBounds();
+            double gap = gap(aliBounds, bounds);
+            if (gap >= DODGE_RADIUS) {
+                continue;
+            }
+            double awayX = aliBounds.getCenterX() - bounds.getCenterX();
+            double awayY = aliBounds.getCenterY() - bounds.getCenterY();
+            double length = Math.hypot(awayX, awayY);
+            if (length == 0) {
+                continue;
+            }
+            double strength = 1.0 - gap / DODGE_RADIUS;
+            pushX += awayX / length * strength;
+            pushY += awayY / length * strength;
+        }
+        return new double[]{pushX, pushY};
+    }
+
+    /**
+     * Checks whether an enemy is within {@link #JUMP_TRIGGER_DISTANCE} ahead of
+     * Ali, in the direction he is walking.
+     *
+     * @param gameManager The game manager.
+     * @param aliBounds Ali's bounds.
+     * @param facingRight {@code true} if Ali is walking right.
+     * @return {@code true} if Ali should jump.
+     */
+    private boolean isEnemyAhead(final GameManager gameManager, final Rectangle aliBounds, final boolean facingRight) {
+        for (Enemy enemy : gameManager.getEnemyManager().getEnemies()) {
+            Rectangle bounds = enemy.getBounds();
+            double ahead = facingRight
+                    ? bounds.getMinX() - aliBounds.getMaxX()
+                    : aliBounds.getMinX() - bounds.getMaxX();
+            if (ahead > -bounds.getWidth() && ahead < JUMP_TRIGGER_DISTANCE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the distance between two rectangles, or 0 if they overlap.
+     *
+     * @param a The first rectangle.
+     * @param b The second rectangle.
+     * @return The distance between their closest edges.
+     */
+    private static double gap(final Rectangle a, final Rectangle b) {
+        double dx = Math.max(0, Math.max(b.getMinX() - a.getMaxX(), a.getMinX() - b.getMaxX()));
+        double dy = Math.max(0, Math.max(b.getMinY() - a.getMaxY(), a.getMinY() - b.getMaxY()));
+        return Math.hypot(dx, dy);
+    }
+}
@@ -0,0 +1,225 @@
+package com.simcraft.input;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Records the keyboard input of a play session as tick-stamped key-state
+ * changes, so that {@link InputReplay} can play the session back exactly.
+ * <p>
+ * The recording is a compact binary stream:
+ * <ul>
+ * <li>a header: the magic number {@code "TRIN"}, a format version byte, the
+ * session seed of {@link com.simcraft.utility.GameRandom} (8 bytes) and the
+ * tick length in milliseconds;</li>
+ * <li>one record per key-state change: the number of ticks since the previous
+ * record, then the key code shifted left by one with the new state (1 for
+ * pressed) in the lowest bit;</li>
+ * <li>an end record: the ticks since the previous record, then a zero.</li>
+ * </ul>
+ * Apart from the seed, every number is an unsigned variable-length integer of
+ * seven bits per byte, so a typical record takes two or three bytes. Each
+ * record is flushed as it is written, so a session cut short (e.g., by closing
+ * the window) keeps its input up to that point.
+ */
+public final class InputRecorder implements Closeable {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The first four bytes of every recording, {@code "TRIN"}.
+     */
+    static final int MAGIC = 0x5452494E;
+
+    /**
+     * The version of the recording format.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * The encoded key state that marks the end of a session.
+     */
+    static final int END_OF_SESSION = 0;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The stream the recording is written to.
+     */
+    private final DataOutputStream out;
+
+    /**
+     * The tick of the last record written.
+     */
+    private long lastTick = 0;
+
+    /**
+     * The number of key-state changes recorded.
+     */
+    private int eventCount = 0;
+
+    /**
+     * Whether the end record has been written.
+     */
+    private boolean finished = false;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Constructs an {@code InputRecorder} writing to a stream, and writes the
+     * header.
+     *
+     * @param out The stream to write the recording to. Closed with the
+     * recorder.
+     * @param seed The session seed the recorded session was played with.
+     * @param tickMillis The length of a tick in milliseconds.
+     * @throws IOException If the header cannot be written.
+     * @throws IllegalArgumentException If {@code tickMillis} is not positive.
+     */
+    public InputRecorder(final OutputStream out, final long seed, final long tickMillis) throws IOException {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Tick length must be positive, got %d.",
+                    this.getClass().getName(),
+                    tickMillis
+            ));
+        }
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+        this.out.writeInt(MAGIC);
+        this.out.writeByte(VERSION);
+        this.out.writeLong(seed);
+        writeVarLong(tickMillis);
+        this.out.flush();
+    }
+
+    /**
+     * Creates an {@code InputRecorder} writing to a file, creating parent
+     * directories as needed and replacing any existing file.
+     *
+     * @param path The file to write the recording to.
+     * @param seed The session seed the recorded session was played with.
+     * @param tickMillis The length of a tick in milliseconds.
+     * @return The recorder.
+     * @throws IOException If the file cannot be created.
+     */
+    public static InputRecorder create(final Path path, final long seed, final long tickMillis) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        return new InputRecorder(Files.newOutputStream(path), seed, tickMillis);
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the number of key-state changes recorded so far.
+     *
+     * @return The event count.
+     */
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Records a key-state change. The caller should only record actual
+     * changes, not the repeated presses sent while a key is held down.
+     *
+     * @param tick The number of ticks completed when the change happened; the
+     * replay applies it before the following tick.
+     * @param keyCode The key code (see {@link java.awt.event.KeyEvent}).
+     * @param pressed {@code true} if the key was pressed, {@code false} if it
+     * was released.
+     * @throws IOException If the record cannot be written.
+     * @throws IllegalArgumentException If the key code is not positive, or the
+     * tick is earlier than the last one recorded.
+     * @throws IllegalStateException If the recording has been finished.
+     */
+    public void record(final long tick, final int keyCode, final boolean pressed) throws IOException {
+        if (keyCode <= 0) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Key code must be positive, got %d.",
+                    this.getClass().getName(),
+                    keyCode
+            ));
+        }
+        writeRecord(tick, ((long) keyCode << 1) | (pressed ? 1 : 0));
+        eventCount++;
+    }
+
+    /**
+     * Writes the end record and closes the recording.
+     *
+     * @param endTick The number of ticks the session lasted.
+     * @throws IOException If the record cannot be written.
+     * @throws IllegalArgumentException If the tick is earlier than the last
+     * one recorded.
+     * @throws IllegalStateException If the recording has been finished.
+     */
+    public void finish(final long endTick) throws IOException {
+        writeRecord(endTick, END_OF_SESSION);
+        finished = true;
+        out.close();
+    }
+
+    // ----- OVERRIDDEN METHODS -----
+    /**
+     * Finishes the recording at the tick of the last record, unless it has
+     * already been finished.
+     *
+     * @throws IOException If the recording cannot be finished.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!finished) {
+            finish(lastTick);
+        }
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Writes one record and flushes it.
+     *
+     * @param tick The tick of the record.
+     * @param keyState The encoded key state.
+     * @throws IOException If the record cannot be written.
+     */
+    private void writeRecord(final long tick, final long keyState) throws IOException {
+        if (finished) {
+            throw new IllegalStateException(String.format(
+                    "%s: Recording has already been finished.",
+                    this.getClass().getName()
+            ));
+        }
+        if (tick < lastTick) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Tick %d is earlier than the last recorded tick %d.",
+                    this.getClass().getName(),
+                    tick,
+                    lastTick
+            ));
+        }
+        writeVarLong(tick - lastTick);
+        writeVarLong(keyState);
+        out.flush();
+        lastTick = tick;
+    }
+
+    /**
+     * Writes an unsigned variable-length integer, seven bits per byte, lowest
+     * bits first, with the top bit of each byte set if more bytes follow.
+     *
+     * @param value The value to write. Must not be negative.
+     * @throws IOException If the value cannot be written.
+     */
+    private void writeVarLong(final long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.writeByte((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.writeByte((int) remaining);
+    }
+}
@@ -0,0 +1,252 @@
+package com.simcraft.input;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * A recorded play session, read from the format written by
+ * {@link InputRecorder}, that feeds its key-state changes back tick by tick.
+ * <p>
+ * To replay a session exactly, the game must be started with the recording's
+ * {@link #getSeed() seed} and a simulated clock advancing by
+ * {@link #getTickMillis()} per tick (as the
+ * {@link com.simcraft.graphics.headless.HeadlessGameRenderer} does), and
+ * {@link #feed(long, KeyStateSink)} must be called before each tick. A
+ * recording cut short without an end record replays up to its last change.
+ */
+public final class InputReplay {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The session seed the recording was played with.
+     */
+    private final long seed;
+
+    /**
+     * The length of a tick in milliseconds.
+     */
+    private final long tickMillis;
+
+    /**
+     * The number of ticks the session lasted.
+     */
+    private final long endTick;
+
+    /**
+     * The tick of each key-state change, in order.
+     */
+    private final long[] ticks;
+
+    /**
+     * The key code of each key-state change.
+     */
+    private final int[] keyCodes;
+
+    /**
+     * The new state of each key-state change ({@code true} for pressed).
+     */
+    private final boolean[] pressed;
+
+    /**
+     * The index of the next key-state change to feed.
+     */
+    private int cursor = 0;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Reads a recording from a stream.
+     *
+     * @param in The stream to read from. Not closed.
+     * @throws IOException If the stream cannot be read, or does not hold a
+     * recording of a supported version.
+     */
+    public InputReplay(final InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != InputRecorder.MAGIC) {
+            throw new IOException(String.format(
+                    "%s: Not an input recording.",
+                    this.getClass().getName()
+            ));
+        }
+        int version = data.readUnsignedByte();
+        if (version != InputRecorder.VERSION) {
+            throw new IOException(String.format(
+                    "%s: Unsupported recording version %d.",
+                    this.getClass().getName(),
+                    version
+            ));
+        }
+        this.seed = data.readLong();
+        this.tickMillis = readVarLong(data);
+
+        long[] readTicks = new long[64];
+        int[] readKeyCodes = new int[64];
+        boolean[] readPressed = new boolean[64];
+        int count = 0;
+        long tick = 0;
+        long lastTick = 0;
+        while (true) {
+            long keyState;
+            try {
+                tick += readVarLong(data);
+                keyState = readVarLong(data);
+            } catch (EOFException e) {
+                // Cut short: replay up to the last complete record
+                break;
+            }
+            lastTick = tick;
+            if (keyState == InputRecorder.END_OF_SESSION) {
+                break;
+            }
+            if (count == readTicks.length) {
+                readTicks = Arrays.copyOf(readTicks, count * 2);
+                readKeyCodes = Arrays.copyOf(readKeyCodes, count * 2);
+                readPressed = Arrays.copyOf(readPressed, count * 2);
+            }
+            readTicks[count] = tick;
+            readKeyCodes[count] = (int) (keyState >>> 1);
+            readPressed[count] = (keyState & 1) != 0;
+            count++;
+        }
+        this.endTick = lastTick;
+        this.ticks = Arrays.copyOf(readTicks, count);
+        this.keyCodes = Arrays.copyOf(readKeyCodes, count);
+        this.pressed = Arrays.copyOf(readPressed, count);
+    }
+
+    /**
+     * Reads a recording from a file.
+     *
+     * @param path The file to read.
+     * @return The recording.
+     * @throws IOException If the file cannot be read, or does not hold a
+     * recording of a supported version.
+     */
+    public static InputReplay read(final Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return new InputReplay(in);
+        }
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the session seed the recording was played with.
+     *
+     * @return The seed to pass to
+     * {@link com.simcraft.utility.GameRandom#setSeed(long)}.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the length of a tick of the recorded session.
+     *
+     * @return The tick length in milliseconds.
+     */
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * Returns the number of ticks the recorded session lasted.
+     *
+     * @return The end tick.
+     */
+    public long getEndTick() {
+        return endTick;
+    }
+
+    /**
+     * Returns the number of key-state changes in the recording.
+     *
+     * @return The event count.
+     */
+    public int getEventCount() {
+        return ticks.length;
+    }
+
+    /**
+     * Checks whether every key-state change has been fed.
+     *
+     * @return {@code true} if nothing is left to feed.
+     */
+    public boolean isExhausted() {
+        return cursor == ticks.length;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Feeds every key-state change due by a tick that has not been fed yet.
+     * Call it with the number of ticks completed, before running the next
+     * tick.
+     *
+     * @param tick The number of ticks completed.
+     * @param sink Receives the key-state changes, in recorded order.
+     * @return The number of changes fed.
+     */
+    public int feed(final long tick, final KeyStateSink sink) {
+        int fed = 0;
+        while (cursor < ticks.length && ticks[cursor] <= tick) {
+            sink.setKeyState(keyCodes[cursor], pressed[cursor]);
+            cursor++;
+            fed++;
+        }
+        return fed;
+    }
+
+    /**
+     * Rewinds the replay to its first key-state change.
+     */
+    public void rewind() {
+        cursor = 0;
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Reads an unsigned variable-length integer written by
+     * {@link InputRecorder}.
+     *
+     * @param data The stream to read from.
+     * @return The value.
+     * @throws IOException If the stream cannot be read, or the value is
+     * malformed.
+     */
+    private long readVarLong(final DataInputStream data) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = data.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException(String.format(
+                "%s: Malformed variable-length integer.",
+                this.getClass().getName()
+        ));
+    }
+
+    // ----- NESTED TYPES -----
+    /**
+     * Receives the key-state changes fed by a replay.
+     */
+    @FunctionalInterface
+    public interface KeyStateSink {
+
+        /**
+         * Applies a key-state change.
+         *
+         * @param keyCode The key code (see {@link java.awt.event.KeyEvent}).
+         * @param pressed {@code true} if the key is pressed, {@code false} if
+         * it is released.
+         */
+        void setKeyState(int keyCode, boolean pressed);
+    }
+}
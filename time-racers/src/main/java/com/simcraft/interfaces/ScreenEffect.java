@@ -0,0 +1,40 @@
+package com.simcraft.interfaces;
+
+import java.awt.Graphics2D;
+
+/**
+ * A {@link VisualEffect} that covers a whole screen, such as a fade, a flash or
+ * a wipe transition. Screen effects are stacked on a
+ * {@link com.simcraft.graphics.compositing.ScreenCompositor} and applied
+ * together in a single pass once the rest of the frame has been drawn.
+ * <p>
+ * An effect describes its contribution in two parts:
+ * <ul>
+ * <li>A full-screen solid tint ({@link #getTintArgb()}). Tints from every
+ * active effect are folded into one colour by the compositor, so any number of
+ * fades and flashes costs a single fill.</li>
+ * <li>An optional overlay ({@link #drawOverlay(Graphics2D, int, int)}) for
+ * anything that is not a uniform tint, such as the growing bar of a wipe.</li>
+ * </ul>
+ */
+public interface ScreenEffect extends VisualEffect {
+
+    /**
+     * Returns the full-screen tint this effect contributes to the current
+     * frame, packed as a non-premultiplied ARGB value.
+     *
+     * @return The tint colour, or {@code 0} (fully transparent) if the effect
+     * does not tint the screen this frame.
+     */
+    int getTintArgb();
+
+    /**
+     * Draws the part of the effect that is not a uniform full-screen tint. The
+     * compositor calls this after the folded tint has been filled.
+     *
+     * @param g2d The {@link Graphics2D} context of the frame being composited.
+     * @param width The width of the frame in pixels.
+     * @param height The height of the frame in pixels.
+     */
+    void drawOverlay(Graphics2D g2d, int width, int height);
+}
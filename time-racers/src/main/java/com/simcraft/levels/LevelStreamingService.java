@@ -0,0 +1,191 @@
+package com.simcraft.levels;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.simcraft.managers.ImageManager;
+import com.simcraft.managers.SoundManager;
+
+/**
+ * Prepares the resources of upcoming levels in the background so that level
+ * transitions only have to swap in resources that are already decoded.
+ * <p>
+ * While level {@code N} is being played, {@link #prefetch(int)} decodes the
+ * background tiles of level {@code N + 1} on a single low-priority daemon
+ * thread, pins them in the {@link ImageManager} cache and prepares the level's
+ * music in the {@link SoundManager}. When the transition happens,
+ * {@link #take(int)} hands over the {@link PreparedLevel}. If a level was never
+ * prefetched, or its prefetch has not finished, it is prepared (or waited for)
+ * on the calling thread instead, so {@code take} always succeeds.
+ * <p>
+ * Prefetching and taking are expected to happen on the Event Dispatch Thread;
+ * only the decoding itself runs on the streaming thread.
+ */
+public final class LevelStreamingService {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The single streaming thread. One thread is enough to stay ahead of the
+     * player and keeps decoding from competing with the game loop.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Levels that are being, or have been, prefetched but not yet taken,
+     * keyed by level index.
+     */
+    private final Map<Integer, CompletableFuture<PreparedLevel>> pendingLevels = new HashMap<>();
+
+    /**
+     * Whether {@link #close()} has been called.
+     */
+    private boolean closed = false;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Constructs a {@code LevelStreamingService} with its own streaming
+     * thread.
+     */
+    public LevelStreamingService() {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "level-streamer");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY); // Gameplay always comes first
+            return thread;
+        });
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Checks whether a level has been fully prepared in the background and can
+     * be taken without blocking.
+     *
+     * @param index The zero-based level index.
+     * @return {@code true} if the level's prefetch has finished.
+     */
+    public boolean isPrepared(final int index) {
+        CompletableFuture<PreparedLevel> pending = pendingLevels.get(index);
+        return pending != null && pending.isDone();
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Starts preparing a level in the background. Indices outside the
+     * {@link LevelLibrary}, levels that are already pending and calls after
+     * {@link #close()} are ignored.
+     *
+     * @param index The zero-based level index.
+     */
+    public void prefetch(final int index) {
+        if (closed || index < 0 || index >= LevelLibrary.getTotalLevels() || pendingLevels.containsKey(index)) {
+            return;
+        }
+        pendingLevels.put(index, CompletableFuture.supplyAsync(() -> prepare(index), executor));
+    }
+
+    /**
+     * Hands over a prepared level. Uses the prefetched resources when
+     * available, waiting for an unfinished prefetch if necessary, and prepares
+     * the level on the calling thread if it was never prefetched.
+     * <p>
+     * The caller owns the returned level and must pass it to
+     * {@link #release(PreparedLevel)} once it is no longer displayed.
+     *
+     * @param index The zero-based level index.
+     * @return The prepared level.
+     * @throws IllegalArgumentException If {@code index} is not a valid level.
+     */
+    public PreparedLevel take(final int index) {
+        CompletableFuture<PreparedLevel> pending = pendingLevels.remove(index);
+        if (pending != null) {
+            if (!pending.isDone()) {
+                System.err.println(String.format(
+                        "%s: Level %d was not ready in time; waiting for its prefetch.",
+                        this.getClass().getName(),
+                        index + 1
+                ));
+            }
+            return pending.join();
+        }
+        return prepare(index);
+    }
+
+    /**
+     * Unpins the resources of a level that is no longer displayed, allowing
+     * the image cache to evict them when memory is needed.
+     *
+     * @param level The level to release. {@code null} is ignored.
+     */
+    public void release(final PreparedLevel level) {
+        if (level == null) {
+            return;
+        }
+        for (String path : level.pinnedImagePaths()) {
+            ImageManager.releaseImage(path);
+        }
+    }
+
+    /**
+     * Stops the streaming thread and releases every level that was prefetched
+     * but never taken. Levels still being prepared are released as soon as
+     * they finish.
+     */
+    public void close() {
+        closed = true;
+        for (CompletableFuture<PreparedLevel> pending : pendingLevels.values()) {
+            pending.thenAccept(this::release);
+        }
+        pendingLevels.clear();
+        executor.shutdown();
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Decodes and pins a level's background tiles and prepares its music.
+     *
+     * @param index The zero-based level index.
+     * @return The prepared level.
+     */
+    private PreparedLevel prepare(final int index) {
+        LevelConfig config = LevelLibrary.getLevel(index);
+        List<String> backgroundPaths = config.getBackgroundImagePaths();
+
+        BufferedImage[] backgroundTiles = new BufferedImage[backgroundPaths.size()];
+        List<String> pinnedPaths = new ArrayList<>();
+        for (int i = 0; i < backgroundTiles.length; i++) {
+            backgroundTiles[i] = ImageManager.acquireImage(backgroundPaths.get(i));
+            if (backgroundTiles[i] != null) {
+                pinnedPaths.add(backgroundPaths.get(i));
+            }
+        }
+
+        // Long music is only probed here and streamed when played
+        String musicClipKey = SoundManager.getClipKey(config.getMusicClipName());
+        SoundManager.getInstance().loadAndStoreClip(musicClipKey, config.getMusicClipName());
+
+        return new PreparedLevel(index, config, backgroundTiles, Collections.unmodifiableList(pinnedPaths), musicClipKey);
+    }
+
+    // ----- NESTED TYPES -----
+    /**
+     * The resources of a level, ready to be swapped in.
+     *
+     * @param index The zero-based level index.
+     * @param config The level's configuration.
+     * @param backgroundTiles The decoded background tiles, in level order.
+     * Tiles that could not be loaded are {@code null}.
+     * @param pinnedImagePaths The image paths pinned in the
+     * {@link ImageManager} cache on behalf of this level.
+     * @param musicClipKey The {@link SoundManager} key of the level's music.
+     */
+    public record PreparedLevel(int index, LevelConfig config, BufferedImage[] backgroundTiles,
+            List<String> pinnedImagePaths, String musicClipKey) {
+    }
+}
@@ -0,0 +1,153 @@
+package com.simcraft.levels;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.simcraft.entities.enemies.EnemyType;
+
+/**
+ * An immutable description of one wave of enemies in a level, deserialized
+ * from {@link #CONFIG_PATH}.
+ * <p>
+ * A wave starts {@code startSeconds} into its level and spawns one enemy every
+ * {@code intervalMs} until it has spent its {@code budget}. Each enemy's type
+ * is drawn from the wave's {@code mix}, a weight per {@link EnemyType}, among
+ * the types it can still afford. How many enemies are alive at once is capped
+ * by the level's {@link LevelConfig#getMaxEnemies()}, and no wave spawns after
+ * the level's {@link LevelConfig#getLevelTimeLimitSeconds()}.
+ *
+ * @param startSeconds When the wave starts, in seconds from the start of the
+ * level.
+ * @param intervalMs The time between two spawns of the wave, in milliseconds.
+ * @param budget The total {@link EnemyType#getCost() cost} of the enemies the
+ * wave spawns.
+ * @param mix The relative weight of every enemy type in the wave.
+ */
+public record SpawnWave(
+        double startSeconds,
+        long intervalMs,
+        int budget,
+        Map<EnemyType, Integer> mix
+        ) {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The classpath location of the wave definitions.
+     */
+    public static final String CONFIG_PATH = "/levels/spawn_waves.json";
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a validated {@code SpawnWave} instance from JSON properties.
+     *
+     * @param startSeconds The start time. Must not be negative.
+     * @param intervalMs The spawn interval. Must be positive.
+     * @param budget The budget. Must be positive.
+     * @param mix The type weights. Must not be {@code null} or empty, and
+     * weights must not be negative, with at least one positive.
+     * @throws IllegalArgumentException If any of the input parameters fail the
+     * validation checks.
+     */
+    @JsonCreator
+    public SpawnWave(
+            @JsonProperty("startSeconds") double startSeconds,
+            @JsonProperty("intervalMs") long intervalMs,
+            @JsonProperty("budget") int budget,
+            @JsonProperty("mix") Map<EnemyType, Integer> mix
+    ) {
+        if (startSeconds < 0) {
+            throw new IllegalArgumentException("startSeconds must be >= 0");
+        }
+        if (intervalMs <= 0) {
+            throw new IllegalArgumentException("intervalMs must be > 0");
+        }
+        if (budget <= 0) {
+            throw new IllegalArgumentException("budget must be > 0");
+        }
+        if (mix == null || mix.isEmpty()) {
+            throw new IllegalArgumentException("mix cannot be null or empty");
+        }
+        int totalWeight = 0;
+        for (Map.Entry<EnemyType, Integer> entry : mix.entrySet()) {
+            if (entry.getKey() == null || entry.getValue() == null || entry.getValue() < 0) {
+                throw new IllegalArgumentException("mix weights must be non-negative, got " + entry);
+            }
+            totalWeight += entry.getValue();
+        }
+        if (totalWeight == 0) {
+            throw new IllegalArgumentException("mix must contain a positive weight");
+        }
+
+        this.startSeconds = startSeconds;
+        this.intervalMs = intervalMs;
+        this.budget = budget;
+        this.mix = Collections.unmodifiableMap(new EnumMap<>(mix));
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Reads the wave definitions of every level from {@link #CONFIG_PATH}.
+     *
+     * @return The waves of each level, keyed by zero-based level index. Empty
+     * if the file does not exist.
+     * @throws IOException If the file cannot be read or parsed, or a wave
+     * fails validation.
+     */
+    public static Map<Integer, List<SpawnWave>> loadFromJson() throws IOException {
+        try (InputStream input = SpawnWave.class.getResourceAsStream(CONFIG_PATH)) {
+            if (input == null) {
+                return Map.of();
+            }
+            List<LevelWaves> levels = new ObjectMapper().readValue(input, new TypeReference<List<LevelWaves>>() {
+            });
+            Map<Integer, List<SpawnWave>> wavesByLevel = new HashMap<>();
+            for (LevelWaves level : levels) {
+                wavesByLevel.put(level.level() - 1, level.waves());
+            }
+            return Collections.unmodifiableMap(wavesByLevel);
+        }
+    }
+
+    // ----- NESTED TYPES -----
+    /**
+     * The waves of one level, as listed in {@link #CONFIG_PATH}.
+     *
+     * @param level The one-based level number, as shown to the player.
+     * @param waves The level's waves.
+     */
+    static record LevelWaves(int level, List<SpawnWave> waves) {
+
+        /**
+         * Creates a validated {@code LevelWaves} instance from JSON
+         * properties.
+         *
+         * @param level The level number. Must be at least 1.
+         * @param waves The waves. Must not be {@code null}.
+         * @throws IllegalArgumentException If any of the input parameters fail
+         * the validation checks.
+         */
+        @JsonCreator
+        LevelWaves(
+                @JsonProperty("level") int level,
+                @JsonProperty("waves") List<SpawnWave> waves
+        ) {
+            if (level < 1) {
+                throw new IllegalArgumentException("level must be >= 1");
+            }
+            if (waves == null) {
+                throw new IllegalArgumentException("waves cannot be null");
+            }
+            this.level = level;
+            this.waves = List.copyOf(waves);
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.simcraft.managers;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.simcraft.graphics.animations.AnimationTemplate;
 
@@ -23,9 +23,10 @@ public class AnimationManager {
     /**
      * A static {@code Map} that stores animation templates. The keys of the
      * map are unique identifiers ({@code String}) for each animation, and the
-     * values are the corresponding {@link AnimationTemplate} objects.
+     * values are the corresponding {@link AnimationTemplate} objects. Concurrent
+     * so that animations can be registered from asset loading threads.
      */
-    private static final Map<String, AnimationTemplate> animations = new HashMap<>();
+    private static final Map<String, AnimationTemplate> animations = new ConcurrentHashMap<>();
 
     // ----- CONSTRUCTORS ------
     /**
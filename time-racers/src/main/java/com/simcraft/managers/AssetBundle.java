@@ -0,0 +1,298 @@
+package com.simcraft.managers;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.simcraft.graphics.animations.AnimationFrame;
+import com.simcraft.graphics.animations.AnimationTemplate;
+
+/**
+ * A read-only view of the binary asset bundle produced at build time by
+ * {@link AssetBundleBuilder}.
+ * <p>
+ * The bundle holds every animation frame already sliced from its sprite sheet
+ * and scaled, every level background and user interface image, and the
+ * animation table, all as raw ARGB pixels. Opening it maps the file with
+ * {@link FileChannel#map} (or reads it into memory when it is packed inside a
+ * JAR) and only parses the small header, so publishing assets involves no
+ * image decoding, sprite slicing, scaling or JSON parsing: each image is a
+ * straight copy of pixel rows into an {@code int}-backed
+ * {@link BufferedImage#TYPE_INT_ARGB} image.
+ * <p>
+ * Pixels are copied into images created by {@link BufferedImage} itself rather
+ * than wrapping a caller-supplied array in a {@code DataBufferInt}, because
+ * Java2D never hardware-accelerates images whose pixel arrays were supplied or
+ * exposed externally.
+ * <p>
+ * Layout (big-endian):
+ * <pre>
+ * int    MAGIC, int VERSION
+ * int    animation count
+ *        per animation: string key, byte looping, int frame count,
+ *        per frame: long duration (ms), int width, int height, int pixel index
+ * int    image count
+ *        per image: string path, int width, int height, int pixel index
+ *        padding to a multiple of 4 bytes
+ * int[]  pixels (ARGB, row-major)
+ * </pre>
+ * Strings are an unsigned short byte length followed by UTF-8 bytes; pixel
+ * indices count {@code int}s from the start of the pixel section.
+ */
+public final class AssetBundle {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The classpath location of the bundle written by the build.
+     */
+    public static final String RESOURCE_PATH = "/bundles/assets.bin";
+
+    /**
+     * Identifies an asset bundle file ("PPAB").
+     */
+    static final int MAGIC = 0x50504142;
+
+    /**
+     * The bundle format version. Bundles of any other version are ignored.
+     */
+    static final int VERSION = 1;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The animations in the bundle, keyed by animation key in bundle order.
+     */
+    private final Map<String, AnimationEntry> animations = new LinkedHashMap<>();
+
+    /**
+     * The images in the bundle, keyed by resource path in bundle order.
+     */
+    private final Map<String, ImageEntry> images = new LinkedHashMap<>();
+
+    /**
+     * The pixel section of the bundle. Duplicated per read so concurrent
+     * readers never share a position.
+     */
+    private final IntBuffer pixels;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Parses the header of a bundle.
+     *
+     * @param buffer The whole bundle, positioned at its start.
+     * @throws IOException If the buffer is not a valid bundle of the current
+     * version.
+     */
+    private AssetBundle(final ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("AssetBundle: Not an asset bundle.");
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("AssetBundle: Unsupported bundle version " + version + ".");
+            }
+
+            int animationCount = buffer.getInt();
+            for (int i = 0; i < animationCount; i++) {
+                String key = readString(buffer);
+                boolean looping = buffer.get() != 0;
+                int frameCount = buffer.getInt();
+                List<ImageEntry> frames = new ArrayList<>(frameCount);
+                for (int f = 0; f < frameCount; f++) {
+                    long durationMs = buffer.getLong();
+                    frames.add(new ImageEntry(buffer.getInt(), buffer.getInt(), buffer.getInt(), durationMs));
+                }
+                animations.put(key, new AnimationEntry(looping, frames));
+            }
+
+            int imageCount = buffer.getInt();
+            for (int i = 0; i < imageCount; i++) {
+                String path = readString(buffer);
+                images.put(path, new ImageEntry(buffer.getInt(), buffer.getInt(), buffer.getInt(), 0));
+            }
+
+            buffer.position((buffer.position() + 3) & ~3);
+            pixels = buffer.slice().asIntBuffer();
+        } catch (BufferUnderflowException e) {
+            throw new IOException("AssetBundle: Bundle is truncated.", e);
+        }
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the keys of every animation in the bundle.
+     *
+     * @return The animation keys, in bundle order.
+     */
+    public Set<String> getAnimationKeys() {
+        return Collections.unmodifiableSet(animations.keySet());
+    }
+
+    /**
+     * Returns the resource paths of every image in the bundle.
+     *
+     * @return The image paths, in bundle order.
+     */
+    public Set<String> getImagePaths() {
+        return Collections.unmodifiableSet(images.keySet());
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Opens the bundle built into the classpath at {@link #RESOURCE_PATH}.
+     *
+     * @return The bundle, or {@code null} if the build did not produce one or
+     * it is invalid, in which case assets should be decoded from their source
+     * files instead.
+     */
+    public static AssetBundle openDefault() {
+        URL url = AssetBundle.class.getResource(RESOURCE_PATH);
+        if (url == null) {
+            return null;
+        }
+        try {
+            return new AssetBundle(readBuffer(url));
+        } catch (IOException | URISyntaxException e) {
+            System.err.println("AssetBundle: Ignoring asset bundle: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Builds an animation from the bundle and registers it with the
+     * {@link AnimationManager}. Safe to call from any thread.
+     *
+     * @param key The animation key.
+     * @throws IllegalArgumentException If the bundle has no such animation.
+     */
+    public void publishAnimation(final String key) {
+        AnimationEntry entry = animations.get(key);
+        if (entry == null) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: No animation <'%s'> in the asset bundle.",
+                    this.getClass().getName(),
+                    key
+            ));
+        }
+        List<AnimationFrame> frames = new ArrayList<>(entry.frames().size());
+        for (ImageEntry frame : entry.frames()) {
+            frames.add(new AnimationFrame(createImage(frame), frame.durationMs()));
+        }
+        AnimationManager.getInstance().addAnimation(key, new AnimationTemplate(frames, entry.looping()));
+    }
+
+    /**
+     * Builds an image from the bundle and stores it in the
+     * {@link ImageManager} cache under its resource path. Safe to call from
+     * any thread.
+     *
+     * @param path The image's resource path.
+     * @throws IllegalArgumentException If the bundle has no such image.
+     */
+    public void publishImage(final String path) {
+        ImageEntry entry = images.get(path);
+        if (entry == null) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: No image <'%s'> in the asset bundle.",
+                    this.getClass().getName(),
+                    path
+            ));
+        }
+        ImageManager.getImageCache().put(path, createImage(entry));
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Copies an image's pixels out of the bundle into a new ARGB image.
+     *
+     * @param entry The image entry.
+     * @return The image.
+     */
+    private BufferedImage createImage(final ImageEntry entry) {
+        int width = entry.width();
+        int height = entry.height();
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        WritableRaster raster = image.getRaster();
+
+        IntBuffer source = pixels.duplicate();
+        source.position(entry.pixelIndex());
+        int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            source.get(row);
+            raster.setDataElements(0, y, width, 1, row);
+        }
+        return image;
+    }
+
+    /**
+     * Maps a bundle file into memory, or reads it fully if it is not a plain
+     * file (e.g., it is packed inside a JAR).
+     *
+     * @param url The bundle's location.
+     * @return A buffer holding the whole bundle.
+     * @throws IOException If the bundle cannot be read.
+     * @throws URISyntaxException If a file URL is malformed.
+     */
+    private static ByteBuffer readBuffer(final URL url) throws IOException, URISyntaxException {
+        if ("file".equals(url.getProtocol())) {
+            Path path = Paths.get(url.toURI());
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+        try (InputStream input = url.openStream()) {
+            return ByteBuffer.wrap(input.readAllBytes());
+        }
+    }
+
+    /**
+     * Reads a length-prefixed UTF-8 string.
+     *
+     * @param buffer The buffer to read from.
+     * @return The string.
+     */
+    private static String readString(final ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // ----- NESTED TYPES -----
+    /**
+     * An animation stored in the bundle.
+     *
+     * @param looping Whether the animation loops.
+     * @param frames The animation's frames.
+     */
+    private record AnimationEntry(boolean looping, List<ImageEntry> frames) {
+    }
+
+    /**
+     * An image or animation frame stored in the bundle.
+     *
+     * @param width The width in pixels.
+     * @param height The height in pixels.
+     * @param pixelIndex The index of the first pixel within the pixel section.
+     * @param durationMs The display duration of an animation frame, or
+     * {@code 0} for plain images.
+     */
+    private record ImageEntry(int width, int height, int pixelIndex, long durationMs) {
+    }
+}
@@ -0,0 +1,196 @@
+package com.simcraft.managers;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.simcraft.graphics.animations.AnimationFrame;
+import com.simcraft.graphics.animations.AnimationLoader;
+import com.simcraft.graphics.animations.AnimationLoader.AnimationConfig;
+import com.simcraft.levels.LevelLibrary;
+
+/**
+ * Build-time tool that writes the binary {@link AssetBundle}.
+ * <p>
+ * Runs in the {@code process-classes} phase of the Maven build (see
+ * {@code pom.xml}). Every animation in {@code animations_config.json} is
+ * loaded through {@link AnimationLoader#loadFromSpriteSheet}, so the bundled
+ * frames are exactly the sliced and scaled frames the game would otherwise
+ * produce at start-up. Every level background and start-up user interface
+ * image is decoded once and stored as raw ARGB pixels.
+ * <p>
+ * Usage: {@code AssetBundleBuilder <output file>}
+ */
+public final class AssetBundleBuilder {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The bundle header, written as assets are added.
+     */
+    private final ByteArrayOutputStream headerBytes = new ByteArrayOutputStream();
+
+    /**
+     * A data view of {@link #headerBytes}.
+     */
+    private final DataOutputStream header = new DataOutputStream(headerBytes);
+
+    /**
+     * The pixel arrays of every image and frame, in pixel section order.
+     */
+    private final List<int[]> pixelBlocks = new ArrayList<>();
+
+    /**
+     * The number of pixels added to the pixel section so far.
+     */
+    private int pixelCount = 0;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Private constructor; use {@link #main(String[])}.
+     */
+    private AssetBundleBuilder() {
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Writes the asset bundle.
+     *
+     * @param args The output file path.
+     * @throws IOException If an asset cannot be loaded or the bundle cannot be
+     * written.
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: AssetBundleBuilder <output file>");
+            System.exit(2);
+        }
+        long startNanos = System.nanoTime();
+        Path output = Paths.get(args[0]);
+        AssetBundleBuilder builder = new AssetBundleBuilder();
+        builder.build(output);
+        System.out.printf("Wrote asset bundle %s (%d KB) in %d ms.%n",
+                output, Files.size(output) / 1024, (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Collects every asset and writes the bundle.
+     *
+     * @param output The output file.
+     * @throws IOException If an asset cannot be loaded or the bundle cannot be
+     * written.
+     */
+    private void build(final Path output) throws IOException {
+        header.writeInt(AssetBundle.MAGIC);
+        header.writeInt(AssetBundle.VERSION);
+
+        List<AnimationConfig> configs = AnimationLoader.readAnimationConfigs();
+        header.writeInt(configs.size());
+        for (AnimationConfig config : configs) {
+            List<AnimationFrame> frames = AnimationLoader.loadFromSpriteSheet(
+                    AnimationLoader.ANIMATION_FOLDER + config.fileName(),
+                    config.numRows(),
+                    config.numColumns(),
+                    AnimationLoader.getFrameDurationMs(config)
+            );
+            writeString(AnimationLoader.getAnimationKey(config));
+            header.writeByte(config.isLooping() ? 1 : 0);
+            header.writeInt(frames.size());
+            for (AnimationFrame frame : frames) {
+                header.writeLong(frame.getDisplayDurationMs());
+                writeImage(frame.getImage());
+            }
+        }
+
+        // Images that fail to decode (e.g., missing files) are left out and
+        // fall back to normal loading, which reports the problem at runtime
+        List<BufferedImage> loadedImages = new ArrayList<>();
+        List<String> loadedPaths = new ArrayList<>();
+        for (String path : collectImagePaths()) {
+            BufferedImage image = ImageManager.loadBufferedImage(path);
+            if (image != null) {
+                loadedPaths.add(path);
+                loadedImages.add(image);
+            } else {
+                System.err.println("AssetBundleBuilder: Skipping missing image " + path);
+            }
+        }
+        header.writeInt(loadedPaths.size());
+        for (int i = 0; i < loadedPaths.size(); i++) {
+            writeString(loadedPaths.get(i));
+            writeImage(loadedImages.get(i));
+        }
+
+        while (headerBytes.size() % Integer.BYTES != 0) {
+            header.writeByte(0);
+        }
+        header.flush();
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(output))) {
+            headerBytes.writeTo(out);
+            for (int[] block : pixelBlocks) {
+                ByteBuffer bytes = ByteBuffer.allocate(block.length * Integer.BYTES);
+                bytes.asIntBuffer().put(block);
+                out.write(bytes.array());
+            }
+        }
+    }
+
+    /**
+     * Returns the resource paths of every level background and start-up user
+     * interface image, without duplicates.
+     *
+     * @return The image paths.
+     */
+    private static Set<String> collectImagePaths() {
+        Set<String> paths = new LinkedHashSet<>();
+        for (int i = 0; i < LevelLibrary.getTotalLevels(); i++) {
+            paths.addAll(LevelLibrary.getLevel(i).getBackgroundImagePaths());
+        }
+        paths.addAll(AssetPreloader.UI_IMAGE_PATHS);
+        return paths;
+    }
+
+    /**
+     * Writes an image's dimensions and pixel index to the header and queues
+     * its ARGB pixels for the pixel section.
+     *
+     * @param image The image.
+     * @throws IOException If the header cannot be written.
+     */
+    private void writeImage(final BufferedImage image) throws IOException {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        header.writeInt(width);
+        header.writeInt(height);
+        header.writeInt(pixelCount);
+
+        pixelBlocks.add(image.getRGB(0, 0, width, height, null, 0, width));
+        pixelCount = Math.addExact(pixelCount, width * height);
+    }
+
+    /**
+     * Writes a length-prefixed UTF-8 string to the header.
+     *
+     * @param value The string.
+     * @throws IOException If the header cannot be written.
+     */
+    private void writeString(final String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        header.writeShort(bytes.length);
+        header.write(bytes);
+    }
+}
@@ -0,0 +1,384 @@
+package com.simcraft.managers;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * A thread-safe, keyed cache of decoded assets (images, audio data, etc.) with
+ * reference counting and a memory budget.
+ * <p>
+ * Assets can be used in two ways:
+ * <ul>
+ * <li>{@link #get(Object, Function)} returns a shared asset without pinning it.
+ * The asset stays cached until memory pressure evicts it.</li>
+ * <li>{@link #acquire(Object, Function)} pins the asset until a matching
+ * {@link #release(Object)}. Pinned assets are never evicted.</li>
+ * </ul>
+ * Whenever the total size of cached assets exceeds the budget, unreferenced
+ * assets are evicted in least-recently-used order. Hit, miss, eviction and
+ * byte counts are tracked for diagnostics.
+ * <p>
+ * Assets are decoded outside the cache lock, so several threads can load
+ * different assets in parallel. Cached assets are shared and must be treated
+ * as read-only by callers.
+ *
+ * @param <K> The type of key identifying an asset (usually its file path).
+ * @param <V> The type of the cached asset.
+ */
+public final class AssetCache<K, V> {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * A short name for this cache, used in diagnostics.
+     */
+    private final String name;
+
+    /**
+     * Estimates the memory footprint of an asset in bytes.
+     */
+    private final ToLongFunction<V> sizer;
+
+    /**
+     * The cached assets in least-recently-used order (eldest first).
+     */
+    private final LinkedHashMap<K, CacheEntry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * The memory budget in bytes. Unreferenced assets are evicted while the
+     * cache is above it.
+     */
+    private long budgetBytes;
+
+    /**
+     * The total estimated size of all cached assets in bytes.
+     */
+    private long currentBytes = 0;
+
+    /**
+     * The number of lookups that found a cached asset.
+     */
+    private long hitCount = 0;
+
+    /**
+     * The number of lookups that had to load the asset.
+     */
+    private long missCount = 0;
+
+    /**
+     * The number of assets evicted to stay within the budget.
+     */
+    private long evictionCount = 0;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Constructs an {@code AssetCache}.
+     *
+     * @param name A short name for the cache, used in diagnostics.
+     * @param budgetBytes The memory budget in bytes. Must not be negative.
+     * @param sizer Estimates the memory footprint of an asset in bytes.
+     * @throws IllegalArgumentException If {@code budgetBytes} is negative.
+     * @throws NullPointerException If {@code sizer} is null.
+     */
+    public AssetCache(final String name, final long budgetBytes, final ToLongFunction<V> sizer) {
+        if (sizer == null) {
+            throw new NullPointerException(String.format(
+                    "%s: Asset sizer cannot be null.",
+                    this.getClass().getName()
+            ));
+        }
+        this.name = name;
+        this.sizer = sizer;
+        setBudgetBytes(budgetBytes);
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns a snapshot of this cache's statistics.
+     *
+     * @return The current statistics.
+     */
+    public synchronized Statistics getStatistics() {
+        return new Statistics(name, hitCount, missCount, evictionCount, entries.size(), currentBytes, budgetBytes);
+    }
+
+    /**
+     * Checks whether an asset is currently cached.
+     *
+     * @param key The asset key.
+     * @return {@code true} if the asset is cached.
+     */
+    public synchronized boolean contains(final K key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Returns the number of outstanding {@link #acquire(Object, Function)}
+     * calls for an asset.
+     *
+     * @param key The asset key.
+     * @return The reference count, or {@code 0} if the asset is not cached.
+     */
+    public synchronized int getReferenceCount(final K key) {
+        CacheEntry<V> entry = entries.get(key);
+        return entry != null ? entry.referenceCount : 0;
+    }
+
+    // ----- SETTERS -----
+    /**
+     * Sets the memory budget, evicting unreferenced assets if the cache is now
+     * over it.
+     *
+     * @param budgetBytes The new budget in bytes. Must not be negative.
+     * @throws IllegalArgumentException If {@code budgetBytes} is negative.
+     */
+    public synchronized void setBudgetBytes(final long budgetBytes) {
+        if (budgetBytes < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Cache budget cannot be negative.",
+                    this.getClass().getName()
+            ));
+        }
+        this.budgetBytes = budgetBytes;
+        evictToBudget();
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Returns the cached asset for a key, loading and caching it on a miss. The
+     * asset is not pinned and may be evicted once it is no longer the most
+     * recently used.
+     *
+     * @param key The asset key.
+     * @param loader Loads the asset on a miss. May return {@code null} if the
+     * asset cannot be loaded, in which case nothing is cached.
+     * @return The asset, or {@code null} if it could not be loaded.
+     */
+    public V get(final K key, final Function<? super K, ? extends V> loader) {
+        return lookup(key, loader, false);
+    }
+
+    /**
+     * Returns the cached asset for a key and pins it, loading and caching it on
+     * a miss. Each successful call must be balanced by a call to
+     * {@link #release(Object)}.
+     *
+     * @param key The asset key.
+     * @param loader Loads the asset on a miss. May return {@code null}.
+     * @return The asset, or {@code null} if it could not be loaded (in which
+     * case nothing is pinned).
+     */
+    public V acquire(final K key, final Function<? super K, ? extends V> loader) {
+        return lookup(key, loader, true);
+    }
+
+    /**
+     * Releases one reference to an asset obtained through
+     * {@link #acquire(Object, Function)}. Once no references remain, the asset
+     * becomes eligible for eviction.
+     *
+     * @param key The asset key.
+     */
+    public synchronized void release(final K key) {
+        CacheEntry<V> entry = entries.get(key);
+        if (entry == null || entry.referenceCount == 0) {
+            System.err.println(String.format(
+                    "%s: Released asset <'%s'> from cache '%s' without a matching acquire.",
+                    this.getClass().getName(),
+                    key,
+                    name
+            ));
+            return;
+        }
+        entry.referenceCount--;
+        evictToBudget();
+    }
+
+    /**
+     * Stores an already-loaded asset, replacing any unreferenced asset cached
+     * under the same key. Used to publish assets decoded elsewhere (e.g., by a
+     * preloader).
+     *
+     * @param key The asset key.
+     * @param value The asset. {@code null} is ignored.
+     */
+    public synchronized void put(final K key, final V value) {
+        if (value == null) {
+            return;
+        }
+        CacheEntry<V> existing = entries.get(key);
+        if (existing != null) {
+            if (existing.referenceCount > 0) {
+                return; // Never swap an asset out from under its users
+            }
+            currentBytes -= existing.sizeBytes;
+        }
+        CacheEntry<V> entry = new CacheEntry<>(value, Math.max(0, sizer.applyAsLong(value)));
+        entries.put(key, entry);
+        currentBytes += entry.sizeBytes;
+        evictToBudget();
+    }
+
+    /**
+     * Removes every unreferenced asset from the cache. Referenced assets are
+     * kept.
+     */
+    public synchronized void evictUnreferenced() {
+        Iterator<CacheEntry<V>> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            CacheEntry<V> entry = iterator.next();
+            if (entry.referenceCount == 0) {
+                iterator.remove();
+                currentBytes -= entry.sizeBytes;
+                evictionCount++;
+            }
+        }
+    }
+
+    /**
+     * Resets the hit, miss and eviction counters.
+     */
+    public synchronized void resetStatistics() {
+        hitCount = 0;
+        missCount = 0;
+        evictionCount = 0;
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Looks up an asset, loading it outside the lock on a miss.
+     *
+     * @param key The asset key.
+     * @param loader Loads the asset on a miss.
+     * @param pin Whether to take a reference to the asset.
+     * @return The asset, or {@code null} if it could not be loaded.
+     */
+    private V lookup(final K key, final Function<? super K, ? extends V> loader, final boolean pin) {
+        synchronized (this) {
+            CacheEntry<V> entry = entries.get(key);
+            if (entry != null) {
+                hitCount++;
+                if (pin) {
+                    entry.referenceCount++;
+                }
+                return entry.value;
+            }
+            missCount++;
+        }
+
+        V loaded = loader.apply(key);
+        if (loaded == null) {
+            return null;
+        }
+
+        synchronized (this) {
+            CacheEntry<V> entry = entries.get(key);
+            if (entry == null) {
+                // Another thread may have loaded it meanwhile; otherwise, store ours
+                entry = new CacheEntry<>(loaded, Math.max(0, sizer.applyAsLong(loaded)));
+                entries.put(key, entry);
+                currentBytes += entry.sizeBytes;
+            }
+            if (pin) {
+                entry.referenceCount++;
+            }
+            evictToBudget();
+            return entry.value;
+        }
+    }
+
+    /**
+     * Evicts unreferenced assets, least recently used first, until the cache
+     * is within its budget or only referenced assets remain.
+     */
+    private void evictToBudget() {
+        if (currentBytes <= budgetBytes) {
+            return;
+        }
+        Iterator<Map.Entry<K, CacheEntry<V>>> iterator = entries.entrySet().iterator();
+        while (currentBytes > budgetBytes && iterator.hasNext()) {
+            CacheEntry<V> entry = iterator.next().getValue();
+            if (entry.referenceCount == 0) {
+                iterator.remove();
+                currentBytes -= entry.sizeBytes;
+                evictionCount++;
+            }
+        }
+    }
+
+    // ----- NESTED TYPES -----
+    /**
+     * A cached asset with its size and reference count.
+     *
+     * @param <V> The asset type.
+     */
+    private static final class CacheEntry<V> {
+
+        /**
+         * The cached asset.
+         */
+        private final V value;
+
+        /**
+         * The estimated size of the asset in bytes.
+         */
+        private final long sizeBytes;
+
+        /**
+         * The number of outstanding acquisitions of this asset.
+         */
+        private int referenceCount = 0;
+
+        /**
+         * Constructs a {@code CacheEntry}.
+         *
+         * @param value The cached asset.
+         * @param sizeBytes The estimated size of the asset in bytes.
+         */
+        private CacheEntry(final V value, final long sizeBytes) {
+            this.value = value;
+            this.sizeBytes = sizeBytes;
+        }
+    }
+
+    /**
+     * An immutable snapshot of an {@link AssetCache}'s statistics.
+     *
+     * @param name The cache name.
+     * @param hits The number of lookups served from the cache.
+     * @param misses The number of lookups that had to load the asset.
+     * @param evictions The number of assets evicted to stay within budget.
+     * @param entries The number of assets currently cached.
+     * @param bytes The total estimated size of cached assets in bytes.
+     * @param budgetBytes The memory budget in bytes.
+     */
+    public record Statistics(String name, long hits, long misses, long evictions, int entries, long bytes, long budgetBytes) {
+
+        /**
+         * Returns the fraction of lookups served from the cache.
+         *
+         * @return The hit ratio, from 0.0 to 1.0 ({@code 0.0} if there have
+         * been no lookups).
+         */
+        public double hitRatio() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0.0 : (double) hits / lookups;
+        }
+
+        /**
+         * Returns a one-line summary suitable for logging.
+         *
+         * @return The summary.
+         */
+        @Override
+        public String toString() {
+            return String.format(
+                    "%s cache: %d hits, %d misses (%.1f%% hit ratio), %d evictions, %d entries, %.1f/%.1f MB",
+                    name, hits, misses, hitRatio() * 100, evictions, entries,
+                    bytes / (1024.0 * 1024.0), budgetBytes / (1024.0 * 1024.0)
+            );
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.simcraft.managers;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.simcraft.graphics.animations.AnimationLoader;
+import com.simcraft.graphics.animations.AnimationLoader.AnimationConfig;
+import com.simcraft.levels.LevelConfig;
+import com.simcraft.levels.LevelLibrary;
+
+/**
+ * Loads the game's start-up assets in parallel on a small, bounded pool of
+ * background threads and publishes them to the {@link AnimationManager},
+ * {@link SoundManager} and {@link ImageManager} as each one finishes.
+ * <p>
+ * Every animation sprite sheet, warm-up sound effect and first-level image is an
+ * independent task, so decoding overlaps instead of running back to back on
+ * the Event Dispatch Thread. The welcome screen can be shown immediately and
+ * poll {@link #getProgress()} to draw a loading bar while the work completes.
+ * A failed task is logged and counted as done, so a single missing asset
+ * never stalls start-up.
+ */
+public final class AssetPreloader {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The most loader threads ever used. Asset decoding is mostly CPU-bound,
+     * so more threads than this only compete with the Event Dispatch Thread.
+     */
+    private static final int MAX_THREADS = 4;
+
+    /**
+     * User interface images needed as soon as gameplay starts.
+     */
+    public static final List<String> UI_IMAGE_PATHS = List.of(
+            "/images/backgrounds/info_panel.png",
+            "/images/icons/pause_button.png"
+    );
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The loading tasks, planned once on a loader thread after
+     * {@link #start()}.
+     */
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    /**
+     * The number of planned tasks, or {@code 0} while planning is still in
+     * progress.
+     */
+    private volatile int totalTasks = 0;
+
+    /**
+     * The number of tasks that have finished, successfully or not.
+     */
+    private final AtomicInteger completedTasks = new AtomicInteger();
+
+    /**
+     * Completes once every task has finished.
+     */
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    /**
+     * The time {@link #start()} was called, in nanoseconds.
+     */
+    private long startNanos;
+
+    /**
+     * Whether {@link #start()} has been called.
+     */
+    private boolean started = false;
+
+    // ----- GETTERS -----
+    /**
+     * Returns the fraction of loading tasks that have finished.
+     *
+     * @return The progress, from 0.0 to 1.0. {@code 0.0} until the tasks
+     * have been planned.
+     */
+    public float getProgress() {
+        if (completion.isDone()) {
+            return 1.0f;
+        }
+        int total = totalTasks;
+        return total == 0 ? 0.0f : completedTasks.get() / (float) total;
+    }
+
+    /**
+     * Checks whether every loading task has finished.
+     *
+     * @return {@code true} once all assets have been loaded or have failed.
+     */
+    public boolean isComplete() {
+        return completion.isDone();
+    }
+
+    /**
+     * Returns a future that completes once every loading task has finished.
+     *
+     * @return The completion future.
+     */
+    public CompletableFuture<Void> getCompletion() {
+        return completion;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Starts loading every start-up asset on a bounded pool of daemon threads
+     * and returns immediately. Even reading the animation configuration happens
+     * on the pool, so the caller's first frame is never delayed. If planning
+     * fails, the failure is logged and the preloader still completes. Calling
+     * this method more than once has no effect.
+     */
+    public synchronized void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        startNanos = System.nanoTime();
+
+        int threadCount = Math.clamp(Runtime.getRuntime().availableProcessors() - 1, 1, MAX_THREADS);
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "asset-loader-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true); // Never keep the JVM alive just to finish loading
+            return thread;
+        });
+
+        executor.execute(() -> {
+            try {
+                createTasks();
+            } catch (RuntimeException e) {
+                System.err.println(String.format(
+                        "%s: Failed to plan asset loading tasks: %s",
+                        this.getClass().getName(),
+                        e.getMessage()
+                ));
+            } finally {
+                // Whatever was planned still loads, and the preloader always completes
+                if (tasks.isEmpty()) {
+                    completion.complete(null);
+                } else {
+                    totalTasks = tasks.size();
+                    for (Runnable task : tasks) {
+                        executor.execute(() -> runTask(task));
+                    }
+                }
+                executor.shutdown(); // Threads exit once the queue drains
+            }
+        });
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Builds one task per animation, warm-up sound clip and start-up image.
+     * When the build produced an {@link AssetBundle}, animations and images
+     * are copied out of it; otherwise they are decoded from their source
+     * files.
+     */
+    private void createTasks() {
+        AssetBundle bundle = AssetBundle.openDefault();
+        if (bundle != null) {
+            for (String key : bundle.getAnimationKeys()) {
+                tasks.add(() -> bundle.publishAnimation(key));
+            }
+            for (String path : bundle.getImagePaths()) {
+                tasks.add(() -> bundle.publishImage(path));
+            }
+        } else {
+            createDecodingTasks();
+        }
+
+        // Only short gameplay effects are warmed up; everything else loads on
+        // first use, and long tracks are streamed
+        SoundManager soundManager = SoundManager.getInstance();
+        for (String key : SoundManager.WARM_UP_CLIPS) {
+            tasks.add(() -> soundManager.warmUp(List.of(key)));
+        }
+    }
+
+    /**
+     * Builds one task per animation and start-up image that decodes it from
+     * its source file. Used when no asset bundle is available.
+     */
+    private void createDecodingTasks() {
+        try {
+            for (AnimationConfig config : AnimationLoader.readAnimationConfigs()) {
+                tasks.add(() -> {
+                    try {
+                        AnimationLoader.loadAnimation(config);
+                    } catch (IOException e) {
+                        System.err.println(String.format(
+                                "%s: Failed to load animation <'%s'>: %s",
+                                this.getClass().getName(),
+                                config.fileName(),
+                                e.getMessage()
+                        ));
+                    }
+                });
+            }
+        } catch (IOException e) {
+            System.err.println(String.format(
+                    "%s: Failed to read animation configurations: %s",
+                    this.getClass().getName(),
+                    e.getMessage()
+            ));
+        }
+
+        // The first level's backgrounds are needed as soon as ENTER is pressed
+        if (LevelLibrary.getTotalLevels() > 0) {
+            LevelConfig firstLevel = LevelLibrary.getLevel(0);
+            for (String path : firstLevel.getBackgroundImagePaths()) {
+                tasks.add(() -> ImageManager.getImage(path));
+            }
+        }
+        for (String path : UI_IMAGE_PATHS) {
+            tasks.add(() -> ImageManager.getImage(path));
+        }
+    }
+
+    /**
+     * Runs one loading task, logging unexpected failures, and completes the
+     * preloader once the last task has finished.
+     *
+     * @param task The task to run.
+     */
+    private void runTask(final Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            System.err.println(String.format(
+                    "%s: Asset loading task failed: %s",
+                    this.getClass().getName(),
+                    e.getMessage()
+            ));
+        } finally {
+            if (completedTasks.incrementAndGet() == totalTasks) {
+                System.out.printf("Loaded %d assets in %d ms.%n",
+                        totalTasks, (System.nanoTime() - startNanos) / 1_000_000);
+                completion.complete(null);
+            }
+        }
+    }
+}
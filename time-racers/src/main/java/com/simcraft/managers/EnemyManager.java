@@ -2,23 +2,34 @@ package com.simcraft.managers;
 
 import java.awt.Graphics2D;
 import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.io.IOException;
 import java.lang.StackWalker.StackFrame;
-import java.text.SimpleDateFormat;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Date;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Random;
-import java.util.Set;
+import java.util.Map;
+import java.util.SplittableRandom;
 
+import com.simcraft.ai.AiScheduler;
+import com.simcraft.ai.FlowField;
+import com.simcraft.ai.SteeringSystem;
 import com.simcraft.entities.Ali;
 import com.simcraft.entities.enemies.Enemy;
+import com.simcraft.entities.enemies.EnemyType;
 import com.simcraft.entities.enemies.Lecturer;
 import com.simcraft.entities.enemies.Student;
 import com.simcraft.entities.enemies.Yapper;
 import com.simcraft.graphics.screens.subpanels.GamePanel;
 import com.simcraft.interfaces.Renderable;
 import com.simcraft.interfaces.Updateable;
+import com.simcraft.levels.LevelConfig;
+import com.simcraft.levels.LevelType;
+import com.simcraft.levels.SpawnWave;
+import com.simcraft.utility.GameClock;
+import com.simcraft.utility.GameRandom;
 
 /**
  * Manages the creation, lifespan, and behaviour of all enemies in the game.
@@ -27,23 +38,64 @@ import com.simcraft.interfaces.Updateable;
  * are no longer within the game boundaries. It triggers the
  * {@link com.simcraft.graphics.effects.sprite_effects.HitFlashEffect} on Ali
  * upon collision.
+ * <p>
+ * When and which enemies spawn is decided by a {@link SpawnDirector} following
+ * the level's {@link SpawnWave}s, within the level's
+ * {@link LevelConfig#getMaxEnemies()}. Where they spawn is decided by a
+ * {@link SpawnPlacer}, which keeps new enemies apart from each other and out
+ * of a safe zone around Ali. In side-scrolling levels, enemies spawn on the
+ * ground just beyond the right edge of the screen and walk into view.
+ * <p>
+ * Enemies that detect Ali pursue him along a single {@link FlowField}, which
+ * is shared by all of them and refreshed each tick. A {@link SteeringSystem}
+ * turns every enemy towards where it wants to go while keeping it apart from
+ * the others, so crowds flow around each other instead of colliding. Enemies
+ * move every tick, but their decisions are spread over several ticks by an
+ * {@link AiScheduler}, so the cost of AI per tick stays flat as their number
+ * grows.
  */
 public class EnemyManager implements Updateable, Renderable {
 
     // ----- STATIC VARIABLES -----
     /**
-     * The maximum number of enemies that can exist simultaneously on the
-     * screen.
+     * The maximum horizontal speed given to a newly spawned enemy.
      */
-    private static final int MAX_ENEMY_COUNT = 10;
+    private static final int MAX_SPAWN_SPEED_X = 4;
     /**
-     * The cooldown duration (in milliseconds) before another {@link Enemy} can
-     * be created. This prevents overwhelming the player with too many enemies
-     * at once.
+     * The minimum gap, in pixels, between Ali and a newly spawned enemy.
      */
-    private static final long ENEMY_CREATION_COOLDOWN_MS = 5000; // 5 seconds
+    private static final int SAFE_DISTANCE = 96;
     /**
-     * An array of keys for the random collision sound clips.
+     * How far beyond the right edge of the screen enemies spawn and stay in
+     * play in side-scrolling levels, in pixels.
+     */
+    private static final int SPAWN_LOOKAHEAD = 400;
+    /**
+     * The cell size of the spawn occupancy grid, in pixels; about the size of
+     * an enemy sprite.
+     */
+    private static final double OCCUPANCY_CELL_SIZE = 64.0;
+    /**
+     * The cell size of the pursuit flow field, in pixels.
+     */
+    private static final double FLOW_FIELD_CELL_SIZE = 32.0;
+    /**
+     * The distance within which enemies count as neighbours for steering, in
+     * pixels.
+     */
+    private static final double STEERING_NEIGHBOUR_RADIUS = 96.0;
+    /**
+     * The number of ticks between two decisions of an enemy, while within
+     * {@link #AI_BUDGET_PER_TICK}.
+     */
+    private static final int AI_BUCKETS = 4;
+    /**
+     * The most enemies that make decisions in one tick.
+     */
+    private static final int AI_BUDGET_PER_TICK = 32;
+    /**
+     * An array of keys for the random collision sound clips. They form the
+     * {@code collision_chatter} group in {@code sound_groups.json}.
      */
     private static final String[] COLLISION_SOUND_KEYS = {
         "aight_later",
@@ -56,44 +108,64 @@ public class EnemyManager implements Updateable, Renderable {
 
     // ----- INSTANCE VARIABLES -----
     /**
-     * Time-stamp formatter for debugging purposes, allowing for easy logging of
-     * enemy creation times.
+     * Stores references to all active enemies currently present on the screen,
+     * in the order they were added. Enemies are kept by identity, so any
+     * number of them can stand on the same spot, and are updated in the same
+     * order on every run.
      */
-    private final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+    private List<Enemy> enemies;
     /**
-     * Stores references to all active enemies currently present on the screen.
-     * Using a {@link HashSet} ensures that each enemy is unique and provides
-     * efficient addition and removal.
+     * Schedules the spawn waves of the current level.
      */
-    private HashSet<Enemy> enemies;
+    private final SpawnDirector spawnDirector;
     /**
-     * Random generator used by various methods within the {@code EnemyManager},
-     * such as determining enemy spawn locations and types.
+     * The maximum number of enemies alive at once in the current level.
      */
-    private Random random;
+    private int maxEnemies;
     /**
-     * The timestamp (in milliseconds) of the last time a new enemy was created.
-     * This is used to enforce the {@link #ENEMY_CREATION_COOLDOWN_MS}.
+     * Whether the current level is side-scrolling.
      */
-    private long lastEnemyCreationTime;
+    private boolean sideScrolling;
     /**
-     * The singleton instance of the {@link SoundManager}.
+     * Finds free spawn points among the enemies in play.
      */
-    private final SoundManager soundManager;
+    private final SpawnPlacer spawnPlacer = new SpawnPlacer(OCCUPANCY_CELL_SIZE);
+    /**
+     * Whether the {@link #spawnPlacer} must be refilled with the current
+     * positions before the next spawn. Set every tick, so the occupancy grid
+     * is only rebuilt on ticks that actually spawn.
+     */
+    private boolean spawnPlacerStale = true;
+    /**
+     * Leads pursuing enemies to Ali.
+     */
+    private final FlowField flowField = new FlowField(FLOW_FIELD_CELL_SIZE);
+    /**
+     * Steers all enemies in one pass each tick.
+     */
+    private final SteeringSystem steeringSystem = new SteeringSystem(STEERING_NEIGHBOUR_RADIUS);
     /**
-     * *
-     * The key of the sound clip that is currently playing due to a an
-     * {@link Enemy} colliding with {@link Ali}. {@code null} if no such sound
-     * is playing.
+     * The enemies in the order they were added to the {@link #steeringSystem}
+     * this tick, reused between ticks.
      */
-    private String currentAliCollisionSoundKey;
+    private final List<Enemy> steeredEnemies = new ArrayList<>();
+    /**
+     * Spreads the enemies' decisions over several ticks.
+     */
+    private final AiScheduler<Enemy> aiScheduler = new AiScheduler<>(AI_BUCKETS, AI_BUDGET_PER_TICK);
+    /**
+     * The singleton instance of the {@link SoundManager}.
+     */
+    private final SoundManager soundManager;
 
     // ----- CONSTRUCTORS -----
     /**
      * Constructs an {@code EnemyManager}. Initializes the manager by clearing
-     * any existing enemies and setting the last enemy creation time to zero.
+     * any existing enemies, and reads the spawn waves of every level.
+     * Configuration errors are logged, leaving levels without waves.
      */
     public EnemyManager() {
+        spawnDirector = new SpawnDirector(loadSpawnWaves());
         init();
         soundManager = SoundManager.getInstance();
     }
@@ -103,32 +175,41 @@ public class EnemyManager implements Updateable, Renderable {
      * Returns all active {@link Enemy} instances currently managed by this
      * {@code EnemyManager}.
      *
-     * @return A {@link Set} containing all active enemy entities.
+     * @return A {@link List} containing all active enemy entities.
      * @throws IllegalStateException If the {@link GameManager} is not in the
      * {@code RUNNING} state.
      */
-    public Set<Enemy> getEnemies() {
+    public List<Enemy> getEnemies() {
         ensureRunning("getEnemies");
         return enemies;
     }
 
     /**
-     * Gets the cooldown time in milliseconds before a new enemy can be created.
+     * Returns the director scheduling the current level's spawn waves.
+     *
+     * @return The spawn director.
+     */
+    public SpawnDirector getSpawnDirector() {
+        return spawnDirector;
+    }
+
+    /**
+     * Returns the flow field leading pursuing enemies to Ali.
      *
-     * @return The cooldown time in milliseconds.
+     * @return The shared flow field.
      */
-    public long getEnemyCreationCooldownMs() {
-        return ENEMY_CREATION_COOLDOWN_MS;
+    public FlowField getFlowField() {
+        return flowField;
     }
 
     /**
-     * Returns the timestamp (in milliseconds) of the last time an enemy was
-     * successfully created.
+     * Returns the maximum number of enemies alive at once in the current
+     * level.
      *
-     * @return The timestamp of the last enemy creation.
+     * @return The enemy cap.
      */
-    public long getLastEnemyCreationTime() {
-        return lastEnemyCreationTime;
+    public int getMaxEnemies() {
+        return maxEnemies;
     }
 
     // ----- BUSINESS LOGIC METHODS -----
@@ -137,48 +218,81 @@ public class EnemyManager implements Updateable, Renderable {
      * different enemy types to the game at random locations.
      */
     public void addEnemiesTest() {
-        GamePanel gamePanel = GameManager.getInstance().getGamePanel();
+        addEnemiesTest(4, 5, 2);
+    }
 
-        for (int i = 0; i < 5; i++) {
-            enemies.add(new Student.StudentBuilder(gamePanel)
-                    .position(gamePanel.getRandomPoint())
-                    .build());
+    /**
+     * A utility method for testing purposes (e.g., stress scenarios) to add
+     * any number of each enemy type to the game at random points of the
+     * visible game panel, targeting the player ({@link Ali}). The enemies are
+     * added regardless of the level's enemy cap, and take on the level's
+     * side-scrolling settings like spawned enemies do.
+     *
+     * @param lecturers The number of {@link Lecturer}s to add.
+     * @param students The number of {@link Student}s to add.
+     * @param yappers The number of {@link Yapper}s to add.
+     * @throws IllegalArgumentException If any count is negative.
+     */
+    public void addEnemiesTest(final int lecturers, final int students, final int yappers) {
+        if (lecturers < 0 || students < 0 || yappers < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Enemy counts cannot be negative, got %d lecturers, %d students and %d yappers.",
+                    this.getClass().getName(),
+                    lecturers,
+                    students,
+                    yappers
+            ));
         }
-        for (int i = 0; i < 4; i++) {
-            enemies.add(new Lecturer.LecturerBuilder(gamePanel)
-                    .position(gamePanel.getRandomPoint())
-                    .build());
+        GameManager gameManager = GameManager.getInstance();
+        GamePanel gamePanel = gameManager.getGamePanel();
+        Ali ali = gameManager.getAli();
+
+        for (int i = 0; i < students; i++) {
+            addTestEnemy(EnemyType.STUDENT, gamePanel, ali);
         }
-        for (int i = 0; i < 2; i++) {
-            enemies.add(new Yapper.YapperBuilder(gamePanel)
-                    .position(gamePanel.getRandomPoint())
-                    .build());
+        for (int i = 0; i < lecturers; i++) {
+            addTestEnemy(EnemyType.LECTURER, gamePanel, ali);
+        }
+        for (int i = 0; i < yappers; i++) {
+            addTestEnemy(EnemyType.YAPPER, gamePanel, ali);
         }
     }
 
     /**
-     * Initializes the {@code EnemyManager} for a new game. This method resets
-     * the random number generator, clears the list of active enemies, and sets
-     * the last enemy creation time to zero.
+     * Initializes the {@code EnemyManager} for a new game. This method clears
+     * the list of active enemies and any running spawn waves.
      */
     public final void init() {
-        this.random = new Random();
         clear();
-        lastEnemyCreationTime = 0;
-        currentAliCollisionSoundKey = null;
     }
 
     /**
-     * Clears the set of currently managed enemies. This is typically called
-     * when starting a new game or resetting the game state.
+     * Clears the list of currently managed enemies and stops any running spawn
+     * waves. This is typically called when starting a new game or resetting
+     * the game state.
      */
     public void clear() {
-        enemies = new HashSet<>();
+        enemies = new ArrayList<>();
+        aiScheduler.clear();
+        spawnDirector.stop();
+    }
+
+    /**
+     * Starts the spawn waves of a level, replacing those of the previous one.
+     *
+     * @param levelIndex The zero-based index of the level.
+     * @param config The level's configuration, providing its enemy cap and
+     * time limit.
+     */
+    public void startLevel(final int levelIndex, final LevelConfig config) {
+        maxEnemies = config.getMaxEnemies();
+        sideScrolling = config.getLevelType() == LevelType.SIDE_SCROLLING;
+        spawnDirector.start(levelIndex, config, GameClock.currentTimeMillis(), GameRandom.stream(GameRandom.Stream.SPAWN));
     }
 
     /**
-     * Checks if a new enemy can be created based on the maximum enemy count and
-     * the enemy creation cooldown.
+     * Checks if a new enemy can be created based on the current level's
+     * maximum enemy count.
      *
      * @return {@code true} if a new {@link Enemy} can be created, otherwise
      * {@code false}.
@@ -187,14 +301,14 @@ public class EnemyManager implements Updateable, Renderable {
      */
     public boolean canCreateEnemy() {
         ensureRunning("canCreateEnemy");
-        return (enemies.size() < MAX_ENEMY_COUNT)
-                && (System.currentTimeMillis() - lastEnemyCreationTime >= ENEMY_CREATION_COOLDOWN_MS);
+        return enemies.size() < maxEnemies;
     }
 
     /**
-     * Adds a specific {@link Enemy} instance to the set of managed enemies.
-     * This method also updates the last enemy creation time if the addition is
-     * successful and allowed by {@link #canCreateEnemy()}.
+     * Adds a specific {@link Enemy} instance to the list of managed enemies, if
+     * allowed by {@link #canCreateEnemy()}. The enemy is given the shared
+     * {@link FlowField} to pursue its target with, and a turn to make
+     * decisions.
      *
      * @param enemy The new enemy to add.
      * @throws IllegalStateException If the {@link GameManager} is not in the
@@ -204,79 +318,71 @@ public class EnemyManager implements Updateable, Renderable {
         ensureRunning("addEnemy");
 
         if (canCreateEnemy()) {
-            enemies.add(enemy);
-            lastEnemyCreationTime = System.currentTimeMillis();
+            register(enemy);
         }
     }
 
     /**
-     * Creates a new enemy of a random type at a random spawn point (if allowed
-     * by {@link #canCreateEnemy()}) and adds it to the managed list of enemies.
-     * The newly created enemy will target the player ({@link Ali}).
+     * Writes the enemy cap, the running spawn waves and every enemy to a
+     * snapshot (see {@link GameSnapshot}).
      *
-     * @param ali The player ({@link Ali}) that the created enemy will target.
-     * @throws IllegalStateException If the {@link GameManager} is not in the
-     * {@code RUNNING} state.
+     * @param out The snapshot being written.
      */
-    public void createRandomEnemy(final Ali ali) {
-        ensureRunning("createRandomEnemy");
-    
-        long currentTime = System.currentTimeMillis();
-        String currentTimeFormatted = dateFormat.format(new Date(currentTime));
-    
-        if (!canCreateEnemy()) {
-            return;
-        }
-    
-        GamePanel gamePanel = GameManager.getInstance().getGamePanel();
-        Point spawnPoint = null;
-        try {
-            spawnPoint = gamePanel.getRandomPoint();
-        } catch (IllegalStateException e) {
-            System.err.println("Error getting spawn point: " + e.getMessage());
-            return;
+    public void writeState(final GameSnapshot.Writer out) {
+        out.putInt(maxEnemies).putBoolean(sideScrolling);
+        spawnDirector.writeState(out, GameClock.currentTimeMillis());
+        out.putInt(enemies.size());
+        for (Enemy enemy : enemies) {
+            out.putInt(EnemyType.of(enemy).ordinal());
+            enemy.writeState(out);
         }
-    
-        if (spawnPoint != null) {
-            Enemy newEnemy;
-            switch (random.nextInt(3)) {
-                case 0 -> newEnemy = new Lecturer.LecturerBuilder(gamePanel).build();
-                case 1 -> newEnemy = new Student.StudentBuilder(gamePanel).build();
-                case 2 -> newEnemy = new Yapper.YapperBuilder(gamePanel).build();
-                default -> throw new IllegalStateException("Unexpected value in createRandomEnemy switch-case.");
-            }
-    
-            newEnemy.sprite = newEnemy.getCurrentSprite(); // <-- ADD THIS LINE!!
-    
-            newEnemy.setPosition(spawnPoint);
-            newEnemy.setTarget(ali.getPosition());
-    
-            int xMoveSpeed = random.nextInt(5);
-            boolean moveLeft = random.nextBoolean();
-    
-            newEnemy.setVelocityX(moveLeft ? -xMoveSpeed : xMoveSpeed);
-    
-            enemies.add(newEnemy);
-            lastEnemyCreationTime = currentTime; // Update creation time *after* creating
-    
-            System.out.println("Created a new enemy at " + currentTimeFormatted);
-            System.out.println("Total active enemies: : " + enemies.size());
+    }
+
+    /**
+     * Replaces the enemies and spawn waves with those written by
+     * {@link #writeState(GameSnapshot.Writer)}. Each enemy is built afresh
+     * from its type's defaults before its state is read into it.
+     *
+     * @param in The snapshot being read.
+     * @param gamePanel The panel that will contain the enemies.
+     * @param ali The player character, targeted by the enemies.
+     */
+    public void readState(final ByteBuffer in, final GamePanel gamePanel, final Ali ali) {
+        clear();
+        maxEnemies = in.getInt();
+        sideScrolling = GameSnapshot.getBoolean(in);
+        spawnDirector.readState(in, GameClock.currentTimeMillis(), GameRandom.stream(GameRandom.Stream.SPAWN));
+
+        EnemyType[] types = EnemyType.values();
+        int count = in.getInt();
+        for (int i = 0; i < count; i++) {
+            Enemy enemy = types[in.getInt()].create(gamePanel);
+            enemy.readState(in);
+            enemy.setTarget(ali.getPosition());
+            register(enemy);
         }
+        spawnPlacerStale = true;
     }
 
     // ----- OVERRIDDEN METHODS -----
     /**
      * Updates all managed objects and the current game state. This includes
-     * attempting to create new enemies, updating the state of existing enemies,
-     * and checking for collisions. The hit flash effect for Ali is managed
+     * spawning the enemies that are due, pointing the flow field at Ali,
+     * letting the enemies whose turn it is make decisions, steering the
+     * enemies, updating the state of existing enemies, and
+     * checking for collisions with Ali. The hit flash effect for Ali is managed
      * within the {@link Ali} class itself.
      */
     @Override
     public void update() {
         ensureRunning("update");
-        createRandomEnemy(GameManager.getInstance().getAli());
+        spawnPlacerStale = true;
+        spawnDirector.update(GameClock.currentTimeMillis(), enemies.size(), this::spawnEnemy);
+        updateFlowField();
+        aiScheduler.tick(Enemy::think);
+        steerEnemies();
         updateEnemies();
-        checkCollisions();
+        handleAliCollisions();
     }
 
     /**
@@ -318,10 +424,238 @@ public class EnemyManager implements Updateable, Renderable {
         }
     }
 
+    /**
+     * Creates an enemy at a free spawn point, targeting the player
+     * ({@link Ali}). Called by the {@link SpawnDirector} when a wave is due.
+     * In side-scrolling levels, the enemy takes on Ali's scale and ground
+     * line.
+     *
+     * @param type The type of enemy to create.
+     * @return {@code true} if the enemy was added, {@code false} if no free
+     * spawn point was found.
+     */
+    private boolean spawnEnemy(final EnemyType type) {
+        GameManager gameManager = GameManager.getInstance();
+        GamePanel gamePanel = gameManager.getGamePanel();
+        Ali ali = gameManager.getAli();
+        if (gamePanel.getWidth() <= 0 || gamePanel.getHeight() <= 0) {
+            return false;
+        }
+
+        SplittableRandom random = GameRandom.stream(GameRandom.Stream.SPAWN);
+        Enemy newEnemy = type.create(gamePanel);
+        newEnemy.sprite = newEnemy.getCurrentSprite();
+        if (sideScrolling) {
+            newEnemy.setScale(ali.getScale());
+            newEnemy.setHorizontalOnly(true);
+            newEnemy.setYOrigin((int) ali.getYOrigin());
+        }
+
+        Rectangle bounds = newEnemy.getBounds();
+        if (spawnPlacerStale) {
+            refillSpawnPlacer(gamePanel, ali);
+            spawnPlacerStale = false;
+        }
+        Point2D.Double centre = spawnPlacer.place(
+                getSpawnArea(gamePanel, newEnemy, bounds),
+                Math.max(bounds.width, bounds.height) / 2.0,
+                random
+        );
+        if (centre == null) {
+            return false;
+        }
+
+        newEnemy.setWorldPosition(centre.x - bounds.width / 2.0, centre.y - bounds.height / 2.0);
+        newEnemy.updateScreenPosition();
+        newEnemy.setHitboxFromCurrentSprite();
+        newEnemy.setTarget(ali.getPosition());
+
+        int xMoveSpeed = random.nextInt(MAX_SPAWN_SPEED_X + 1);
+        if (sideScrolling) {
+            // Head towards the screen, or the enemy would never be seen
+            newEnemy.setVelocityX(-Math.max(xMoveSpeed, 1));
+        } else {
+            newEnemy.setVelocityX(random.nextBoolean() ? -xMoveSpeed : xMoveSpeed);
+        }
+
+        register(newEnemy);
+        return true;
+    }
+
+    /**
+     * Creates an enemy at a random point of the visible game panel, targeting
+     * the player, and starts managing it. Used by
+     * {@link #addEnemiesTest(int, int, int)}.
+     *
+     * @param type The type of enemy to create.
+     * @param gamePanel The game panel, providing the scroll offset.
+     * @param ali The player character.
+     */
+    private void addTestEnemy(final EnemyType type, final GamePanel gamePanel, final Ali ali) {
+        Enemy enemy = type.create(gamePanel);
+        enemy.sprite = enemy.getCurrentSprite();
+        Point point = gamePanel.getRandomPoint();
+        if (sideScrolling) {
+            enemy.setScale(ali.getScale());
+            enemy.setHorizontalOnly(true);
+            enemy.setYOrigin((int) ali.getYOrigin());
+            enemy.setWorldPosition(point.x + gamePanel.getScrollOffset(), ali.getYOrigin());
+        } else {
+            enemy.setWorldPosition(point.x + gamePanel.getScrollOffset(), point.y);
+        }
+        enemy.updateScreenPosition();
+        enemy.setHitboxFromCurrentSprite();
+        enemy.setTarget(ali.getPosition());
+        register(enemy);
+    }
+
+    /**
+     * Starts managing an enemy: gives it the shared {@link FlowField} and
+     * schedules its decisions.
+     *
+     * @param enemy The new enemy.
+     */
+    private void register(final Enemy enemy) {
+        enemy.setFlowField(flowField);
+        enemies.add(enemy);
+        aiScheduler.add(enemy);
+    }
+
+    /**
+     * Registers the enemies in play, and a safe zone around Ali, with the
+     * {@link #spawnPlacer}. All positions are in world coordinates.
+     *
+     * @param gamePanel The game panel, providing the scroll offset.
+     * @param ali The player character.
+     */
+    private void refillSpawnPlacer(final GamePanel gamePanel, final Ali ali) {
+        double scrollOffset = gamePanel.getScrollOffset();
+        spawnPlacer.reset();
+        for (Enemy enemy : enemies) {
+            Rectangle bounds = enemy.getBounds();
+            spawnPlacer.addOccupant(
+                    bounds.getCenterX() + scrollOffset,
+                    bounds.getCenterY(),
+                    Math.max(bounds.width, bounds.height) / 2.0
+            );
+        }
+        Rectangle aliBounds = ali.getBounds();
+        spawnPlacer.setSafeZone(
+                aliBounds.getCenterX() + scrollOffset,
+                aliBounds.getCenterY(),
+                Math.max(aliBounds.width, aliBounds.height) / 2.0 + SAFE_DISTANCE
+        );
+    }
+
+    /**
+     * Returns the area, in world coordinates, in which a new enemy's centre
+     * may be placed: the visible part of the level in top-down levels, or a
+     * strip of ground beyond the right edge of the screen in side-scrolling
+     * levels.
+     *
+     * @param gamePanel The game panel.
+     * @param enemy The new enemy.
+     * @param bounds The enemy's bounds, giving its size.
+     * @return The spawn area. Empty (negative width) if the enemy does not
+     * fit, e.g. at the end of a side-scrolling level.
+     */
+    private Rectangle2D getSpawnArea(final GamePanel gamePanel, final Enemy enemy, final Rectangle bounds) {
+        double scrollOffset = gamePanel.getScrollOffset();
+        double halfWidth = bounds.width / 2.0;
+        double halfHeight = bounds.height / 2.0;
+        if (sideScrolling) {
+            double minX = scrollOffset + gamePanel.getWidth() + halfWidth;
+            double maxX = scrollOffset + gamePanel.getWidth() + SPAWN_LOOKAHEAD;
+            int worldWidth = gamePanel.getTileCount() * gamePanel.getTileWidth();
+            if (worldWidth > 0) {
+                maxX = Math.min(maxX, worldWidth - halfWidth);
+            }
+            return new Rectangle2D.Double(minX, enemy.getYOrigin() + halfHeight, maxX - minX, 0);
+        }
+        return new Rectangle2D.Double(
+                scrollOffset + halfWidth,
+                halfHeight,
+                gamePanel.getWidth() - bounds.width,
+                gamePanel.getHeight() - bounds.height
+        );
+    }
+
+    /**
+     * Reads the spawn waves of every level, logging configuration errors.
+     *
+     * @return The waves of each level, keyed by zero-based level index.
+     */
+    private Map<Integer, List<SpawnWave>> loadSpawnWaves() {
+        try {
+            return SpawnWave.loadFromJson();
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println(String.format(
+                    "%s: Failed to load spawn waves from %s: %s",
+                    this.getClass().getName(),
+                    SpawnWave.CONFIG_PATH,
+                    e.getMessage()
+            ));
+            return Map.of();
+        }
+    }
+
+    /**
+     * Sizes the flow field to the current level and points it at the centre
+     * of Ali, in world coordinates. The field is only searched again when Ali
+     * has moved into another cell, and not at all while there are no enemies.
+     */
+    private void updateFlowField() {
+        if (enemies.isEmpty()) {
+            return;
+        }
+        GameManager gameManager = GameManager.getInstance();
+        GamePanel gamePanel = gameManager.getGamePanel();
+        double worldWidth = sideScrolling
+                ? Math.max(gamePanel.getWidth(), gamePanel.getTileCount() * gamePanel.getTileWidth())
+                : gamePanel.getWidth();
+        flowField.resize(worldWidth, gamePanel.getHeight());
+
+        Rectangle aliBounds = gameManager.getAli().getBounds();
+        flowField.update(aliBounds.getCenterX() + gamePanel.getScrollOffset(), aliBounds.getCenterY());
+    }
+
+    /**
+     * Computes the steering of every enemy in one batched pass, from its world
+     * position, velocity and desired velocity, and hands each enemy its
+     * acceleration to apply on its next move.
+     */
+    private void steerEnemies() {
+        if (enemies.isEmpty()) {
+            return;
+        }
+        steeringSystem.clear();
+        steeredEnemies.clear();
+        for (Enemy enemy : enemies) {
+            Rectangle bounds = enemy.getBounds();
+            // The steering system's y-axis points down the screen; enemy velocities point up
+            steeringSystem.add(
+                    enemy.getWorldX() + bounds.width / 2.0,
+                    enemy.getWorldY() + bounds.height / 2.0,
+                    enemy.getVelocityX(),
+                    -enemy.getVelocityY(),
+                    enemy.getDesiredVelocityX(),
+                    -enemy.getDesiredVelocityY(),
+                    Math.max(bounds.width, bounds.height) / 2.0,
+                    enemy.getSpeed()
+            );
+            steeredEnemies.add(enemy);
+        }
+        steeringSystem.compute();
+        for (int i = 0; i < steeredEnemies.size(); i++) {
+            steeredEnemies.get(i).steer(steeringSystem.getSteeringX(i), -steeringSystem.getSteeringY(i));
+        }
+    }
+
     /**
      * Updates the list of managed enemies. This includes calling the
      * {@code update()} method on each enemy and removing any enemies that are
-     * fully outside the game panel.
+     * fully outside the game panel (or, in side-scrolling levels, beyond the
+     * strip ahead of it where enemies spawn).
      */
     private void updateEnemies() {
         ensureRunning("updateEnemies");
@@ -330,25 +664,29 @@ public class EnemyManager implements Updateable, Renderable {
             return;
         }
 
+        GamePanel gamePanel = GameManager.getInstance().getGamePanel();
+        Rectangle playArea = new Rectangle(
+                0,
+                0,
+                gamePanel.getWidth() + (sideScrolling ? SPAWN_LOOKAHEAD : 0),
+                gamePanel.getHeight()
+        );
         enemies.removeIf(enemy -> {
             enemy.update();
-            return enemy.isFullyOutsidePanel();
+            if (enemy.getBounds().intersects(playArea)) {
+                return false;
+            }
+            aiScheduler.remove(enemy);
+            return true;
         });
     }
 
-    /**
-     * Handles collision checks between the player ({@link Ali}) and all active
-     * enemies, and between pairs of enemies.
-     */
-    private void checkCollisions() {
-        handleAliCollisions();
-        handleEnemyCollisions();
-    }
-
     /**
      * Handles collisions between the player ({@link Ali}) and active enemies.
      * Upon collision, applies game penalties, triggers Ali's hit flash, and
-     * plays a random collision sound effect if one is not already playing.
+     * requests a random collision sound effect. The sounds' group (see
+     * {@code sound_groups.json}) keeps them from overlapping or repeating too
+     * quickly.
      */
     private void handleAliCollisions() {
         GameManager gameManager = GameManager.getInstance();
@@ -362,10 +700,10 @@ public class EnemyManager implements Updateable, Renderable {
                     gameManager.subtractTimePenalty(enemy.getTimePenalty());
                     ali.startHitFlash();
 
-                    if (!isCollisionSoundPlaying()) {
-                        playRandomCollisionSound();
-                    }
+                    playRandomCollisionSound(enemy);
                 }
+                // A landed hit ends the attack, sending the enemy into its cooldown
+                enemy.setIsAttacking(false);
                 enemy.reverseMovementDirection();
             } else {
                 enemy.setHasCollided(false);
@@ -374,50 +712,15 @@ public class EnemyManager implements Updateable, Renderable {
     }
 
     /**
-     * Handles collisions between pairs of active enemies. Upon collision, the
-     * involved enemies reverse their movement direction.
-     */
-    private void handleEnemyCollisions() {
-        List<Enemy> enemyList = new ArrayList<>(enemies);
-        for (int i = 0; i < enemyList.size(); i++) {
-            Enemy e1 = enemyList.get(i);
-            for (int j = i + 1; j < enemyList.size(); j++) {
-                Enemy e2 = enemyList.get(j);
-                if (e1.collides(e2)) {
-                    e1.reverseMovementDirection();
-                    e2.reverseMovementDirection();
-                }
-            }
-        }
-    }
-
-    /**
-     * Plays a random sound clip from the available collision sounds.
-     */
-    private void playRandomCollisionSound() {
-        System.out.println("playRandomCollisionSound() called.");
-        if (COLLISION_SOUND_KEYS.length > 0) {
-            int randomIndex = random.nextInt(COLLISION_SOUND_KEYS.length);
-            String soundKey = COLLISION_SOUND_KEYS[randomIndex];
-            System.out.println("Trying to play sound with key: " + soundKey);
-            soundManager.playClip(soundKey, false, 1.0f);
-        } else {
-            System.out.println("No collision sound keys available.");
-        }
-    }
-
-    /**
-     * Checks if any of the collision sound effects are currently playing.
+     * Plays a random sound clip from the available collision sounds, from the
+     * position of the enemy that was hit.
      *
-     * @return {@code true} if any collision sound is playing, {@code false}
-     * otherwise.
+     * @param enemy The enemy Ali collided with.
      */
-    private boolean isCollisionSoundPlaying() {
-        for (String key : COLLISION_SOUND_KEYS) {
-            if (soundManager.isClipPlaying(key)) {
-                return true;
-            }
+    private void playRandomCollisionSound(Enemy enemy) {
+        if (COLLISION_SOUND_KEYS.length > 0) {
+            int randomIndex = GameRandom.stream(GameRandom.Stream.EFFECTS).nextInt(COLLISION_SOUND_KEYS.length);
+            soundManager.playClipAt(COLLISION_SOUND_KEYS[randomIndex], enemy, 1.0f);
         }
-        return false;
     }
 }
@@ -1,8 +1,11 @@
 package com.simcraft.managers;
 
+import java.awt.GraphicsEnvironment;
 import java.awt.Point;
 import java.awt.event.ActionEvent;
 import java.lang.StackWalker.StackFrame;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 
 import javax.swing.SwingUtilities;
 import javax.swing.Timer;
@@ -15,6 +18,7 @@ import com.simcraft.graphics.screens.GameplayScreen;
 import com.simcraft.graphics.screens.subpanels.GamePanel;
 import com.simcraft.graphics.screens.subpanels.InfoPanel;
 import com.simcraft.interfaces.Updateable;
+import com.simcraft.utility.GameClock;
 
 public class GameManager implements Updateable {
 
@@ -81,9 +85,20 @@ public class GameManager implements Updateable {
      * Timestamp (in milliseconds) of the last time one second was counted down.
      * Used to track when to decrement the remaining time.
      */
-    private long lastSecondTimestamp = System.currentTimeMillis();
+    private long lastSecondTimestamp = GameClock.currentTimeMillis();
     private int timeLeft = 300;
+    /**
+     * Whether {@link #init(GamePanel, InfoPanel)} starts the internal Swing
+     * gameplay timer. Disabled by tools that tick the game themselves (e.g.,
+     * the headless renderer) so that updates happen only when they ask.
+     */
+    private boolean gameplayTimerEnabled = true;
     private GameplayScreen gameplayScreen;
+    /**
+     * The snapshot {@link #restartGame()} goes back to, normally taken when
+     * the current level was loaded; {@code null} if there is none.
+     */
+    private GameSnapshot checkpoint;
 
     // ----- CONSTRUCTORS -----
     /**
@@ -134,6 +149,15 @@ public class GameManager implements Updateable {
         return enemyManager;
     }
 
+    /**
+     * Returns the snapshot {@link #restartGame()} goes back to.
+     *
+     * @return The checkpoint, or {@code null} if none has been set.
+     */
+    public GameSnapshot getCheckpoint() {
+        return checkpoint;
+    }
+
     // ----- BUSINESS LOGIC METHODS -----
     /**
      * Returns whether the game is currently initializing.
@@ -189,7 +213,9 @@ public class GameManager implements Updateable {
             SoundManager soundManager = SoundManager.getInstance();
             soundManager.stopAll();
             soundManager.playClip("game_over", false);
-            SwingUtilities.invokeLater(this::showGameOverDialogue); // Show game over screen
+            if (!GraphicsEnvironment.isHeadless()) {
+                SwingUtilities.invokeLater(this::showGameOverDialogue); // Show game over screen
+            }
             stopGameplayTimer(); // Stop the game loop
         }
     }
@@ -207,6 +233,30 @@ public class GameManager implements Updateable {
         this.gameplayScreen = gameplayScreen;
     }
 
+    /**
+     * Enables or disables the internal Swing gameplay timer. When disabled,
+     * the game only advances when {@link #update()} is called by the owner of
+     * the game loop. Takes effect the next time the timer would be started.
+     *
+     * @param enabled {@code true} to let the GameManager tick itself.
+     */
+    public void setGameplayTimerEnabled(final boolean enabled) {
+        this.gameplayTimerEnabled = enabled;
+        if (!enabled) {
+            stopGameplayTimer();
+        }
+    }
+
+    /**
+     * Sets the snapshot {@link #restartGame()} goes back to.
+     *
+     * @param checkpoint The checkpoint, or {@code null} to restart by
+     * reinitializing the game.
+     */
+    public void setCheckpoint(final GameSnapshot checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
     // ----- BUSINESS LOGIC METHODS -----
     /**
      * Initializes the GameManager for a new game. This method must be called
@@ -239,6 +289,7 @@ public class GameManager implements Updateable {
         currentState = GameState.INITIALIZING;
 
         remainingSeconds = 300; // Temp value, potentially customized per level
+        lastSecondTimestamp = GameClock.currentTimeMillis();
         initialiseAli();
         enemyManager.init();
 
@@ -259,7 +310,9 @@ public class GameManager implements Updateable {
             gamePanel = null;
             infoPanel = null;
             ali = null;
+            checkpoint = null;
             enemyManager.clear();
+            currentState = GameState.NOT_INITIALIZED;
         }
     }
 
@@ -273,12 +326,90 @@ public class GameManager implements Updateable {
         setGamePaused(true);
     }
 
+    /**
+     * Restarts the game. If a checkpoint is set, the game is restored to it
+     * (see {@link #restore(GameSnapshot)}) and the gameplay screen restarts
+     * the level's presentation; otherwise the game is reinitialized.
+     */
     public void restartGame() {
-        currentState = GameState.NOT_INITIALIZED;
-        init(this.gamePanel, this.infoPanel);
+        if (checkpoint != null && gameplayScreen != null) {
+            gameplayScreen.restartLevel(checkpoint);
+        } else {
+            currentState = GameState.NOT_INITIALIZED;
+            init(this.gamePanel, this.infoPanel);
+        }
         System.out.println("Game restarted.");
     }
 
+    /**
+     * Takes a snapshot of the game's state: the level timer, the game panel's
+     * scroll and special objects, Ali, every enemy and the running spawn
+     * waves.
+     *
+     * @return The snapshot.
+     * @throws IllegalStateException If the game has not been initialized.
+     */
+    public GameSnapshot snapshot() {
+        ensureInitialized("snapshot");
+        GameSnapshot.Writer out = new GameSnapshot.Writer();
+        out.putInt(remainingSeconds)
+                .putLong(GameClock.currentTimeMillis() - lastSecondTimestamp)
+                .putInt(timeLeft);
+        gamePanel.writeState(out);
+        ali.writeState(out);
+        enemyManager.writeState(out);
+        return out.toSnapshot();
+    }
+
+    /**
+     * Restores the game to a snapshot taken by {@link #snapshot()} in the
+     * current level, and resumes running it. The state is read straight into
+     * the live game panel and Ali; only the enemies are rebuilt. Nothing is
+     * reloaded, so restoring takes time proportional to the snapshot's size.
+     *
+     * @param snapshot The snapshot to restore.
+     * @throws NullPointerException If {@code snapshot} is null.
+     * @throws IllegalStateException If the game has not been initialized.
+     * @throws IllegalArgumentException If the snapshot does not match the
+     * state this version of the game writes.
+     */
+    public void restore(final GameSnapshot snapshot) {
+        if (snapshot == null) {
+            throw new NullPointerException(String.format(
+                    "%s: Snapshot cannot be null.",
+                    this.getClass().getName()
+            ));
+        }
+        ensureInitialized("restore");
+        stopGameplayTimer();
+
+        ByteBuffer in = snapshot.reader();
+        try {
+            remainingSeconds = in.getInt();
+            lastSecondTimestamp = GameClock.currentTimeMillis() - in.getLong();
+            timeLeft = in.getInt();
+            gamePanel.readState(in);
+            ali.readState(in);
+            enemyManager.readState(in, gamePanel, ali);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Snapshot does not match the game state.",
+                    this.getClass().getName()
+            ), e);
+        }
+        if (in.hasRemaining()) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Snapshot has %d unread bytes.",
+                    this.getClass().getName(),
+                    in.remaining()
+            ));
+        }
+
+        infoPanel.updateTimerDisplay(remainingSeconds);
+        currentState = GameState.RUNNING;
+        startGameplayTimer();
+    }
+
     // ----- OVERRIDDEN METHODS -----
     /**
      * Updates all managed objects and the current game state.
@@ -297,6 +428,9 @@ public class GameManager implements Updateable {
             ali.update();
         }
         enemyManager.update();
+        if (gamePanel != null) {
+            SoundManager.getInstance().followCamera(gamePanel);
+        }
     }
 
     // ----- HELPER METHODS -----
@@ -350,7 +484,7 @@ public class GameManager implements Updateable {
 
     private void updateRemainingSeconds() {
         // Decrease timer once per second
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.currentTimeMillis();
         if (currentTime - lastSecondTimestamp >= 1000) {
             remainingSeconds = Math.max(0, remainingSeconds - 1);
             lastSecondTimestamp = currentTime;
@@ -397,6 +531,9 @@ public class GameManager implements Updateable {
      * Starts the current gameplay timer.
      */
     private void startGameplayTimer() {
+        if (!gameplayTimerEnabled) {
+            return;
+        }
         if (gameplayTimer == null) {
             gameplayTimer = new Timer(1000 / 60, e -> {
                 try {
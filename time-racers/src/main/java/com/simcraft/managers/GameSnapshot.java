@@ -0,0 +1,275 @@
+package com.simcraft.managers;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * An immutable, compact binary copy of the running game's state: the
+ * {@link GameManager}'s timers, {@link com.simcraft.entities.Ali}, every
+ * {@link com.simcraft.entities.enemies.Enemy}, the
+ * {@link com.simcraft.graphics.screens.subpanels.GamePanel}'s scroll and
+ * special objects, and the spawn timeline of the current level.
+ * <p>
+ * A snapshot is taken with {@link GameManager#snapshot()} and restored with
+ * {@link GameManager#restore(GameSnapshot)}. Each part of the game writes its
+ * fields to a {@link Writer} in a fixed order, and reads them back in the same
+ * order straight into the live objects, so restoring is a single pass over the
+ * bytes, proportional to the size of the state, without reloading assets or
+ * rebuilding the level.
+ * <p>
+ * The format starts with the magic number {@code "TRSS"} and a version byte.
+ * Numbers are big-endian, strings are a length followed by their UTF-8 bytes.
+ * Timestamps are stored relative to the {@link com.simcraft.utility.GameClock}
+ * at the time of the snapshot, so a restored game resumes with the same time
+ * left on every timer, however long after it was taken. A snapshot describes
+ * the level it was taken in; it does not hold the level's background, so it
+ * must be restored into that same level.
+ */
+public final class GameSnapshot {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The first four bytes of every snapshot, {@code "TRSS"}.
+     */
+    private static final int MAGIC = 0x54525353;
+
+    /**
+     * The version of the snapshot format.
+     */
+    private static final byte VERSION = 2;
+
+    /**
+     * The size of the header, in bytes.
+     */
+    private static final int HEADER_SIZE = Integer.BYTES + Byte.BYTES;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The encoded state, header included.
+     */
+    private final byte[] bytes;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Constructs a {@code GameSnapshot} around encoded state. The array is not
+     * copied.
+     *
+     * @param bytes The encoded state, header included.
+     */
+    private GameSnapshot(final byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Reads a snapshot previously returned by {@link #toBytes()}, e.g. from a
+     * save file.
+     *
+     * @param bytes The encoded snapshot. Copied.
+     * @return The snapshot.
+     * @throws NullPointerException If {@code bytes} is null.
+     * @throws IllegalArgumentException If {@code bytes} does not hold a
+     * snapshot of a supported version.
+     */
+    public static GameSnapshot fromBytes(final byte[] bytes) {
+        if (bytes == null) {
+            throw new NullPointerException(String.format(
+                    "%s: Snapshot bytes cannot be null.",
+                    GameSnapshot.class.getName()
+            ));
+        }
+        if (bytes.length < HEADER_SIZE || ByteBuffer.wrap(bytes).getInt() != MAGIC) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Not a game snapshot.",
+                    GameSnapshot.class.getName()
+            ));
+        }
+        if (bytes[Integer.BYTES] != VERSION) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Unsupported snapshot version %d.",
+                    GameSnapshot.class.getName(),
+                    bytes[Integer.BYTES]
+            ));
+        }
+        return new GameSnapshot(bytes.clone());
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the size of the snapshot.
+     *
+     * @return The number of bytes, header included.
+     */
+    public int size() {
+        return bytes.length;
+    }
+
+    /**
+     * Returns a copy of the encoded snapshot, which {@link #fromBytes(byte[])}
+     * reads back.
+     *
+     * @return The encoded snapshot.
+     */
+    public byte[] toBytes() {
+        return bytes.clone();
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Returns a read-only view of the encoded state, positioned after the
+     * header, to read the state from in the order it was written.
+     *
+     * @return The state, ready to be read.
+     */
+    ByteBuffer reader() {
+        return ByteBuffer.wrap(bytes).position(HEADER_SIZE).asReadOnlyBuffer();
+    }
+
+    /**
+     * Reads a string written by {@link Writer#putString(String)}.
+     *
+     * @param in The state being read.
+     * @return The string, or {@code null} if a null string was written.
+     * @throws BufferUnderflowException If the state ends before the string.
+     */
+    public static String getString(final ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] utf8 = new byte[length];
+        in.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a boolean written by {@link Writer#putBoolean(boolean)}.
+     *
+     * @param in The state being read.
+     * @return The boolean.
+     * @throws BufferUnderflowException If the state ends before the boolean.
+     */
+    public static boolean getBoolean(final ByteBuffer in) {
+        return in.get() != 0;
+    }
+
+    // ----- NESTED TYPES -----
+    /**
+     * Encodes the state of the game into a {@link GameSnapshot}, growing its
+     * buffer as needed.
+     */
+    public static final class Writer {
+
+        /**
+         * The initial capacity of a writer's buffer, in bytes; enough for a
+         * level with a few dozen enemies without growing.
+         */
+        private static final int INITIAL_CAPACITY = 4096;
+
+        /**
+         * The buffer the state is written to.
+         */
+        private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_CAPACITY);
+
+        /**
+         * Constructs a {@code Writer} and writes the header.
+         */
+        Writer() {
+            buffer.putInt(MAGIC).put(VERSION);
+        }
+
+        /**
+         * Writes an {@code int}.
+         *
+         * @param value The value.
+         * @return This writer.
+         */
+        public Writer putInt(final int value) {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(value);
+            return this;
+        }
+
+        /**
+         * Writes a {@code long}.
+         *
+         * @param value The value.
+         * @return This writer.
+         */
+        public Writer putLong(final long value) {
+            ensureRemaining(Long.BYTES);
+            buffer.putLong(value);
+            return this;
+        }
+
+        /**
+         * Writes a {@code double}.
+         *
+         * @param value The value.
+         * @return This writer.
+         */
+        public Writer putDouble(final double value) {
+            ensureRemaining(Double.BYTES);
+            buffer.putDouble(value);
+            return this;
+        }
+
+        /**
+         * Writes a {@code boolean} as one byte.
+         *
+         * @param value The value.
+         * @return This writer.
+         */
+        public Writer putBoolean(final boolean value) {
+            ensureRemaining(Byte.BYTES);
+            buffer.put(value ? (byte) 1 : (byte) 0);
+            return this;
+        }
+
+        /**
+         * Writes a string as its length followed by its UTF-8 bytes. A
+         * {@code null} string is written as a length of -1.
+         *
+         * @param value The string, or {@code null}.
+         * @return This writer.
+         */
+        public Writer putString(final String value) {
+            if (value == null) {
+                return putInt(-1);
+            }
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            putInt(utf8.length);
+            ensureRemaining(utf8.length);
+            buffer.put(utf8);
+            return this;
+        }
+
+        /**
+         * Finishes the snapshot.
+         *
+         * @return The snapshot of everything written.
+         */
+        GameSnapshot toSnapshot() {
+            return new GameSnapshot(Arrays.copyOf(buffer.array(), buffer.position()));
+        }
+
+        /**
+         * Grows the buffer, doubling its capacity, until it has room for a
+         * number of bytes.
+         *
+         * @param bytes The number of bytes about to be written.
+         */
+        private void ensureRemaining(final int bytes) {
+            if (buffer.remaining() < bytes) {
+                int capacity = buffer.capacity();
+                while (capacity - buffer.position() < bytes) {
+                    capacity *= 2;
+                }
+                ByteBuffer grown = ByteBuffer.allocate(capacity);
+                grown.put(buffer.flip());
+                buffer = grown;
+            }
+        }
+    }
+}
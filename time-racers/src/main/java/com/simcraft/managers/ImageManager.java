@@ -12,9 +12,30 @@ import javax.swing.ImageIcon;
 
 /**
  * The ImageManager class manages the loading and processing of images.
+ * <p>
+ * Images that are only ever drawn (backgrounds, icons, props) should be
+ * obtained through {@link #getImage(String)} or
+ * {@link #acquireImage(String)}, which share a single decoded copy through an
+ * {@link AssetCache}. {@link #loadBufferedImage(String)} always decodes a fresh
+ * copy and is intended for images that will be sliced, scaled or modified.
  */
 public class ImageManager {
 
+    // ----- STATIC VARIABLES -----
+    /**
+     * The default memory budget for cached images (64 MB).
+     */
+    private static final long DEFAULT_IMAGE_CACHE_BUDGET_BYTES = 64L * 1024 * 1024;
+
+    /**
+     * Shared decoded images keyed by file path.
+     */
+    private static final AssetCache<String, BufferedImage> IMAGE_CACHE = new AssetCache<>(
+            "image",
+            DEFAULT_IMAGE_CACHE_BUDGET_BYTES,
+            ImageManager::estimateImageBytes
+    );
+
     // ----- CONSTRUCTORS -----
     /**
      * Private constructor to prevent instantiation.
@@ -22,7 +43,83 @@ public class ImageManager {
     private ImageManager() {
     }
 
+    // ----- GETTERS -----
+    /**
+     * Returns a snapshot of the image cache's hit, miss, eviction and memory
+     * statistics.
+     *
+     * @return The image cache statistics.
+     */
+    public static AssetCache.Statistics getImageCacheStatistics() {
+        return IMAGE_CACHE.getStatistics();
+    }
+
+    /**
+     * Returns the shared image cache, e.g., so that a preloader can publish
+     * images decoded on another thread.
+     *
+     * @return The image cache.
+     */
+    public static AssetCache<String, BufferedImage> getImageCache() {
+        return IMAGE_CACHE;
+    }
+
+    // ----- SETTERS -----
+    /**
+     * Sets the memory budget of the image cache.
+     *
+     * @param budgetBytes The budget in bytes.
+     */
+    public static void setImageCacheBudget(final long budgetBytes) {
+        IMAGE_CACHE.setBudgetBytes(budgetBytes);
+    }
+
     // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Returns the shared, cached copy of an image, decoding it on first use.
+     * The image is not pinned and may be evicted later under memory pressure.
+     * The returned image is shared and must not be modified.
+     *
+     * @param filepath The file path (relative or absolute).
+     * @return The image, or {@code null} if it cannot be loaded.
+     */
+    public static BufferedImage getImage(final String filepath) {
+        if (filepath == null || filepath.isEmpty()) {
+            return null;
+        }
+        return IMAGE_CACHE.get(filepath, ImageManager::loadBufferedImage);
+    }
+
+    /**
+     * Returns the shared, cached copy of an image and pins it in the cache
+     * until {@link #releaseImage(String)} is called with the same path. Use for
+     * images that must stay resident for a known period, such as the
+     * backgrounds of the current level. The returned image must not be
+     * modified.
+     *
+     * @param filepath The file path (relative or absolute).
+     * @return The image, or {@code null} if it cannot be loaded (in which case
+     * nothing needs to be released).
+     */
+    public static BufferedImage acquireImage(final String filepath) {
+        if (filepath == null || filepath.isEmpty()) {
+            return null;
+        }
+        return IMAGE_CACHE.acquire(filepath, ImageManager::loadBufferedImage);
+    }
+
+    /**
+     * Releases an image pinned by {@link #acquireImage(String)}.
+     *
+     * @param filepath The file path the image was acquired with.
+     */
+    public static void releaseImage(final String filepath) {
+        if (filepath == null || filepath.isEmpty()) {
+            return;
+        }
+        IMAGE_CACHE.release(filepath);
+    }
+
     /**
      * Loads an image from a file path (using ImageIcon).
      *
@@ -37,6 +134,9 @@ public class ImageManager {
      * Loads a BufferedImage from the provided file path. If the image is
      * bundled in the JAR (or the classpath), use a URL. Otherwise, load it as a
      * regular file.
+     * <p>
+     * This always decodes a new, private copy. Prefer
+     * {@link #getImage(String)} for images that are only drawn.
      *
      * @param filepath The file path (relative or absolute).
      * @return The loaded image object (if possible); {@code null} if a
@@ -147,4 +247,17 @@ public class ImageManager {
     public static BufferedImage scaleBufferedImageSize(final BufferedImage originalImage, double scaleFactor) {
         return scaleBufferedImageSize(originalImage, scaleFactor, scaleFactor);
     }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Estimates the memory footprint of a decoded image from its dimensions
+     * and pixel size.
+     *
+     * @param image The image.
+     * @return The estimated size in bytes.
+     */
+    private static long estimateImageBytes(final BufferedImage image) {
+        long bytesPerPixel = Math.max(1, (image.getColorModel().getPixelSize() + 7) / 8);
+        return (long) image.getWidth() * image.getHeight() * bytesPerPixel;
+    }
 }
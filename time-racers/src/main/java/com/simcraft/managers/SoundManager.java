@@ -1,27 +1,65 @@
 package com.simcraft.managers;
 
-import java.io.File;
+import java.awt.geom.Point2D;
 import java.io.IOException;
-import java.net.URL;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 
-import javax.sound.sampled.AudioFormat;
 import javax.sound.sampled.AudioInputStream;
 import javax.sound.sampled.AudioSystem;
-import javax.sound.sampled.Clip;
-import javax.sound.sampled.DataLine;
-import javax.sound.sampled.FloatControl;
-import javax.sound.sampled.LineUnavailableException;
 import javax.sound.sampled.UnsupportedAudioFileException;
 
+import com.simcraft.audio.AudioBus;
+import com.simcraft.audio.AudioListener;
+import com.simcraft.audio.SampleBuffer;
+import com.simcraft.audio.SoftwareMixer;
+import com.simcraft.audio.SoundGroup;
+import com.simcraft.audio.StreamingTrack;
+import com.simcraft.audio.Voice;
+import com.simcraft.entities.MobileEntity;
+import com.simcraft.graphics.screens.subpanels.GamePanel;
+
 /**
  * Manages audio playback for the game using a singleton pattern.
  * <p>
  * The {@link SoundManager} loads, plays, and stops audio clips efficiently.
  * Audio files can be loaded either from the JAR's resources or as external
  * files.
+ * <p>
+ * Sounds are registered by key and loaded lazily, the first time they are
+ * played, unless they are warmed up in advance with {@link #warmUp(Collection)}.
+ * Short effects are decoded into a {@link SampleBuffer}, compressed to IMA
+ * ADPCM (see {@link #COMPRESS_EFFECTS}), and played as voices of
+ * the {@link SoftwareMixer}, so the same effect can overlap itself and every
+ * effect shares a single output line. Tracks longer than
+ * {@link #STREAMING_THRESHOLD_SECONDS} are played as a {@link StreamingTrack}
+ * on the {@link AudioBus#MUSIC} bus, so they are never held in memory in full.
+ * <p>
+ * Volumes are bus gains of the mixer: the global volume is the
+ * {@link AudioBus#MASTER} gain, and {@link #setBusVolume(AudioBus, float)}
+ * sets the others. Changing a volume is a single gain write that the mixer
+ * ramps in over its next buffer, independent of how many sounds are loaded.
+ * <p>
+ * Effects emitted by an entity can be played with
+ * {@link #playClipAt(String, MobileEntity, float)}; they pan and fade with the
+ * entity's position relative to the camera, which
+ * {@link #followCamera(GamePanel)} keeps up to date.
+ * <p>
+ * Effects listed in {@link SoundGroup#CONFIG_PATH} play in their
+ * {@link SoundGroup}, which limits how many of them overlap and how often they
+ * can start.
+ * <p>
+ * Playing and stopping never block the caller: effects are started and stopped
+ * through the mixer's command queue, and a sound that has not been loaded yet
+ * is loaded on a background thread and started once it is ready.
  */
 public class SoundManager {
 
@@ -36,11 +74,112 @@ public class SoundManager {
      */
     private static final String SOUNDS_FOLDER = "/sounds/";
 
+    /**
+     * Sounds longer than this many seconds are streamed rather than decoded
+     * into a {@link SampleBuffer}.
+     */
+    public static final float STREAMING_THRESHOLD_SECONDS = 4.0f;
+
+    /**
+     * Whether short effects are kept in memory as IMA ADPCM (a quarter of the
+     * size of PCM) rather than as plain PCM.
+     */
+    public static final boolean COMPRESS_EFFECTS = true;
+
+    /**
+     * How far positional sounds carry, in half screen widths from the centre
+     * of the camera: at full volume on screen, silent one screen beyond its
+     * edge.
+     */
+    private static final double AUDIBLE_RANGE_HALF_WIDTHS = 3.0;
+
+    /**
+     * The sounds registered by default, mapped from clip key to file name
+     * within {@link #SOUNDS_FOLDER}.
+     */
+    public static final Map<String, String> DEFAULT_CLIPS;
+
+    static {
+        Map<String, String> defaults = new LinkedHashMap<>();
+        defaults.put("background", "background.wav");
+        defaults.put("footstep", "footstep.wav");
+        defaults.put("game_over", "game_over.wav");
+        defaults.put("person_running", "person_running.wav");
+        defaults.put("aight_later", "aight_later.wav");
+        defaults.put("ey_ey_ey", "ey_ey_ey.wav");
+        defaults.put("i_hadda_go", "i_hadda_go.wav");
+        defaults.put("i_hafta_go", "i_hafta_go.wav");
+        defaults.put("no_later_boi", "no_later_boi.wav");
+        defaults.put("sorry_i_cah_stay", "sorry_i_cah_stay.wav");
+        DEFAULT_CLIPS = Collections.unmodifiableMap(defaults);
+    }
+
+    /**
+     * Short effects that are played during gameplay and should be decoded
+     * before it starts, so the first collision or footstep does not have to
+     * wait for a decode.
+     */
+    public static final List<String> WARM_UP_CLIPS = List.of(
+            "footstep",
+            "aight_later",
+            "ey_ey_ey",
+            "i_hadda_go",
+            "i_hafta_go",
+            "no_later_boi",
+            "sorry_i_cah_stay"
+    );
+
     // ----- INSTANCE VARIABLES -----
     /**
-     * Stores audio clips mapped by their unique keys.
+     * Decoded short effects mapped by their unique keys. Concurrent so that
+     * effects can be loaded from asset loading threads.
+     */
+    private final Map<String, SampleBuffer> samples;
+
+    /**
+     * The mixer playing every short effect.
+     */
+    private final SoftwareMixer mixer;
+
+    /**
+     * The group of every grouped sound, mapped by sound key.
+     */
+    private final Map<String, SoundGroup> soundGroups;
+
+    /**
+     * Long tracks streamed from their files, mapped by their keys.
+     */
+    private final Map<String, StreamingTrack> tracks;
+
+    /**
+     * The file name (within {@link #SOUNDS_FOLDER}) of every registered sound,
+     * mapped by key.
+     */
+    private final Map<String, String> soundFiles;
+
+    /**
+     * Per-key locks ensuring that each sound is loaded only once, while
+     * different sounds can load in parallel.
+     */
+    private final Map<String, Object> loadLocks;
+
+    /**
+     * Keys of sounds that failed to load. They are not retried on every play
+     * request; registering the sound again clears the failure.
+     */
+    private final Set<String> unavailableSounds;
+
+    /**
+     * Loads sounds requested before they were warmed up, off the caller's
+     * thread.
+     */
+    private final ExecutorService loader;
+
+    /**
+     * Incremented by {@link #stopAll()}, so that a play request still waiting
+     * for its sound to load is dropped if everything was stopped meanwhile.
      */
-    private final Map<String, Clip> clips;
+    private final AtomicLong stopGeneration = new AtomicLong();
 
     /**
      * Volume control (range: 0.0 to 1.0).
@@ -49,12 +188,24 @@ public class SoundManager {
 
     // ----- CONSTRUCTORS -----
     /**
-     * Private constructor to enforce the singleton pattern.
+     * Private constructor to enforce the singleton pattern. The default sounds
+     * are registered but not loaded; see {@link #warmUp(Collection)}.
      */
     private SoundManager() {
-        clips = new HashMap<>();
+        samples = new ConcurrentHashMap<>();
+        mixer = SoftwareMixer.getInstance();
+        soundGroups = loadSoundGroups();
+        tracks = new ConcurrentHashMap<>();
+        soundFiles = new ConcurrentHashMap<>(DEFAULT_CLIPS);
+        loadLocks = new ConcurrentHashMap<>();
+        unavailableSounds = ConcurrentHashMap.newKeySet();
+        loader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sound-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
         volume = 0.5f; // Default volume
-        loadDefaultClips();
+        mixer.setBusGain(AudioBus.MASTER, volume);
     }
 
     // ----- SINGLETON GETTER -----
@@ -63,7 +214,7 @@ public class SoundManager {
      *
      * @return The single instance of {@link SoundManager}.
      */
-    public static SoundManager getInstance() {
+    public static synchronized SoundManager getInstance() {
         if (instance == null) {
             instance = new SoundManager();
         }
@@ -72,22 +223,81 @@ public class SoundManager {
 
     // ----- GETTERS -----
     /**
-     * Retrieves a loaded clip by its key.
+     * Retrieves a loaded short effect by its key. Does not load the effect.
+     *
+     * @param key The key of the effect.
+     * @return The corresponding {@link SampleBuffer}, or {@code null} if it is
+     * not loaded or is a streamed track.
+     */
+    public SampleBuffer getSample(String key) {
+        return samples.get(key);
+    }
+
+    /**
+     * Returns the memory held by every loaded short effect.
      *
-     * @param key The key of the clip.
-     * @return The corresponding {@link Clip}, or {@code null} if not found.
+     * @return The total size of the loaded sample buffers in bytes.
      */
-    public Clip getClip(String key) {
-        return clips.get(key);
+    public long getSampleMemoryBytes() {
+        long total = 0;
+        for (SampleBuffer sample : samples.values()) {
+            total += sample.getSizeBytes();
+        }
+        return total;
     }
 
     /**
-     * Retrieves all available clip keys.
+     * Returns the group a sound plays in.
      *
-     * @return A {@link Set} of clip keys.
+     * @param key The key of the sound.
+     * @return The {@link SoundGroup}, or {@code null} if the sound is
+     * ungrouped.
+     */
+    public SoundGroup getSoundGroup(String key) {
+        return soundGroups.get(key);
+    }
+
+    /**
+     * Retrieves all available clip keys, loaded or not.
+     *
+     * @return A {@link Set} of registered clip keys.
      */
     public Set<String> getAvailableClips() {
-        return clips.keySet();
+        return Collections.unmodifiableSet(soundFiles.keySet());
+    }
+
+    /**
+     * Checks whether a sound has been loaded (decoded into a sample buffer, or
+     * prepared for streaming).
+     *
+     * @param key The key of the sound.
+     * @return {@code true} if the sound is ready to play without loading.
+     */
+    public boolean isLoaded(String key) {
+        return samples.containsKey(key) || tracks.containsKey(key);
+    }
+
+    /**
+     * Checks whether a sound is played by streaming it from its file.
+     *
+     * @param key The key of the sound.
+     * @return {@code true} if the sound is a loaded streamed track.
+     */
+    public boolean isStreamed(String key) {
+        return tracks.containsKey(key);
+    }
+
+    /**
+     * Returns the key a clip is stored under when it is loaded from a file:
+     * the file name without its extension (e.g., {@code "background"} for
+     * {@code "background.wav"}).
+     *
+     * @param fileName The file name of the audio file.
+     * @return The clip key.
+     */
+    public static String getClipKey(final String fileName) {
+        int extensionStart = fileName.lastIndexOf('.');
+        return extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
     }
 
     /**
@@ -99,16 +309,30 @@ public class SoundManager {
         return volume;
     }
 
+    /**
+     * Gets the volume of a mixer bus.
+     *
+     * @param bus The bus.
+     * @return The volume of the bus (range: 0.0 to 1.0).
+     */
+    public float getBusVolume(AudioBus bus) {
+        return mixer.getBusGain(bus);
+    }
+
     /**
      * Checks if a given sound clip (by key) is currently playing.
      *
      * @param key The key of the sound clip to check.
-     * @return {@code true} if the clip is currently running, {@code false}
-     * otherwise.
+     * @return {@code true} if the track, or any voice of the effect, is
+     * currently playing, {@code false} otherwise.
      */
     public boolean isClipPlaying(String key) {
-        Clip clip = getClip(key);
-        return clip != null && clip.isRunning();
+        StreamingTrack track = tracks.get(key);
+        if (track != null) {
+            return track.isPlaying();
+        }
+        SampleBuffer sample = getSample(key);
+        return sample != null && mixer.isPlaying(sample);
     }
 
     // ----- SETTERS -----
@@ -119,158 +343,162 @@ public class SoundManager {
      */
     public void setVolume(float volume) {
         this.volume = Math.clamp(volume, 0.0f, 1.0f);
-        applyVolumeToAllClips();
+        mixer.setBusGain(AudioBus.MASTER, this.volume);
+    }
+
+    /**
+     * Sets the volume of a mixer bus, e.g. to turn the music down without
+     * affecting sound effects. Use {@link #setVolume(float)} for the master
+     * bus.
+     *
+     * @param bus The bus.
+     * @param volume The volume level (range: 0.0 to 1.0).
+     */
+    public void setBusVolume(AudioBus bus, float volume) {
+        if (bus == AudioBus.MASTER) {
+            setVolume(volume);
+            return;
+        }
+        mixer.setBusGain(bus, Math.clamp(volume, 0.0f, 1.0f));
     }
 
     // ----- BUSINESS LOGIC METHODS -----
     /**
-     * Loads an audio clip from the specified file and stores it in the clips
-     * map.
+     * Registers a sound under a key without loading it. It is loaded the first
+     * time it is played or warmed up. Re-registering a key with a different
+     * file has no effect once the sound is loaded.
      *
-     * @param key The key under which the clip is stored.
-     * @param fileName The file name of the audio file.
-     * @throws IllegalArgumentException If either the key or file path are blank
-     * or {@code null}.
-     * @throws IOException If there is an error reading the file or it does not
-     * exist.
-     * @throws UnsupportedAudioFileException If the audio format is not
-     * supported.
-     * @throws LineUnavailableException If no audio line is available for
-     * playback.
-     */
-    private void loadAndStoreClip(String key, String fileName) {
+     * @param key The key of the sound.
+     * @param fileName The file name of the audio file, relative to the sounds
+     * folder.
+     * @throws IllegalArgumentException If the key or file name is blank or
+     * {@code null}.
+     */
+    public void registerSound(String key, String fileName) {
         if (key == null || key.isBlank()) {
             throw new IllegalArgumentException("SoundManager: Key cannot be null or empty.");
         }
-
-        try {
-            clips.put(key, loadClipFromAudioFile(SOUNDS_FOLDER + fileName, key)); // Pass the key
-        } catch (IOException e) {
-            System.err.println("Failed to load clip (I/O error): " + fileName + " - " + e.getMessage());
-        } catch (UnsupportedAudioFileException e) {
-            System.err.println("Failed to load clip (Unsupported format): " + fileName + " - " + e.getMessage());
-        } catch (LineUnavailableException e) {
-            System.err.println("Failed to load clip (Audio line unavailable): " + fileName + " - " + e.getMessage());
+        if (fileName == null || fileName.isBlank()) {
+            throw new IllegalArgumentException("SoundManager: File name cannot be null or empty.");
         }
+        soundFiles.put(key, fileName);
+        unavailableSounds.remove(key);
     }
 
     /**
-     * Loads an audio clip from a specified file path.
-     * <p>
-     * If the audio file is bundled in the JAR (or the classpath), it is loaded
-     * using a URL. Otherwise, it is loaded as a regular file.
-     * <p>
-     * The file must be a valid audio format supported by {@link AudioSystem}.
+     * Loads the given registered sounds now, so that playing them later does
+     * not have to wait. Keys that are unknown or already loaded are skipped.
+     * Safe to call from any thread.
      *
-     * @param filePath The path to the audio file (relative to classpath or
-     * absolute).
-     * @param key The key associated with this audio clip.
-     * @return A {@link Clip} instance containing the loaded audio.
-     * @throws IllegalArgumentException If the file path is empty or
-     * {@code null}.
-     * @throws IOException If there is an error reading the file or it does not
-     * exist.
-     * @throws UnsupportedAudioFileException If the audio format is not
-     * supported.
-     * @throws LineUnavailableException If no audio line is available for
-     * playback.
-     */
-    public static Clip loadClipFromAudioFile(final String filePath, final String key) throws IllegalArgumentException, IOException, UnsupportedAudioFileException, LineUnavailableException {
-        if (filePath == null || filePath.isBlank()) {
-            throw new IllegalArgumentException("SoundManager: Must provide a valid file path for the audio clip.");
+     * @param keys The keys of the sounds to load.
+     */
+    public void warmUp(Collection<String> keys) {
+        for (String key : keys) {
+            ensureLoaded(key);
         }
+    }
 
-        AudioInputStream audioIn = null;
-        Clip clip;
-
-        try {
-            // Try loading as a resource (for classpath resources, e.g., inside JAR file)
-            URL audioUrl = SoundManager.class.getResource(filePath);
-            if (audioUrl != null) {
-                audioIn = AudioSystem.getAudioInputStream(audioUrl);
-            } else {
-                // If URL is not found, try loading as a normal file (e.g., file system)
-                File file = new File(filePath);
-                if (!file.exists() || !file.isFile()) {
-                    throw new IOException("SoundManager: Audio file not found: " + filePath);
-                }
-                audioIn = AudioSystem.getAudioInputStream(file);
-            }
-
-            // Get the original audio format
-            AudioFormat baseFormat = audioIn.getFormat();
-
-            // Check if the format is supported by the system
-            if (isSupportedFormat(baseFormat)) {
-                // If the format is supported, load the clip directly
-                clip = AudioSystem.getClip();
-                clip.open(audioIn);
-            } else {
-                // Otherwise, attempt to convert to a universally supported format (16-bit PCM)
-                AudioInputStream convertedAudioIn = convertToSupportedFormat(audioIn, baseFormat);
-                clip = AudioSystem.getClip();
-                clip.open(convertedAudioIn);
-            }
-        } catch (UnsupportedAudioFileException | LineUnavailableException e) {
-            throw new IOException("SoundManager: Unsupported audio format or no available audio line: " + filePath, e);
-        } finally {
-            if (audioIn != null) {
-                audioIn.close();
-            }
-        }
-        System.out.println("SoundManager: Loaded audio clip <'" + key + "'>");
-        return clip;
+    /**
+     * Registers a sound and loads it immediately. Safe to call from any
+     * thread. Loading failures are logged rather than thrown.
+     *
+     * @param key The key under which the sound is stored.
+     * @param fileName The file name of the audio file, relative to the sounds
+     * folder.
+     * @throws IllegalArgumentException If the key is blank or {@code null}.
+     */
+    public void loadAndStoreClip(String key, String fileName) {
+        registerSound(key, fileName);
+        ensureLoaded(key);
     }
 
     /**
-     * Plays a sound clip with the current global volume..
+     * Plays a sound clip with the current global volume, loading it first if
+     * necessary. Short effects start on a new mixer voice, so playing an effect
+     * that is already playing overlaps it rather than restarting it. Streamed
+     * tracks start asynchronously.
      *
      * @param key The key of the sound clip.
      * @param looping If {@code true}, the sound will loop continuously.
+     * @return The voice playing a short effect, or {@code null} for streamed
+     * tracks and sounds that could not be played.
      */
-    public void playClip(String key, boolean looping) {
-        Clip clip = getClip(key);
-        if (clip != null) {
-            clip.setFramePosition(0);
-            if (looping) {
-                clip.loop(Clip.LOOP_CONTINUOUSLY);
-            } else {
-                clip.start();
-            }
-        } else {
-            System.err.println("SoundManager: Cannot play clip. Key not found: " + key);
-        }
+    public Voice playClip(String key, boolean looping) {
+        return playClip(key, looping, 1.0f);
     }
 
     /**
-     * Plays a sound clip with a custom volume level.
+     * Plays a sound clip with a custom volume level. The custom volume is
+     * relative to the volume of the sound's bus. Short effects start on a new
+     * mixer voice; streamed tracks start asynchronously. Never blocks: a sound that is not
+     * loaded yet is loaded on a background thread and started afterwards.
      *
      * @param key The key of the sound clip.
      * @param looping If {@code true}, the sound will loop continuously.
      * @param volume The volume level for this playback (range: 0.0 to 1.0).
+     * @return The voice playing a short effect, or {@code null} for streamed
+     * tracks, sounds still loading and sounds that could not be played.
      */
-    public void playClip(String key, boolean looping, float volume) {
-        Clip clip = getClip(key);
-        if (clip != null) {
-            clip.setFramePosition(0);
-            if (looping) {
-                clip.loop(Clip.LOOP_CONTINUOUSLY);
-            } else {
-                clip.start();
-            }
-            // Adjust volume for this specific playback
-            FloatControl gainControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
-            if (gainControl != null) {
-                float min = gainControl.getMinimum();
-                float max = gainControl.getMaximum();
-                float gain = min + (Math.clamp(volume, 0.0f, 1.0f) * (max - min));
-                gainControl.setValue(gain);
-                System.out.println("SoundManager: Adjusted volume for clip '" + key + "' to " + gain + " dB (custom).");
-            } else {
-                System.out.println("SoundManager: Master gain control not found for clip '" + key + "'.");
-            }
-        } else {
-            System.err.println("SoundManager: Cannot play clip. Key not found: " + key);
+    public Voice playClip(String key, boolean looping, float volume) {
+        return playClip(key, looping, volume, null);
+    }
+
+    /**
+     * Plays a short effect emitted by an entity, panned and attenuated by the
+     * entity's position relative to the camera (see
+     * {@link #followCamera(GamePanel)}). The position is taken when the sound
+     * starts; move the returned voice to follow the entity.
+     *
+     * @param key The key of the sound clip.
+     * @param source The entity emitting the sound.
+     * @param volume The volume level at or near the camera (range: 0.0 to
+     * 1.0).
+     * @return The voice playing the effect, or {@code null} for streamed
+     * tracks, sounds still loading and sounds that could not be played.
+     */
+    public Voice playClipAt(String key, MobileEntity source, float volume) {
+        return playClip(key, false, volume, new Point2D.Float(
+                (float) (source.getWorldX() + source.getSpriteWidth() / 2.0),
+                (float) (source.getWorldY() + source.getSpriteHeight() / 2.0)
+        ));
+    }
+
+    /**
+     * Centres the listener of positional sounds on the camera of a game
+     * panel. Called once per game tick, so sounds pan and fade as the level
+     * scrolls.
+     *
+     * @param gamePanel The panel whose scroll offset and size define the
+     * camera.
+     */
+    public void followCamera(GamePanel gamePanel) {
+        double halfWidth = gamePanel.getWidth() / 2.0;
+        if (halfWidth <= 0) {
+            return; // Not laid out yet
+        }
+        mixer.setListener(new AudioListener(
+                (float) (gamePanel.getScrollOffset() + halfWidth),
+                gamePanel.getHeight() / 2.0f,
+                (float) halfWidth,
+                (float) (halfWidth * AUDIBLE_RANGE_HALF_WIDTHS)
+        ));
+    }
+
+    /**
+     * Fades out every voice of a short effect, or a streamed track, and stops
+     * it. Returns immediately.
+     *
+     * @param key The key of the sound clip.
+     * @param durationMs The length of the fade in milliseconds.
+     */
+    public void fadeOutClip(String key, long durationMs) {
+        StreamingTrack track = tracks.get(key);
+        if (track != null) {
+            track.fadeOut(durationMs);
+        }
+        SampleBuffer sample = getSample(key);
+        if (sample != null) {
+            mixer.fade(sample, 0.0f, durationMs, true);
         }
     }
 
@@ -280,111 +508,176 @@ public class SoundManager {
      * @param key The key of the sound clip.
      */
     public void stopClip(String key) {
-        Clip clip = getClip(key);
-        if (clip != null && clip.isRunning()) {
-            clip.stop();
+        StreamingTrack track = tracks.get(key);
+        if (track != null) {
+            track.stop();
+        }
+        SampleBuffer sample = getSample(key);
+        if (sample != null) {
+            mixer.stop(sample);
         }
     }
 
     /**
-     * Stops all currently playing sound clips.
+     * Stops all currently playing sound clips, including clips that are still
+     * loading.
      */
     public void stopAll() {
-        for (Clip clip : clips.values()) {
-            if (clip.isRunning()) {
-                clip.stop();
-            }
+        stopGeneration.incrementAndGet();
+        mixer.stopAll();
+        for (StreamingTrack track : tracks.values()) {
+            track.stop();
         }
     }
 
     // ----- HELPER METHODS -----
     /**
-     * Loads the default audio clips when the sound manager is initialized.
-     */
-    private void loadDefaultClips() {
-        loadAndStoreClip("background", "background.wav");
-        loadAndStoreClip("footstep", "footstep.wav");
-        loadAndStoreClip("game_over", "game_over.wav");
-        loadAndStoreClip("person_running", "person_running.wav");
-        loadAndStoreClip("aight_later", "aight_later.wav");
-        loadAndStoreClip("ey_ey_ey", "ey_ey_ey.wav");
-        loadAndStoreClip("i_hadda_go", "i_hadda_go.wav");
-        loadAndStoreClip("i_hafta_go", "i_hafta_go.wav");
-        loadAndStoreClip("no_later_boi", "no_later_boi.wav");
-        loadAndStoreClip("sorry_i_cah_stay", "sorry_i_cah_stay.wav");
+     * Plays a sound, loading it on the background thread first if necessary.
+     *
+     * @param key The key of the sound clip.
+     * @param looping Whether the sound loops.
+     * @param volume The volume relative to the bus volumes.
+     * @param position The world position of a positional effect, or
+     * {@code null}.
+     * @return The voice playing a short effect, or {@code null} for streamed
+     * tracks, sounds still loading and sounds that could not be played.
+     */
+    private Voice playClip(String key, boolean looping, float volume, Point2D.Float position) {
+        if (!isLoaded(key) && !unavailableSounds.contains(key) && soundFiles.containsKey(key)) {
+            long generation = stopGeneration.get();
+            loader.execute(() -> {
+                ensureLoaded(key);
+                if (stopGeneration.get() == generation) {
+                    startSound(key, looping, volume, position);
+                }
+            });
+            return null;
+        }
+        return startSound(key, looping, volume, position);
     }
 
     /**
-     * Adjusts the volume for all loaded clips.
+     * Starts a loaded sound. Streamed tracks ignore the position.
+     *
+     * @param key The key of the sound clip.
+     * @param looping Whether the sound loops.
+     * @param volume The volume relative to the bus volumes.
+     * @param position The world position of a positional effect, or
+     * {@code null}.
+     * @return The voice playing a short effect, or {@code null} for streamed
+     * tracks and sounds that could not be played.
      */
-    private void applyVolumeToAllClips() {
-        for (Clip clip : clips.values()) {
-            FloatControl gainControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
-            if (gainControl != null) {
-                float min = gainControl.getMinimum();
-                float max = gainControl.getMaximum();
-                float newVolume = min + (volume * (max - min));
-                gainControl.setValue(newVolume);
-            } else {
-                System.err.println("SoundManager: Master Gain control not supported for a clip.");
+    private Voice startSound(String key, boolean looping, float volume, Point2D.Float position) {
+        StreamingTrack track = tracks.get(key);
+        if (track != null) {
+            track.play(looping, volume);
+            return null;
+        }
+        SampleBuffer sample = getSample(key);
+        if (sample == null) {
+            System.err.println("SoundManager: Cannot play clip. Key not found: " + key);
+            return null;
+        }
+        if (position != null) {
+            return mixer.playAt(sample, volume, position.x, position.y, looping, soundGroups.get(key));
+        }
+        return mixer.play(sample, volume, 0.0f, looping, soundGroups.get(key));
+    }
+
+    /**
+     * Reads the sound groups and maps every grouped sound to its group.
+     * Configuration errors are logged, leaving the sounds ungrouped.
+     *
+     * @return The groups by sound key.
+     */
+    private static Map<String, SoundGroup> loadSoundGroups() {
+        Map<String, SoundGroup> groups = new ConcurrentHashMap<>();
+        try {
+            for (SoundGroup group : SoundGroup.loadFromJson()) {
+                for (String key : group.getConfig().sounds()) {
+                    groups.put(key, group);
+                }
             }
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("SoundManager: Failed to load sound groups: " + e.getMessage());
         }
+        return groups;
     }
 
     /**
-     * Checks if the given audio format is supported by the system.
+     * Loads a registered sound unless it is already loaded: short sounds are
+     * decoded into a {@link SampleBuffer}, long ones are prepared for
+     * streaming.
+     * Loading failures are logged rather than thrown.
      *
-     * @param format The audio format to check.
-     * @return true if the format is supported, false otherwise.
+     * @param key The key of the sound.
      */
-    private static boolean isSupportedFormat(AudioFormat format) {
-        // Try to find a line that supports this audio format
-        DataLine.Info info = new DataLine.Info(Clip.class, format);
-        return AudioSystem.isLineSupported(info);
+    private void ensureLoaded(String key) {
+        if (isLoaded(key) || unavailableSounds.contains(key)) {
+            return;
+        }
+        String fileName = soundFiles.get(key);
+        if (fileName == null) {
+            return;
+        }
+
+        synchronized (loadLocks.computeIfAbsent(key, k -> new Object())) {
+            if (!isLoaded(key) && !unavailableSounds.contains(key)) {
+                loadSound(key, fileName);
+                if (!isLoaded(key)) {
+                    unavailableSounds.add(key);
+                }
+            }
+        }
     }
 
     /**
-     * Converts the provided audio stream to a supported audio format (16-bit
-     * PCM).
+     * Loads a sound from its file, deciding from its length whether to decode
+     * or stream it.
      *
-     * @param audioIn The original audio input stream.
-     * @param baseFormat The original audio format.
-     * @return The converted audio input stream in a supported format (16-bit
-     * PCM).
-     * @throws UnsupportedAudioFileException If the audio format is unsupported.
-     */
-    private static AudioInputStream convertToSupportedFormat(AudioInputStream audioIn, AudioFormat baseFormat) throws UnsupportedAudioFileException {
-        AudioFormat targetFormat = getSupportedAudioFormat(baseFormat);
-
-        if (targetFormat != null) {
-            // Convert to supported format
-            return AudioSystem.getAudioInputStream(targetFormat, audioIn);
-        } else {
-            throw new UnsupportedAudioFileException("SoundManager: No supported audio format found for conversion.");
+     * @param key The key of the sound.
+     * @param fileName The file name of the audio file, relative to the sounds
+     * folder.
+     */
+    private void loadSound(String key, String fileName) {
+        String filePath = SOUNDS_FOLDER + fileName;
+        try {
+            if (getDurationSeconds(filePath) > STREAMING_THRESHOLD_SECONDS) {
+                tracks.put(key, new StreamingTrack(key, filePath, AudioBus.MUSIC));
+                System.out.println("SoundManager: Streaming audio track <'" + key + "'>");
+            } else {
+                SampleBuffer sample = SampleBuffer.load(key, filePath);
+                samples.put(key, COMPRESS_EFFECTS ? sample.compress() : sample);
+                System.out.println("SoundManager: Loaded audio clip <'" + key + "'>");
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to load clip (I/O error): " + fileName + " - " + e.getMessage());
+        } catch (UnsupportedAudioFileException e) {
+            System.err.println("Failed to load clip (Unsupported format): " + fileName + " - " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            // Thrown by AudioSystem when a format cannot be converted to PCM
+            System.err.println("Failed to load clip (Unsupported conversion): " + fileName + " - " + e.getMessage());
         }
     }
 
     /**
-     * Returns a supported audio format (16-bit PCM) for a given audio format if
-     * it's unsupported.
+     * Returns the length of an audio file in seconds, reading only its
+     * header.
      *
-     * @param baseFormat The audio format that needs to be converted.
-     * @return A supported audio format (16-bit PCM) or null if no conversion is
-     * possible.
-     */
-    private static AudioFormat getSupportedAudioFormat(AudioFormat baseFormat) {
-        // Try converting to 16-bit PCM, stereo, little-endian
-        if (baseFormat.getEncoding() != AudioFormat.Encoding.PCM_SIGNED) {
-            return new AudioFormat(
-                    AudioFormat.Encoding.PCM_SIGNED, // PCM_SIGNED encoding
-                    baseFormat.getSampleRate(), // Same sample rate
-                    16, // 16-bit depth
-                    baseFormat.getChannels(), // Same number of channels (stereo/mono)
-                    baseFormat.getChannels() * 2, // 2 bytes per frame (16-bit PCM)
-                    baseFormat.getSampleRate(), // Same frame rate
-                    false // Little-endian
-            );
+     * @param filePath The path to the audio file.
+     * @return The duration, or {@link Float#POSITIVE_INFINITY} if the file
+     * does not declare its length.
+     * @throws IOException If the file cannot be found or read.
+     * @throws UnsupportedAudioFileException If the format is not supported.
+     */
+    private static float getDurationSeconds(String filePath) throws IOException, UnsupportedAudioFileException {
+        try (AudioInputStream stream = StreamingTrack.openPcmStream(filePath)) {
+            long frames = stream.getFrameLength();
+            float frameRate = stream.getFormat().getFrameRate();
+            if (frames == AudioSystem.NOT_SPECIFIED || frameRate <= 0) {
+                return Float.POSITIVE_INFINITY;
+            }
+            return frames / frameRate;
         }
-        return null; // If the format is already PCM_SIGNED, no conversion is needed.
     }
 }
@@ -0,0 +1,340 @@
+package com.simcraft.managers;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.function.Predicate;
+
+import com.simcraft.entities.enemies.EnemyType;
+import com.simcraft.levels.LevelConfig;
+import com.simcraft.levels.SpawnWave;
+
+/**
+ * Decides when, and which, enemies spawn during a level, following the level's
+ * {@link SpawnWave}s.
+ * <p>
+ * Every running wave is one event on a timeline ordered by due time. On each
+ * tick, {@link #update(long, int, Predicate)} compares the clock with the
+ * earliest event and returns straight away if it is not yet due, so a tick
+ * without spawns costs one comparison. A due event spawns one enemy through
+ * the caller's spawner and is re-queued for the wave's next spawn, until the
+ * wave's budget is spent.
+ * <p>
+ * The level's {@link LevelConfig#getMaxEnemies()} caps the enemies alive at
+ * once: while the cap is reached, due waves wait (without losing budget)
+ * instead of spawning. Nothing spawns after the level's
+ * {@link LevelConfig#getLevelTimeLimitSeconds()}.
+ */
+public class SpawnDirector {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * How long a wave waits before trying again when the enemy cap is reached,
+     * in milliseconds.
+     */
+    private static final long CAP_RETRY_MS = 500;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The waves of every level, keyed by zero-based level index.
+     */
+    private final Map<Integer, List<SpawnWave>> wavesByLevel;
+
+    /**
+     * The running waves, earliest due first.
+     */
+    private final PriorityQueue<WaveEvent> timeline = new PriorityQueue<>();
+
+    /**
+     * Random generator for enemy types, given by {@link #start}.
+     */
+    private SplittableRandom random;
+
+    /**
+     * The zero-based index of the current level, or -1 before the first
+     * {@link #start}.
+     */
+    private int levelIndex = -1;
+
+    /**
+     * The maximum number of enemies alive at once in the current level.
+     */
+    private int maxEnemies = 0;
+
+    /**
+     * The time (in milliseconds) after which the current level spawns
+     * nothing.
+     */
+    private long levelEndMillis = Long.MIN_VALUE;
+
+    /**
+     * The number of enemies spawned in the current level.
+     */
+    private int spawnedCount = 0;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Constructs a {@code SpawnDirector}.
+     *
+     * @param wavesByLevel The waves of every level, keyed by zero-based level
+     * index (see {@link SpawnWave#loadFromJson()}).
+     * @throws NullPointerException If {@code wavesByLevel} is null.
+     */
+    public SpawnDirector(final Map<Integer, List<SpawnWave>> wavesByLevel) {
+        if (wavesByLevel == null) {
+            throw new NullPointerException(String.format(
+                    "%s: Waves cannot be null.",
+                    this.getClass().getName()
+            ));
+        }
+        this.wavesByLevel = wavesByLevel;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns when the next spawn is due.
+     *
+     * @return The due time in milliseconds, or {@link Long#MAX_VALUE} if no
+     * wave is running.
+     */
+    public long getNextSpawnMillis() {
+        WaveEvent next = timeline.peek();
+        return next != null ? next.dueMillis : Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns the number of enemies spawned in the current level.
+     *
+     * @return The spawn count.
+     */
+    public int getSpawnedCount() {
+        return spawnedCount;
+    }
+
+    /**
+     * Checks whether any wave of the current level still has budget left.
+     *
+     * @return {@code true} if more enemies may spawn.
+     */
+    public boolean hasPendingWaves() {
+        return !timeline.isEmpty();
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Schedules the waves of a level, replacing any running ones. Waves that
+     * would start after the level's time limit are skipped.
+     *
+     * @param levelIndex The zero-based index of the level.
+     * @param config The level's configuration.
+     * @param nowMillis The time the level starts, in milliseconds.
+     * @param random The random generator used to pick enemy types.
+     */
+    public void start(final int levelIndex, final LevelConfig config, final long nowMillis, final SplittableRandom random) {
+        stop();
+        this.levelIndex = levelIndex;
+        this.random = random;
+        this.maxEnemies = config.getMaxEnemies();
+        this.levelEndMillis = config.getLevelTimeLimitSeconds() > 0
+                ? nowMillis + config.getLevelTimeLimitSeconds() * 1000L
+                : Long.MAX_VALUE;
+
+        for (SpawnWave wave : wavesByLevel.getOrDefault(levelIndex, List.of())) {
+            long dueMillis = nowMillis + Math.round(wave.startSeconds() * 1000);
+            if (dueMillis < levelEndMillis) {
+                timeline.add(new WaveEvent(wave, dueMillis));
+            }
+        }
+    }
+
+    /**
+     * Cancels every running wave.
+     */
+    public void stop() {
+        timeline.clear();
+        spawnedCount = 0;
+    }
+
+    /**
+     * Spawns the enemies that are due. Returns immediately if none are.
+     *
+     * @param nowMillis The current time in milliseconds.
+     * @param aliveEnemies The number of enemies currently alive.
+     * @param spawner Spawns an enemy of the given type, returning
+     * {@code false} if it could not be placed (the wave then tries again at
+     * its next interval without spending budget).
+     */
+    public void update(final long nowMillis, final int aliveEnemies, final Predicate<EnemyType> spawner) {
+        WaveEvent event = timeline.peek();
+        if (event == null || event.dueMillis > nowMillis) {
+            return;
+        }
+        if (nowMillis >= levelEndMillis) {
+            timeline.clear();
+            return;
+        }
+
+        int alive = aliveEnemies;
+        while (event != null && event.dueMillis <= nowMillis) {
+            timeline.poll();
+            if (alive >= maxEnemies) {
+                // The cap blocks the other due waves too; they retry on later ticks
+                event.dueMillis = nowMillis + CAP_RETRY_MS;
+                timeline.add(event);
+                return;
+            }
+
+            EnemyType type = event.pickType(random);
+            if (type != null && spawner.test(type)) {
+                event.remainingBudget -= type.getCost();
+                spawnedCount++;
+                alive++;
+            }
+            if (event.canAffordAny()) {
+                // Rescheduling from now rather than from the due time avoids a burst of catch-up spawns after a pause
+                event.dueMillis = nowMillis + event.wave.intervalMs();
+                timeline.add(event);
+            }
+            event = timeline.peek();
+        }
+    }
+
+    /**
+     * Writes the running waves to a snapshot (see {@link GameSnapshot}). Due
+     * times are written relative to the current time.
+     *
+     * @param out The snapshot being written.
+     * @param nowMillis The current time in milliseconds.
+     */
+    public void writeState(final GameSnapshot.Writer out, final long nowMillis) {
+        List<SpawnWave> waves = wavesByLevel.getOrDefault(levelIndex, List.of());
+        out.putInt(levelIndex)
+                .putInt(maxEnemies)
+                .putLong(levelEndMillis == Long.MAX_VALUE ? Long.MAX_VALUE : levelEndMillis - nowMillis)
+                .putInt(spawnedCount)
+                .putInt(timeline.size());
+        for (WaveEvent event : timeline) {
+            out.putInt(waves.indexOf(event.wave))
+                    .putLong(event.dueMillis - nowMillis)
+                    .putInt(event.remainingBudget);
+        }
+    }
+
+    /**
+     * Replaces the running waves with those written by
+     * {@link #writeState(GameSnapshot.Writer, long)}, shifting their due times
+     * to the current time.
+     *
+     * @param in The snapshot being read.
+     * @param nowMillis The current time in milliseconds.
+     * @param random The random generator used to pick enemy types.
+     */
+    public void readState(final ByteBuffer in, final long nowMillis, final SplittableRandom random) {
+        stop();
+        this.random = random;
+        this.levelIndex = in.getInt();
+        this.maxEnemies = in.getInt();
+        long levelEndOffset = in.getLong();
+        this.levelEndMillis = levelEndOffset == Long.MAX_VALUE ? Long.MAX_VALUE : nowMillis + levelEndOffset;
+        this.spawnedCount = in.getInt();
+
+        List<SpawnWave> waves = wavesByLevel.getOrDefault(levelIndex, List.of());
+        int events = in.getInt();
+        for (int i = 0; i < events; i++) {
+            WaveEvent event = new WaveEvent(waves.get(in.getInt()), nowMillis + in.getLong());
+            event.remainingBudget = in.getInt();
+            timeline.add(event);
+        }
+    }
+
+    // ----- NESTED TYPES -----
+    /**
+     * A running wave on the timeline.
+     */
+    private static final class WaveEvent implements Comparable<WaveEvent> {
+
+        /**
+         * The wave's definition.
+         */
+        private final SpawnWave wave;
+
+        /**
+         * When the wave next spawns, in milliseconds.
+         */
+        private long dueMillis;
+
+        /**
+         * The budget the wave has left.
+         */
+        private int remainingBudget;
+
+        /**
+         * Constructs a {@code WaveEvent}.
+         *
+         * @param wave The wave's definition.
+         * @param dueMillis When the wave first spawns.
+         */
+        private WaveEvent(final SpawnWave wave, final long dueMillis) {
+            this.wave = wave;
+            this.dueMillis = dueMillis;
+            this.remainingBudget = wave.budget();
+        }
+
+        /**
+         * Draws an enemy type from the wave's mix, among the types the
+         * remaining budget can afford.
+         *
+         * @param random The random generator.
+         * @return The type, or {@code null} if the wave cannot afford any.
+         */
+        private EnemyType pickType(final SplittableRandom random) {
+            int totalWeight = 0;
+            for (Map.Entry<EnemyType, Integer> entry : wave.mix().entrySet()) {
+                if (entry.getKey().getCost() <= remainingBudget) {
+                    totalWeight += entry.getValue();
+                }
+            }
+            if (totalWeight == 0) {
+                return null;
+            }
+            int roll = random.nextInt(totalWeight);
+            for (Map.Entry<EnemyType, Integer> entry : wave.mix().entrySet()) {
+                if (entry.getKey().getCost() <= remainingBudget) {
+                    roll -= entry.getValue();
+                    if (roll < 0) {
+                        return entry.getKey();
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Checks whether the remaining budget can afford any type in the
+         * wave's mix.
+         *
+         * @return {@code true} if the wave has more enemies to spawn.
+         */
+        private boolean canAffordAny() {
+            for (Map.Entry<EnemyType, Integer> entry : wave.mix().entrySet()) {
+                if (entry.getValue() > 0 && entry.getKey().getCost() <= remainingBudget) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Orders events by due time.
+         *
+         * @param other The event to compare with.
+         * @return A negative number if this event is due first.
+         */
+        @Override
+        public int compareTo(final WaveEvent other) {
+            return Long.compare(dueMillis, other.dueMillis);
+        }
+    }
+}
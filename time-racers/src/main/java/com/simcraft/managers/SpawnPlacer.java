@@ -0,0 +1,196 @@
+package com.simcraft.managers;
+
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import com.simcraft.utility.SpatialHashGrid;
+
+/**
+ * Finds free spots to spawn entities in, so that new enemies neither appear on
+ * top of each other nor inside the player.
+ * <p>
+ * Every entity already in play is registered as an occupant: a circle around
+ * its centre, filed in a {@link SpatialHashGrid}. A spot is found by throwing
+ * random candidates at the spawn area and keeping the first whose circle
+ * overlaps no occupant and stays out of the safe zone, giving the minimum
+ * spacing of Poisson-disk sampling. Each accepted spot becomes an occupant
+ * itself, so a burst of spawns within one tick spreads out too.
+ * <p>
+ * Testing a candidate only visits the grid cells around it, and the number of
+ * candidates is capped at {@link #MAX_ATTEMPTS}, so placing enemies stays
+ * cheap however dense the wave. When the area is too crowded, placement fails
+ * rather than stacking enemies.
+ */
+public class SpawnPlacer {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The number of candidates tried before giving up on a placement.
+     */
+    private static final int MAX_ATTEMPTS = 30;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The centres of the occupants.
+     */
+    private final SpatialHashGrid grid;
+
+    /**
+     * The radius of each occupant, indexed like the grid's points.
+     */
+    private double[] radii = new double[64];
+
+    /**
+     * The largest occupant radius, which bounds how far an overlapping
+     * occupant's centre can be from a candidate.
+     */
+    private double maxRadius = 0.0;
+
+    /**
+     * Scratch space for the occupants near a candidate.
+     */
+    private int[] nearby = new int[64];
+
+    /**
+     * The x-coordinate of the centre of the safe zone.
+     */
+    private double safeX = 0.0;
+
+    /**
+     * The y-coordinate of the centre of the safe zone.
+     */
+    private double safeY = 0.0;
+
+    /**
+     * The radius of the safe zone, or 0 if there is none.
+     */
+    private double safeRadius = 0.0;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Constructs an empty {@code SpawnPlacer}.
+     *
+     * @param cellSize The cell size of the occupancy grid, ideally about the
+     * diameter of a typical occupant.
+     * @throws IllegalArgumentException If {@code cellSize} is not positive.
+     */
+    public SpawnPlacer(final double cellSize) {
+        this.grid = new SpatialHashGrid(cellSize);
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the number of occupants, including the spots placed since the
+     * last {@link #reset()}.
+     *
+     * @return The occupant count.
+     */
+    public int getOccupantCount() {
+        return grid.size();
+    }
+
+    // ----- SETTERS -----
+    /**
+     * Sets a circle no spawned entity may overlap, e.g. around the player.
+     *
+     * @param x The x-coordinate of the centre.
+     * @param y The y-coordinate of the centre.
+     * @param radius The radius. 0 removes the safe zone.
+     */
+    public void setSafeZone(final double x, final double y, final double radius) {
+        this.safeX = x;
+        this.safeY = y;
+        this.safeRadius = Math.max(0.0, radius);
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Removes every occupant and the safe zone.
+     */
+    public void reset() {
+        grid.clear();
+        maxRadius = 0.0;
+        safeRadius = 0.0;
+    }
+
+    /**
+     * Registers an entity already in play.
+     *
+     * @param x The x-coordinate of its centre.
+     * @param y The y-coordinate of its centre.
+     * @param radius The radius of the circle it occupies.
+     */
+    public void addOccupant(final double x, final double y, final double radius) {
+        int index = grid.insert(x, y);
+        if (index == radii.length) {
+            radii = Arrays.copyOf(radii, radii.length * 2);
+        }
+        radii[index] = radius;
+        maxRadius = Math.max(maxRadius, radius);
+    }
+
+    /**
+     * Checks whether a circle overlaps no occupant and stays out of the safe
+     * zone.
+     *
+     * @param x The x-coordinate of the centre.
+     * @param y The y-coordinate of the centre.
+     * @param radius The radius.
+     * @return {@code true} if an entity of that size can spawn there.
+     */
+    public boolean isFree(final double x, final double y, final double radius) {
+        if (safeRadius > 0.0 && Point2D.distanceSq(x, y, safeX, safeY) < square(safeRadius + radius)) {
+            return false;
+        }
+        if (nearby.length < grid.size()) {
+            nearby = new int[Math.max(grid.size(), nearby.length * 2)];
+        }
+        int count = grid.query(x, y, radius + maxRadius, nearby);
+        for (int i = 0; i < count; i++) {
+            int occupant = nearby[i];
+            if (Point2D.distanceSq(x, y, grid.getX(occupant), grid.getY(occupant)) < square(radius + radii[occupant])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds a free spot for a new entity within an area, and registers it as
+     * an occupant.
+     *
+     * @param area The area the entity's centre may be placed in. May have a
+     * width or height of 0 (e.g., a strip of ground).
+     * @param radius The radius of the circle the entity occupies.
+     * @param random The random generator for the candidates.
+     * @return The centre of the spot, or {@code null} if no free spot was
+     * found.
+     */
+    public Point2D.Double place(final Rectangle2D area, final double radius, final SplittableRandom random) {
+        if (area.getWidth() < 0 || area.getHeight() < 0) {
+            return null;
+        }
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            double x = area.getX() + random.nextDouble() * area.getWidth();
+            double y = area.getY() + random.nextDouble() * area.getHeight();
+            if (isFree(x, y, radius)) {
+                addOccupant(x, y, radius);
+                return new Point2D.Double(x, y);
+            }
+        }
+        return null;
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Squares a number.
+     *
+     * @param value The number.
+     * @return The square.
+     */
+    private static double square(final double value) {
+        return value * value;
+    }
+}
@@ -0,0 +1,119 @@
+package com.simcraft.utility;
+
+import java.util.function.LongSupplier;
+
+/**
+ * The single source of "current time" for game logic, animations and effects.
+ * <p>
+ * By default the clock follows {@link System#currentTimeMillis()}. Tools that
+ * need reproducible output, such as the headless renderer or automated tests,
+ * can install a {@link SteppedTimeSource} so that time only moves when they
+ * advance it explicitly.
+ */
+public final class GameClock {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The default time source, backed by the system wall clock.
+     */
+    private static final LongSupplier SYSTEM_TIME_SOURCE = System::currentTimeMillis;
+
+    /**
+     * The time source currently in use.
+     */
+    private static volatile LongSupplier timeSource = SYSTEM_TIME_SOURCE;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private GameClock() {
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the current game time in milliseconds.
+     *
+     * @return The current time according to the installed time source.
+     */
+    public static long currentTimeMillis() {
+        return timeSource.getAsLong();
+    }
+
+    /**
+     * Checks whether the clock is following the system wall clock.
+     *
+     * @return {@code true} if no custom time source is installed.
+     */
+    public static boolean isSystemTime() {
+        return timeSource == SYSTEM_TIME_SOURCE;
+    }
+
+    // ----- SETTERS -----
+    /**
+     * Installs a custom time source.
+     *
+     * @param source The time source to use from now on.
+     * @throws NullPointerException If {@code source} is null.
+     */
+    public static void setTimeSource(final LongSupplier source) {
+        if (source == null) {
+            throw new NullPointerException("GameClock: Time source cannot be null.");
+        }
+        timeSource = source;
+    }
+
+    /**
+     * Restores the default system wall-clock time source.
+     */
+    public static void useSystemTime() {
+        timeSource = SYSTEM_TIME_SOURCE;
+    }
+
+    // ----- STATIC NESTED CLASSES -----
+    /**
+     * A time source that only moves when it is advanced explicitly. Used to
+     * drive the game with a fixed time step, independent of how long each tick
+     * actually takes to compute.
+     */
+    public static final class SteppedTimeSource implements LongSupplier {
+
+        /**
+         * The current time of this source in milliseconds.
+         */
+        private volatile long currentTimeMillis;
+
+        /**
+         * Constructs a {@code SteppedTimeSource} starting at the given time.
+         *
+         * @param startTimeMillis The initial time in milliseconds.
+         */
+        public SteppedTimeSource(final long startTimeMillis) {
+            this.currentTimeMillis = startTimeMillis;
+        }
+
+        /**
+         * Moves this source forward in time.
+         *
+         * @param millis The number of milliseconds to advance. Must not be
+         * negative.
+         * @throws IllegalArgumentException If {@code millis} is negative.
+         */
+        public void advance(final long millis) {
+            if (millis < 0) {
+                throw new IllegalArgumentException("GameClock: Cannot advance time by a negative amount.");
+            }
+            currentTimeMillis += millis;
+        }
+
+        /**
+         * Returns the current time of this source.
+         *
+         * @return The current time in milliseconds.
+         */
+        @Override
+        public long getAsLong() {
+            return currentTimeMillis;
+        }
+    }
+}
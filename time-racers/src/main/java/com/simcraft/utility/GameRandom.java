@@ -0,0 +1,108 @@
+package com.simcraft.utility;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * The single source of randomness for game logic, split into independent
+ * {@link Stream streams} derived from one session seed.
+ * <p>
+ * Each stream is a {@link SplittableRandom} split off a generator seeded with
+ * the session seed, so the same seed always produces the same numbers on each
+ * stream, and drawing from one stream (e.g., playing a random sound) never
+ * shifts the numbers of another (e.g., where enemies spawn). By default the
+ * session seed is random; tools that need reproducible runs, such as
+ * benchmarks or the headless renderer, {@link #setSeed(long) set} it before
+ * starting the game.
+ * <p>
+ * Unlike {@link java.util.Random}, the streams do no atomic updates, so they
+ * must only be used from the game thread (the Swing event dispatch thread).
+ * Reseeding replaces the streams: callers should fetch a stream when they need
+ * it rather than keep it beyond the current level.
+ */
+public final class GameRandom {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The stream of each purpose, split off the session seed.
+     */
+    private static final Map<Stream, SplittableRandom> STREAMS = new EnumMap<>(Stream.class);
+
+    /**
+     * The seed every stream is derived from.
+     */
+    private static long sessionSeed;
+
+    static {
+        setSeed(new SplittableRandom().nextLong());
+    }
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private GameRandom() {
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the seed the current streams were derived from. Passing it to
+     * {@link #setSeed(long)} replays the same random numbers.
+     *
+     * @return The session seed.
+     */
+    public static long getSeed() {
+        return sessionSeed;
+    }
+
+    /**
+     * Returns the random number generator for a purpose.
+     *
+     * @param stream The purpose.
+     * @return The stream's generator.
+     * @throws NullPointerException If {@code stream} is null.
+     */
+    public static SplittableRandom stream(final Stream stream) {
+        if (stream == null) {
+            throw new NullPointerException("GameRandom: Stream cannot be null.");
+        }
+        return STREAMS.get(stream);
+    }
+
+    // ----- SETTERS -----
+    /**
+     * Sets the session seed, replacing every stream with a fresh one derived
+     * from it.
+     *
+     * @param seed The new session seed.
+     */
+    public static void setSeed(final long seed) {
+        sessionSeed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        // Split in declaration order, so each stream's numbers depend on the seed alone
+        for (Stream stream : Stream.values()) {
+            STREAMS.put(stream, root.split());
+        }
+    }
+
+    // ----- NESTED TYPES -----
+    /**
+     * The independent streams of random numbers, one per purpose.
+     */
+    public enum Stream {
+        /**
+         * Which enemies spawn, where, and how they set off.
+         */
+        SPAWN,
+        /**
+         * The decisions of enemies, such as wandering and idling.
+         */
+        AI,
+        /**
+         * Cosmetic choices, such as which sound plays, that do not affect the
+         * outcome of the game.
+         */
+        EFFECTS
+    }
+}
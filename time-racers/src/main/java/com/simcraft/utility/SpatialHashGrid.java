@@ -0,0 +1,272 @@
+package com.simcraft.utility;
+
+import java.util.Arrays;
+
+/**
+ * A broadphase grid for finding the points near a position without testing
+ * every point.
+ * <p>
+ * The plane is divided into square cells of a fixed size, and every point is
+ * filed under the cell it falls in. A query only visits the cells overlapping
+ * the query circle, so its cost depends on how crowded the neighbourhood is
+ * rather than on the total number of points. Cells are hashed into a table
+ * instead of being laid out in a fixed array, so the grid covers an unbounded
+ * world (e.g., a side-scrolling level) at no extra cost.
+ * <p>
+ * Points are identified by the index they were inserted at, starting from 0
+ * after every {@link #clear()}. The grid is meant to be rebuilt each tick:
+ * clearing and re-inserting reuses its arrays, so a steady-state frame does
+ * not allocate. It is not thread-safe.
+ */
+public final class SpatialHashGrid {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The number of points the grid holds before growing, if not specified.
+     */
+    private static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * Marks the end of a bucket's chain.
+     */
+    private static final int NONE = -1;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The side length of a cell, in world units.
+     */
+    private final double cellSize;
+
+    /**
+     * The first point of each bucket, or {@link #NONE}. The length is a power
+     * of two.
+     */
+    private int[] heads;
+
+    /**
+     * The next point in the same bucket as each point, or {@link #NONE}.
+     */
+    private int[] next;
+
+    /**
+     * The x-coordinate of each point.
+     */
+    private double[] xs;
+
+    /**
+     * The y-coordinate of each point.
+     */
+    private double[] ys;
+
+    /**
+     * The column of the cell each point falls in.
+     */
+    private int[] cellXs;
+
+    /**
+     * The row of the cell each point falls in.
+     */
+    private int[] cellYs;
+
+    /**
+     * The number of points in the grid.
+     */
+    private int size = 0;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Constructs an empty {@code SpatialHashGrid}.
+     *
+     * @param cellSize The side length of a cell. Queries are cheapest when it
+     * is close to the typical query radius.
+     * @throws IllegalArgumentException If {@code cellSize} is not positive.
+     */
+    public SpatialHashGrid(final double cellSize) {
+        this(cellSize, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty {@code SpatialHashGrid}.
+     *
+     * @param cellSize The side length of a cell. Queries are cheapest when it
+     * is close to the typical query radius.
+     * @param capacity The number of points to size the grid for. It grows as
+     * needed.
+     * @throws IllegalArgumentException If {@code cellSize} or
+     * {@code capacity} is not positive.
+     */
+    public SpatialHashGrid(final double cellSize, final int capacity) {
+        if (!(cellSize > 0) || capacity <= 0) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Cell size and capacity must be positive, got %f and %d.",
+                    this.getClass().getName(),
+                    cellSize,
+                    capacity
+            ));
+        }
+        this.cellSize = cellSize;
+        this.next = new int[capacity];
+        this.xs = new double[capacity];
+        this.ys = new double[capacity];
+        this.cellXs = new int[capacity];
+        this.cellYs = new int[capacity];
+        this.heads = new int[Integer.highestOneBit(capacity * 2 - 1) * 2];
+        Arrays.fill(heads, NONE);
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the side length of a cell.
+     *
+     * @return The cell size, in world units.
+     */
+    public double getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Returns the number of points in the grid.
+     *
+     * @return The point count.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the x-coordinate of a point.
+     *
+     * @param index The index of the point.
+     * @return The x-coordinate.
+     */
+    public double getX(final int index) {
+        return xs[index];
+    }
+
+    /**
+     * Returns the y-coordinate of a point.
+     *
+     * @param index The index of the point.
+     * @return The y-coordinate.
+     */
+    public double getY(final int index) {
+        return ys[index];
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Removes every point, keeping the allocated arrays.
+     */
+    public void clear() {
+        Arrays.fill(heads, NONE);
+        size = 0;
+    }
+
+    /**
+     * Adds a point.
+     *
+     * @param x The x-coordinate of the point.
+     * @param y The y-coordinate of the point.
+     * @return The index of the point.
+     */
+    public int insert(final double x, final double y) {
+        if (size == xs.length) {
+            grow();
+        }
+        int index = size++;
+        xs[index] = x;
+        ys[index] = y;
+        cellXs[index] = cellOf(x);
+        cellYs[index] = cellOf(y);
+        link(index);
+        return index;
+    }
+
+    /**
+     * Finds the points within a distance of a position.
+     *
+     * @param x The x-coordinate of the position.
+     * @param y The y-coordinate of the position.
+     * @param radius The distance.
+     * @param out Receives the indices of the points found, in no particular
+     * order. Points beyond its length are not reported.
+     * @return The number of indices written to {@code out}.
+     */
+    public int query(final double x, final double y, final double radius, final int[] out) {
+        int found = 0;
+        double radiusSquared = radius * radius;
+        int maxCellX = cellOf(x + radius);
+        int maxCellY = cellOf(y + radius);
+        for (int cellY = cellOf(y - radius); cellY <= maxCellY; cellY++) {
+            for (int cellX = cellOf(x - radius); cellX <= maxCellX; cellX++) {
+                for (int i = heads[bucketOf(cellX, cellY)]; i != NONE; i = next[i]) {
+                    // Other cells can share the bucket; they are visited on their own turn
+                    if (cellXs[i] != cellX || cellYs[i] != cellY) {
+                        continue;
+                    }
+                    double dx = xs[i] - x;
+                    double dy = ys[i] - y;
+                    if (dx * dx + dy * dy <= radiusSquared) {
+                        if (found == out.length) {
+                            return found;
+                        }
+                        out[found++] = i;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Returns the cell a coordinate falls in.
+     *
+     * @param coordinate The coordinate.
+     * @return The cell's column or row.
+     */
+    private int cellOf(final double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    /**
+     * Returns the bucket a cell is filed under.
+     *
+     * @param cellX The cell's column.
+     * @param cellY The cell's row.
+     * @return The bucket index.
+     */
+    private int bucketOf(final int cellX, final int cellY) {
+        int hash = cellX * 0x8DA6B343 ^ cellY * 0xD8163841;
+        return (hash ^ (hash >>> 16)) & (heads.length - 1);
+    }
+
+    /**
+     * Adds a point to the front of its bucket's chain.
+     *
+     * @param index The index of the point.
+     */
+    private void link(final int index) {
+        int bucket = bucketOf(cellXs[index], cellYs[index]);
+        next[index] = heads[bucket];
+        heads[bucket] = index;
+    }
+
+    /**
+     * Doubles the capacity of the grid, keeping twice as many buckets as
+     * points so chains stay short.
+     */
+    private void grow() {
+        int capacity = xs.length * 2;
+        next = Arrays.copyOf(next, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        cellXs = Arrays.copyOf(cellXs, capacity);
+        cellYs = Arrays.copyOf(cellYs, capacity);
+        heads = new int[heads.length * 2];
+        Arrays.fill(heads, NONE);
+        for (int i = 0; i < size; i++) {
+            link(i);
+        }
+    }
+}
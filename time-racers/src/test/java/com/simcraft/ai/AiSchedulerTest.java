@@ -0,0 +1,106 @@
+package com.simcraft.ai;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests how the {@link AiScheduler} deals agents into buckets and keeps every
+ * agent's turn as agents are removed.
+ */
+public class AiSchedulerTest {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The agents left after the removals of
+     * {@link #removalsDuringAPassKeepEveryTurn()}.
+     */
+    private static final List<Integer> REMAINING_AGENTS = List.of(1, 3, 5, 6, 7);
+
+    // ----- TESTS -----
+    /**
+     * New agents must go to the smallest bucket, so buckets emptied by
+     * removals fill up again first.
+     */
+    @Test
+    public void newAgentsGoToTheSmallestBucket() {
+        AiScheduler<Integer> scheduler = new AiScheduler<>(2, 100);
+        for (int agent = 0; agent < 6; agent++) {
+            scheduler.add(agent);
+        }
+        // Bucket 0 holds 0, 2 and 4; bucket 1 holds 1, 3 and 5
+        scheduler.remove(2);
+        scheduler.remove(4);
+        scheduler.add(6);
+        scheduler.add(7);
+
+        assertEquals(List.of(0, 6, 7), decide(scheduler));
+        assertEquals(List.of(1, 3, 5), decide(scheduler));
+    }
+
+    /**
+     * Removing agents in the middle of a pass over a bucket, whether or not
+     * they have already decided, must neither skip nor repeat the turn of any
+     * remaining agent.
+     */
+    @Test
+    public void removalsDuringAPassKeepEveryTurn() {
+        AiScheduler<Integer> scheduler = new AiScheduler<>(1, 3);
+        for (int agent = 0; agent < 9; agent++) {
+            scheduler.add(agent);
+        }
+
+        List<Integer> decided = new ArrayList<>(decide(scheduler));
+        scheduler.remove(0);
+        scheduler.remove(4);
+        decided.addAll(decide(scheduler));
+        scheduler.remove(2);
+        scheduler.remove(8);
+        decided.addAll(decide(scheduler));
+
+        assertEquals("Repeated turns in " + decided, new HashSet<>(decided).size(), decided.size());
+        assertTrue("Skipped turns in " + decided, decided.containsAll(REMAINING_AGENTS));
+        List<Integer> nextPass = new ArrayList<>(decide(scheduler));
+        nextPass.addAll(decide(scheduler));
+        nextPass.sort(null);
+        assertEquals(REMAINING_AGENTS, nextPass);
+    }
+
+    /**
+     * Removing every agent, in any order, must leave an empty scheduler.
+     */
+    @Test
+    public void removingEveryAgentEmptiesTheScheduler() {
+        AiScheduler<Integer> scheduler = new AiScheduler<>(4, 8);
+        for (int agent = 0; agent < 100; agent++) {
+            scheduler.add(agent);
+        }
+        decide(scheduler);
+        for (int agent = 0; agent < 100; agent += 2) {
+            scheduler.remove(agent);
+        }
+        for (int agent = 99; agent > 0; agent -= 2) {
+            scheduler.remove(agent);
+        }
+
+        assertEquals(0, scheduler.size());
+        assertEquals(List.of(), decide(scheduler));
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Runs one tick of a scheduler.
+     *
+     * @param scheduler The scheduler.
+     * @return The agents that decided, in order.
+     */
+    private static List<Integer> decide(final AiScheduler<Integer> scheduler) {
+        List<Integer> decided = new ArrayList<>();
+        scheduler.tick(decided::add);
+        return decided;
+    }
+}
@@ -0,0 +1,149 @@
+package com.simcraft.audio;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests that {@link ImaAdpcm} blocks decode on their own, and close enough to
+ * the samples they were encoded from.
+ */
+public class ImaAdpcmTest {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The sample rate the test signals are generated at, in Hz.
+     */
+    private static final int SAMPLE_RATE = 48_000;
+    /**
+     * The number of frames in the test signals: three full blocks and a
+     * partial last one.
+     */
+    private static final int FRAME_COUNT = 3 * ImaAdpcm.BLOCK_FRAMES + 200;
+    /**
+     * The lowest signal-to-noise ratio accepted, in dB.
+     */
+    private static final double MIN_SNR_DB = 40.0;
+    /**
+     * The number of frames between two edges of the square wave.
+     */
+    private static final int SQUARE_HALF_PERIOD = 240;
+    /**
+     * The number of frames the step size takes to grow after a full-scale
+     * edge, during which the decoded wave lags behind.
+     */
+    private static final int EDGE_SETTLE_FRAMES = 12;
+
+    // ----- TESTS -----
+    /**
+     * A sine wave, starting loud, must decode with little noise from its very
+     * first block.
+     */
+    @Test
+    public void sineWaveDecodesClosely() {
+        short[] samples = new short[FRAME_COUNT * 2];
+        for (int frame = 0; frame < FRAME_COUNT; frame++) {
+            samples[frame * 2] = (short) Math.round(16_000 * Math.sin(2 * Math.PI * 440 * frame / SAMPLE_RATE));
+            samples[frame * 2 + 1] = (short) Math.round(8_000 * Math.sin(2 * Math.PI * 1_000 * frame / SAMPLE_RATE));
+        }
+
+        double snr = signalToNoiseDb(samples, decode(ImaAdpcm.encode(samples)), frame -> true);
+
+        assertTrue(String.format("SNR %.1f dB", snr), snr > MIN_SNR_DB);
+    }
+
+    /**
+     * A full-scale square wave, the hardest case for the step size, must
+     * decode with little noise once each edge has settled, so the predictor
+     * clamps at full scale rather than wrapping around.
+     */
+    @Test
+    public void fullScaleSquareWaveDecodesClosely() {
+        short[] samples = new short[FRAME_COUNT * 2];
+        for (int frame = 0; frame < FRAME_COUNT; frame++) {
+            boolean high = (frame / SQUARE_HALF_PERIOD) % 2 == 0;
+            samples[frame * 2] = high ? Short.MAX_VALUE : Short.MIN_VALUE;
+            samples[frame * 2 + 1] = high ? Short.MIN_VALUE : Short.MAX_VALUE;
+        }
+
+        double snr = signalToNoiseDb(samples, decode(ImaAdpcm.encode(samples)),
+                frame -> frame % SQUARE_HALF_PERIOD >= EDGE_SETTLE_FRAMES);
+
+        assertTrue(String.format("SNR %.1f dB", snr), snr > MIN_SNR_DB);
+    }
+
+    /**
+     * Every block must decode the same with all the other blocks wiped, since
+     * the mixer only ever decodes the block a voice is playing.
+     */
+    @Test
+    public void eachBlockDecodesOnItsOwn() {
+        short[] samples = new short[FRAME_COUNT * 2];
+        for (int frame = 0; frame < FRAME_COUNT; frame++) {
+            samples[frame * 2] = (short) Math.round(16_000 * Math.sin(2 * Math.PI * 440 * frame / SAMPLE_RATE));
+            samples[frame * 2 + 1] = (short) (frame * 37);
+        }
+        byte[] encoded = ImaAdpcm.encode(samples);
+        int blockCount = ImaAdpcm.getBlockCount(FRAME_COUNT);
+        assertEquals(4, blockCount);
+        assertEquals(blockCount * ImaAdpcm.BLOCK_BYTES, encoded.length);
+        short[] decoded = decode(encoded);
+
+        for (int block = 0; block < blockCount; block++) {
+            byte[] alone = new byte[encoded.length];
+            Arrays.fill(alone, (byte) 0x5A);
+            System.arraycopy(encoded, block * ImaAdpcm.BLOCK_BYTES, alone, block * ImaAdpcm.BLOCK_BYTES, ImaAdpcm.BLOCK_BYTES);
+            short[] target = new short[ImaAdpcm.BLOCK_FRAMES * 2];
+
+            ImaAdpcm.decodeBlock(alone, block, target);
+
+            int from = block * ImaAdpcm.BLOCK_FRAMES * 2;
+            assertArrayEquals(Arrays.copyOfRange(decoded, from, from + target.length), target);
+        }
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Decodes every block in order.
+     *
+     * @param encoded The encoded blocks.
+     * @return The decoded samples, including the padding of the last block.
+     */
+    private static short[] decode(final byte[] encoded) {
+        int blockCount = encoded.length / ImaAdpcm.BLOCK_BYTES;
+        short[] decoded = new short[blockCount * ImaAdpcm.BLOCK_FRAMES * 2];
+        short[] block = new short[ImaAdpcm.BLOCK_FRAMES * 2];
+        for (int i = 0; i < blockCount; i++) {
+            ImaAdpcm.decodeBlock(encoded, i, block);
+            System.arraycopy(block, 0, decoded, i * block.length, block.length);
+        }
+        return decoded;
+    }
+
+    /**
+     * Calculates the signal-to-noise ratio of decoded samples over some frames
+     * of the original.
+     *
+     * @param original The encoded samples.
+     * @param decoded The decoded samples, at least as many as the original.
+     * @param counted Whether a frame counts towards the ratio.
+     * @return The ratio of the original's power to the error's, in dB.
+     */
+    private static double signalToNoiseDb(final short[] original, final short[] decoded, final IntPredicate counted) {
+        double signal = 0;
+        double noise = 0;
+        for (int i = 0; i < original.length; i++) {
+            if (!counted.test(i / 2)) {
+                continue;
+            }
+            double error = original[i] - decoded[i];
+            signal += (double) original[i] * original[i];
+            noise += error * error;
+        }
+        return 10 * Math.log10(signal / noise);
+    }
+}
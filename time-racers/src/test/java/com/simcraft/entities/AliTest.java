@@ -0,0 +1,50 @@
+package com.simcraft.entities;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+import com.simcraft.graphics.headless.HeadlessGameRenderer;
+import com.simcraft.graphics.screens.subpanels.GamePanel;
+import com.simcraft.managers.GameManager;
+
+/**
+ * Tests that {@link Ali} is drawn where he is in the game world.
+ */
+public class AliTest {
+
+    // ----- TESTS -----
+    /**
+     * After a move, Ali's screen position must be his new world position,
+     * shifted by the game panel's scroll.
+     */
+    @Test
+    public void screenPositionFollowsWorldPositionAfterMove() {
+        double[] world = new double[2];
+        int[] screen = new int[2];
+
+        try (HeadlessGameRenderer renderer = new HeadlessGameRenderer()) {
+            renderer.start();
+            renderer.execute(() -> {
+                GamePanel gamePanel = GameManager.getInstance().getGamePanel();
+                gamePanel.setScrollOffset(50);
+
+                Ali ali = GameManager.getInstance().getAli();
+                ali.setHorizontalOnly(false);
+                ali.setWorldPosition(100, 200);
+                ali.setVelocityX(6);
+                ali.setVelocityY(4);
+                ali.move();
+
+                world[0] = ali.getWorldX();
+                world[1] = ali.getWorldY();
+                screen[0] = ali.getX();
+                screen[1] = ali.getY();
+            });
+        }
+
+        assertEquals(106.0, world[0], 0.0);
+        assertEquals(196.0, world[1], 0.0);
+        assertEquals(56, screen[0]);
+        assertEquals(196, screen[1]);
+    }
+}
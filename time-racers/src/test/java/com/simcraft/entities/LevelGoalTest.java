@@ -0,0 +1,36 @@
+package com.simcraft.entities;
+
+import java.awt.Rectangle;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Tests that the level goals, the {@link TeleportArrow} and the
+ * {@link EnterClassroom}, load their sprites and can be touched.
+ */
+public class LevelGoalTest {
+
+    // ----- TESTS -----
+    /**
+     * The teleport arrow's bounds must be its sprite's size, shifted by the
+     * scroll.
+     */
+    @Test
+    public void teleportArrowBoundsMatchItsSprite() {
+        Rectangle bounds = new TeleportArrow(100, 40).getBoundsWithScroll(30);
+
+        assertEquals(new Rectangle(70, 40, 48, 32), bounds);
+    }
+
+    /**
+     * The classroom door's bounds must be its sprite's size, shifted by the
+     * scroll.
+     */
+    @Test
+    public void enterClassroomBoundsMatchItsSprite() {
+        Rectangle bounds = new EnterClassroom(100, 40).getBoundsWithScroll(30);
+
+        assertEquals(new Rectangle(70, 40, 64, 128), bounds);
+    }
+}
@@ -0,0 +1,220 @@
+package com.simcraft.graphics.headless;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import org.junit.Test;
+
+/**
+ * Golden-image regression tests for the {@link HeadlessGameRenderer}.
+ * <p>
+ * Frames are captured on fixed ticks of the first level and compared against
+ * the PNGs in {@code src/test/resources/golden}. Small per-pixel differences
+ * are tolerated so that font rasterisation differences between machines do not
+ * cause failures. Enemy spawns and decisions draw on the session's seeded
+ * random streams, so frames with enemies in them are reproducible too.
+ * <p>
+ * Render times for every captured frame are written to
+ * {@code target/render-times/gameplay.csv}. Run with
+ * {@code -Dgolden.update=true} to regenerate the golden images after an
+ * intentional visual change; the actual frames of any failing comparison are
+ * written to {@code target/golden-actual}.
+ */
+public class HeadlessGameRendererTest {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The ticks on which frames are compared against golden images. The last
+     * one falls after the first waves have spawned and wandered for a while.
+     */
+    private static final int[] CAPTURE_TICKS = {1, 90, 300, 900};
+
+    /**
+     * The classpath folder holding the golden images.
+     */
+    private static final String GOLDEN_RESOURCE_FOLDER = "/golden/";
+
+    /**
+     * Where golden images are written when regenerating them.
+     */
+    private static final Path GOLDEN_SOURCE_FOLDER = Paths.get("src", "test", "resources", "golden");
+
+    /**
+     * Where the actual frames of failing comparisons are written.
+     */
+    private static final Path ACTUAL_OUTPUT_FOLDER = Paths.get("target", "golden-actual");
+
+    /**
+     * Where per-frame render times are recorded.
+     */
+    private static final Path RENDER_TIMES_FILE = Paths.get("target", "render-times", "gameplay.csv");
+
+    /**
+     * The largest difference allowed in any single colour channel before a
+     * pixel counts as mismatched.
+     */
+    private static final int CHANNEL_TOLERANCE = 16;
+
+    /**
+     * The largest fraction of mismatched pixels allowed in a frame.
+     */
+    private static final double MAX_MISMATCHED_FRACTION = 0.005;
+
+    // ----- TESTS -----
+    /**
+     * Captured frames must match the golden images within tolerance.
+     *
+     * @throws IOException If frames or golden images cannot be read or written.
+     */
+    @Test
+    public void framesMatchGoldenImages() throws IOException {
+        boolean updateGoldens = Boolean.getBoolean("golden.update");
+        List<String> failures = new ArrayList<>();
+        StringBuilder renderTimes = new StringBuilder("tick,render_micros\n");
+
+        try (HeadlessGameRenderer renderer = new HeadlessGameRenderer()) {
+            renderer.start();
+            renderer.run(CAPTURE_TICKS[CAPTURE_TICKS.length - 1], CAPTURE_TICKS, (tick, frame, renderNanos) -> {
+                renderTimes.append(tick).append(',').append(renderNanos / 1000).append('\n');
+                String fileName = goldenFileName(tick);
+
+                if (updateGoldens) {
+                    HeadlessGameRenderer.writePng(frame, GOLDEN_SOURCE_FOLDER.resolve(fileName));
+                    return;
+                }
+
+                BufferedImage golden = loadGolden(fileName);
+                if (golden == null) {
+                    HeadlessGameRenderer.writePng(frame, ACTUAL_OUTPUT_FOLDER.resolve(fileName));
+                    failures.add(String.format("tick %d: no golden image %s", tick, fileName));
+                    return;
+                }
+
+                double mismatched = mismatchedFraction(golden, frame);
+                if (mismatched > MAX_MISMATCHED_FRACTION) {
+                    HeadlessGameRenderer.writePng(frame, ACTUAL_OUTPUT_FOLDER.resolve(fileName));
+                    failures.add(String.format("tick %d: %.2f%% of pixels differ", tick, mismatched * 100));
+                }
+            });
+        }
+
+        Files.createDirectories(RENDER_TIMES_FILE.getParent());
+        Files.writeString(RENDER_TIMES_FILE, renderTimes);
+
+        assumeTrue("Golden images regenerated", !updateGoldens);
+        assertTrue("Render regression: " + failures, failures.isEmpty());
+    }
+
+    /**
+     * Two independent runs must produce pixel-identical frames on the same
+     * ticks, i.e. the renderer is deterministic.
+     *
+     * @throws IOException Not expected; required by the frame listener.
+     */
+    @Test
+    public void identicalRunsProduceIdenticalFrames() throws IOException {
+        List<Long> firstRun = captureChecksums();
+        List<Long> secondRun = captureChecksums();
+
+        assertEquals(CAPTURE_TICKS.length, firstRun.size());
+        assertEquals(firstRun, secondRun);
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Runs the renderer once and returns the checksum of every captured frame.
+     *
+     * @return The checksums, in capture order.
+     * @throws IOException Not expected; required by the frame listener.
+     */
+    private static List<Long> captureChecksums() throws IOException {
+        List<Long> checksums = new ArrayList<>();
+        try (HeadlessGameRenderer renderer = new HeadlessGameRenderer()) {
+            renderer.start();
+            renderer.run(CAPTURE_TICKS[CAPTURE_TICKS.length - 1], CAPTURE_TICKS,
+                    (tick, frame, renderNanos) -> checksums.add(HeadlessGameRenderer.checksum(frame)));
+        }
+        return checksums;
+    }
+
+    /**
+     * Returns the golden image file name for a tick.
+     *
+     * @param tick The capture tick.
+     * @return The file name.
+     */
+    private static String goldenFileName(final int tick) {
+        return String.format("gameplay_tick_%04d.png", tick);
+    }
+
+    /**
+     * Loads a golden image from the test classpath.
+     *
+     * @param fileName The golden image file name.
+     * @return The image, or {@code null} if it does not exist.
+     * @throws IOException If the image exists but cannot be decoded.
+     */
+    private static BufferedImage loadGolden(final String fileName) throws IOException {
+        try (InputStream in = HeadlessGameRendererTest.class.getResourceAsStream(GOLDEN_RESOURCE_FOLDER + fileName)) {
+            return in != null ? ImageIO.read(in) : null;
+        }
+    }
+
+    /**
+     * Calculates the fraction of pixels whose colour differs by more than
+     * {@link #CHANNEL_TOLERANCE} in any channel.
+     *
+     * @param expected The golden image.
+     * @param actual The rendered frame.
+     * @return The mismatched fraction, or {@code 1.0} if the sizes differ.
+     */
+    private static double mismatchedFraction(final BufferedImage expected, final BufferedImage actual) {
+        int width = expected.getWidth();
+        int height = expected.getHeight();
+        if (width != actual.getWidth() || height != actual.getHeight()) {
+            return 1.0;
+        }
+
+        int[] expectedRow = new int[width];
+        int[] actualRow = new int[width];
+        long mismatched = 0;
+        for (int y = 0; y < height; y++) {
+            expected.getRGB(0, y, width, 1, expectedRow, 0, width);
+            actual.getRGB(0, y, width, 1, actualRow, 0, width);
+            for (int x = 0; x < width; x++) {
+                if (!withinTolerance(expectedRow[x], actualRow[x])) {
+                    mismatched++;
+                }
+            }
+        }
+        return (double) mismatched / ((long) width * height);
+    }
+
+    /**
+     * Checks whether two RGB pixels are equal within the channel tolerance.
+     *
+     * @param expected The expected pixel.
+     * @param actual The actual pixel.
+     * @return {@code true} if every channel is within tolerance.
+     */
+    private static boolean withinTolerance(final int expected, final int actual) {
+        for (int shift = 0; shift <= 16; shift += 8) {
+            int difference = Math.abs(((expected >> shift) & 0xFF) - ((actual >> shift) & 0xFF));
+            if (difference > CHANNEL_TOLERANCE) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
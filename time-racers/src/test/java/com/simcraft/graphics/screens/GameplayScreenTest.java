@@ -0,0 +1,211 @@
+package com.simcraft.graphics.screens;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.event.KeyEvent;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.swing.SwingUtilities;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+import com.simcraft.graphics.GameFrame;
+import com.simcraft.graphics.animations.AnimationLoader;
+import com.simcraft.graphics.headless.HeadlessGameRenderer;
+import com.simcraft.graphics.headless.InputReplayDriver;
+import com.simcraft.input.InputReplay;
+import com.simcraft.managers.GameManager;
+import com.simcraft.managers.SoundManager;
+import com.simcraft.utility.GameRandom;
+
+/**
+ * Tests how the {@link GameplayScreen} ends a level when its timer runs out,
+ * and that a recorded session replays to the same game.
+ */
+public class GameplayScreenTest {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * Enough ticks for a one-second level timer to run out.
+     */
+    private static final int TICKS_PAST_ONE_SECOND = 120;
+    /**
+     * The seed of the recorded session.
+     */
+    private static final long RECORDING_SEED = 0xC0FFEEL;
+    /**
+     * The number of ticks the recorded session lasts.
+     */
+    private static final int RECORDED_TICKS = 180;
+    /**
+     * The keys pressed or released during the recorded session, by the tick
+     * they change before.
+     */
+    private static final Map<Integer, List<Integer>> RECORDED_KEY_CHANGES = Map.of(
+            10, List.of(KeyEvent.VK_RIGHT),
+            40, List.of(KeyEvent.VK_DOWN),
+            70, List.of(KeyEvent.VK_RIGHT),
+            100, List.of(KeyEvent.VK_LEFT, KeyEvent.VK_DOWN),
+            150, List.of(KeyEvent.VK_LEFT)
+    );
+
+    // ----- TESTS -----
+    /**
+     * The tick on which the timer runs out must end the game without failing.
+     */
+    @Test
+    public void timerRunningOutEndsTheGame() {
+        boolean[] gameOver = new boolean[1];
+
+        try (HeadlessGameRenderer renderer = new HeadlessGameRenderer()) {
+            renderer.start();
+            renderer.execute(() -> GameManager.getInstance().setRemainingSeconds(1));
+            renderer.advance(TICKS_PAST_ONE_SECOND);
+            renderer.execute(() -> gameOver[0] = GameManager.getInstance().isGameOver());
+        }
+
+        assertTrue(gameOver[0]);
+    }
+
+    /**
+     * Without a display, the game over must not try to open its dialogue,
+     * which would fail on the event dispatch thread.
+     */
+    @Test
+    public void gameOverOpensNoDialogueWhenHeadless() {
+        List<Throwable> uncaught = new ArrayList<>();
+        Thread.UncaughtExceptionHandler previousHandler = Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler((thread, throwable) -> uncaught.add(throwable));
+
+        try (HeadlessGameRenderer renderer = new HeadlessGameRenderer()) {
+            renderer.start();
+            renderer.execute(() -> GameManager.getInstance().setRemainingSeconds(1));
+            renderer.advance(TICKS_PAST_ONE_SECOND);
+            renderer.execute(() -> {
+                // Runs after anything the game over queued on the event dispatch thread
+            });
+        } finally {
+            Thread.setDefaultUncaughtExceptionHandler(previousHandler);
+        }
+
+        assertEquals(List.of(), uncaught);
+    }
+
+    /**
+     * A session recorded while played live, on the wall clock and with the
+     * game manager's own timer left on, must replay to exactly the game it
+     * was recorded from, however unevenly its ticks were spaced in real time.
+     *
+     * @throws IOException If the recording cannot be written or read.
+     */
+    @Test
+    public void recordedSessionReplaysToTheSameGame() throws IOException {
+        Path recording = Files.createTempFile("gameplay-screen-test", ".rec");
+        try {
+            byte[] recorded = playRecordedSession(recording);
+
+            InputReplay replay = InputReplay.read(recording);
+            assertEquals(RECORDED_TICKS, replay.getEndTick());
+            byte[][] replayed = new byte[1][];
+            new InputReplayDriver(replay).run((tick, updateNanos, renderNanos) -> {
+                if (tick == replay.getEndTick()) {
+                    replayed[0] = GameManager.getInstance().snapshot().toBytes();
+                }
+            });
+
+            assertArrayEquals(recorded, replayed[0]);
+        } finally {
+            Files.deleteIfExists(recording);
+        }
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Plays a recorded session the way the game window does, with pauses of
+     * varying length between ticks during which the game manager's own timer
+     * is free to fire.
+     *
+     * @param recording The file to record the session to.
+     * @return The snapshot of the game after the last tick.
+     */
+    private static byte[] playRecordedSession(final Path recording) {
+        GameplayScreen[] screen = new GameplayScreen[1];
+        byte[][] snapshot = new byte[1][];
+        Set<Integer> heldKeys = new HashSet<>();
+        try {
+            GameRandom.setSeed(RECORDING_SEED);
+            runOnEventDispatchThread(() -> {
+                AnimationLoader.loadAnimationsFromJson();
+                screen[0] = new GameplayScreen(null, recording);
+                screen[0].setSize(GameFrame.FRAME_WIDTH, GameFrame.FRAME_HEIGHT);
+                layoutTree(screen[0]);
+            });
+            for (int tick = 0; tick < RECORDED_TICKS; tick++) {
+                int completedTicks = tick;
+                runOnEventDispatchThread(() -> {
+                    for (int keyCode : RECORDED_KEY_CHANGES.getOrDefault(completedTicks, List.of())) {
+                        // Each listed key is pressed if it was up and released if it was down
+                        screen[0].setKeyState(keyCode, heldKeys.add(keyCode) || !heldKeys.remove(keyCode));
+                    }
+                    screen[0].update();
+                });
+                Thread.sleep(tick % 7);
+            }
+            runOnEventDispatchThread(() -> snapshot[0] = GameManager.getInstance().snapshot().toBytes());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while playing the recorded session.", e);
+        } finally {
+            runOnEventDispatchThread(() -> {
+                SoundManager.getInstance().stopAll();
+                GameManager.getInstance().clear();
+                if (screen[0] != null) {
+                    screen[0].cleanup();
+                }
+            });
+        }
+        return snapshot[0];
+    }
+
+    /**
+     * Lays out a container and all of its descendants, as a window would
+     * before showing them.
+     *
+     * @param container The root of the component tree.
+     */
+    private static void layoutTree(final Container container) {
+        container.doLayout();
+        for (Component child : container.getComponents()) {
+            if (child instanceof Container childContainer) {
+                layoutTree(childContainer);
+            }
+        }
+    }
+
+    /**
+     * Runs a task on the Event Dispatch Thread and waits for it to finish.
+     *
+     * @param task The task to run.
+     */
+    private static void runOnEventDispatchThread(final Runnable task) {
+        try {
+            SwingUtilities.invokeAndWait(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the EDT.", e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Task failed on the EDT.", e.getCause());
+        }
+    }
+}
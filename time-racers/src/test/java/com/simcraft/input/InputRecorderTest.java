@@ -0,0 +1,101 @@
+package com.simcraft.input;
+
+import java.awt.event.KeyEvent;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests that an {@link InputReplay} feeds back exactly what an
+ * {@link InputRecorder} recorded, on the ticks it was recorded.
+ */
+public class InputRecorderTest {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The session seed written to the recording.
+     */
+    private static final long SEED = 0x5EEDL;
+    /**
+     * The tick length written to the recording, in milliseconds.
+     */
+    private static final long TICK_MILLIS = 16;
+    /**
+     * A tick far past the others; its gap needs more than four bytes.
+     */
+    private static final long DISTANT_TICK = 5_000_000_000L;
+    /**
+     * The number of ticks the recorded session lasted.
+     */
+    private static final long END_TICK = DISTANT_TICK + 60;
+
+    // ----- TESTS -----
+    /**
+     * A replay must feed each key-state change on its recorded tick, in
+     * recorded order, and nothing in between.
+     *
+     * @throws IOException Not expected; the recording is kept in memory.
+     */
+    @Test
+    public void replayFeedsRecordedChangesOnTheirTicks() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (InputRecorder recorder = new InputRecorder(bytes, SEED, TICK_MILLIS)) {
+            recorder.record(3, KeyEvent.VK_RIGHT, true);
+            recorder.record(3, KeyEvent.VK_UP, true);
+            recorder.record(5, KeyEvent.VK_UP, false);
+            recorder.record(DISTANT_TICK, KeyEvent.VK_RIGHT, false);
+            recorder.finish(END_TICK);
+        }
+
+        InputReplay replay = new InputReplay(new ByteArrayInputStream(bytes.toByteArray()));
+
+        assertEquals(SEED, replay.getSeed());
+        assertEquals(TICK_MILLIS, replay.getTickMillis());
+        assertEquals(END_TICK, replay.getEndTick());
+        assertEquals(4, replay.getEventCount());
+
+        assertEquals(List.of(), feed(replay, 0));
+        assertEquals(List.of(), feed(replay, 2));
+        assertEquals(List.of(change(KeyEvent.VK_RIGHT, true), change(KeyEvent.VK_UP, true)), feed(replay, 3));
+        assertEquals(List.of(), feed(replay, 4));
+        assertEquals(List.of(change(KeyEvent.VK_UP, false)), feed(replay, 5));
+        assertEquals(List.of(), feed(replay, DISTANT_TICK - 1));
+        assertFalse(replay.isExhausted());
+        assertEquals(List.of(change(KeyEvent.VK_RIGHT, false)), feed(replay, DISTANT_TICK));
+        assertTrue(replay.isExhausted());
+        assertEquals(List.of(), feed(replay, END_TICK));
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Feeds a replay up to a tick and describes the changes it delivered.
+     *
+     * @param replay The replay.
+     * @param tick The number of ticks completed.
+     * @return The changes delivered, described by {@link #change}.
+     */
+    private static List<String> feed(final InputReplay replay, final long tick) {
+        List<String> changes = new ArrayList<>();
+        int fed = replay.feed(tick, (keyCode, pressed) -> changes.add(change(keyCode, pressed)));
+        assertEquals(changes.size(), fed);
+        return changes;
+    }
+
+    /**
+     * Describes a key-state change.
+     *
+     * @param keyCode The key code.
+     * @param pressed Whether the key is pressed.
+     * @return The key's name and {@code down} or {@code up}.
+     */
+    private static String change(final int keyCode, final boolean pressed) {
+        return KeyEvent.getKeyText(keyCode) + (pressed ? " down" : " up");
+    }
+}
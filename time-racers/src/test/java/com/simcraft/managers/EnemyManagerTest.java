@@ -0,0 +1,41 @@
+package com.simcraft.managers;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+import com.simcraft.graphics.headless.HeadlessGameRenderer;
+
+/**
+ * Tests that the {@link EnemyManager} keeps every enemy it is given.
+ */
+public class EnemyManagerTest {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * Enough enemies of each type that many share a spot on the game panel.
+     */
+    private static final int ENEMIES_PER_TYPE = 20_000;
+
+    // ----- TESTS -----
+    /**
+     * Enemies added for a stress scenario must all be kept, even those placed
+     * on the same spot as another enemy of their type.
+     */
+    @Test
+    public void testEnemiesOnTheSameSpotAreAllKept() {
+        int[] added = new int[1];
+
+        try (HeadlessGameRenderer renderer = new HeadlessGameRenderer()) {
+            renderer.start();
+            renderer.execute(() -> {
+                EnemyManager enemyManager = GameManager.getInstance().getEnemyManager();
+                enemyManager.getSpawnDirector().stop();
+                int before = enemyManager.getEnemies().size();
+                enemyManager.addEnemiesTest(ENEMIES_PER_TYPE, ENEMIES_PER_TYPE, ENEMIES_PER_TYPE);
+                added[0] = enemyManager.getEnemies().size() - before;
+            });
+        }
+
+        assertEquals(3 * ENEMIES_PER_TYPE, added[0]);
+    }
+}
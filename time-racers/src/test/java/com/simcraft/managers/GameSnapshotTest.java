@@ -0,0 +1,71 @@
+package com.simcraft.managers;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import org.junit.Test;
+
+import com.simcraft.graphics.headless.HeadlessGameRenderer;
+
+/**
+ * Tests that a {@link GameSnapshot} taken by the {@link GameManager} restores
+ * the game exactly, and that snapshots of another format are rejected.
+ */
+public class GameSnapshotTest {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The ticks played before the snapshot is taken; enough for the first
+     * waves to spawn.
+     */
+    private static final int TICKS_BEFORE_SNAPSHOT = 600;
+    /**
+     * The ticks played between taking the snapshot and restoring it.
+     */
+    private static final int TICKS_AFTER_SNAPSHOT = 120;
+    /**
+     * The offset of the format version in a snapshot's bytes, after the magic
+     * number.
+     */
+    private static final int VERSION_OFFSET = Integer.BYTES;
+
+    // ----- TESTS -----
+    /**
+     * Restoring a snapshot and taking another one must give the same bytes,
+     * even after the game has moved on in between.
+     */
+    @Test
+    public void restoredGameSnapshotsIdentically() {
+        byte[][] taken = new byte[1][];
+        byte[][] movedOn = new byte[1][];
+        byte[][] restored = new byte[1][];
+
+        try (HeadlessGameRenderer renderer = new HeadlessGameRenderer()) {
+            renderer.start();
+            renderer.advance(TICKS_BEFORE_SNAPSHOT);
+            renderer.execute(() -> taken[0] = GameManager.getInstance().snapshot().toBytes());
+            renderer.advance(TICKS_AFTER_SNAPSHOT);
+            renderer.execute(() -> {
+                GameManager gameManager = GameManager.getInstance();
+                movedOn[0] = gameManager.snapshot().toBytes();
+                gameManager.restore(GameSnapshot.fromBytes(taken[0]));
+                restored[0] = gameManager.snapshot().toBytes();
+            });
+        }
+
+        assertFalse("The game did not move on", Arrays.equals(taken[0], movedOn[0]));
+        assertArrayEquals(taken[0], restored[0]);
+    }
+
+    /**
+     * A snapshot written by another format version must be rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void snapshotOfAnotherVersionIsRejected() {
+        byte[] bytes = new GameSnapshot.Writer().putInt(42).toSnapshot().toBytes();
+        bytes[VERSION_OFFSET]++;
+
+        GameSnapshot.fromBytes(bytes);
+    }
+}